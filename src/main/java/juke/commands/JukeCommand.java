@@ -1,24 +1,31 @@
 package juke.commands;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.regex.Pattern;
 
 import juke.commons.DateUtils;
+import juke.commons.PrefixTrie;
 import juke.commons.classes.JukeObject;
 import juke.commons.enums.SortOrderEnum;
 import juke.commons.enums.SortTypeEnum;
+import juke.commons.enums.TaskTypeEnum;
 import juke.commons.exceptions.JukeException;
 import juke.commons.exceptions.arguments.JukeIllegalArgumentException;
 import juke.commons.exceptions.arguments.JukeIllegalCommandArgumentException;
 import juke.parsers.DateTimeParser;
 import juke.parsers.Parser;
 import juke.responses.Response;
+import juke.statistics.CommandStatistics;
 import juke.tasks.JukeDeadline;
 import juke.tasks.JukeEvent;
 import juke.tasks.JukeTask;
 import juke.tasks.JukeTodo;
 import juke.tasks.TaskList;
+import juke.tasks.TaskListCache;
+import juke.tasks.TaskQuery;
 
 /**
  * Abstract class used to dispatch commands to the respective commands.
@@ -35,6 +42,33 @@ public abstract class JukeCommand extends JukeObject {
     private static final String ILLEGAL_TOPIC_REGEX = ".*\\|.*";
     //@@author
 
+    /** Regex which splits the arguments of the filter command before each of its criteria. */
+    private static final String FILTER_CRITERION_REGEX = "\\s+(?=/(type|done|text|from|until|sort)(\\s|$))";
+
+    /** Usage of the filter command. */
+    private static final String FILTER_USAGE = "filter [/type todo|deadline|event] [/done yes|no] [/text word] "
+            + "[/from start|end|deadline DATE] [/until start|end|deadline DATE] [/sort ORDER BY]\n"
+            + "Note: DATE -> DD(-/)MM(-/)YYYY HH(-:)MM or DD(-/)MM(-/)YYYY";
+
+    /** Trie of the command names, which dispatches each command to its builder in a single walk. */
+    private static final PrefixTrie<CommandBuilder> COMMANDS = JukeCommand.buildCommands();
+
+    /**
+     * Builder of a command from its parsed arguments.
+     */
+    @FunctionalInterface
+    private interface CommandBuilder {
+        /**
+         * Creates the command.
+         *
+         * @param args Parsed arguments
+         * @param taskList {@code TaskList} object which manages all tasks
+         * @param statistics {@code CommandStatistics} object which holds the latencies of the commands run
+         * @return Corresponding {@code JukeCommand} object
+         */
+        JukeCommand build(String[] args, TaskList taskList, CommandStatistics statistics);
+    }
+
     /**
      * Creates the specified {@code JukeCommand} of interest.
      *
@@ -43,7 +77,78 @@ public abstract class JukeCommand extends JukeObject {
      * @return Corresponding {@code JukeCommand} object
      */
     public static JukeCommand of(String command, TaskList taskList) throws JukeException {
-        return JukeCommand.dispatchCommand(Parser.parseBySpace(command), taskList);
+        return JukeCommand.of(command, taskList, CommandStatistics.of());
+    }
+
+    /**
+     * Creates the specified {@code JukeCommand} of interest.
+     *
+     * @param command Raw command from the user input
+     * @param taskList {@code TaskList} object which manages all tasks.
+     * @param statistics {@code CommandStatistics} object which holds the latencies of the commands run
+     * @return Corresponding {@code JukeCommand} object
+     */
+    public static JukeCommand of(String command, TaskList taskList,
+                                 CommandStatistics statistics) throws JukeException {
+        if (Parser.isMatchCommandSeparator(command)) {
+            return JukeCommand.pipeline(Parser.parseByCommandSeparator(command), taskList, statistics);
+        }
+
+        return JukeCommand.dispatchCommand(Parser.parseBySpace(command), taskList, statistics);
+    }
+
+    /**
+     * Creates the specified {@code JukeCommand} of interest, which runs against the active task list of
+     * the input {@code TaskListCache}. The use command must be run on its own, as it changes the task list
+     * which the other commands run against.
+     *
+     * @param command Raw command from the user input
+     * @param taskLists {@code TaskListCache} object which keeps the open task lists
+     * @param statistics {@code CommandStatistics} object which holds the latencies of the commands run
+     * @return Corresponding {@code JukeCommand} object
+     */
+    public static JukeCommand of(String command, TaskListCache taskLists,
+                                 CommandStatistics statistics) throws JukeException {
+        String[] args = Parser.parseBySpace(command);
+
+        if (args[0].equals("use") && !Parser.isMatchCommandSeparator(command)) {
+            return JukeCommand.use(args, taskLists);
+        }
+
+        return JukeCommand.of(command, taskLists.getActive(), statistics);
+    }
+
+    /**
+     * Creates a {@code JukePipelineCommand} object. All commands are parsed before any of them are run, and
+     * so a malformed command stops the whole pipeline from running.
+     *
+     * @param commands Raw commands from the user input
+     * @param taskList {@code TaskList} object which manages all tasks
+     * @param statistics {@code CommandStatistics} object which holds the latencies of the commands run
+     * @return {@code JukePipelineCommand} object
+     * @throws JukeIllegalArgumentException if any of the commands are not understood
+     */
+    private static JukePipelineCommand pipeline(String[] commands, TaskList taskList,
+                                                CommandStatistics statistics) {
+        if (commands.length == 0) {
+            throw new JukeException("Oh no! No commands are present!");
+        }
+
+        List<JukeCommand> parsedCommands = new ArrayList<>(commands.length);
+
+        for (String command : commands) {
+            JukeCommand parsedCommand = JukeCommand.dispatchCommand(Parser.parseBySpace(command), taskList,
+                                                                    statistics);
+
+            if (parsedCommand instanceof JukeExitCommand) {
+                throw new JukeIllegalArgumentException("Oh no! The bye command cannot be run together "
+                                                               + "with other commands!");
+            }
+
+            parsedCommands.add(parsedCommand);
+        }
+
+        return new JukePipelineCommand(taskList, parsedCommands);
     }
 
     /**
@@ -51,41 +156,90 @@ public abstract class JukeCommand extends JukeObject {
      *
      * @param args Parsed arguments
      * @param taskList {@code TaskList} object which manages all tasks.
+     * @param statistics {@code CommandStatistics} object which holds the latencies of the commands run
      * @return Corresponding {@code JukeCommand} object
      * @throws JukeIllegalArgumentException if the argument provided is not understood
      */
-    private static JukeCommand dispatchCommand(String[] args, TaskList taskList) throws JukeIllegalArgumentException {
+    private static JukeCommand dispatchCommand(String[] args, TaskList taskList,
+                                               CommandStatistics statistics) throws JukeIllegalArgumentException {
         if (args.length == 0) {
             throw new JukeException("Oh no! No commands are present!");
         }
 
-        String mainCommand = args[0];
-
-        switch (mainCommand) {
-        case "list":
-            return JukeCommand.list(args, taskList);
-        case "bye":
-            return JukeCommand.exit(args);
-        case "mark":
-            return JukeCommand.mark(args, taskList);
-        case "unmark":
-            return JukeCommand.unmark(args, taskList);
-        case "delete":
-            return JukeCommand.delete(args, taskList);
-        case "todo":
-            return JukeCommand.todo(args, taskList);
-        case "deadline":
-            return JukeCommand.deadline(args, taskList);
-        case "event":
-            return JukeCommand.event(args, taskList);
-        case "find":
-            return JukeCommand.find(args, taskList);
-        case "sort":
-            return JukeCommand.sort(args, taskList);
-        default:
-            // exits the switch and throws an exception in the proceeding line
+        CommandBuilder builder = JukeCommand.COMMANDS.get(args[0]);
+
+        if (builder == null) {
             throw new JukeIllegalArgumentException("Oh no! I do not understand that command!");
         }
+
+        return builder.build(args, taskList, statistics);
+    }
+
+    /**
+     * Creates the trie of the command names, with the builder of each command.
+     *
+     * @return {@code PrefixTrie} of the builders of the commands
+     */
+    private static PrefixTrie<CommandBuilder> buildCommands() {
+        PrefixTrie<CommandBuilder> commands = PrefixTrie.of();
+        commands.put("list", (args, taskList, statistics) -> JukeCommand.list(args, taskList), 0);
+        commands.put("bye", (args, taskList, statistics) -> JukeCommand.exit(args), 0);
+        commands.put("mark", (args, taskList, statistics) -> JukeCommand.mark(args, taskList), 0);
+        commands.put("unmark", (args, taskList, statistics) -> JukeCommand.unmark(args, taskList), 0);
+        commands.put("delete", (args, taskList, statistics) -> JukeCommand.delete(args, taskList), 0);
+        commands.put("todo", (args, taskList, statistics) -> JukeCommand.todo(args, taskList), 0);
+        commands.put("deadline", (args, taskList, statistics) -> JukeCommand.deadline(args, taskList), 0);
+        commands.put("event", (args, taskList, statistics) -> JukeCommand.event(args, taskList), 0);
+        commands.put("find", (args, taskList, statistics) -> JukeCommand.find(args, taskList), 0);
+        commands.put("find~", (args, taskList, statistics) -> JukeCommand.fuzzyFind(args, taskList), 0);
+        commands.put("filter", (args, taskList, statistics) -> JukeCommand.filter(args, taskList), 0);
+        commands.put("sort", (args, taskList, statistics) -> JukeCommand.sort(args, taskList), 0);
+        commands.put("stats", (args, taskList, statistics) -> JukeCommand.stats(args, statistics), 0);
+        commands.put("use", (args, taskList, statistics) -> {
+            throw new JukeIllegalArgumentException("Oh no! The use command cannot be run together "
+                                                           + "with other commands!");
+        }, 0);
+        return commands;
+    }
+
+    /**
+     * Completes the last word of a command being typed. The first word of a command is completed to a
+     * command name, the order and type of a sort command to their full names, and any other word to the
+     * word of the task descriptions with that start which the most tasks contain. Flags and filter criteria
+     * are not completed.
+     *
+     * @param input Command being typed, which may follow other commands of a pipeline
+     * @param taskList {@code TaskList} object whose task descriptions complete the words
+     * @return Input with its last word completed, or the input itself if it cannot be completed
+     */
+    public static String complete(String input, TaskList taskList) {
+        String command = input.substring(input.lastIndexOf(';') + 1);
+
+        if (command.isBlank() || Character.isWhitespace(command.charAt(command.length() - 1))) {
+            return input;
+        }
+
+        String[] args = Parser.parseBySpace(command);
+        String lastWord = args[args.length - 1];
+        String completion;
+
+        if (args.length == 1) {
+            completion = JukeCommand.COMMANDS.complete(lastWord);
+        } else if (args[0].equals("sort") && args.length == 2) {
+            completion = SortOrderEnum.complete(lastWord);
+        } else if (args[0].equals("sort") && args.length == 3) {
+            completion = SortTypeEnum.complete(lastWord);
+        } else if (lastWord.startsWith("/") || lastWord.startsWith("-")) {
+            completion = null;
+        } else {
+            completion = taskList.completeWord(lastWord);
+        }
+
+        if (completion == null || completion.length() <= lastWord.length()) {
+            return input;
+        }
+
+        return input + completion.substring(lastWord.length());
     }
 
     /**
@@ -104,6 +258,39 @@ public abstract class JukeCommand extends JukeObject {
         return new JukePrintCommand(taskList);
     }
 
+    /**
+     * Creates a {@code JukePrintCommand} object. Command will print out the latencies of the commands run.
+     *
+     * @param args Parsed arguments
+     * @param statistics {@code CommandStatistics} object which holds the latencies of the commands run
+     * @return {@code JukePrintCommand} object
+     */
+    private static JukePrintCommand stats(String[] args, CommandStatistics statistics) {
+        if (args.length != 1) {
+            throw new JukeIllegalCommandArgumentException("Oh no! I cannot understand your stats command!",
+                                                          "stats");
+        }
+
+        return new JukePrintCommand(statistics);
+    }
+
+    /**
+     * Creates a {@code JukeUseListCommand} object. Command will switch the task list which later commands
+     * run against.
+     *
+     * @param args Parsed arguments
+     * @param taskLists {@code TaskListCache} object which keeps the open task lists
+     * @return {@code JukeUseListCommand} object
+     */
+    private static JukeUseListCommand use(String[] args, TaskListCache taskLists) {
+        if (args.length != 2) {
+            throw new JukeIllegalCommandArgumentException("Oh no! I cannot understand your use command!",
+                                                          "use [name of task list, e.g. work]");
+        }
+
+        return new JukeUseListCommand(taskLists, args[1]);
+    }
+
     /**
      * Creates a {@code JukeExitCommand} object. Command will exit Juke.
      *
@@ -129,15 +316,12 @@ public abstract class JukeCommand extends JukeObject {
     private static JukeMarkTaskDoneCommand mark(String[] args, TaskList taskList) {
         if (args.length == 1 || args.length > 2) {
             throw new JukeIllegalCommandArgumentException("Oh no! I cannot understand your mark command!",
-                                                          "mark [task number]");
+                                                          "mark [task number(s), e.g. 1, 1-5 or 1,3,5-7]");
+        } else if (!Parser.isMatchTaskNumbers(args[1])) {
+            throw new JukeIllegalArgumentException("Oh no! You must input a valid task number "
+                                                           + "for the command \"mark\"!");
         } else {
-            try {
-                int index = Integer.parseInt(args[1]);
-                return new JukeMarkTaskDoneCommand(taskList, index - 1);
-            } catch (NumberFormatException ex) {
-                throw new JukeIllegalArgumentException("Oh no! You must input a valid task number "
-                                                               + "for the command \"mark\"!");
-            }
+            return new JukeMarkTaskDoneCommand(taskList, args[1]);
         }
     }
 
@@ -151,15 +335,12 @@ public abstract class JukeCommand extends JukeObject {
     private static JukeMarkTaskUndoneCommand unmark(String[] args, TaskList taskList) {
         if (args.length == 1 || args.length > 2) {
             throw new JukeIllegalCommandArgumentException("Oh no! I cannot understand your unmark command!",
-                                                          "unmark [task number]");
+                                                          "unmark [task number(s), e.g. 1, 1-5 or 1,3,5-7]");
+        } else if (!Parser.isMatchTaskNumbers(args[1])) {
+            throw new JukeIllegalArgumentException("Oh no! You must input a valid task number "
+                                                           + "for the command \"unmark\"!");
         } else {
-            try {
-                int index = Integer.parseInt(args[1]);
-                return new JukeMarkTaskUndoneCommand(taskList, index - 1);
-            } catch (NumberFormatException ex) {
-                throw new JukeIllegalArgumentException("Oh no! You must input a valid task number "
-                                                               + "for the command \"unmark\"!");
-            }
+            return new JukeMarkTaskUndoneCommand(taskList, args[1]);
         }
     }
 
@@ -173,15 +354,12 @@ public abstract class JukeCommand extends JukeObject {
     private static JukeDeleteTaskCommand delete(String[] args, TaskList taskList) {
         if (args.length == 1 || args.length > 2) {
             throw new JukeIllegalCommandArgumentException("Oh no! I cannot understand your delete command!",
-                                                          "delete [task number]");
+                                                          "delete [task number(s), e.g. 1, 1-5 or 1,3,5-7]");
+        } else if (!Parser.isMatchTaskNumbers(args[1])) {
+            throw new JukeIllegalArgumentException("Oh no! You must input a valid task number "
+                                                           + "for the command \"delete\"!");
         } else {
-            try {
-                int index = Integer.parseInt(args[1]);
-                return new JukeDeleteTaskCommand(taskList, index - 1);
-            } catch (NumberFormatException ex) {
-                throw new JukeIllegalArgumentException("Oh no! You must input a valid task number "
-                                                               + "for the command \"unmark\"!");
-            }
+            return new JukeDeleteTaskCommand(taskList, args[1]);
         }
     }
 
@@ -286,16 +464,73 @@ public abstract class JukeCommand extends JukeObject {
     }
 
     /**
-     * Creates a {@code JukeFindTaskCommand} object.
+     * Creates a {@code JukeFindTaskCommand} object. Archived tasks are searched too if the word is preceded
+     * by "--all", and case and accents are only matched if the word is preceded by "--exact". If the words
+     * are preceded by "--top" and a number, a {@code JukeRankedFindTaskCommand} is created instead, which
+     * returns that many of the best matching tasks, ranking incomplete tasks and deadlines due soon higher
+     * if "--boost" is given too.
      *
      * @param args Parsed arguments
      * @param taskList {@code TaskList} object which manages all tasks
-     * @return {@code JukeFindTaskCommand} object
+     * @return {@code JukeFindTaskCommand} or {@code JukeRankedFindTaskCommand} object
      */
-    private static JukeFindTaskCommand find(String[] args, TaskList taskList) {
-        if (args.length == 1) {
+    private static JukeCommand find(String[] args, TaskList taskList) {
+        boolean isIncludingArchive = false;
+        boolean isExact = false;
+        boolean isBoosted = false;
+        int limit = 0;
+        int wordIndex = 1;
+
+        try {
+            for (; wordIndex < args.length; wordIndex++) {
+                if (args[wordIndex].equals("--all")) {
+                    isIncludingArchive = true;
+                } else if (args[wordIndex].equals("--exact")) {
+                    isExact = true;
+                } else if (args[wordIndex].equals("--boost")) {
+                    isBoosted = true;
+                } else if (args[wordIndex].equals("--top")) {
+                    limit = Integer.parseInt(args[++wordIndex]);
+                } else {
+                    break;
+                }
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException ex) {
+            limit = -1;
+        }
+
+        boolean isRanked = limit != 0 || isBoosted;
+
+        if (args.length <= wordIndex || isRanked && (limit <= 0 || isIncludingArchive || isExact)) {
             throw new JukeIllegalCommandArgumentException("Oh no! I cannot understand your find command!",
-                                                          "find [word]");
+                                                          "find [--all] [--exact] [word]\n"
+                                                                  + "find --top K [--boost] [word(s)]");
+        }
+
+        //@@author asdfghjkxd-reused
+        // Method is reused from https://www.spigotmc.org/threads/how-to-combine-args.239109/
+        String newFindArgs = String.join(" ", Arrays.copyOfRange(args, wordIndex, args.length));
+        //@@author
+
+        if (isRanked) {
+            return new JukeRankedFindTaskCommand(taskList, newFindArgs, limit, isBoosted);
+        }
+
+        return new JukeFindTaskCommand(taskList, newFindArgs, isIncludingArchive, isExact);
+    }
+
+    /**
+     * Creates a {@code JukeFuzzyFindTaskCommand} object, which finds tasks even if the words searched for
+     * are misspelt.
+     *
+     * @param args Parsed arguments
+     * @param taskList {@code TaskList} object which manages all tasks
+     * @return {@code JukeFuzzyFindTaskCommand} object
+     */
+    private static JukeFuzzyFindTaskCommand fuzzyFind(String[] args, TaskList taskList) {
+        if (args.length == 1) {
+            throw new JukeIllegalCommandArgumentException("Oh no! I cannot understand your find~ command!",
+                                                          "find~ [word(s)]");
         }
 
         //@@author asdfghjkxd-reused
@@ -303,7 +538,78 @@ public abstract class JukeCommand extends JukeObject {
         String newFindArgs = String.join(" ", Arrays.copyOfRange(args, 1, args.length));
         //@@author
 
-        return new JukeFindTaskCommand(taskList, newFindArgs);
+        return new JukeFuzzyFindTaskCommand(taskList, newFindArgs);
+    }
+
+    /**
+     * Creates a {@code JukeFilterTaskCommand} object. Each criterion begins with a slash, and the task list
+     * is only passed over once, however many criteria are given.
+     *
+     * @param args Parsed arguments
+     * @param taskList {@code TaskList} object which manages all tasks
+     * @return {@code JukeFilterTaskCommand} object
+     * @throws JukeIllegalCommandArgumentException if any criterion is not understood
+     */
+    private static JukeFilterTaskCommand filter(String[] args, TaskList taskList) {
+        //@@author asdfghjkxd-reused
+        // Method is reused from https://www.spigotmc.org/threads/how-to-combine-args.239109/
+        String newFilterArgs = String.join(" ", Arrays.copyOfRange(args, 1, args.length));
+        //@@author
+
+        if (!newFilterArgs.startsWith("/")) {
+            throw new JukeIllegalCommandArgumentException("Oh no! I cannot understand your filter command!",
+                                                          JukeCommand.FILTER_USAGE);
+        }
+
+        TaskQuery query = TaskQuery.of();
+
+        try {
+            for (String criterion : newFilterArgs.split(JukeCommand.FILTER_CRITERION_REGEX)) {
+                query = JukeCommand.addCriterion(query, criterion.substring(1).strip().split("\\s+", 2));
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException ex) {
+            throw new JukeIllegalCommandArgumentException("Oh no! I cannot understand your filter command!",
+                                                          JukeCommand.FILTER_USAGE);
+        }
+
+        return new JukeFilterTaskCommand(taskList, query);
+    }
+
+    /**
+     * Adds a criterion of the filter command to a query.
+     *
+     * @param query Query to add the criterion to
+     * @param criterion Name of the criterion, followed by its value if it has one
+     * @return New {@code TaskQuery} with the criterion
+     * @throws IllegalArgumentException if the criterion is not understood
+     * @throws ArrayIndexOutOfBoundsException if the criterion has no value
+     */
+    private static TaskQuery addCriterion(TaskQuery query, String[] criterion) {
+        String value = criterion[1];
+
+        switch (criterion[0]) {
+        case "type":
+            return query.withType(TaskTypeEnum.ofType(value));
+        case "done":
+            if (!value.equals("yes") && !value.equals("no")) {
+                throw new IllegalArgumentException("Oh no! The completion status you entered is invalid!");
+            }
+
+            return query.withCompletion(value.equals("yes"));
+        case "text":
+            return query.withText(value);
+        case "from":
+        case "until":
+            String[] fieldAndDate = value.split("\\s+", 2);
+            SortTypeEnum field = SortTypeEnum.ofType(fieldAndDate[0]);
+            LocalDateTime date = DateTimeParser.parse(fieldAndDate[1]);
+            return criterion[0].equals("from") ? query.withFrom(field, date) : query.withUntil(field, date);
+        case "sort":
+            String[] orderAndType = value.split("\\s+", 2);
+            return query.withSort(SortOrderEnum.ofOrder(orderAndType[0]), SortTypeEnum.ofType(orderAndType[1]));
+        default:
+            throw new IllegalArgumentException("Oh no! The filter criterion you entered is invalid!");
+        }
     }
 
     /**
@@ -330,8 +636,8 @@ public abstract class JukeCommand extends JukeObject {
             String newSortArgs = String.join(" ", Arrays.copyOfRange(args, 2, args.length));
             //@@author
 
-            SortOrderEnum sortOrder = SortOrderEnum.ofOrder(args[1].toLowerCase());
-            SortTypeEnum sortType = SortTypeEnum.ofType(newSortArgs.toLowerCase());
+            SortOrderEnum sortOrder = SortOrderEnum.ofOrder(args[1]);
+            SortTypeEnum sortType = SortTypeEnum.ofType(newSortArgs);
             return new JukeSortListCommand(sortOrder, sortType, taskList);
         } catch (IllegalArgumentException ex) {
             throw new JukeIllegalCommandArgumentException("Oh no! I cannot understand your sort command!",
@@ -344,6 +650,15 @@ public abstract class JukeCommand extends JukeObject {
         }
     }
 
+    /**
+     * Checks if the command only reads the tasks, and so can be run alongside commands which change them.
+     *
+     * @return true if the command does not change the tasks, else false
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
     /**
      * Invokes an action when the command is executed.
      *
@@ -1,29 +1,30 @@
 package juke.commands;
 
 import juke.commons.exceptions.storage.JukeStorageException;
+import juke.parsers.Parser;
 import juke.responses.Dialog;
 import juke.responses.Response;
 import juke.tasks.TaskList;
 
 /**
- * Action that deletes a Task from the {@code TaskList}.
+ * Action that deletes one or more Tasks from the {@code TaskList}.
  */
 public class JukeDeleteTaskCommand extends JukeCommand {
-    /** {@code TaskList} to manage all tasks. */
+    /** {@code TaskList} that manages the tasks. */
     private final TaskList taskList;
 
-    /** JukeTask to remove. */
-    private final int task;
+    /** Task numbers and ranges of task numbers of the tasks of interest, such as "1,3,5-7". */
+    private final String taskNumbers;
 
     /**
      * Creates an instance of {@code JukeDeleteTaskCommand}.
      *
-     * @param taskList {@code TaskList} instance
-     * @param task Index of task to delete
+     * @param taskList {@code TaskList} that manages the tasks
+     * @param taskNumbers Task numbers and ranges of task numbers of the tasks to act on
      */
-    public JukeDeleteTaskCommand(TaskList taskList, int task) {
+    public JukeDeleteTaskCommand(TaskList taskList, String taskNumbers) {
         this.taskList = taskList;
-        this.task = task;
+        this.taskNumbers = taskNumbers;
     }
 
     /**
@@ -35,11 +36,18 @@ public class JukeDeleteTaskCommand extends JukeCommand {
      */
     @Override
     public Response execute(Response response) {
-        String taskInfo = this.taskList.getTaskInformation(this.task);
-        this.taskList.deleteTask(this.task);
+        int[] indices = Parser.parseTaskNumbers(this.taskNumbers, this.taskList.size());
+        StringBuilder builder = new StringBuilder(indices.length == 1 ? "Task deleted: " : "Tasks deleted:\n");
+
+        // the information of the tasks must be collected before they are deleted
+        for (int index : indices) {
+            builder.append(this.taskList.getTaskInformation(index)).append("\n");
+        }
+
+        this.taskList.deleteTask(indices);
 
         return response
-                .with(Dialog.ofJuke("Task deleted: " + taskInfo))
+                .with(Dialog.ofJuke(builder.toString().strip()))
                 .with(Dialog.ofJuke(this.taskList.toString()));
     }
 }
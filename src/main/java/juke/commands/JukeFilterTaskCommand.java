@@ -0,0 +1,67 @@
+package juke.commands;
+
+import java.util.List;
+
+import juke.commons.exceptions.arguments.JukeIllegalArgumentException;
+import juke.responses.Dialog;
+import juke.responses.Response;
+import juke.tasks.JukeTask;
+import juke.tasks.TaskList;
+import juke.tasks.TaskQuery;
+
+/**
+ * Action that finds the Tasks in the {@code TaskList} which meet every criterion of a filter.
+ */
+public class JukeFilterTaskCommand extends JukeCommand {
+    /** {@code TaskList} to manage all tasks. */
+    private final TaskList taskList;
+
+    /** Query which selects the tasks. */
+    private final TaskQuery query;
+
+    /**
+     * Creates an instance of {@code JukeFilterTaskCommand}.
+     *
+     * @param taskList {@code TaskList} instance
+     * @param query {@code TaskQuery} which selects the tasks
+     */
+    public JukeFilterTaskCommand(TaskList taskList, TaskQuery query) {
+        this.taskList = taskList;
+        this.query = query;
+    }
+
+    /**
+     * Checks if the command only reads the tasks, which is always the case for this command.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    /**
+     * Invokes an action when the command is executed.
+     *
+     * @param response {@code Response} object that contains response from Juke and the user
+     * @return {@code Response} object composed with response from Juke or the user
+     * @throws JukeIllegalArgumentException if the selected tasks cannot be sorted
+     */
+    @Override
+    public Response execute(Response response) {
+        List<JukeTask> foundTasks = this.taskList.filter(this.query);
+
+        if (foundTasks.isEmpty()) {
+            return response.with(Dialog.ofJuke("Sorry! I could not find any task which matches your filter!"));
+        }
+
+        StringBuilder stringBuilder = new StringBuilder("Found them! Here are the tasks in your task list that "
+                                                                + "match your filter:\n");
+
+        for (JukeTask t : foundTasks) {
+            stringBuilder.append(t).append("\n");
+        }
+
+        return response.with(Dialog.ofJuke(stringBuilder.toString()));
+    }
+}
@@ -2,6 +2,7 @@ package juke.commands;
 
 import java.util.List;
 
+import juke.commons.exceptions.storage.JukeStorageException;
 import juke.responses.Dialog;
 import juke.responses.Response;
 import juke.tasks.JukeTask;
@@ -17,6 +18,12 @@ public class JukeFindTaskCommand extends JukeCommand {
     /** Word of interest to search. */
     private final String word;
 
+    /** Whether the archived tasks are searched too. */
+    private final boolean isIncludingArchive;
+
+    /** Whether the word must match the task description exactly, rather than ignoring case and accents. */
+    private final boolean isExact;
+
     /**
      * Creates an instance of {@code JukeFindTaskCommand}.
      *
@@ -24,8 +31,44 @@ public class JukeFindTaskCommand extends JukeCommand {
      * @param word Word of interest to search
      */
     public JukeFindTaskCommand(TaskList taskList, String word) {
+        this(taskList, word, false);
+    }
+
+    /**
+     * Creates an instance of {@code JukeFindTaskCommand} which may search the archived tasks too.
+     *
+     * @param taskList {@code TaskList} instance
+     * @param word Word of interest to search
+     * @param isIncludingArchive Whether the archived tasks are searched too
+     */
+    public JukeFindTaskCommand(TaskList taskList, String word, boolean isIncludingArchive) {
+        this(taskList, word, isIncludingArchive, false);
+    }
+
+    /**
+     * Creates an instance of {@code JukeFindTaskCommand} which may search the archived tasks too, and which
+     * may only find tasks whose description matches the word exactly.
+     *
+     * @param taskList {@code TaskList} instance
+     * @param word Word of interest to search
+     * @param isIncludingArchive Whether the archived tasks are searched too
+     * @param isExact Whether the word must match the task description exactly, including its case
+     */
+    public JukeFindTaskCommand(TaskList taskList, String word, boolean isIncludingArchive, boolean isExact) {
         this.taskList = taskList;
         this.word = word;
+        this.isIncludingArchive = isIncludingArchive;
+        this.isExact = isExact;
+    }
+
+    /**
+     * Checks if the command only reads the tasks, which is always the case for this command.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
     }
 
     /**
@@ -33,16 +76,20 @@ public class JukeFindTaskCommand extends JukeCommand {
      *
      * @param response {@code Response} object that contains response from Juke and the user
      * @return {@code Response} object composed with response from Juke or the user
+     * @throws JukeStorageException if the archived tasks are searched and cannot be read
      */
     @Override
     public Response execute(Response response) {
-        List<JukeTask> foundTasks = this.taskList.findTask(this.word);
+        List<JukeTask> foundTasks = this.taskList.findTask(this.word, this.isExact);
+        List<JukeTask> archivedTasks = this.isIncludingArchive
+                ? this.taskList.findArchivedTask(this.word, this.isExact)
+                : List.of();
         StringBuilder stringBuilder = new StringBuilder();
 
-        if (foundTasks.size() == 0) {
+        if (foundTasks.size() == 0 && archivedTasks.size() == 0) {
             stringBuilder.append("Sorry! I could not find any task with the word \"")
                     .append(this.word)
-                    .append("\" in the task list!");
+                    .append(this.isIncludingArchive ? "\" in the task list or its archive!" : "\" in the task list!");
         } else {
             stringBuilder.append("Found them! Here are some of the tasks in your task list that contain the "
                     + "word \"")
@@ -52,6 +99,14 @@ public class JukeFindTaskCommand extends JukeCommand {
             for (JukeTask t : foundTasks) {
                 stringBuilder.append(t).append("\n");
             }
+
+            if (archivedTasks.size() > 0) {
+                stringBuilder.append("\nAnd here are the ones in your archive:\n");
+
+                for (JukeTask t : archivedTasks) {
+                    stringBuilder.append(t).append("\n");
+                }
+            }
         }
 
         return response.with(Dialog.ofJuke(stringBuilder.toString()));
@@ -0,0 +1,71 @@
+package juke.commands;
+
+import java.util.List;
+
+import juke.responses.Dialog;
+import juke.responses.Response;
+import juke.tasks.TaskList;
+import juke.tasks.TaskMatch;
+
+/**
+ * Action that finds the Tasks in the {@code TaskList} whose description is close to the words searched for,
+ * even if they are misspelt.
+ */
+public class JukeFuzzyFindTaskCommand extends JukeCommand {
+    /** {@code TaskList} to manage all tasks. */
+    private final TaskList taskList;
+
+    /** Words of interest to search. */
+    private final String query;
+
+    /**
+     * Creates an instance of {@code JukeFuzzyFindTaskCommand}.
+     *
+     * @param taskList {@code TaskList} instance
+     * @param query Words of interest to search
+     */
+    public JukeFuzzyFindTaskCommand(TaskList taskList, String query) {
+        this.taskList = taskList;
+        this.query = query;
+    }
+
+    /**
+     * Checks if the command only reads the tasks, which is always the case for this command.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    /**
+     * Invokes an action when the command is executed.
+     *
+     * @param response {@code Response} object that contains response from Juke and the user
+     * @return {@code Response} object composed with response from Juke or the user
+     */
+    @Override
+    public Response execute(Response response) {
+        List<TaskMatch> matches = this.taskList.findTaskFuzzy(this.query);
+
+        if (matches.isEmpty()) {
+            return response.with(Dialog.ofJuke("Sorry! I could not find any task with a word close to \""
+                                                       + this.query + "\" in the task list!"));
+        }
+
+        StringBuilder stringBuilder = new StringBuilder("Found them! Here are the tasks in your task list that "
+                                                                + "come closest to \"")
+                .append(this.query)
+                .append("\":\n");
+
+        for (TaskMatch match : matches) {
+            stringBuilder.append(match.getTask())
+                         .append(" (")
+                         .append(match.getDistance())
+                         .append(" edit(s) away)\n");
+        }
+
+        return response.with(Dialog.ofJuke(stringBuilder.toString()));
+    }
+}
@@ -1,29 +1,30 @@
 package juke.commands;
 
 import juke.commons.exceptions.storage.JukeStorageException;
+import juke.parsers.Parser;
 import juke.responses.Dialog;
 import juke.responses.Response;
 import juke.tasks.TaskList;
 
 /**
- * Action that marks a {@code JukeTask} as undone.
+ * Action that marks one or more {@code JukeTask}s as undone.
  */
 public class JukeMarkTaskUndoneCommand extends JukeCommand {
     /** {@code TaskList} that manages the tasks. */
     private final TaskList taskList;
 
-    /** The index of the task of interest. */
-    private final int index;
+    /** Task numbers and ranges of task numbers of the tasks of interest, such as "1,3,5-7". */
+    private final String taskNumbers;
 
     /**
      * Creates an instance of {@code JukeMarkTaskUndoneCommand}.
      *
      * @param taskList {@code TaskList} that manages the tasks
-     * @param index Index of the Task to act on
+     * @param taskNumbers Task numbers and ranges of task numbers of the tasks to act on
      */
-    public JukeMarkTaskUndoneCommand(TaskList taskList, int index) {
+    public JukeMarkTaskUndoneCommand(TaskList taskList, String taskNumbers) {
         this.taskList = taskList;
-        this.index = index;
+        this.taskNumbers = taskNumbers;
     }
 
     /**
@@ -35,10 +36,24 @@ public class JukeMarkTaskUndoneCommand extends JukeCommand {
      */
     @Override
     public Response execute(Response response) {
-        this.taskList.setAsIncomplete(this.index);
+        int[] indices = Parser.parseTaskNumbers(this.taskNumbers, this.taskList.size());
+        this.taskList.setAsIncomplete(indices);
+
+        if (indices.length == 1) {
+            return response
+                    .with(Dialog.ofJuke("Task marked as undone: "
+                                                + this.taskList.getTaskInformation(indices[0])))
+                    .with(Dialog.ofJuke(this.taskList.toString()));
+        }
+
+        StringBuilder builder = new StringBuilder("Tasks marked as undone:");
+
+        for (int index : indices) {
+            builder.append("\n").append(this.taskList.getTaskInformation(index));
+        }
+
         return response
-                .with(Dialog.ofJuke("Task marked as undone: "
-                                         + this.taskList.getTaskInformation(this.index)))
+                .with(Dialog.ofJuke(builder.toString()))
                 .with(Dialog.ofJuke(this.taskList.toString()));
     }
 }
@@ -0,0 +1,68 @@
+package juke.commands;
+
+import java.util.List;
+
+import juke.commons.exceptions.JukeException;
+import juke.commons.exceptions.storage.JukeStorageException;
+import juke.responses.Response;
+import juke.tasks.TaskList;
+
+/**
+ * Action that runs several commands entered in a single line, one after another, as a single batch.
+ * Either all commands are run, or none of them are, and the changes made by the commands are saved once
+ * all of them have run.
+ */
+public class JukePipelineCommand extends JukeCommand {
+    /** {@code TaskList} that manages the tasks. */
+    private final TaskList taskList;
+
+    /** Commands to run, in the order that they are to be run. */
+    private final List<JukeCommand> commands;
+
+    /**
+     * Creates an instance of {@code JukePipelineCommand}.
+     *
+     * @param taskList {@code TaskList} that manages the tasks
+     * @param commands Commands to run, in the order that they are to be run
+     */
+    public JukePipelineCommand(TaskList taskList, List<JukeCommand> commands) {
+        this.taskList = taskList;
+        this.commands = commands;
+    }
+
+    /**
+     * Invokes an action when the command is executed. The responses of every command are composed into
+     * the same {@code Response}. If any command fails, the changes made by the earlier commands are undone.
+     *
+     * @param response {@code Response} object that contains response from Juke and the user
+     * @return {@code Response} object composed with response from Juke or the user
+     * @throws JukeException if any of the commands fail
+     * @throws JukeStorageException if there are any errors encountered when saving the changes
+     */
+    @Override
+    public Response execute(Response response) {
+        this.taskList.beginBatch();
+        boolean isSuccessful = false;
+        int commandNumber = 0;
+
+        try {
+            for (JukeCommand command : this.commands) {
+                commandNumber++;
+                response = command.execute(response);
+            }
+
+            isSuccessful = true;
+        } catch (JukeException ex) {
+            throw new JukeException("Oh no! Command " + commandNumber + " failed, and so none of your "
+                                            + "commands were run!\n\n" + ex);
+        } finally {
+            if (isSuccessful) {
+                this.taskList.commitBatch();
+            } else {
+                this.taskList.rollbackBatch();
+            }
+        }
+
+        return response;
+    }
+}
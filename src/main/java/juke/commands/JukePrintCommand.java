@@ -20,6 +20,16 @@ public class JukePrintCommand extends JukeCommand {
         this.printTarget = printTarget;
     }
 
+    /**
+     * Checks if the command only reads the tasks, which is always the case for this command.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     /**
      * Invokes an action when the command is executed.
      *
@@ -0,0 +1,79 @@
+package juke.commands;
+
+import java.util.List;
+
+import juke.responses.Dialog;
+import juke.responses.Response;
+import juke.tasks.ScoredTask;
+import juke.tasks.TaskList;
+
+/**
+ * Action that finds the Tasks in the {@code TaskList} which best match the words searched for, ranked by
+ * how often the words appear in them and how rare the words are across the task list.
+ */
+public class JukeRankedFindTaskCommand extends JukeCommand {
+    /** {@code TaskList} to manage all tasks. */
+    private final TaskList taskList;
+
+    /** Words of interest to search. */
+    private final String query;
+
+    /** Largest number of tasks to return. */
+    private final int limit;
+
+    /** Whether incomplete tasks, and deadlines due soon, are ranked higher. */
+    private final boolean isBoosted;
+
+    /**
+     * Creates an instance of {@code JukeRankedFindTaskCommand}.
+     *
+     * @param taskList {@code TaskList} instance
+     * @param query Words of interest to search
+     * @param limit Largest number of tasks to return
+     * @param isBoosted Whether incomplete tasks, and deadlines due soon, are ranked higher
+     */
+    public JukeRankedFindTaskCommand(TaskList taskList, String query, int limit, boolean isBoosted) {
+        this.taskList = taskList;
+        this.query = query;
+        this.limit = limit;
+        this.isBoosted = isBoosted;
+    }
+
+    /**
+     * Checks if the command only reads the tasks, which is always the case for this command.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    /**
+     * Invokes an action when the command is executed.
+     *
+     * @param response {@code Response} object that contains response from Juke and the user
+     * @return {@code Response} object composed with response from Juke or the user
+     */
+    @Override
+    public Response execute(Response response) {
+        List<ScoredTask> matches = this.taskList.findTaskRanked(this.query, this.limit, this.isBoosted);
+
+        if (matches.isEmpty()) {
+            return response.with(Dialog.ofJuke("Sorry! I could not find any task with the words \""
+                                                       + this.query + "\" in the task list!"));
+        }
+
+        StringBuilder stringBuilder = new StringBuilder("Found them! Here are the tasks in your task list that "
+                                                                + "best match \"")
+                .append(this.query)
+                .append("\":\n");
+
+        for (ScoredTask match : matches) {
+            stringBuilder.append(match.getTask())
+                         .append(String.format(" (score %.2f)\n", match.getScore()));
+        }
+
+        return response.with(Dialog.ofJuke(stringBuilder.toString()));
+    }
+}
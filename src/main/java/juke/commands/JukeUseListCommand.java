@@ -0,0 +1,46 @@
+package juke.commands;
+
+import juke.commons.exceptions.arguments.JukeIllegalArgumentException;
+import juke.commons.exceptions.storage.JukeStorageException;
+import juke.responses.Dialog;
+import juke.responses.Response;
+import juke.tasks.TaskList;
+import juke.tasks.TaskListCache;
+
+/**
+ * Action that switches the task list which later commands run against.
+ */
+public class JukeUseListCommand extends JukeCommand {
+    /** {@code TaskListCache} which keeps the open task lists. */
+    private final TaskListCache taskLists;
+
+    /** Name of the task list to use. */
+    private final String name;
+
+    /**
+     * Constructs a use list command.
+     *
+     * @param taskLists {@code TaskListCache} which keeps the open task lists
+     * @param name Name of the task list to use
+     */
+    public JukeUseListCommand(TaskListCache taskLists, String name) {
+        this.taskLists = taskLists;
+        this.name = name;
+    }
+
+    /**
+     * Invokes an action when the command is executed. The task list is opened if it is not already open,
+     * and is created if it does not exist.
+     *
+     * @param response {@code Response} object that contains response from Juke and the user
+     * @return {@code Response} object composed with response from Juke or the user
+     * @throws JukeIllegalArgumentException if the name of the task list is invalid
+     * @throws JukeStorageException if the task list cannot be opened
+     */
+    @Override
+    public Response execute(Response response) {
+        TaskList taskList = this.taskLists.use(this.name);
+        return response.with(Dialog.ofJuke("You are now using the task list \"" + this.name
+                                                   + "\", which has " + taskList.size() + " task(s)!"));
+    }
+}
@@ -0,0 +1,210 @@
+package juke.commons;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import juke.commons.classes.JukeObject;
+
+/**
+ * Prefix trie of words, which looks up the value of a word and completes a prefix to its best word in time
+ * proportional to the length of the prefix. Each node keeps the best word below it, which is the word with
+ * the highest weight, then the shortest, then the first in alphabetical order, so a completion is found
+ * without visiting the words below the prefix.
+ *
+ * <p>The weight of a word may only grow, which keeps the best word of every node correct by comparing
+ * against the nodes on the path of the word alone.</p>
+ *
+ * @param <V> Type of the values of the words
+ */
+public final class PrefixTrie<V> extends JukeObject {
+    /** Whether the words are looked up ignoring case, in which case they are stored in lower case. */
+    private final boolean isIgnoringCase;
+
+    /** Root node, which is reached by the empty prefix. */
+    private final Node root = new Node();
+
+    /** Number of words in the trie. */
+    private int size;
+
+    /**
+     * Creates an instance of {@code PrefixTrie}.
+     *
+     * @param isIgnoringCase Whether the words are looked up ignoring case
+     */
+    private PrefixTrie(boolean isIgnoringCase) {
+        this.isIgnoringCase = isIgnoringCase;
+    }
+
+    /**
+     * Creates an empty {@code PrefixTrie} which looks up words exactly.
+     *
+     * @param <V> Type of the values of the words
+     * @return {@code PrefixTrie} object
+     */
+    public static <V> PrefixTrie<V> of() {
+        return new PrefixTrie<>(false);
+    }
+
+    /**
+     * Creates an empty {@code PrefixTrie} which looks up words ignoring case, in place of lower casing them
+     * before each lookup.
+     *
+     * @param <V> Type of the values of the words
+     * @return {@code PrefixTrie} object
+     */
+    public static <V> PrefixTrie<V> ofIgnoringCase() {
+        return new PrefixTrie<>(true);
+    }
+
+    /**
+     * Adds a word with its value and weight, or replaces the value of a word already added. The weight of
+     * the word becomes the larger of its weights.
+     *
+     * @param word Word to add
+     * @param value Value of the word, which is not null
+     * @param weight Weight of the word, which makes it a better completion the higher it is
+     * @return This {@code PrefixTrie}
+     */
+    public PrefixTrie<V> put(String word, V value, long weight) {
+        String key = this.isIgnoringCase ? word.toLowerCase(Locale.ROOT) : word;
+        Node node = this.root;
+        node.offer(key, weight);
+
+        for (int i = 0; i < key.length(); i++) {
+            node = node.getOrAddChild(key.charAt(i));
+            node.offer(key, weight);
+        }
+
+        if (node.value == null) {
+            this.size++;
+        }
+
+        node.value = value;
+        return this;
+    }
+
+    /**
+     * Returns the value of a word.
+     *
+     * @param word Word to look up
+     * @return Value of the word, or null if the word has not been added
+     */
+    @SuppressWarnings("unchecked")
+    public V get(CharSequence word) {
+        Node node = this.walk(word);
+        return node == null ? null : (V) node.value;
+    }
+
+    /**
+     * Completes a prefix to the best word starting with it.
+     *
+     * @param prefix Prefix to complete
+     * @return Best word starting with the prefix, which may be the prefix itself, or null if there is none
+     */
+    public String complete(CharSequence prefix) {
+        Node node = this.walk(prefix);
+        return node == null ? null : node.best;
+    }
+
+    /**
+     * Returns the number of words in the trie.
+     *
+     * @return Number of words
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Walks down the trie along a prefix.
+     *
+     * @param prefix Prefix to walk along
+     * @return Node reached by the prefix, or null if no word starts with it
+     */
+    private Node walk(CharSequence prefix) {
+        Node node = this.root;
+
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            char label = prefix.charAt(i);
+            node = node.getChild(this.isIgnoringCase ? Character.toLowerCase(label) : label);
+        }
+
+        return node;
+    }
+
+    /**
+     * Node of the trie, whose children are kept sorted by their labels.
+     */
+    private static final class Node {
+        /** Labels of the children, sorted. */
+        private char[] labels = new char[0];
+
+        /** Children, in the order of their labels. */
+        private Node[] children = new Node[0];
+
+        /** Value of the word ending at this node, or null if no word ends here. */
+        private Object value;
+
+        /** Best word below this node, or null if there is none. */
+        private String best;
+
+        /** Weight of the best word below this node. */
+        private long bestWeight;
+
+        /**
+         * Returns the child with a label.
+         *
+         * @param label Label of the child
+         * @return Child node, or null if there is none
+         */
+        private Node getChild(char label) {
+            int index = Arrays.binarySearch(this.labels, label);
+            return index < 0 ? null : this.children[index];
+        }
+
+        /**
+         * Returns the child with a label, adding it if there is none.
+         *
+         * @param label Label of the child
+         * @return Child node
+         */
+        private Node getOrAddChild(char label) {
+            int index = Arrays.binarySearch(this.labels, label);
+
+            if (index >= 0) {
+                return this.children[index];
+            }
+
+            int insertion = -index - 1;
+            char[] newLabels = new char[this.labels.length + 1];
+            Node[] newChildren = new Node[this.children.length + 1];
+            System.arraycopy(this.labels, 0, newLabels, 0, insertion);
+            System.arraycopy(this.children, 0, newChildren, 0, insertion);
+            System.arraycopy(this.labels, insertion, newLabels, insertion + 1, this.labels.length - insertion);
+            System.arraycopy(this.children, insertion, newChildren, insertion + 1,
+                             this.children.length - insertion);
+            newLabels[insertion] = label;
+            newChildren[insertion] = new Node();
+            this.labels = newLabels;
+            this.children = newChildren;
+            return newChildren[insertion];
+        }
+
+        /**
+         * Makes a word below this node its best word, if it is better than the current best word.
+         *
+         * @param word Word below this node
+         * @param weight Weight of the word
+         */
+        private void offer(String word, long weight) {
+            if (word.equals(this.best)) {
+                this.bestWeight = Math.max(this.bestWeight, weight);
+            } else if (this.best == null || weight > this.bestWeight
+                    || weight == this.bestWeight && (word.length() < this.best.length()
+                    || word.length() == this.best.length() && word.compareTo(this.best) < 0)) {
+                this.best = word;
+                this.bestWeight = weight;
+            }
+        }
+    }
+}
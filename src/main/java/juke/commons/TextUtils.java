@@ -0,0 +1,42 @@
+package juke.commons;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Provides some utility methods for comparing text regardless of case and accents.
+ */
+public class TextUtils {
+    /** Pattern of the combining marks, such as accents, which are left once text is decomposed. */
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    /**
+     * Folds text into the key it is searched by, which ignores case, accents and compatibility forms such
+     * as full-width letters and ligatures. The text is decomposed with NFKD, its combining marks are
+     * removed, and it is then case-folded. ASCII text is only lower-cased, and is returned as it is if it
+     * has no upper case letters, so folding it costs a single pass.
+     *
+     * @param text Text to fold
+     * @return Folded text, which is the input itself if folding does not change it
+     */
+    public static String fold(String text) {
+        boolean hasUpperCase = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            if (c >= 0x80) {
+                String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD);
+                String unmarked = TextUtils.COMBINING_MARKS.matcher(decomposed).replaceAll("");
+                // upper-casing first folds letters such as the German sharp s into their full lower case form
+                String folded = unmarked.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+                return folded.equals(text) ? text : folded;
+            } else if (c >= 'A' && c <= 'Z') {
+                hasUpperCase = true;
+            }
+        }
+
+        return hasUpperCase ? text.toLowerCase(Locale.ROOT) : text;
+    }
+}
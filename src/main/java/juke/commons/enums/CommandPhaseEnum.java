@@ -0,0 +1,28 @@
+package juke.commons.enums;
+
+/**
+ * Enumeration on the phases that a command goes through when it is run.
+ */
+public enum CommandPhaseEnum {
+    /** Parsing of the user input into a command. */
+    PARSE,
+
+    /** Execution of the command, excluding the time spent saving the changes. */
+    EXECUTE,
+
+    /** Saving of the changes made by the command to the datafile. */
+    PERSIST,
+
+    /** Rendering of the responses from the command. */
+    RENDER;
+
+    /**
+     * Returns the name of the phase in lowercase, as it is shown to the user.
+     *
+     * @return Name of the phase
+     */
+    @Override
+    public String toString() {
+        return this.name().toLowerCase();
+    }
+}
@@ -1,5 +1,7 @@
 package juke.commons.enums;
 
+import juke.commons.PrefixTrie;
+
 /**
  * Enumeration on the order in which to sort the {@code TaskList} by.
  */
@@ -10,33 +12,43 @@ public enum SortOrderEnum {
     /** Descending order sort. */
     DESCENDING;
 
+    //@@author asdfghjkxd-reused
+    // aliases are adapted from GitHub Copilot, with some modifications made to the alias Strings
+    /** Aliases of each sort order, where the full names are weighted above the aliases to complete to them. */
+    private static final PrefixTrie<SortOrderEnum> ALIASES = PrefixTrie.<SortOrderEnum>ofIgnoringCase()
+            .put("a", SortOrderEnum.ASCENDING, 0)
+            .put("asc", SortOrderEnum.ASCENDING, 0)
+            .put("ascend", SortOrderEnum.ASCENDING, 0)
+            .put("ascending", SortOrderEnum.ASCENDING, 1)
+            .put("d", SortOrderEnum.DESCENDING, 0)
+            .put("desc", SortOrderEnum.DESCENDING, 0)
+            .put("descend", SortOrderEnum.DESCENDING, 0)
+            .put("descending", SortOrderEnum.DESCENDING, 1);
+    //@@author
+
     /**
-     * Parses the input string into a {@code SortOrderEnum} enum. switch-case
-     * is adapted from GitHub Copilot.
+     * Parses the input string into a {@code SortOrderEnum} enum, by walking the trie of aliases ignoring case.
      *
      * @param order String representing the order to sort by
      * @return {@code SortOrderEnum} enum value
      */
     public static SortOrderEnum ofOrder(String order) {
-        String lowerCaseOrder = order.toLowerCase().strip();
-
-        //@@author asdfghjkxd-reused
-        // switch-case cases are adapted from GitHub Copilot, with some modifications made
-        // to the cases Strings
-        switch (lowerCaseOrder) {
-        case "a":
-        case "asc":
-        case "ascend":
-        case "ascending":
-            return SortOrderEnum.ASCENDING;
-        case "d":
-        case "desc":
-        case "descend":
-        case "descending":
-            return SortOrderEnum.DESCENDING;
-        //@@author
-        default:
+        SortOrderEnum sortOrder = SortOrderEnum.ALIASES.get(order.strip());
+
+        if (sortOrder == null) {
             throw new IllegalArgumentException("Oh no! The sort order you entered is invalid!");
         }
+
+        return sortOrder;
+    }
+
+    /**
+     * Completes the start of a sort order to the full name of a sort order.
+     *
+     * @param prefix Start of a sort order
+     * @return Full name of the sort order, or null if no sort order starts with the prefix
+     */
+    public static String complete(String prefix) {
+        return SortOrderEnum.ALIASES.complete(prefix);
     }
 }
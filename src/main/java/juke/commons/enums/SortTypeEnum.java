@@ -1,5 +1,7 @@
 package juke.commons.enums;
 
+import juke.commons.PrefixTrie;
+
 /**
  * Enumeration on the type of sort to be performed on the {@code TaskList}.
  */
@@ -16,41 +18,49 @@ public enum SortTypeEnum {
     /** Sort by deadline of task. */
     DEADLINE;
 
+    //@@author asdfghjkxd-reused
+    // aliases are adapted from GitHub Copilot, with some modifications made to the alias Strings
+    /** Aliases of each type of sort, where the full names are weighted above the aliases to complete to them. */
+    private static final PrefixTrie<SortTypeEnum> ALIASES = PrefixTrie.<SortTypeEnum>ofIgnoringCase()
+            .put("d", SortTypeEnum.DESCRIPTION, 0)
+            .put("des", SortTypeEnum.DESCRIPTION, 0)
+            .put("descript", SortTypeEnum.DESCRIPTION, 0)
+            .put("description", SortTypeEnum.DESCRIPTION, 1)
+            .put("s", SortTypeEnum.START_DATE, 0)
+            .put("st", SortTypeEnum.START_DATE, 0)
+            .put("start", SortTypeEnum.START_DATE, 1)
+            .put("e", SortTypeEnum.END_DATE, 0)
+            .put("en", SortTypeEnum.END_DATE, 0)
+            .put("end", SortTypeEnum.END_DATE, 1)
+            .put("dl", SortTypeEnum.DEADLINE, 0)
+            .put("dead", SortTypeEnum.DEADLINE, 0)
+            .put("deadln", SortTypeEnum.DEADLINE, 0)
+            .put("deadline", SortTypeEnum.DEADLINE, 1);
+    //@@author
+
     /**
-     * Parses the input string into a {@code SortTypeEnum} enum. switch-case
-     * is adapted from GitHub Copilot.
+     * Parses the input string into a {@code SortTypeEnum} enum, by walking the trie of aliases ignoring case.
      *
      * @param type String representing the type of sort to perform
      * @return {@code SortTypeEnum} enum value
      */
     public static SortTypeEnum ofType(String type) {
-        String lowerCaseType = type.toLowerCase().strip();
-
-        //@@author asdfghjkxd-reused
-        // switch-case cases are adapted from GitHub Copilot, with some modifications made
-        // to the cases Strings
-        switch (lowerCaseType) {
-        case "d":
-        case "des":
-        case "descript":
-        case "description":
-            return SortTypeEnum.DESCRIPTION;
-        case "s":
-        case "st":
-        case "start":
-            return SortTypeEnum.START_DATE;
-        case "e":
-        case "en":
-        case "end":
-            return SortTypeEnum.END_DATE;
-        case "dl":
-        case "dead":
-        case "deadln":
-        case "deadline":
-            return SortTypeEnum.DEADLINE;
-        //@@author
-        default:
+        SortTypeEnum sortType = SortTypeEnum.ALIASES.get(type.strip());
+
+        if (sortType == null) {
             throw new IllegalArgumentException("Oh no! The sort type you entered is invalid!");
         }
+
+        return sortType;
+    }
+
+    /**
+     * Completes the start of a sort type to the full name of a type of sort.
+     *
+     * @param prefix Start of a sort type
+     * @return Full name of the sort type, or null if no sort type starts with the prefix
+     */
+    public static String complete(String prefix) {
+        return SortTypeEnum.ALIASES.complete(prefix);
     }
 }
@@ -0,0 +1,45 @@
+package juke.commons.enums;
+
+/**
+ * Enumeration on the backends which can store the tasks.
+ */
+public enum StorageTypeEnum {
+    /** Datafile which is read and written as a whole. */
+    TEXT,
+
+    /** Datafile which is accessed through a memory-mapped view of it. */
+    MAPPED,
+
+    /** Segments of the tasks, each of which is only rewritten when the tasks it holds change. */
+    SEGMENTED,
+
+    /** Memory of the running program, which is lost when Juke exits. */
+    MEMORY;
+
+    /**
+     * Parses the input string into a {@code StorageTypeEnum} enum.
+     *
+     * @param type String representing the backend to store the tasks in
+     * @return {@code StorageTypeEnum} enum value
+     */
+    public static StorageTypeEnum ofType(String type) {
+        String lowerCaseType = type.toLowerCase().strip();
+
+        switch (lowerCaseType) {
+        case "text":
+        case "file":
+            return StorageTypeEnum.TEXT;
+        case "mapped":
+        case "mmap":
+            return StorageTypeEnum.MAPPED;
+        case "segmented":
+        case "segments":
+            return StorageTypeEnum.SEGMENTED;
+        case "memory":
+        case "mem":
+            return StorageTypeEnum.MEMORY;
+        default:
+            throw new IllegalArgumentException("Oh no! The storage type you entered is invalid!");
+        }
+    }
+}
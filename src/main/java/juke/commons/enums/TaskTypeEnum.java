@@ -0,0 +1,42 @@
+package juke.commons.enums;
+
+import juke.commons.PrefixTrie;
+
+/**
+ * Enumeration on the types of {@code JukeTask} which may be kept in the {@code TaskList}.
+ */
+public enum TaskTypeEnum {
+    /** Task without a date. */
+    TODO,
+
+    /** Task with a deadline. */
+    DEADLINE,
+
+    /** Task with a start and end date. */
+    EVENT;
+
+    /** Aliases of each type of task, which are looked up ignoring case. */
+    private static final PrefixTrie<TaskTypeEnum> ALIASES = PrefixTrie.<TaskTypeEnum>ofIgnoringCase()
+            .put("t", TaskTypeEnum.TODO, 0)
+            .put("todo", TaskTypeEnum.TODO, 1)
+            .put("d", TaskTypeEnum.DEADLINE, 0)
+            .put("deadline", TaskTypeEnum.DEADLINE, 1)
+            .put("e", TaskTypeEnum.EVENT, 0)
+            .put("event", TaskTypeEnum.EVENT, 1);
+
+    /**
+     * Parses the input string into a {@code TaskTypeEnum} enum, by walking the trie of aliases ignoring case.
+     *
+     * @param type String representing the type of task
+     * @return {@code TaskTypeEnum} enum value
+     */
+    public static TaskTypeEnum ofType(String type) {
+        TaskTypeEnum taskType = TaskTypeEnum.ALIASES.get(type.strip());
+
+        if (taskType == null) {
+            throw new IllegalArgumentException("Oh no! The task type you entered is invalid!");
+        }
+
+        return taskType;
+    }
+}
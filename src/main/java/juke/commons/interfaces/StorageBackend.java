@@ -0,0 +1,105 @@
+package juke.commons.interfaces;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+import juke.commons.exceptions.storage.JukeStorageException;
+import juke.commons.exceptions.storage.JukeStorageReadException;
+import juke.commons.exceptions.storage.JukeStorageWriteException;
+import juke.tasks.JukeTask;
+
+/**
+ * Defines a contract whereby the tasks can be loaded from, and their changes saved to, a backing store.
+ * <p>
+ * Each change is saved through the method which describes it, so that a backend may save only the change
+ * rather than every task. By default, every change rewrites all the tasks through {@code write}.
+ */
+public interface StorageBackend {
+    /**
+     * Returns the list of saved tasks.
+     *
+     * @return List of {@code JukeTasks} retrieved
+     * @throws JukeStorageException If the tasks could not be read for any reason
+     */
+    List<JukeTask> read() throws JukeStorageReadException;
+
+    /**
+     * Passes every saved task to the consumer in its datafile representation, without parsing it into
+     * a {@code JukeTask}. Only the task type and number of fields of each task are checked.
+     *
+     * @param consumer Consumer of the datafile representation of each task
+     * @throws JukeStorageException If the tasks could not be read for any reason
+     */
+    void readRecords(Consumer<String> consumer) throws JukeStorageReadException;
+
+    /**
+     * Saves the list of tasks, replacing every task saved before.
+     *
+     * @param tasks List of {@code JukeTasks} to write
+     * @throws JukeStorageException If the tasks could not be saved for any reason
+     */
+    void write(List<JukeTask> tasks) throws JukeStorageWriteException;
+
+    /**
+     * Sets the listener which is notified of the fraction of the saved tasks that has been read, from 0 to 1,
+     * while the tasks are being read.
+     *
+     * @param progressListener Listener of the progress of reading the tasks
+     */
+    void setProgressListener(DoubleConsumer progressListener);
+
+    /**
+     * Saves a task which was just appended to the end of the list of tasks. By default, this rewrites
+     * all the tasks.
+     *
+     * @param tasks List of {@code JukeTasks}, with the new task as its last element
+     * @throws JukeStorageException If the tasks could not be saved for any reason
+     */
+    default void append(List<JukeTask> tasks) throws JukeStorageWriteException {
+        this.write(tasks);
+    }
+
+    /**
+     * Saves the change in completion status of tasks. By default, this rewrites all the tasks.
+     *
+     * @param tasks List of {@code JukeTasks}
+     * @param indices Indices of the tasks whose completion status has changed
+     * @throws JukeStorageException If the tasks could not be saved for any reason
+     */
+    default void updateCompletion(List<JukeTask> tasks, int... indices) throws JukeStorageWriteException {
+        this.write(tasks);
+    }
+
+    /**
+     * Saves the deletion of tasks. By default, this rewrites all the tasks.
+     *
+     * @param tasks List of {@code JukeTasks}, with the tasks already removed
+     * @param indices Indices that the deleted tasks were at, in ascending order without duplicates
+     * @throws JukeStorageException If the tasks could not be saved for any reason
+     */
+    default void delete(List<JukeTask> tasks, int... indices) throws JukeStorageWriteException {
+        this.write(tasks);
+    }
+
+    /**
+     * Ensures that every change saved so far has reached the backing store. By default, changes reach the
+     * backing store as they are saved, and so there is nothing more to do.
+     *
+     * @throws JukeStorageException If the changes could not be written for any reason
+     */
+    default void flush() throws JukeStorageWriteException {
+        // changes are written when they are saved
+    }
+
+    /**
+     * Releases any resource held open on the backing store, such as a channel to the datafile. The backend
+     * may still be used afterwards, and reopens any resource it needs. By default, no resource is held
+     * open, and so there is nothing to release.
+     *
+     * @throws JukeStorageException If the resources could not be released for any reason
+     */
+    default void close() throws JukeStorageWriteException {
+        // no resource is held open
+    }
+}
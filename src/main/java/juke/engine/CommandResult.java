@@ -0,0 +1,109 @@
+package juke.engine;
+
+import java.util.List;
+
+import juke.commons.classes.JukeObject;
+
+/**
+ * Immutable result of a command run by a {@code JukeEngine}, holding Juke's replies to it without
+ * depending on how they are displayed.
+ */
+public final class CommandResult extends JukeObject {
+    /** Separator between the messages when they are joined into a single text. */
+    private static final String MESSAGE_SEPARATOR = "\n\n";
+
+    /** Type of the command, such as "todo", under which its latencies are recorded. */
+    private final String commandType;
+
+    /** Whether the command was run successfully. */
+    private final boolean isSuccess;
+
+    /** Whether the command asks for Juke to exit. */
+    private final boolean isExit;
+
+    /** Juke's replies to the command, or the error if the command failed. */
+    private final List<String> messages;
+
+    /**
+     * Creates an instance of {@code CommandResult}.
+     *
+     * @param commandType Type of the command
+     * @param isSuccess Whether the command was run successfully
+     * @param isExit Whether the command asks for Juke to exit
+     * @param messages Juke's replies to the command
+     */
+    private CommandResult(String commandType, boolean isSuccess, boolean isExit, List<String> messages) {
+        this.commandType = commandType;
+        this.isSuccess = isSuccess;
+        this.isExit = isExit;
+        this.messages = List.copyOf(messages);
+    }
+
+    /**
+     * Creates the result of a command which was run successfully.
+     *
+     * @param commandType Type of the command
+     * @param isExit Whether the command asks for Juke to exit
+     * @param messages Juke's replies to the command
+     * @return {@code CommandResult} object
+     */
+    public static CommandResult ofSuccess(String commandType, boolean isExit, List<String> messages) {
+        return new CommandResult(commandType, true, isExit, messages);
+    }
+
+    /**
+     * Creates the result of a command which could not be parsed or run.
+     *
+     * @param commandType Type of the command
+     * @param error Description of the error
+     * @return {@code CommandResult} object
+     */
+    public static CommandResult ofFailure(String commandType, String error) {
+        return new CommandResult(commandType, false, false, List.of(error));
+    }
+
+    /**
+     * Returns the type of the command, under which its latencies are recorded.
+     *
+     * @return Type of the command
+     */
+    public String getCommandType() {
+        return this.commandType;
+    }
+
+    /**
+     * Checks if the command was run successfully.
+     *
+     * @return true if the command was run successfully, else false
+     */
+    public boolean isSuccess() {
+        return this.isSuccess;
+    }
+
+    /**
+     * Checks if the command asks for Juke to exit. It is up to the caller to act on this.
+     *
+     * @return true if the command asks for Juke to exit, else false
+     */
+    public boolean isExit() {
+        return this.isExit;
+    }
+
+    /**
+     * Returns Juke's replies to the command in order, or only the error if the command failed.
+     *
+     * @return Unmodifiable list of messages
+     */
+    public List<String> getMessages() {
+        return this.messages;
+    }
+
+    /**
+     * Returns Juke's replies to the command joined into a single text.
+     *
+     * @return Text of the messages
+     */
+    public String getText() {
+        return String.join(CommandResult.MESSAGE_SEPARATOR, this.messages);
+    }
+}
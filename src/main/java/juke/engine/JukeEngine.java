@@ -0,0 +1,683 @@
+package juke.engine;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import juke.commands.JukeCommand;
+import juke.commands.JukeExitCommand;
+import juke.commands.JukePipelineCommand;
+import juke.commons.DateUtils;
+import juke.commons.classes.JukeObject;
+import juke.commons.enums.CommandPhaseEnum;
+import juke.commons.enums.SortOrderEnum;
+import juke.commons.enums.SortTypeEnum;
+import juke.commons.enums.StorageTypeEnum;
+import juke.commons.exceptions.JukeException;
+import juke.commons.exceptions.JukeInitialisationException;
+import juke.commons.exceptions.JukeStateException;
+import juke.commons.exceptions.arguments.JukeIllegalArgumentException;
+import juke.commons.exceptions.storage.JukeStorageException;
+import juke.commons.interfaces.StorageBackend;
+import juke.parsers.Parser;
+import juke.responses.Response;
+import juke.statistics.CommandStatistics;
+import juke.storage.Storage;
+import juke.storage.TaskArchive;
+import juke.tasks.JukeDeadline;
+import juke.tasks.JukeEvent;
+import juke.tasks.JukeTask;
+import juke.tasks.JukeTodo;
+import juke.tasks.ScoredTask;
+import juke.tasks.TaskList;
+import juke.tasks.TaskListCache;
+import juke.tasks.TaskMatch;
+import juke.tasks.TaskQuery;
+
+/**
+ * Entry point for embedding Juke, which wires a datafile to a task list and runs commands against it
+ * without any user interface. Commands may be run as raw text through {@code execute}, in the same way as
+ * the user enters them, or through the typed methods, which take indices counted from 0 in the order of
+ * {@code getTasks}.
+ * <p>
+ * Commands run against the active task list, which is initially the list in the given datafile. Other named
+ * task lists are kept in their own datafiles next to it, and are opened when they are first used. Open
+ * lists are kept within the memory budget of the options, by closing the least recently used lists.
+ * <p>
+ * A {@code JukeEngine} may be used from several threads. Commands which only read the tasks run alongside
+ * each other on the calling thread, while commands which change the tasks are run one at a time in the
+ * order they arrive. The latency of each phase of every command is recorded in the engine's
+ * {@code CommandStatistics}.
+ */
+public class JukeEngine extends JukeObject implements AutoCloseable {
+    /** Type under which the latencies of commands that could not be parsed are recorded. */
+    public static final String INVALID_COMMAND_TYPE = "invalid";
+
+    /** Type under which the latencies of several commands run at once are recorded. */
+    public static final String PIPELINE_COMMAND_TYPE = "pipeline";
+
+    /** Name of the initially active task list, when the engine is not given its datafile. */
+    public static final String DEFAULT_LIST_NAME = "tasks";
+
+    /** Regex to detect "|" in a description, which is a reserved character for the datafile. */
+    private static final String ILLEGAL_DESCRIPTION_REGEX = ".*\\|.*";
+
+    /** File extension of the datafiles of named task lists. */
+    private static final String LIST_FILE_EXTENSION = ".txt";
+
+    /** {@code TaskListCache} which keeps the open task lists. */
+    private final TaskListCache taskLists;
+
+    /** Latencies of each phase of the commands run. */
+    private final CommandStatistics statistics;
+
+    /** Lock which runs the commands that change the tasks one at a time, in the order they arrive. */
+    private final ReentrantLock writeLock = new ReentrantLock(true);
+
+    /** Whether the engine has been closed. */
+    private volatile boolean isClosed;
+
+    /**
+     * Creates an instance of {@code JukeEngine}.
+     *
+     * @param taskLists {@code TaskListCache} which keeps the open task lists
+     * @param statistics {@code CommandStatistics} which the open task lists record their cache lookups in
+     */
+    private JukeEngine(TaskListCache taskLists, CommandStatistics statistics) {
+        this.taskLists = taskLists;
+        this.statistics = statistics;
+        this.isClosed = false;
+    }
+
+    /**
+     * Creates an instance of {@code JukeEngine} with the default options, loading the tasks from the
+     * input datafile. The datafile and the directories containing it are created if necessary.
+     *
+     * @param dataPath Path to the datafile
+     * @return {@code JukeEngine} object
+     * @throws JukeInitialisationException if the datafile cannot be created
+     * @throws JukeStorageException if the datafile cannot be read
+     */
+    public static JukeEngine of(Path dataPath) {
+        return JukeEngine.of(dataPath, JukeEngineOptions.of());
+    }
+
+    /**
+     * Creates an instance of {@code JukeEngine} with the input options, loading the tasks from the
+     * input datafile. The datafile and the directories containing it are created if necessary. The active
+     * task list is named after the datafile, without its extension.
+     *
+     * @param dataPath Path to the datafile, which is not used by backends that keep the tasks in memory
+     * @param options Options which select how the tasks are stored and kept
+     * @return {@code JukeEngine} object
+     * @throws JukeInitialisationException if the datafile cannot be created
+     * @throws JukeStorageException if the datafile cannot be read
+     */
+    public static JukeEngine of(Path dataPath, JukeEngineOptions options) {
+        return JukeEngine.of(Storage.getBaseName(dataPath), Storage.ofType(options.getStorageType(), dataPath),
+                             dataPath.toAbsolutePath().getParent(), options);
+    }
+
+    /**
+     * Creates an instance of {@code JukeEngine} with the input options, loading the tasks from the input
+     * backend. The backend selected by the options is not used for the active task list, as the backend is
+     * given, but is used for the other named task lists, which are kept next to the configured datafile.
+     *
+     * @param storage {@code StorageBackend} which saves the tasks
+     * @param options Options which select how the tasks are kept
+     * @return {@code JukeEngine} object
+     * @throws JukeStorageException if the tasks cannot be read
+     */
+    public static JukeEngine of(StorageBackend storage, JukeEngineOptions options) {
+        return JukeEngine.of(JukeEngine.DEFAULT_LIST_NAME, storage,
+                             Storage.getConfiguredFilePath().toAbsolutePath().getParent(), options);
+    }
+
+    /**
+     * Creates an instance of {@code JukeEngine} with the input options, loading the active task list from
+     * the input backend. Backends and archives which keep the tasks in memory are kept once created, so that
+     * a task list which is closed and opened again still has its tasks, as is the input backend, which
+     * cannot be created again. The others are closed with their task list, and are created again from their
+     * files when the task list is next opened.
+     *
+     * @param name Name of the active task list
+     * @param storage {@code StorageBackend} which saves the active task list
+     * @param directory Directory which the datafiles of the other named task lists are kept in
+     * @param options Options which select how the tasks are stored and kept
+     * @return {@code JukeEngine} object
+     * @throws JukeStorageException if the tasks cannot be read
+     */
+    private static JukeEngine of(String name, StorageBackend storage, Path directory, JukeEngineOptions options) {
+        Map<String, StorageBackend> backends = new HashMap<>();
+        Map<String, TaskArchive> archives = new HashMap<>();
+        CommandStatistics statistics = CommandStatistics.of();
+        backends.put(name, storage);
+        storage.setProgressListener(options.getProgressListener());
+
+        boolean isInMemory = options.getStorageType() == StorageTypeEnum.MEMORY;
+
+        // the cache only opens lists while holding its own lock, and so the maps need no further locking
+        Function<String, TaskList> opener = listName -> {
+            Path dataPath = directory.resolve(listName + JukeEngine.LIST_FILE_EXTENSION);
+            StorageBackend backend = backends.get(listName);
+            TaskArchive archive = archives.get(listName);
+
+            if (backend == null) {
+                backend = Storage.ofType(options.getStorageType(), dataPath);
+            }
+
+            if (archive == null) {
+                archive = JukeEngine.openArchive(dataPath, options);
+            }
+
+            if (isInMemory) {
+                backends.put(listName, backend);
+                archives.put(listName, archive);
+            }
+
+            TaskList taskList = JukeEngine.openTaskList(backend, archive, options);
+            taskList.attachStatistics(statistics);
+            return taskList;
+        };
+
+        return new JukeEngine(TaskListCache.of(name, opener.apply(name), opener, options.getListBudget()),
+                              statistics);
+    }
+
+    /**
+     * Parses and runs a command in the same way as the user enters it, recording the latency of each of
+     * its phases. Commands which cannot be parsed or run give a failed result rather than an exception.
+     * The bye command is run, but it is up to the caller to act on the result asking for Juke to exit.
+     *
+     * @param input Raw command
+     * @return Result of the command
+     * @throws JukeStateException if the engine has been closed
+     */
+    public CommandResult execute(String input) {
+        return this.execute(input, () -> {});
+    }
+
+    /**
+     * Parses and runs a command in the same way as {@code execute}, running the input action after the
+     * command is parsed and before it is run, so that other commands can be run in between.
+     *
+     * @param input Raw command
+     * @param onParsed Action run once the command is parsed
+     * @return Result of the command
+     * @throws JukeStateException if the engine has been closed
+     */
+    CommandResult execute(String input, Runnable onParsed) {
+        this.checkOpen();
+        String command = input.strip();
+        long start = System.nanoTime();
+        TaskList target = this.taskLists.getActive();
+        JukeCommand action;
+
+        try {
+            action = JukeCommand.of(command, this.taskLists, this.statistics);
+        } catch (JukeException ex) {
+            this.statistics.record(JukeEngine.INVALID_COMMAND_TYPE, CommandPhaseEnum.PARSE,
+                                   System.nanoTime() - start);
+            return CommandResult.ofFailure(JukeEngine.INVALID_COMMAND_TYPE, ex.toString());
+        }
+
+        String commandType = action instanceof JukePipelineCommand
+                ? JukeEngine.PIPELINE_COMMAND_TYPE
+                : Parser.parseBySpace(command)[0];
+        this.statistics.record(commandType, CommandPhaseEnum.PARSE, System.nanoTime() - start);
+        onParsed.run();
+
+        try {
+            Response response = action.isReadOnly()
+                    ? this.read(commandType, () -> this.bind(command, action, target).execute(Response.of()))
+                    : this.change(commandType, () -> this.bind(command, action, target).execute(Response.of()));
+            return CommandResult.ofSuccess(commandType, action instanceof JukeExitCommand,
+                                           response.getDialogTexts());
+        } catch (JukeException ex) {
+            return CommandResult.ofFailure(commandType, ex.toString());
+        }
+    }
+
+    /**
+     * Adds a todo to the end of the task list.
+     *
+     * @param description Description of the todo
+     * @return Added {@code JukeTask}
+     * @throws JukeIllegalArgumentException if the description is empty or contains "|"
+     * @throws JukeStateException if the engine has been closed
+     */
+    public JukeTask addTodo(String description) {
+        JukeEngine.checkDescription(description);
+        return this.add("todo", new JukeTodo(description.strip()));
+    }
+
+    /**
+     * Adds a deadline to the end of the task list.
+     *
+     * @param description Description of the deadline
+     * @param deadline Date and time the task is due by
+     * @return Added {@code JukeTask}
+     * @throws JukeIllegalArgumentException if the description is empty or contains "|"
+     * @throws JukeStateException if the engine has been closed
+     */
+    public JukeTask addDeadline(String description, LocalDateTime deadline) {
+        JukeEngine.checkDescription(description);
+        return this.add("deadline", new JukeDeadline(description.strip(), deadline));
+    }
+
+    /**
+     * Adds an event to the end of the task list.
+     *
+     * @param description Description of the event
+     * @param startTime Date and time the event starts
+     * @param endTime Date and time the event ends
+     * @return Added {@code JukeTask}
+     * @throws JukeIllegalArgumentException if the description is empty or contains "|", or if the
+     *     event ends before it starts
+     * @throws JukeStateException if the engine has been closed
+     */
+    public JukeTask addEvent(String description, LocalDateTime startTime, LocalDateTime endTime) {
+        JukeEngine.checkDescription(description);
+
+        if (DateUtils.isAfter(startTime, endTime)) {
+            throw new JukeIllegalArgumentException("Oh no! The \"to\" date cannot be before the \"from\" date!");
+        }
+
+        return this.add("event", new JukeEvent(description.strip(), startTime, endTime));
+    }
+
+    /**
+     * Marks tasks as complete. Either all tasks are marked, or none are.
+     *
+     * @param indices Indices of the tasks, counted from 0
+     * @throws JukeIllegalArgumentException if any index does not refer to a task
+     * @throws JukeStateException if any task is already complete, or if the engine has been closed
+     */
+    public void mark(int... indices) {
+        int[] sortedIndices = JukeEngine.sortIndices(indices);
+        this.change("mark", () -> {
+            this.taskLists.getActive().setAsComplete(sortedIndices);
+            return null;
+        });
+    }
+
+    /**
+     * Marks tasks as incomplete. Either all tasks are marked, or none are.
+     *
+     * @param indices Indices of the tasks, counted from 0
+     * @throws JukeIllegalArgumentException if any index does not refer to a task
+     * @throws JukeStateException if any task is already incomplete, or if the engine has been closed
+     */
+    public void unmark(int... indices) {
+        int[] sortedIndices = JukeEngine.sortIndices(indices);
+        this.change("unmark", () -> {
+            this.taskLists.getActive().setAsIncomplete(sortedIndices);
+            return null;
+        });
+    }
+
+    /**
+     * Deletes tasks. Either all tasks are deleted, or none are.
+     *
+     * @param indices Indices of the tasks, counted from 0
+     * @throws JukeIllegalArgumentException if any index does not refer to a task
+     * @throws JukeStateException if the engine has been closed
+     */
+    public void delete(int... indices) {
+        int[] sortedIndices = JukeEngine.sortIndices(indices);
+        this.change("delete", () -> {
+            this.taskLists.getActive().deleteTask(sortedIndices);
+            return null;
+        });
+    }
+
+    /**
+     * Finds all tasks whose description matches the input word. The tasks returned must not be changed.
+     *
+     * @param word Word of interest
+     * @return Matching tasks, in the order of the task list
+     * @throws JukeStateException if the engine has been closed
+     */
+    public List<JukeTask> find(String word) {
+        return this.read("find", () -> this.taskLists.getActive().findTask(word));
+    }
+
+    /**
+     * Finds the tasks of the active task list whose description has words close to every word of the query,
+     * tolerating a typo or two in each word.
+     *
+     * @param query Words of interest
+     * @return Tasks found with their edit distance from the query, closest first
+     * @throws JukeStateException if the engine has been closed
+     */
+    public List<TaskMatch> findFuzzy(String query) {
+        return this.read("find~", () -> this.taskLists.getActive().findTaskFuzzy(query));
+    }
+
+    /**
+     * Finds the tasks of the active task list whose description best matches the words of the query, ranked
+     * by their BM25 score.
+     *
+     * @param query Words of interest
+     * @param limit Largest number of tasks to return
+     * @param isBoosted Whether incomplete tasks, and deadlines due soon, are ranked higher
+     * @return Tasks found with their scores, best first
+     * @throws JukeStateException if the engine has been closed
+     */
+    public List<ScoredTask> findRanked(String query, int limit, boolean isBoosted) {
+        return this.read("find", () -> this.taskLists.getActive().findTaskRanked(query, limit, isBoosted));
+    }
+
+    /**
+     * Suggests the tasks of the active task list for words which are still being typed, such as the query
+     * of a find command, treating the last word as the start of a word.
+     *
+     * @param text Words typed so far
+     * @param limit Largest number of tasks to return
+     * @return Tasks suggested with their scores, best first
+     * @throws JukeStateException if the engine has been closed
+     */
+    public List<ScoredTask> suggest(String text, int limit) {
+        return this.read("suggest", () -> this.taskLists.getActive().suggestTasks(text, limit));
+    }
+
+    /**
+     * Completes the last word of a command being typed, to a command name, a sort order or type, or a word
+     * of the task descriptions of the active task list.
+     *
+     * @param input Command being typed
+     * @return Input with its last word completed, or the input itself if it cannot be completed
+     * @throws JukeStateException if the engine has been closed
+     */
+    public String complete(String input) {
+        return this.read("complete", () -> JukeCommand.complete(input, this.taskLists.getActive()));
+    }
+
+    /**
+     * Finds all tasks selected by a query, such as the tasks of a type which are due within some dates.
+     *
+     * @param query {@code TaskQuery} which selects the tasks
+     * @return Selected tasks, in the order of the task list unless the query sorts them
+     * @throws JukeIllegalArgumentException if the selected tasks cannot be sorted
+     * @throws JukeStateException if the engine has been closed
+     */
+    public List<JukeTask> filter(TaskQuery query) {
+        return this.read("filter", () -> this.taskLists.getActive().filter(query));
+    }
+
+    /**
+     * Finds all archived tasks of the active task list whose description matches the input word. The
+     * archive is read when it is first searched.
+     *
+     * @param word Word of interest
+     * @return Matching archived tasks, in the order they were archived
+     * @throws JukeStorageException if the archive cannot be read
+     * @throws JukeStateException if the engine has been closed
+     */
+    public List<JukeTask> findArchived(String word) {
+        return this.read("find", () -> this.taskLists.getActive().findArchivedTask(word));
+    }
+
+    /**
+     * Sorts the tasks.
+     *
+     * @param sortOrder Order to sort the tasks in
+     * @param sortType Field to sort the tasks by
+     * @throws JukeStateException if the engine has been closed
+     */
+    public void sort(SortOrderEnum sortOrder, SortTypeEnum sortType) {
+        this.change("sort", () -> {
+            this.taskLists.getActive().sort(sortOrder, sortType);
+            return null;
+        });
+    }
+
+    /**
+     * Returns an immutable version of the tasks, which is not affected by later changes to the tasks.
+     *
+     * @return Immutable list of the tasks
+     * @throws JukeStateException if the engine has been closed
+     */
+    public List<JukeTask> getTasks() {
+        this.checkOpen();
+        return this.taskLists.getActive().snapshot();
+    }
+
+    /**
+     * Makes the task list of the input name the active list, which later commands run against. The task
+     * list is opened if it is not already open, and is created if it does not exist.
+     *
+     * @param name Name of the task list, which may only contain letters, digits, "-" and "_"
+     * @throws JukeIllegalArgumentException if the name is invalid
+     * @throws JukeStorageException if the task list cannot be opened
+     * @throws JukeStateException if the engine has been closed
+     */
+    public void use(String name) {
+        this.change("use", () -> this.taskLists.use(name));
+    }
+
+    /**
+     * Returns the name of the active task list.
+     *
+     * @return Name of the active task list
+     */
+    public String getListName() {
+        return this.taskLists.getActiveName();
+    }
+
+    /**
+     * Returns the latencies of each phase of the commands run, and the lookups in the query caches.
+     *
+     * @return {@code CommandStatistics} of this engine
+     */
+    public CommandStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    /**
+     * Returns the number of queries answered from the query caches of the task lists.
+     *
+     * @return Number of cache hits
+     */
+    public long getCacheHits() {
+        return this.statistics.getCacheHits();
+    }
+
+    /**
+     * Returns the number of queries which could not be answered from the query caches of the task lists.
+     *
+     * @return Number of cache misses
+     */
+    public long getCacheMisses() {
+        return this.statistics.getCacheMisses();
+    }
+
+    /**
+     * Waits for any change in progress to complete, then ensures that every change to the open task lists
+     * has reached their datafiles, and closes their backends. No further commands may be run once the engine
+     * is closed. Closing an engine which is already closed does nothing.
+     *
+     * @throws JukeStorageException if the changes could not be written for any reason
+     */
+    @Override
+    public void close() {
+        this.writeLock.lock();
+
+        try {
+            if (!this.isClosed) {
+                this.isClosed = true;
+                this.taskLists.close();
+            }
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Adds a task to the end of the task list.
+     *
+     * @param commandType Type of the command, under which its latencies are recorded
+     * @param task Task to add
+     * @return Added task
+     */
+    private JukeTask add(String commandType, JukeTask task) {
+        return this.change(commandType, () -> {
+            this.taskLists.getActive().addTask(task);
+            return task;
+        });
+    }
+
+    /**
+     * Runs a command which only reads the tasks on this thread, recording the time taken to run it.
+     *
+     * @param commandType Type of the command
+     * @param command Command to run
+     * @param <T> Type of the result of the command
+     * @return Result of the command
+     */
+    private <T> T read(String commandType, Supplier<T> command) {
+        this.checkOpen();
+        long start = System.nanoTime();
+
+        try {
+            return command.get();
+        } finally {
+            this.statistics.record(commandType, CommandPhaseEnum.EXECUTE, System.nanoTime() - start);
+            this.statistics.record(commandType, CommandPhaseEnum.PERSIST, 0);
+        }
+    }
+
+    /**
+     * Returns the parsed command if the task list it runs against is still the active list, or else parses
+     * the command again against the active list. Another use command may make a different list active, and
+     * even close the list the command was parsed against, in between the command being parsed and being run,
+     * and a change saved through a closed list would be overwritten once the list is opened again.
+     *
+     * @param command Raw command
+     * @param action Parsed command
+     * @param target Task list which was active when the command was parsed
+     * @return Command which runs against the active task list
+     * @throws JukeException if the command cannot be parsed again
+     */
+    private JukeCommand bind(String command, JukeCommand action, TaskList target) {
+        return this.taskLists.getActive() == target
+                ? action
+                : JukeCommand.of(command, this.taskLists, this.statistics);
+    }
+
+    /**
+     * Runs a command which changes the tasks once every change before it has completed, recording the
+     * time taken to run it and to save its changes.
+     *
+     * @param commandType Type of the command
+     * @param command Command to run
+     * @param <T> Type of the result of the command
+     * @return Result of the command
+     */
+    private <T> T change(String commandType, Supplier<T> command) {
+        this.writeLock.lock();
+
+        try {
+            this.checkOpen();
+            TaskList taskList = this.taskLists.getActive();
+            long start = System.nanoTime();
+
+            try {
+                return command.get();
+            } finally {
+                // only one change runs at a time, and so all the time spent saving since is this command's
+                long persistTime = taskList.takePersistTime();
+                this.statistics.record(commandType, CommandPhaseEnum.EXECUTE,
+                                       System.nanoTime() - start - persistTime);
+                this.statistics.record(commandType, CommandPhaseEnum.PERSIST, persistTime);
+            }
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Opens a task list from the input backend, keeping the tasks in the way selected by the options, then
+     * moves its old completed tasks to the archive if archiving is on.
+     *
+     * @param storage {@code StorageBackend} which saves the tasks
+     * @param archive {@code TaskArchive} which old completed tasks are moved to
+     * @param options Options which select how the tasks are kept and archived
+     * @return Opened {@code TaskList}
+     * @throws JukeStorageException if the tasks cannot be read, or cannot be archived
+     */
+    private static TaskList openTaskList(StorageBackend storage, TaskArchive archive, JukeEngineOptions options) {
+        TaskList taskList;
+
+        if (options.isLazy()) {
+            taskList = TaskList.ofLazy(storage);
+        } else if (options.isOffHeap()) {
+            taskList = TaskList.ofArena(storage);
+        } else {
+            taskList = TaskList.of(storage);
+        }
+
+        taskList.attachArchive(archive);
+
+        if (options.getArchiveDays() != TaskArchive.ARCHIVING_OFF) {
+            taskList.archiveCompleted(LocalDateTime.now().minusDays(options.getArchiveDays()));
+        }
+
+        return taskList;
+    }
+
+    /**
+     * Creates the archive of a task list, which is kept next to its datafile, or in memory if the tasks are
+     * kept in memory.
+     *
+     * @param dataPath Path to the datafile of the task list
+     * @param options Options which select how the tasks are stored
+     * @return {@code TaskArchive} of the task list
+     */
+    private static TaskArchive openArchive(Path dataPath, JukeEngineOptions options) {
+        return options.getStorageType() == StorageTypeEnum.MEMORY
+                ? TaskArchive.ofMemory()
+                : TaskArchive.of(TaskArchive.getArchivePath(dataPath));
+    }
+
+    /**
+     * Checks that the engine has not been closed.
+     *
+     * @throws JukeStateException if the engine has been closed
+     */
+    private void checkOpen() {
+        if (this.isClosed) {
+            throw new JukeStateException("Oh no! I have already been closed!");
+        }
+    }
+
+    /**
+     * Checks that a description can be saved to the datafile.
+     *
+     * @param description Description of a task
+     * @throws JukeIllegalArgumentException if the description is empty or contains "|"
+     */
+    private static void checkDescription(String description) {
+        if (description.isBlank()) {
+            throw new JukeIllegalArgumentException("Oh no! The description of a task cannot be empty!");
+        } else if (description.matches(JukeEngine.ILLEGAL_DESCRIPTION_REGEX)) {
+            throw new JukeIllegalArgumentException("Oh no! The input cannot contain the character \"|\"!");
+        }
+    }
+
+    /**
+     * Returns the input indices in ascending order without duplicates, as the task list expects them.
+     *
+     * @param indices Indices of tasks
+     * @return Sorted indices
+     */
+    private static int[] sortIndices(int... indices) {
+        return IntStream.of(indices).sorted().distinct().toArray();
+    }
+}
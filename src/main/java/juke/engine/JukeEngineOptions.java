@@ -0,0 +1,209 @@
+package juke.engine;
+
+import java.util.function.DoubleConsumer;
+
+import juke.commons.classes.JukeObject;
+import juke.commons.enums.StorageTypeEnum;
+import juke.commons.exceptions.JukeInitialisationException;
+import juke.storage.Storage;
+import juke.storage.TaskArchive;
+import juke.tasks.TaskList;
+import juke.tasks.TaskListCache;
+
+/**
+ * Immutable options which select how a {@code JukeEngine} stores and keeps its tasks. Each option is
+ * changed by deriving a new {@code JukeEngineOptions}, leaving the original unchanged.
+ */
+public final class JukeEngineOptions extends JukeObject {
+    /** Backend which stores the tasks. */
+    private final StorageTypeEnum storageType;
+
+    /** Whether the tasks are kept off-heap in a {@code TaskArena}. */
+    private final boolean isOffHeap;
+
+    /** Whether the tasks are kept off-heap and only parsed when they are first accessed. */
+    private final boolean isLazy;
+
+    /** Memory budget of the open task lists, in bytes. */
+    private final long listBudget;
+
+    /** Days a completed task is kept in its task list after its date, before it is archived. */
+    private final int archiveDays;
+
+    /** Listener notified of the fraction of the datafile that has been read while the tasks are loaded. */
+    private final DoubleConsumer progressListener;
+
+    /**
+     * Creates an instance of {@code JukeEngineOptions}.
+     *
+     * @param storageType Backend which stores the tasks
+     * @param isOffHeap Whether the tasks are kept off-heap
+     * @param isLazy Whether the tasks are kept off-heap and only parsed when they are first accessed
+     * @param listBudget Memory budget of the open task lists, in bytes
+     * @param archiveDays Days a completed task is kept after its date, or {@code TaskArchive.ARCHIVING_OFF}
+     * @param progressListener Listener of the progress of loading the tasks
+     */
+    private JukeEngineOptions(StorageTypeEnum storageType, boolean isOffHeap, boolean isLazy, long listBudget,
+                              int archiveDays, DoubleConsumer progressListener) {
+        this.storageType = storageType;
+        this.isOffHeap = isOffHeap;
+        this.isLazy = isLazy;
+        this.listBudget = listBudget;
+        this.archiveDays = archiveDays;
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Returns the default options, where the tasks are stored in a text datafile which is read and written
+     * as a whole, and are kept on the heap as immutable versions, with the default memory budget for the
+     * open task lists and with archiving off.
+     *
+     * @return Default {@code JukeEngineOptions}
+     */
+    public static JukeEngineOptions of() {
+        return new JukeEngineOptions(StorageTypeEnum.TEXT, false, false,
+                                     TaskListCache.DEFAULT_BUDGET_MEGABYTES << 20, TaskArchive.ARCHIVING_OFF,
+                                     progress -> {});
+    }
+
+    /**
+     * Returns the options selected through the {@code juke.storage}, {@code juke.mapped},
+     * {@code juke.offheap}, {@code juke.lazy}, {@code juke.lists.budget} and {@code juke.archive.days} system
+     * properties, in the same way as Juke itself.
+     *
+     * @return Configured {@code JukeEngineOptions}
+     * @throws JukeInitialisationException if the backend is not understood
+     */
+    public static JukeEngineOptions ofConfigured() {
+        return new JukeEngineOptions(Storage.getConfiguredType(),
+                                     Boolean.getBoolean(TaskList.OFF_HEAP_PROPERTY),
+                                     Boolean.getBoolean(TaskList.LAZY_PROPERTY),
+                                     TaskListCache.getConfiguredBudget(), TaskArchive.getConfiguredDays(),
+                                     progress -> {});
+    }
+
+    /**
+     * Returns these options with the tasks stored in the input backend.
+     *
+     * @param storageType Backend which stores the tasks
+     * @return Changed {@code JukeEngineOptions}
+     */
+    public JukeEngineOptions withStorageType(StorageTypeEnum storageType) {
+        return new JukeEngineOptions(storageType, this.isOffHeap, this.isLazy, this.listBudget, this.archiveDays,
+                                     this.progressListener);
+    }
+
+    /**
+     * Returns these options with the tasks kept off-heap, or not.
+     *
+     * @param isOffHeap Whether the tasks are kept off-heap
+     * @return Changed {@code JukeEngineOptions}
+     */
+    public JukeEngineOptions withOffHeap(boolean isOffHeap) {
+        return new JukeEngineOptions(this.storageType, isOffHeap, this.isLazy, this.listBudget, this.archiveDays,
+                                     this.progressListener);
+    }
+
+    /**
+     * Returns these options with the tasks only parsed when they are first accessed, or not. Lazily parsed
+     * tasks are always kept off-heap.
+     *
+     * @param isLazy Whether the tasks are only parsed when they are first accessed
+     * @return Changed {@code JukeEngineOptions}
+     */
+    public JukeEngineOptions withLazy(boolean isLazy) {
+        return new JukeEngineOptions(this.storageType, this.isOffHeap, isLazy, this.listBudget, this.archiveDays,
+                                     this.progressListener);
+    }
+
+    /**
+     * Returns these options with the input memory budget for the open task lists. Once the open lists
+     * exceed the budget, the least recently used lists are closed.
+     *
+     * @param listBudget Memory budget of the open task lists, in bytes
+     * @return Changed {@code JukeEngineOptions}
+     */
+    public JukeEngineOptions withListBudget(long listBudget) {
+        return new JukeEngineOptions(this.storageType, this.isOffHeap, this.isLazy, listBudget, this.archiveDays,
+                                     this.progressListener);
+    }
+
+    /**
+     * Returns these options with completed tasks archived when their task list is opened, once the input
+     * number of days have passed since their date. Completed todos have no date, and so are always archived.
+     *
+     * @param archiveDays Days a completed task is kept after its date, or {@code TaskArchive.ARCHIVING_OFF}
+     *     to keep every task in its task list
+     * @return Changed {@code JukeEngineOptions}
+     */
+    public JukeEngineOptions withArchiveDays(int archiveDays) {
+        return new JukeEngineOptions(this.storageType, this.isOffHeap, this.isLazy, this.listBudget, archiveDays,
+                                     this.progressListener);
+    }
+
+    /**
+     * Returns these options with the input listener notified of the fraction of the datafile that has been
+     * read, from 0 to 1, while the tasks are loaded.
+     *
+     * @param progressListener Listener of the progress of loading the tasks
+     * @return Changed {@code JukeEngineOptions}
+     */
+    public JukeEngineOptions withProgressListener(DoubleConsumer progressListener) {
+        return new JukeEngineOptions(this.storageType, this.isOffHeap, this.isLazy, this.listBudget, this.archiveDays,
+                                     progressListener);
+    }
+
+    /**
+     * Returns the backend which stores the tasks.
+     *
+     * @return Type of the backend
+     */
+    public StorageTypeEnum getStorageType() {
+        return this.storageType;
+    }
+
+    /**
+     * Checks if the tasks are kept off-heap.
+     *
+     * @return true if the tasks are kept off-heap, else false
+     */
+    public boolean isOffHeap() {
+        return this.isOffHeap;
+    }
+
+    /**
+     * Checks if the tasks are only parsed when they are first accessed.
+     *
+     * @return true if the tasks are parsed lazily, else false
+     */
+    public boolean isLazy() {
+        return this.isLazy;
+    }
+
+    /**
+     * Returns the memory budget of the open task lists.
+     *
+     * @return Memory budget of the open task lists, in bytes
+     */
+    public long getListBudget() {
+        return this.listBudget;
+    }
+
+    /**
+     * Returns the days a completed task is kept in its task list after its date, before it is archived.
+     *
+     * @return Days a completed task is kept, or {@code TaskArchive.ARCHIVING_OFF} if archiving is off
+     */
+    public int getArchiveDays() {
+        return this.archiveDays;
+    }
+
+    /**
+     * Returns the listener notified of the progress of loading the tasks.
+     *
+     * @return Listener of the progress of loading the tasks
+     */
+    public DoubleConsumer getProgressListener() {
+        return this.progressListener;
+    }
+}
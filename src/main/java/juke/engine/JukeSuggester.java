@@ -0,0 +1,174 @@
+package juke.engine;
+
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import juke.commons.classes.JukeObject;
+import juke.commons.exceptions.JukeException;
+import juke.tasks.ScoredTask;
+
+/**
+ * Suggests tasks while a find command is being typed, and completes the input when asked. Each keystroke
+ * only schedules a search on a background thread and returns, so the thread typing is never blocked by the
+ * search, and completions are found on the same thread. A search only runs
+ * once no keystroke has followed it for the debounce delay, and a search superseded by a later keystroke is
+ * cancelled, or has its suggestions dropped if it is already running.
+ *
+ * <p>Running searches are never interrupted, as an interrupted thread would close the channel of a
+ * file-backed task list.</p>
+ */
+public class JukeSuggester extends JukeObject implements AutoCloseable {
+    /** Time without a keystroke after which the tasks are searched, in milliseconds. */
+    public static final long DEFAULT_DELAY_MILLIS = 150;
+
+    /** Number of tasks suggested. */
+    public static final int DEFAULT_LIMIT = 5;
+
+    /** Pattern of a find command being typed, which captures the words typed after its flags. */
+    private static final Pattern FIND_PATTERN =
+            Pattern.compile("find(?:\\s+--(?:all|exact|boost|top\\s+\\S+))*\\s+(\\S.*)", Pattern.DOTALL);
+
+    /** {@code JukeEngine} whose active task list is searched. */
+    private final JukeEngine engine;
+
+    /** Time without a keystroke after which the tasks are searched, in milliseconds. */
+    private final long delayMillis;
+
+    /** Number of tasks suggested. */
+    private final int limit;
+
+    /** Thread which searches the tasks. */
+    private final ScheduledThreadPoolExecutor executor;
+
+    /** Number of keystrokes so far, which identifies the latest search. */
+    private final AtomicLong generation = new AtomicLong();
+
+    /** Search which has not started yet, or null if there is none. */
+    private ScheduledFuture<?> pending;
+
+    /**
+     * Creates an instance of {@code JukeSuggester}.
+     *
+     * @param engine {@code JukeEngine} whose active task list is searched
+     * @param delayMillis Time without a keystroke after which the tasks are searched, in milliseconds
+     * @param limit Number of tasks suggested
+     */
+    private JukeSuggester(JukeEngine engine, long delayMillis, int limit) {
+        this.engine = engine;
+        this.delayMillis = delayMillis;
+        this.limit = limit;
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "juke-suggest");
+
+            // the searches should not keep Juke alive once its window is closed
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Creates an instance of {@code JukeSuggester} with the default delay and number of tasks suggested.
+     *
+     * @param engine {@code JukeEngine} whose active task list is searched
+     * @return {@code JukeSuggester} object
+     */
+    public static JukeSuggester of(JukeEngine engine) {
+        return new JukeSuggester(engine, JukeSuggester.DEFAULT_DELAY_MILLIS, JukeSuggester.DEFAULT_LIMIT);
+    }
+
+    /**
+     * Creates an instance of {@code JukeSuggester}.
+     *
+     * @param engine {@code JukeEngine} whose active task list is searched
+     * @param delayMillis Time without a keystroke after which the tasks are searched, in milliseconds
+     * @param limit Number of tasks suggested
+     * @return {@code JukeSuggester} object
+     */
+    public static JukeSuggester of(JukeEngine engine, long delayMillis, int limit) {
+        return new JukeSuggester(engine, delayMillis, limit);
+    }
+
+    /**
+     * Schedules the tasks to be suggested for the input typed so far, superseding any earlier search. The
+     * listener is called on the searching thread with the input and its suggestions, unless a later
+     * keystroke supersedes the search first. If the input is not a find command with some words, the
+     * listener is called at once with no suggestions.
+     *
+     * @param input Text of the input field
+     * @param listener Listener of the input and its suggestions, best first
+     */
+    public synchronized void suggest(String input, BiConsumer<String, List<ScoredTask>> listener) {
+        long current = this.generation.incrementAndGet();
+
+        if (this.pending != null) {
+            this.pending.cancel(false);
+            this.pending = null;
+        }
+
+        Matcher matcher = JukeSuggester.FIND_PATTERN.matcher(input.stripLeading());
+
+        if (!matcher.matches()) {
+            listener.accept(input, List.of());
+            return;
+        }
+
+        String text = matcher.group(1);
+        this.pending = this.executor.schedule(() -> {
+            if (this.generation.get() != current) {
+                return;
+            }
+
+            List<ScoredTask> suggestions;
+
+            try {
+                suggestions = this.engine.suggest(text, this.limit);
+            } catch (JukeException ex) {
+                suggestions = List.of();
+            }
+
+            if (this.generation.get() == current) {
+                listener.accept(input, suggestions);
+            }
+        }, this.delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Schedules the last word of the input to be completed at once, without waiting for the debounce delay,
+     * as completions are asked for rather than typed. The listener is called on the searching thread with
+     * the input and its completion, which is the input itself if it cannot be completed.
+     *
+     * @param input Text of the input field
+     * @param listener Listener of the input and its completion
+     */
+    public void complete(String input, BiConsumer<String, String> listener) {
+        this.executor.execute(() -> {
+            String completed;
+
+            try {
+                completed = this.engine.complete(input);
+            } catch (JukeException ex) {
+                completed = input;
+            }
+
+            listener.accept(input, completed);
+        });
+    }
+
+    /**
+     * Stops suggesting tasks. Searches which have not started are dropped, and a running search is left to
+     * finish without its suggestions being delivered.
+     */
+    @Override
+    public synchronized void close() {
+        this.generation.incrementAndGet();
+        this.executor.shutdown();
+        this.executor.getQueue().clear();
+    }
+}
@@ -17,6 +17,9 @@ import juke.tasks.JukeTodo;
  * static methods.
  */
 public abstract class FileParser extends JukeObject {
+    /** Character which replaces the type of a task in the datafile when the task is deleted in place. */
+    public static final char TOMBSTONE_MARKER = '~';
+
     //@@author asdfghjkxd-reused
     // Regex strings are reused with major modification from ChatGPT, and is built and tested with
     // https://regex101.com/.
@@ -30,6 +33,66 @@ public abstract class FileParser extends JukeObject {
     private static final String FILE_SEPARATOR_REGEX = "\\|";
     //@@author
 
+    /**
+     * Checks if a line in the datafile represents a task which has been deleted in place.
+     *
+     * @param task Single line of the datafile
+     * @return true if the line is a deleted task, else false
+     */
+    public static boolean isTombstone(String task) {
+        return !task.isEmpty() && task.charAt(0) == FileParser.TOMBSTONE_MARKER;
+    }
+
+    /**
+     * Checks that a single task has a known task type and the number of fields expected of that type,
+     * without parsing the fields themselves.
+     *
+     * @param task Single task to check
+     * @throws JukeDataFileParseException if the task type or number of fields is invalid
+     */
+    public static void checkTask(String task) {
+        int expectedFields;
+
+        switch (task.isEmpty() ? ' ' : task.charAt(0)) {
+        case 'T':
+            expectedFields = 3;
+            break;
+        case 'D':
+            expectedFields = 4;
+            break;
+        case 'E':
+            expectedFields = 5;
+            break;
+        default:
+            throw new JukeDataFileParseException("Oh no! Data \"" + task + "\" cannot be parsed!");
+        }
+
+        int fields = 1;
+
+        for (int i = 0; i < task.length(); i++) {
+            if (task.charAt(i) == '|') {
+                fields++;
+            }
+        }
+
+        if (fields != expectedFields || task.charAt(1) != '|') {
+            throw new JukeDataFileParseException("Oh no! Data \"" + task + "\" cannot be parsed!");
+        }
+    }
+
+    /**
+     * Returns the task description of a single task without parsing the rest of the task.
+     *
+     * @param task Single task which has passed {@code checkTask}
+     * @return Task description
+     */
+    public static String parseDescription(String task) {
+        // the description is the third field, after the task type and the completion status
+        int start = task.indexOf('|', task.indexOf('|') + 1) + 1;
+        int end = task.indexOf('|', start);
+        return end == -1 ? task.substring(start) : task.substring(start, end);
+    }
+
     /**
      * Parses a single task into a {@code JukeTask} object.
      *
@@ -1,8 +1,11 @@
 package juke.parsers;
 
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.regex.Pattern;
 
 import juke.commons.classes.JukeObject;
+import juke.commons.exceptions.arguments.JukeIllegalArgumentException;
 
 /**
  * Contains methods used to parse the commands given by the user. Note that excessive whitespaces surrounding
@@ -61,6 +64,18 @@ public abstract class Parser extends JukeObject {
     private static final String SPLITTING_FROM_TO_STRING_REGEX = "\\s+/from\\s+|\\s+/to\\s+";
     //@@author
 
+    /**
+     * String regex for checking a comma-separated list of task numbers and ranges of task numbers,
+     * such as "3,7,9-12".
+     */
+    private static final String TASK_NUMBERS_REGEX = "\\d+(-\\d+)?(,\\d+(-\\d+)?)*";
+
+    /** String regex for splitting a line into commands separated by ";" or line breaks. */
+    private static final String COMMAND_SEPARATOR_REGEX = "\\s*[;\\r\\n]\\s*";
+
+    /** String regex for checking if a line contains more than one command. */
+    private static final String CHECKING_COMMAND_SEPARATOR_REGEX = "(?s).*[;\\r\\n].*";
+
     /**
      * Parses a command by a space. This method is used to obtain the first command in the command chain.
      *
@@ -71,6 +86,28 @@ public abstract class Parser extends JukeObject {
         return command.strip().split(Parser.SPACE_REGEX);
     }
 
+    /**
+     * Parses a line by ";" and line breaks into the commands it contains. Blank commands are discarded.
+     *
+     * @param line Raw line from the user input
+     * @return Parsed array of Strings which represents the commands in the line
+     */
+    public static String[] parseByCommandSeparator(String line) {
+        return Arrays.stream(line.strip().split(Parser.COMMAND_SEPARATOR_REGEX))
+                     .filter(command -> !command.isBlank())
+                     .toArray(String[]::new);
+    }
+
+    /**
+     * Checks if the input line contains more than one command, separated by ";" or line breaks.
+     *
+     * @param line String to check
+     * @return true if the input line contains a command separator, else false
+     */
+    public static boolean isMatchCommandSeparator(String line) {
+        return Pattern.matches(Parser.CHECKING_COMMAND_SEPARATOR_REGEX, line);
+    }
+
     /**
      * Parses a command by the String "/by". This method is to be invoked only on a cleaned String where
      * the first starting command is discarded.
@@ -112,4 +149,66 @@ public abstract class Parser extends JukeObject {
     public static boolean isMatchFromToString(String command) {
         return Pattern.matches(Parser.CHECKING_FROM_TO_STRING_REGEX, command);
     }
+
+    /**
+     * Checks if the input string is a comma-separated list of task numbers and ranges of task numbers.
+     *
+     * @param taskNumbers String to check
+     * @return true if the input string matches, else false
+     */
+    public static boolean isMatchTaskNumbers(String taskNumbers) {
+        return Pattern.matches(Parser.TASK_NUMBERS_REGEX, taskNumbers);
+    }
+
+    /**
+     * Parses a comma-separated list of task numbers and ranges of task numbers, such as "3,7,9-12", into the
+     * indices of the tasks they refer to. This method is to be invoked only on a String which
+     * matches {@code isMatchTaskNumbers}.
+     *
+     * @param taskNumbers Comma-separated list of task numbers and ranges of task numbers
+     * @param taskCount Number of tasks which the task numbers may refer to
+     * @return Indices of the tasks, in ascending order without duplicates
+     * @throws JukeIllegalArgumentException if any task number does not refer to a task, or if a range
+     *     ends before it starts
+     */
+    public static int[] parseTaskNumbers(String taskNumbers, int taskCount) {
+        BitSet indices = new BitSet(taskCount);
+
+        for (String part : taskNumbers.split(",")) {
+            String[] bounds = part.split("-");
+            int start = Parser.parseTaskNumber(bounds[0], taskCount);
+            int end = bounds.length == 1 ? start : Parser.parseTaskNumber(bounds[1], taskCount);
+
+            if (start > end) {
+                throw new JukeIllegalArgumentException("Oh no! The range of tasks \"" + part
+                                                               + "\" ends before it starts!");
+            }
+
+            indices.set(start - 1, end);
+        }
+
+        return indices.stream().toArray();
+    }
+
+    /**
+     * Parses a single task number, checking that it refers to a task.
+     *
+     * @param taskNumber Task number, which consists only of digits
+     * @param taskCount Number of tasks which the task number may refer to
+     * @return Task number
+     * @throws JukeIllegalArgumentException if the task number does not refer to a task
+     */
+    private static int parseTaskNumber(String taskNumber, int taskCount) {
+        try {
+            int number = Integer.parseInt(taskNumber);
+
+            if (number >= 1 && number <= taskCount) {
+                return number;
+            }
+        } catch (NumberFormatException ex) {
+            // task numbers too large to be parsed cannot refer to any task
+        }
+
+        throw new JukeIllegalArgumentException("Oh no! I do not have such task recorded!");
+    }
 }
@@ -1,9 +1,5 @@
 package juke.responses;
 
-import juke.ui.components.DialogBox;
-import juke.ui.components.JukeDialogBox;
-import juke.ui.components.UserDialogBox;
-
 /**
  * Defines an abstract class that encapsulates the dialog of the user and Juke.
  */
@@ -48,11 +44,11 @@ public abstract class Dialog {
     }
 
     /**
-     * Returns the {@code DialogBox} representation of this {@code Dialog} object.
+     * Checks if this {@code Dialog} object corresponds to the user's inputs, rather than Juke's.
      *
-     * @return String representing the dialog contained in this object
+     * @return true if the dialog is from the user, else false
      */
-    public abstract DialogBox getDialogBoxRepresentation();
+    public abstract boolean isFromUser();
 
     /**
      * Static nested class that represents a User dialog.
@@ -68,13 +64,13 @@ public abstract class Dialog {
         }
 
         /**
-         * Returns the {@code UserDialogBox} representation of this {@code UserDialog} object.
+         * Checks if this {@code Dialog} object corresponds to the user's inputs.
          *
-         * @return String representing the dialog contained in this object
+         * @return true, as the dialog is from the user
          */
         @Override
-        public DialogBox getDialogBoxRepresentation() {
-            return new UserDialogBox(this);
+        public boolean isFromUser() {
+            return true;
         }
     }
 
@@ -92,13 +88,13 @@ public abstract class Dialog {
         }
 
         /**
-         * Returns the {@code JukeDialogBox} representation of this {@code UserDialog} object.
+         * Checks if this {@code Dialog} object corresponds to the user's inputs.
          *
-         * @return String representing the dialog contained in this object
+         * @return false, as the dialog is from Juke
          */
         @Override
-        public DialogBox getDialogBoxRepresentation() {
-            return new JukeDialogBox(this);
+        public boolean isFromUser() {
+            return false;
         }
     }
 }
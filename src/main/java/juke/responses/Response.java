@@ -1,11 +1,11 @@
 package juke.responses;
 
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import juke.commons.classes.JukeObject;
-import juke.ui.components.DialogBox;
 
 /**
  * Represents the two-sided conversation between Juke and the user. Future implementation of this class
@@ -61,12 +61,21 @@ public class Response extends JukeObject {
     }
 
     /**
-     * Returns the list of dialogs mapped into its corresponding {@code DialogBox} object.
+     * Returns the dialogs, in the order the dialogs were composed.
      *
-     * @return {@code List} of {@code DialogBox}
+     * @return Unmodifiable {@code List} of {@code Dialog}
      */
-    public List<DialogBox> getDialogBoxes() {
-        return this.messages.stream().map(Dialog::getDialogBoxRepresentation).collect(Collectors.toList());
+    public List<Dialog> getDialogs() {
+        return Collections.unmodifiableList(this.messages);
+    }
+
+    /**
+     * Returns the text of each dialog, in the order the dialogs were composed.
+     *
+     * @return {@code List} of dialog text
+     */
+    public List<String> getDialogTexts() {
+        return this.messages.stream().map(Dialog::getDialogText).collect(Collectors.toList());
     }
 
     /**
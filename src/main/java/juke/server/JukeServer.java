@@ -0,0 +1,251 @@
+package juke.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import juke.commons.classes.JukeObject;
+import juke.commons.exceptions.JukeException;
+import juke.commons.exceptions.JukeInitialisationException;
+import juke.commons.exceptions.arguments.JukeIllegalArgumentException;
+import juke.engine.CommandResult;
+import juke.engine.JukeEngine;
+import juke.engine.JukeEngineOptions;
+import juke.statistics.CommandStatistics;
+import juke.storage.Storage;
+
+/**
+ * Server which lets several clients share one task list without the GUI. The server listens on the
+ * loopback address only, and each command is sent as the body of a {@code POST} request to
+ * {@code /command}, to which Juke's reply is sent back as plain text.
+ * <p>
+ * Requests are handled by a pool of threads, which run the commands through a shared {@code JukeEngine}.
+ * Commands which only read the tasks are run alongside each other, while commands which change the tasks
+ * are run one at a time, so that changes, including batches of commands, are never interleaved.
+ */
+public class JukeServer extends JukeObject {
+    /** Port the server listens on by default. */
+    public static final int DEFAULT_PORT = 7070;
+
+    /** Path commands are sent to. */
+    public static final String COMMAND_PATH = "/command";
+
+    /** Largest command accepted, in bytes. */
+    private static final int MAX_COMMAND_BYTES = 64 * 1024;
+
+    /** Number of connections which may wait to be accepted. */
+    private static final int BACKLOG = 1024;
+
+    /** Number of seconds to wait for requests in progress to complete when stopping. */
+    private static final int STOP_DELAY_SECONDS = 1;
+
+    /** {@code JukeEngine} running the commands of all clients. */
+    private final JukeEngine engine;
+
+    /** Server accepting the requests. */
+    private final HttpServer server;
+
+    /** Threads handling the requests. */
+    private final ExecutorService requestExecutor;
+
+    /**
+     * Creates an instance of {@code JukeServer}.
+     *
+     * @param engine {@code JukeEngine} running the commands of all clients
+     * @param server Server accepting the requests
+     * @param threads Number of threads handling the requests
+     */
+    private JukeServer(JukeEngine engine, HttpServer server, int threads) {
+        AtomicInteger requestThreads = new AtomicInteger();
+        this.engine = engine;
+        this.server = server;
+        this.requestExecutor = Executors.newFixedThreadPool(threads, runnable -> new Thread(
+                runnable, "juke-server-" + requestThreads.incrementAndGet()));
+        this.server.createContext(JukeServer.COMMAND_PATH, this::handle);
+        this.server.setExecutor(this.requestExecutor);
+    }
+
+    /**
+     * Creates an instance of {@code JukeServer} listening on the loopback address. The server only accepts
+     * requests once it is started.
+     *
+     * @param engine {@code JukeEngine} running the commands of all clients
+     * @param port Port to listen on, or 0 to listen on any free port
+     * @param threads Number of threads handling the requests
+     * @return {@code JukeServer} object
+     * @throws JukeInitialisationException if the server cannot listen on the port
+     */
+    public static JukeServer of(JukeEngine engine, int port, int threads) {
+        try {
+            InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+            return new JukeServer(engine, HttpServer.create(address, JukeServer.BACKLOG), threads);
+        } catch (IOException ex) {
+            throw new JukeInitialisationException("Oh no! I cannot listen on port " + port + "!");
+        }
+    }
+
+    /**
+     * Starts Juke as a server, loading the tasks in the same way as Juke itself. The port and number of
+     * threads handling the requests can be set with {@code --port=PORT} and {@code --threads=THREADS},
+     * and the datafile with {@code --data=FILE}.
+     *
+     * @param args Command line options
+     */
+    public static void main(String[] args) {
+        try {
+            int port = JukeServer.DEFAULT_PORT;
+            int threads = Runtime.getRuntime().availableProcessors() * 4;
+            Path dataPath = Storage.getConfiguredFilePath();
+
+            for (String arg : args) {
+                if (arg.startsWith("--data=")) {
+                    dataPath = Paths.get(arg.substring("--data=".length()));
+                } else if (arg.startsWith("--port=")) {
+                    port = JukeServer.parseOption(arg, "--port=");
+                } else if (arg.startsWith("--threads=")) {
+                    threads = JukeServer.parseOption(arg, "--threads=");
+                } else {
+                    throw new JukeIllegalArgumentException("Oh no! I do not understand the option " + arg + "!");
+                }
+            }
+
+            JukeEngine engine = JukeEngine.of(dataPath, JukeEngineOptions.ofConfigured());
+            JukeServer server = JukeServer.of(engine, port, threads);
+            String statisticsPath = System.getProperty(CommandStatistics.DUMP_PROPERTY);
+
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                server.stop();
+                engine.close();
+
+                if (statisticsPath != null) {
+                    engine.getStatistics().dump(Paths.get(statisticsPath));
+                }
+            }, "juke-server-stop"));
+
+            server.start();
+            System.out.println("Juke is listening on http://" + InetAddress.getLoopbackAddress().getHostAddress()
+                                       + ":" + server.getPort() + JukeServer.COMMAND_PATH);
+        } catch (JukeException ex) {
+            System.err.println(ex);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Parses the value of a command line option as a positive number.
+     *
+     * @param arg Command line option
+     * @param prefix Name of the option, including the "="
+     * @return Value of the option
+     * @throws JukeIllegalArgumentException if the value is not a positive number
+     */
+    private static int parseOption(String arg, String prefix) {
+        try {
+            int value = Integer.parseInt(arg.substring(prefix.length()));
+
+            if (value > 0) {
+                return value;
+            }
+        } catch (NumberFormatException ex) {
+            // falls through to the exception below
+        }
+
+        throw new JukeIllegalArgumentException("Oh no! The option " + arg + " must be a positive number!");
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        this.server.start();
+    }
+
+    /**
+     * Stops accepting requests, waiting briefly for requests in progress to complete. The engine is left
+     * open, as it may be shared with other callers.
+     */
+    public void stop() {
+        this.server.stop(JukeServer.STOP_DELAY_SECONDS);
+        this.requestExecutor.shutdown();
+    }
+
+    /**
+     * Returns the port the server is listening on.
+     *
+     * @return Port number
+     */
+    public int getPort() {
+        return this.server.getAddress().getPort();
+    }
+
+    /**
+     * Handles a request, running the command in its body and replying with Juke's response.
+     *
+     * @param exchange Request and its reply
+     * @throws IOException if the request cannot be read or replied to
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!exchange.getRequestMethod().equals("POST")) {
+                this.reply(exchange, 405, "Oh no! Commands must be sent with POST!");
+                return;
+            }
+
+            byte[] body;
+
+            try (InputStream in = exchange.getRequestBody()) {
+                body = in.readNBytes(JukeServer.MAX_COMMAND_BYTES + 1);
+            }
+
+            if (body.length > JukeServer.MAX_COMMAND_BYTES) {
+                this.reply(exchange, 413, "Oh no! Your command is too long!");
+                return;
+            }
+
+            CommandResult result = this.engine.execute(new String(body, StandardCharsets.UTF_8));
+
+            if (result.isExit()) {
+                this.reply(exchange, 400, "Oh no! The bye command cannot be run on the server!");
+            } else if (result.isSuccess()) {
+                this.reply(exchange, 200, result.getText() + "\n");
+            } else {
+                this.reply(exchange, 400, result.getText());
+            }
+        } catch (JukeException ex) {
+            this.reply(exchange, 400, ex.toString());
+        } catch (RuntimeException ex) {
+            this.reply(exchange, 500, "Oh no! Something went wrong while running your command!");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Replies to a request with plain text.
+     *
+     * @param exchange Request to reply to
+     * @param status HTTP status code of the reply
+     * @param text Body of the reply
+     * @throws IOException if the reply cannot be sent
+     */
+    private void reply(HttpExchange exchange, int status, String text) throws IOException {
+        byte[] body = text.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package juke.statistics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import juke.commons.classes.JukeObject;
+import juke.commons.enums.CommandPhaseEnum;
+import juke.commons.exceptions.storage.JukeStorageWriteException;
+
+/**
+ * Keeps a {@code LatencyHistogram} of each phase of every type of command that was run, and counts how
+ * often the results of queries were found in the query caches of the task lists. Latencies and lookups may
+ * be recorded and read from several threads.
+ */
+public class CommandStatistics extends JukeObject {
+    /** System property which holds the path of the file to write the statistics to when Juke exits. */
+    public static final String DUMP_PROPERTY = "juke.stats";
+
+    /** Header for {@code CommandStatistics} String representation. */
+    private static final String STATISTICS_HEADER = "Here's how long your commands took (p50 / p99 / max):\n";
+
+    /** String representation of the {@code CommandStatistics} when no commands were run. */
+    private static final String NO_STATISTICS_STRING = "No commands have been run yet!";
+
+    /** Number of nanoseconds in a millisecond. */
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    /** Histograms of each phase of every type of command, by the type of command. */
+    private final Map<String, Map<CommandPhaseEnum, LatencyHistogram>> histograms;
+
+    /** Number of queries answered from the query caches. */
+    private long cacheHits;
+
+    /** Number of queries which could not be answered from the query caches. */
+    private long cacheMisses;
+
+    /**
+     * Creates an instance of {@code CommandStatistics}.
+     */
+    private CommandStatistics() {
+        this.histograms = new TreeMap<>();
+        this.cacheHits = 0;
+        this.cacheMisses = 0;
+    }
+
+    /**
+     * Creates an instance of {@code CommandStatistics} with no latencies recorded.
+     *
+     * @return {@code CommandStatistics} object
+     */
+    public static CommandStatistics of() {
+        return new CommandStatistics();
+    }
+
+    /**
+     * Records the latency of a phase of a command.
+     *
+     * @param commandType Type of the command, such as "mark"
+     * @param phase Phase of the command
+     * @param nanos Latency in nanoseconds
+     */
+    public synchronized void record(String commandType, CommandPhaseEnum phase, long nanos) {
+        this.histograms
+                .computeIfAbsent(commandType, type -> new EnumMap<>(CommandPhaseEnum.class))
+                .computeIfAbsent(phase, p -> LatencyHistogram.of())
+                .record(nanos);
+    }
+
+    /**
+     * Records a lookup in the query cache of a task list.
+     *
+     * @param isHit Whether the result of the query was found in the cache
+     */
+    public synchronized void recordCacheLookup(boolean isHit) {
+        if (isHit) {
+            this.cacheHits++;
+        } else {
+            this.cacheMisses++;
+        }
+    }
+
+    /**
+     * Returns the number of queries answered from the query caches.
+     *
+     * @return Number of cache hits
+     */
+    public synchronized long getCacheHits() {
+        return this.cacheHits;
+    }
+
+    /**
+     * Returns the number of queries which could not be answered from the query caches.
+     *
+     * @return Number of cache misses
+     */
+    public synchronized long getCacheMisses() {
+        return this.cacheMisses;
+    }
+
+    /**
+     * Returns the histogram of a phase of a type of command.
+     *
+     * @param commandType Type of the command, such as "mark"
+     * @param phase Phase of the command
+     * @return {@code LatencyHistogram} of the phase, which is empty if the phase was never recorded
+     */
+    public synchronized LatencyHistogram getHistogram(String commandType, CommandPhaseEnum phase) {
+        return this.histograms
+                .getOrDefault(commandType, Map.of())
+                .getOrDefault(phase, LatencyHistogram.of());
+    }
+
+    /**
+     * Writes the String representation of the statistics to a file, replacing the file if it exists.
+     *
+     * @param path Path of the file
+     * @throws JukeStorageWriteException if the file could not be written to
+     */
+    public synchronized void dump(Path path) {
+        try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+            writer.write(this.toString());
+            writer.newLine();
+        } catch (IOException ex) {
+            throw new JukeStorageWriteException("Oh no! I cannot save your command statistics!");
+        }
+    }
+
+    /**
+     * Returns String representation of the {@code CommandStatistics}, which contains the 50th and 99th
+     * percentile and largest latency, in milliseconds, of each phase of every type of command, followed by
+     * the hits and misses of the query caches if any query was looked up.
+     *
+     * @return String representation of this {@code CommandStatistics}
+     */
+    @Override
+    public synchronized String toString() {
+        if (this.histograms.isEmpty()) {
+            return CommandStatistics.NO_STATISTICS_STRING;
+        }
+
+        StringBuilder builder = new StringBuilder(CommandStatistics.STATISTICS_HEADER);
+
+        for (Map.Entry<String, Map<CommandPhaseEnum, LatencyHistogram>> entry : this.histograms.entrySet()) {
+            LatencyHistogram parse = entry.getValue().get(CommandPhaseEnum.PARSE);
+            long runs = parse == null ? 0 : parse.getCount();
+            builder.append("\n").append(entry.getKey()).append(" (").append(runs).append(" runs)\n");
+
+            for (Map.Entry<CommandPhaseEnum, LatencyHistogram> phase : entry.getValue().entrySet()) {
+                LatencyHistogram histogram = phase.getValue();
+                builder.append(String.format("  %-8s %.3f / %.3f / %.3f ms\n",
+                                             phase.getKey() + ":",
+                                             histogram.getPercentile(0.5) / CommandStatistics.NANOS_PER_MILLI,
+                                             histogram.getPercentile(0.99) / CommandStatistics.NANOS_PER_MILLI,
+                                             histogram.getMax() / CommandStatistics.NANOS_PER_MILLI));
+            }
+        }
+
+        long lookups = this.cacheHits + this.cacheMisses;
+
+        if (lookups > 0) {
+            builder.append(String.format("\nQuery cache: %d hits, %d misses (%.1f%% hit rate)", this.cacheHits,
+                                         this.cacheMisses, 100d * this.cacheHits / lookups));
+        }
+
+        return builder.toString().strip();
+    }
+}
@@ -0,0 +1,133 @@
+package juke.statistics;
+
+import juke.commons.classes.JukeObject;
+
+/**
+ * Records latencies into logarithmic buckets, each of which is further split into linear sub-buckets.
+ * Recording a latency is a constant-time array increment, and percentiles are accurate to within
+ * 1/16 of the true value, using a fixed amount of memory regardless of the number of latencies recorded.
+ */
+public class LatencyHistogram extends JukeObject {
+    /** Number of bits of each latency used to pick its sub-bucket. */
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /** Number of linear sub-buckets within each logarithmic bucket. */
+    private static final int SUB_BUCKET_COUNT = 1 << LatencyHistogram.SUB_BUCKET_BITS;
+
+    /** Number of buckets needed to cover every non-negative {@code long} latency. */
+    private static final int BUCKET_COUNT = (Long.SIZE - LatencyHistogram.SUB_BUCKET_BITS)
+            * LatencyHistogram.SUB_BUCKET_COUNT;
+
+    /** Number of latencies recorded in each bucket. */
+    private final long[] counts;
+
+    /** Number of latencies recorded. */
+    private long count;
+
+    /** Largest latency recorded. */
+    private long max;
+
+    /**
+     * Creates an instance of {@code LatencyHistogram}.
+     */
+    private LatencyHistogram() {
+        this.counts = new long[LatencyHistogram.BUCKET_COUNT];
+        this.count = 0;
+        this.max = 0;
+    }
+
+    /**
+     * Creates an empty instance of {@code LatencyHistogram}.
+     *
+     * @return {@code LatencyHistogram} object with no latencies recorded
+     */
+    public static LatencyHistogram of() {
+        return new LatencyHistogram();
+    }
+
+    /**
+     * Records a latency. Negative latencies are recorded as 0.
+     *
+     * @param nanos Latency in nanoseconds
+     */
+    public void record(long nanos) {
+        long latency = Math.max(0, nanos);
+        this.counts[LatencyHistogram.indexOf(latency)]++;
+        this.count++;
+        this.max = Math.max(this.max, latency);
+    }
+
+    /**
+     * Returns the number of latencies recorded.
+     *
+     * @return Number of latencies recorded
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the largest latency recorded.
+     *
+     * @return Largest latency in nanoseconds, or 0 if no latencies were recorded
+     */
+    public long getMax() {
+        return this.max;
+    }
+
+    /**
+     * Returns the latency at or below which the input fraction of the recorded latencies fall. The
+     * latency returned is the upper bound of the bucket that the percentile falls in, capped at the
+     * largest latency recorded.
+     *
+     * @param fraction Fraction of the recorded latencies, from 0 to 1
+     * @return Latency in nanoseconds, or 0 if no latencies were recorded
+     */
+    public long getPercentile(double fraction) {
+        long rank = Math.max(1, (long) Math.ceil(fraction * this.count));
+        long seen = 0;
+
+        for (int i = 0; i < this.counts.length && seen < this.count; i++) {
+            seen += this.counts[i];
+
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.upperBoundOf(i), this.max);
+            }
+        }
+
+        return this.max;
+    }
+
+    /**
+     * Returns the index of the bucket that the latency falls in.
+     *
+     * @param latency Non-negative latency
+     * @return Index of the bucket
+     */
+    private static int indexOf(long latency) {
+        if (latency < LatencyHistogram.SUB_BUCKET_COUNT) {
+            return (int) latency;
+        }
+
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(latency);
+        int shift = exponent - LatencyHistogram.SUB_BUCKET_BITS;
+        int subBucket = (int) (latency >>> shift) & (LatencyHistogram.SUB_BUCKET_COUNT - 1);
+        return (shift + 1) * LatencyHistogram.SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the largest latency that falls in the bucket.
+     *
+     * @param index Index of the bucket
+     * @return Largest latency in the bucket
+     */
+    private static long upperBoundOf(int index) {
+        if (index < LatencyHistogram.SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int shift = index / LatencyHistogram.SUB_BUCKET_COUNT - 1;
+        long subBucket = index % LatencyHistogram.SUB_BUCKET_COUNT + LatencyHistogram.SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
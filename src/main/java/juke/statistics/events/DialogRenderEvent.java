@@ -0,0 +1,44 @@
+package juke.statistics.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event emitted when a dialog box is created for a dialog.
+ */
+@Name("juke.DialogRender")
+@Label("Dialog Render")
+@Category("Juke")
+@Description("Creation of the dialog box of a dialog from the user or Juke")
+@StackTrace(false)
+public class DialogRenderEvent extends Event {
+    /** Speaker of the dialog, such as "UserDialog". */
+    @Label("Speaker")
+    private String speaker;
+
+    /** Number of characters in the dialog. */
+    @Label("Length")
+    private int length;
+
+    /**
+     * Sets the speaker of the dialog.
+     *
+     * @param speaker Speaker of the dialog
+     */
+    public void setSpeaker(String speaker) {
+        this.speaker = speaker;
+    }
+
+    /**
+     * Sets the number of characters in the dialog.
+     *
+     * @param length Number of characters
+     */
+    public void setLength(int length) {
+        this.length = length;
+    }
+}
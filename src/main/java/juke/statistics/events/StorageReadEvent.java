@@ -0,0 +1,59 @@
+package juke.statistics.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event emitted when the datafile is read.
+ */
+@Name("juke.StorageRead")
+@Label("Storage Read")
+@Category("Juke")
+@Description("Reading of the tasks from the datafile")
+@StackTrace(false)
+public class StorageReadEvent extends Event {
+    /** Simple name of the {@code Storage} class which read the datafile. */
+    @Label("Storage")
+    private String storage;
+
+    /** Size of the datafile. */
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+
+    /** Number of tasks read. */
+    @Label("Task Count")
+    private int taskCount;
+
+    /**
+     * Sets the simple name of the {@code Storage} class which read the datafile.
+     *
+     * @param storage Simple name of the class
+     */
+    public void setStorage(String storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the size of the datafile.
+     *
+     * @param bytes Size of the datafile in bytes
+     */
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Sets the number of tasks read.
+     *
+     * @param taskCount Number of tasks read
+     */
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+}
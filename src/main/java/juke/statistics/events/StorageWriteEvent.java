@@ -0,0 +1,72 @@
+package juke.statistics.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event emitted when changes to the tasks are saved to the datafile.
+ */
+@Name("juke.StorageWrite")
+@Label("Storage Write")
+@Category("Juke")
+@Description("Saving of changes to the tasks to the datafile")
+@StackTrace(false)
+public class StorageWriteEvent extends Event {
+    /** Simple name of the {@code Storage} class which saved the changes. */
+    @Label("Storage")
+    private String storage;
+
+    /** Operation which saved the changes, such as "write" for a full rewrite of the datafile. */
+    @Label("Operation")
+    private String operation;
+
+    /** Number of bytes written to the datafile. */
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+
+    /** Number of tasks in the task list after the changes. */
+    @Label("Task Count")
+    private int taskCount;
+
+    /**
+     * Sets the simple name of the {@code Storage} class which saved the changes.
+     *
+     * @param storage Simple name of the class
+     */
+    public void setStorage(String storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the operation which saved the changes.
+     *
+     * @param operation Name of the operation
+     */
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    /**
+     * Sets the number of bytes written to the datafile.
+     *
+     * @param bytes Number of bytes written
+     */
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Sets the number of tasks in the task list after the changes.
+     *
+     * @param taskCount Number of tasks
+     */
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+}
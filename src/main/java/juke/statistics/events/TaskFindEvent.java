@@ -0,0 +1,57 @@
+package juke.statistics.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event emitted when the task list is searched.
+ */
+@Name("juke.TaskFind")
+@Label("Task Find")
+@Category("Juke")
+@Description("Searching of the task list for tasks whose description matches a query")
+@StackTrace(false)
+public class TaskFindEvent extends Event {
+    /** Query searched for. */
+    @Label("Query")
+    private String query;
+
+    /** Number of tasks which matched the query. */
+    @Label("Hits")
+    private int hits;
+
+    /** Number of tasks searched. */
+    @Label("Task Count")
+    private int taskCount;
+
+    /**
+     * Sets the query searched for.
+     *
+     * @param query Query
+     */
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    /**
+     * Sets the number of tasks which matched the query.
+     *
+     * @param hits Number of matching tasks
+     */
+    public void setHits(int hits) {
+        this.hits = hits;
+    }
+
+    /**
+     * Sets the number of tasks searched.
+     *
+     * @param taskCount Number of tasks
+     */
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+}
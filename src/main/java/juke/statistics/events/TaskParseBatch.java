@@ -0,0 +1,69 @@
+package juke.statistics.events;
+
+import juke.commons.classes.JukeObject;
+
+/**
+ * Groups the tasks parsed from the datafile into batches, emitting a {@code TaskParseEvent} for each
+ * batch. Batching keeps the number of events low when reading large datafiles.
+ */
+public class TaskParseBatch extends JukeObject {
+    /** Number of tasks in each batch. */
+    private final int batchSize;
+
+    /** Event of the current batch, or null if no tasks have been parsed in the current batch. */
+    private TaskParseEvent event;
+
+    /** Number of tasks parsed in the current batch. */
+    private int count;
+
+    /**
+     * Creates an instance of {@code TaskParseBatch}.
+     *
+     * @param batchSize Number of tasks in each batch
+     */
+    private TaskParseBatch(int batchSize) {
+        this.batchSize = batchSize;
+        this.count = 0;
+    }
+
+    /**
+     * Creates an instance of {@code TaskParseBatch}.
+     *
+     * @param batchSize Number of tasks in each batch
+     * @return {@code TaskParseBatch} object
+     */
+    public static TaskParseBatch of(int batchSize) {
+        return new TaskParseBatch(batchSize);
+    }
+
+    /**
+     * Marks the start of parsing a task, starting a new batch if necessary.
+     */
+    public void begin() {
+        if (this.event == null) {
+            this.event = new TaskParseEvent();
+            this.event.begin();
+        }
+    }
+
+    /**
+     * Marks the end of parsing a task, ending the current batch if it is full.
+     */
+    public void end() {
+        if (++this.count == this.batchSize) {
+            this.close();
+        }
+    }
+
+    /**
+     * Ends the current batch, if any tasks have been parsed in it.
+     */
+    public void close() {
+        if (this.event != null) {
+            this.event.setTaskCount(this.count);
+            this.event.commit();
+            this.event = null;
+            this.count = 0;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package juke.statistics.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event emitted for every batch of tasks read and parsed from the datafile.
+ */
+@Name("juke.TaskParse")
+@Label("Task Parse")
+@Category("Juke")
+@Description("Reading and parsing of a batch of tasks from the datafile")
+@StackTrace(false)
+public class TaskParseEvent extends Event {
+    /** Number of tasks parsed in the batch. */
+    @Label("Task Count")
+    private int taskCount;
+
+    /**
+     * Sets the number of tasks parsed in the batch.
+     *
+     * @param taskCount Number of tasks parsed
+     */
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+}
@@ -0,0 +1,57 @@
+package juke.statistics.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event emitted when the task list is sorted.
+ */
+@Name("juke.TaskSort")
+@Label("Task Sort")
+@Category("Juke")
+@Description("Sorting of the task list, including saving the sorted tasks")
+@StackTrace(false)
+public class TaskSortEvent extends Event {
+    /** Type of sort performed, such as "DESCRIPTION". */
+    @Label("Sort Type")
+    private String sortType;
+
+    /** Order of the sort performed, such as "ASCENDING". */
+    @Label("Sort Order")
+    private String sortOrder;
+
+    /** Number of tasks sorted. */
+    @Label("Task Count")
+    private int taskCount;
+
+    /**
+     * Sets the type of sort performed.
+     *
+     * @param sortType Type of sort
+     */
+    public void setSortType(String sortType) {
+        this.sortType = sortType;
+    }
+
+    /**
+     * Sets the order of the sort performed.
+     *
+     * @param sortOrder Order of the sort
+     */
+    public void setSortOrder(String sortOrder) {
+        this.sortOrder = sortOrder;
+    }
+
+    /**
+     * Sets the number of tasks sorted.
+     *
+     * @param taskCount Number of tasks
+     */
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+}
@@ -0,0 +1,489 @@
+package juke.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import juke.commons.exceptions.JukeInitialisationException;
+import juke.commons.exceptions.storage.JukeStorageException;
+import juke.commons.exceptions.storage.JukeStorageReadException;
+import juke.commons.exceptions.storage.JukeStorageWriteException;
+import juke.parsers.FileParser;
+import juke.statistics.events.StorageReadEvent;
+import juke.statistics.events.StorageWriteEvent;
+import juke.statistics.events.TaskParseBatch;
+import juke.tasks.JukeTask;
+
+/**
+ * Manages the datafile through a memory-mapped view of it. An index of the offset of every record in the
+ * datafile is built in a single pass when the datafile is read, which allows changes to the completion
+ * status of a task to be saved as a single byte written in place, and deletions to be saved by
+ * tombstoning the record. Tombstoned records are reclaimed when the datafile is compacted.
+ * <p>
+ * The datafile keeps the same format as the one used by {@code Storage}, and so the two can be
+ * used interchangeably.
+ */
+public class MappedStorage extends Storage {
+    /** System property which, when set to true, makes Juke use {@code MappedStorage}. */
+    public static final String MAPPED_PROPERTY = "juke.mapped";
+
+    /** Offset of the completion status within a record, which follows the task type and a separator. */
+    private static final int COMPLETION_OFFSET = 2;
+
+    /** Initial number of records that the index can hold. */
+    private static final int INITIAL_INDEX_CAPACITY = 64;
+
+    /** Suffix of the file which the tasks are written to before it replaces the datafile. */
+    private static final String PENDING_FILE_SUFFIX = ".tmp";
+
+    /** Bytes which separate the records in the datafile. */
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
+    /** Channel to the datafile. */
+    private FileChannel channel;
+
+    /** Memory-mapped view of the datafile. */
+    private MappedByteBuffer buffer;
+
+    /** Offsets of the live records in the datafile, in list order. */
+    private long[] offsets;
+
+    /** Lengths of the live records in the datafile, excluding the line separator. */
+    private int[] lengths;
+
+    /** Number of live records in the datafile. */
+    private int count;
+
+    /** Number of tombstoned records in the datafile. */
+    private int tombstones;
+
+    /**
+     * Creates an instance of {@code MappedStorage}. Prevents external instantiation through
+     * any methods other than {@code MappedStorage.of()}.
+     *
+     * @param filePath Path to the datafile
+     */
+    private MappedStorage(Path filePath) {
+        super(filePath);
+        this.offsets = new long[MappedStorage.INITIAL_INDEX_CAPACITY];
+        this.lengths = new int[MappedStorage.INITIAL_INDEX_CAPACITY];
+        this.count = 0;
+        this.tombstones = 0;
+    }
+
+    /**
+     * Creates an instance of {@code MappedStorage} and the files
+     * and directories required if necessary.
+     *
+     * @return {@code MappedStorage} instance that is fully instantiated
+     * @throws JukeInitialisationException if the directories or files cannot be
+     *     created or initialised
+     */
+    public static MappedStorage of() throws JukeInitialisationException {
+        return MappedStorage.of(Storage.DEFAULT_FILE_PATH);
+    }
+
+    /**
+     * Creates an instance of {@code MappedStorage} which uses the input datafile, and the file
+     * and directories required if necessary.
+     *
+     * @param filePath Path to the datafile
+     * @return {@code MappedStorage} instance that is fully instantiated
+     * @throws JukeInitialisationException if the directories or files cannot be
+     *     created or initialised
+     */
+    public static MappedStorage of(Path filePath) throws JukeInitialisationException {
+        Storage.createDataFile(filePath);
+        return new MappedStorage(filePath);
+    }
+
+    /**
+     * Returns a list of saved task after the datafile is indexed and parsed by the {@code FileParser}.
+     *
+     * @return List of {@code JukeTasks} retrieved
+     * @throws JukeStorageException If the file could not be opened or processed for any reason
+     */
+    @Override
+    public List<JukeTask> read() throws JukeStorageReadException {
+        StorageReadEvent event = new StorageReadEvent();
+        event.begin();
+
+        try {
+            this.index();
+        } catch (IOException ex) {
+            throw new JukeStorageReadException("Oh no! I am unable to understand the data stored "
+                                                       + "in the datafile!");
+        }
+
+        List<JukeTask> tasks = new ArrayList<>(this.count);
+        TaskParseBatch batch = TaskParseBatch.of(Storage.PROGRESS_INTERVAL);
+
+        for (int i = 0; i < this.count; i++) {
+            batch.begin();
+            tasks.add(FileParser.parseTask(this.readRecord(i)));
+            batch.end();
+            this.reportProgress(i);
+        }
+
+        batch.close();
+        this.reportProgress(this.count, this.count);
+        this.commitEvent(event, this.buffer.capacity(), this.count);
+        return tasks;
+    }
+
+    /**
+     * Passes every saved task to the consumer in its datafile representation, without parsing it into
+     * a {@code JukeTask}. Only the task type and number of fields of each task are checked.
+     *
+     * @param consumer Consumer of the datafile representation of each task
+     * @throws JukeStorageException If the file could not be opened or processed for any reason
+     */
+    @Override
+    public void readRecords(Consumer<String> consumer) throws JukeStorageReadException {
+        StorageReadEvent event = new StorageReadEvent();
+        event.begin();
+
+        try {
+            this.index();
+        } catch (IOException ex) {
+            throw new JukeStorageReadException("Oh no! I am unable to understand the data stored "
+                                                       + "in the datafile!");
+        }
+
+        for (int i = 0; i < this.count; i++) {
+            String record = this.readRecord(i);
+            FileParser.checkTask(record);
+            consumer.accept(record);
+            this.reportProgress(i);
+        }
+
+        this.reportProgress(this.count, this.count);
+        this.commitEvent(event, this.buffer.capacity(), this.count);
+    }
+
+    /**
+     * Writes the list of tasks into the datafile, dropping any tombstoned records, and rebuilds the index.
+     * The channel is closed and the mapping dropped before the tasks are written to a pending file, which
+     * then replaces the datafile, as a file which is still mapped cannot be truncated on some platforms.
+     *
+     * @param tasks List of {@code JukeTasks} to write
+     * @throws JukeStorageException If the file could not be opened or written to for any reason
+     */
+    @Override
+    public void write(List<JukeTask> tasks) throws JukeStorageWriteException {
+        StorageWriteEvent event = new StorageWriteEvent();
+        event.begin();
+        this.close();
+        Path filePath = this.getFilePath();
+        Path pendingPath = filePath.resolveSibling(filePath.getFileName() + MappedStorage.PENDING_FILE_SUFFIX);
+
+        try {
+            Storage.writeTasks(pendingPath, tasks);
+            Files.move(pendingPath, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            this.index();
+        } catch (IOException ex) {
+            throw new JukeStorageWriteException("Oh no! I cannot save your data to the datafile!");
+        }
+
+        this.commitEvent(event, "write", this.buffer.capacity(), tasks.size());
+    }
+
+    /**
+     * Saves a task which was just appended to the end of the list of tasks by appending its record
+     * to the end of the datafile.
+     *
+     * @param tasks List of {@code JukeTasks}, with the new task as its last element
+     * @throws JukeStorageException If the file could not be opened or written to for any reason
+     */
+    @Override
+    public void append(List<JukeTask> tasks) throws JukeStorageWriteException {
+        StorageWriteEvent event = new StorageWriteEvent();
+        event.begin();
+        byte[] record = tasks.get(tasks.size() - 1).save().getBytes(StandardCharsets.UTF_8);
+
+        try {
+            FileChannel fileChannel = this.getChannel();
+            long offset = fileChannel.size();
+            ByteBuffer output = ByteBuffer.allocate(2 * MappedStorage.LINE_SEPARATOR.length + record.length);
+
+            // records written by hand may not be terminated by a line separator
+            if (offset > 0 && !this.isTerminated(offset)) {
+                output.put(MappedStorage.LINE_SEPARATOR);
+            }
+
+            long recordOffset = offset + output.position();
+            output.put(record).put(MappedStorage.LINE_SEPARATOR).flip();
+
+            while (output.hasRemaining()) {
+                fileChannel.write(output, offset + output.position());
+            }
+
+            this.addRecord(recordOffset, record.length);
+            this.commitEvent(event, "append", output.limit(), tasks.size());
+        } catch (IOException ex) {
+            throw new JukeStorageWriteException("Oh no! I cannot save your data to the datafile!");
+        }
+    }
+
+    /**
+     * Saves the change in completion status of tasks by writing the completion status of their records
+     * in place.
+     *
+     * @param tasks List of {@code JukeTasks}
+     * @param indices Indices of the tasks whose completion status has changed
+     * @throws JukeStorageException If the file could not be opened or written to for any reason
+     */
+    @Override
+    public void updateCompletion(List<JukeTask> tasks, int... indices) throws JukeStorageWriteException {
+        assert tasks.size() == this.count;
+        StorageWriteEvent event = new StorageWriteEvent();
+        event.begin();
+
+        for (int index : indices) {
+            byte status = (byte) (tasks.get(index).isCompleted() ? 'T' : 'F');
+            this.writeByte(this.offsets[index] + MappedStorage.COMPLETION_OFFSET, status);
+        }
+
+        this.commitEvent(event, "updateCompletion", indices.length, tasks.size());
+    }
+
+    /**
+     * Saves the deletion of tasks by tombstoning their records in place. The datafile is compacted once
+     * there are more tombstoned records than live records.
+     *
+     * @param tasks List of {@code JukeTasks}, with the tasks already removed
+     * @param indices Indices that the deleted tasks were at, in ascending order without duplicates
+     * @throws JukeStorageException If the file could not be opened or written to for any reason
+     */
+    @Override
+    public void delete(List<JukeTask> tasks, int... indices) throws JukeStorageWriteException {
+        assert tasks.size() == this.count - indices.length;
+        StorageWriteEvent event = new StorageWriteEvent();
+        event.begin();
+        int kept = 0;
+        int next = 0;
+
+        for (int i = 0; i < this.count; i++) {
+            if (next < indices.length && indices[next] == i) {
+                this.writeByte(this.offsets[i], (byte) FileParser.TOMBSTONE_MARKER);
+                next++;
+            } else {
+                this.offsets[kept] = this.offsets[i];
+                this.lengths[kept] = this.lengths[i];
+                kept++;
+            }
+        }
+
+        this.tombstones += this.count - kept;
+        this.count = kept;
+        this.commitEvent(event, "delete", indices.length, tasks.size());
+
+        if (this.tombstones > this.count) {
+            this.write(tasks);
+        }
+    }
+
+    /**
+     * Forces the changes written in place through the memory-mapped view, and those appended through
+     * the channel, to the device.
+     *
+     * @throws JukeStorageException If the changes could not be written for any reason
+     */
+    @Override
+    public void flush() throws JukeStorageWriteException {
+        try {
+            if (this.buffer != null) {
+                this.buffer.force();
+            }
+
+            if (this.channel != null) {
+                this.channel.force(false);
+            }
+        } catch (IOException ex) {
+            throw new JukeStorageWriteException("Oh no! I cannot save your data to the datafile!");
+        }
+    }
+
+    /**
+     * Drops the memory-mapped view of the datafile and closes the channel to it. Both are reopened when
+     * the datafile is next read or written.
+     *
+     * @throws JukeStorageException If the channel could not be closed for any reason
+     */
+    @Override
+    public void close() throws JukeStorageWriteException {
+        this.buffer = null;
+
+        if (this.channel == null) {
+            return;
+        }
+
+        try {
+            this.channel.close();
+        } catch (IOException ex) {
+            throw new JukeStorageWriteException("Oh no! I cannot save your data to the datafile!");
+        } finally {
+            this.channel = null;
+        }
+    }
+
+    /**
+     * Notifies the progress listener every time a fixed number of records have been read.
+     *
+     * @param index Index of the record which was just read
+     */
+    private void reportProgress(int index) {
+        if ((index + 1) % Storage.PROGRESS_INTERVAL == 0) {
+            this.reportProgress(index + 1, this.count);
+        }
+    }
+
+    /**
+     * Maps the datafile into memory and rebuilds the index of its records in a single pass.
+     *
+     * @throws IOException if the datafile cannot be mapped
+     */
+    private void index() throws IOException {
+        this.map();
+        this.count = 0;
+        this.tombstones = 0;
+        int recordStart = 0;
+        int size = this.buffer.capacity();
+
+        for (int i = 0; i < size; i++) {
+            if (this.buffer.get(i) == '\n') {
+                this.indexRecord(recordStart, i);
+                recordStart = i + 1;
+            }
+        }
+
+        if (recordStart < size) {
+            this.indexRecord(recordStart, size);
+        }
+    }
+
+    /**
+     * Adds the record between the input offsets to the index, unless it is tombstoned.
+     *
+     * @param start Offset of the first byte of the record
+     * @param end Offset of the line feed that ends the record
+     */
+    private void indexRecord(int start, int end) {
+        int length = end - start;
+
+        // records written on Windows end with a carriage return before the line feed
+        if (length > 0 && this.buffer.get(end - 1) == '\r') {
+            length--;
+        }
+
+        if (length > 0 && this.buffer.get(start) == FileParser.TOMBSTONE_MARKER) {
+            this.tombstones++;
+        } else {
+            this.addRecord(start, length);
+        }
+    }
+
+    /**
+     * Adds a live record to the end of the index.
+     *
+     * @param offset Offset of the record
+     * @param length Length of the record
+     */
+    private void addRecord(long offset, int length) {
+        if (this.count == this.offsets.length) {
+            this.offsets = Arrays.copyOf(this.offsets, this.count * 2);
+            this.lengths = Arrays.copyOf(this.lengths, this.count * 2);
+        }
+
+        this.offsets[this.count] = offset;
+        this.lengths[this.count] = length;
+        this.count++;
+    }
+
+    /**
+     * Returns the contents of the record at the input index.
+     *
+     * @param index Index of the record
+     * @return Contents of the record
+     */
+    private String readRecord(int index) {
+        byte[] record = new byte[this.lengths[index]];
+        ByteBuffer view = this.buffer.duplicate();
+        view.position((int) this.offsets[index]);
+        view.get(record);
+        return new String(record, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a single byte into the datafile in place, remapping the datafile if it has grown past the
+     * currently mapped region.
+     *
+     * @param offset Offset to write at
+     * @param value Byte to write
+     * @throws JukeStorageWriteException if the datafile cannot be mapped
+     */
+    private void writeByte(long offset, byte value) throws JukeStorageWriteException {
+        try {
+            if (this.buffer == null || offset >= this.buffer.capacity()) {
+                this.map();
+            }
+
+            this.buffer.put((int) offset, value);
+        } catch (IOException ex) {
+            throw new JukeStorageWriteException("Oh no! I cannot save your data to the datafile!");
+        }
+    }
+
+    /**
+     * Checks if the datafile of the input size ends with a line feed.
+     *
+     * @param size Size of the datafile
+     * @return true if the last byte of the datafile is a line feed, else false
+     * @throws IOException if the datafile cannot be read
+     */
+    private boolean isTerminated(long size) throws IOException {
+        ByteBuffer last = ByteBuffer.allocate(1);
+        this.getChannel().read(last, size - 1);
+        return last.get(0) == '\n';
+    }
+
+    /**
+     * Maps the whole datafile into memory.
+     *
+     * @throws IOException if the datafile cannot be mapped
+     */
+    private void map() throws IOException {
+        FileChannel fileChannel = this.getChannel();
+        long size = fileChannel.size();
+
+        if (size > Integer.MAX_VALUE) {
+            throw new JukeStorageException("Oh no! Your datafile is too large for me to handle!");
+        }
+
+        this.buffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    /**
+     * Returns the channel to the datafile, opening it if it has not been opened.
+     *
+     * @return Channel to the datafile
+     * @throws IOException if the datafile cannot be opened
+     */
+    private FileChannel getChannel() throws IOException {
+        if (this.channel == null) {
+            this.channel = FileChannel.open(this.getFilePath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+
+        return this.channel;
+    }
+}
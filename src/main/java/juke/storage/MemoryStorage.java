@@ -0,0 +1,149 @@
+package juke.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+import juke.commons.classes.JukeObject;
+import juke.commons.exceptions.storage.JukeStorageException;
+import juke.commons.exceptions.storage.JukeStorageReadException;
+import juke.commons.interfaces.StorageBackend;
+import juke.parsers.FileParser;
+import juke.tasks.JukeTask;
+
+/**
+ * Keeps the saved tasks in memory instead of in a datafile, and so the tasks are lost when Juke exits.
+ * This is meant for tests and benchmarks, which should neither depend on nor change the datafile.
+ * <p>
+ * The tasks are kept in their datafile representation, so that saved tasks are not affected by later
+ * changes to the tasks, and each change only saves the tasks it affects.
+ */
+public class MemoryStorage extends JukeObject implements StorageBackend {
+    /** Datafile representation of the saved tasks, in list order. */
+    private final List<String> records;
+
+    /** Listener notified of the fraction of the saved tasks that has been read. */
+    private DoubleConsumer progressListener;
+
+    /**
+     * Creates an instance of {@code MemoryStorage}. Prevents external instantiation through
+     * any methods other than {@code MemoryStorage.of()}.
+     */
+    protected MemoryStorage() {
+        this.records = new ArrayList<>();
+        this.progressListener = progress -> {};
+    }
+
+    /**
+     * Creates an instance of {@code MemoryStorage} with no saved tasks.
+     *
+     * @return {@code MemoryStorage} instance
+     */
+    public static MemoryStorage of() {
+        return new MemoryStorage();
+    }
+
+    /**
+     * Returns a list of the saved tasks, each parsed from its datafile representation.
+     *
+     * @return List of {@code JukeTasks} retrieved
+     * @throws JukeStorageException If a saved task cannot be parsed
+     */
+    @Override
+    public List<JukeTask> read() throws JukeStorageReadException {
+        List<JukeTask> tasks = new ArrayList<>(this.records.size());
+
+        for (String record : this.records) {
+            tasks.add(FileParser.parseTask(record));
+        }
+
+        this.progressListener.accept(1.0d);
+        return tasks;
+    }
+
+    /**
+     * Passes every saved task to the consumer in its datafile representation.
+     *
+     * @param consumer Consumer of the datafile representation of each task
+     * @throws JukeStorageException If a saved task cannot be read
+     */
+    @Override
+    public void readRecords(Consumer<String> consumer) throws JukeStorageReadException {
+        this.records.forEach(consumer);
+        this.progressListener.accept(1.0d);
+    }
+
+    /**
+     * Saves the list of tasks, replacing every task saved before.
+     *
+     * @param tasks List of {@code JukeTasks} to write
+     */
+    @Override
+    public void write(List<JukeTask> tasks) {
+        this.records.clear();
+
+        for (JukeTask task : tasks) {
+            this.records.add(task.save());
+        }
+    }
+
+    /**
+     * Saves only the task which was just appended to the end of the list of tasks.
+     *
+     * @param tasks List of {@code JukeTasks}, with the new task as its last element
+     */
+    @Override
+    public void append(List<JukeTask> tasks) {
+        this.records.add(tasks.get(tasks.size() - 1).save());
+    }
+
+    /**
+     * Saves only the tasks whose completion status has changed.
+     *
+     * @param tasks List of {@code JukeTasks}
+     * @param indices Indices of the tasks whose completion status has changed
+     */
+    @Override
+    public void updateCompletion(List<JukeTask> tasks, int... indices) {
+        for (int index : indices) {
+            this.records.set(index, tasks.get(index).save());
+        }
+    }
+
+    /**
+     * Removes only the deleted tasks.
+     *
+     * @param tasks List of {@code JukeTasks}, with the tasks already removed
+     * @param indices Indices that the deleted tasks were at, in ascending order without duplicates
+     */
+    @Override
+    public void delete(List<JukeTask> tasks, int... indices) {
+        // removing from the back keeps the indices of the tasks still to be removed unchanged
+        for (int i = indices.length - 1; i >= 0; i--) {
+            this.records.remove(indices[i]);
+        }
+
+        assert this.records.size() == tasks.size();
+    }
+
+    /**
+     * Sets the listener which is notified of the fraction of the saved tasks that has been read. As the
+     * tasks are read all at once, the listener is only notified once reading is complete.
+     *
+     * @param progressListener Listener of the progress of reading the tasks
+     */
+    @Override
+    public void setProgressListener(DoubleConsumer progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Returns the datafile representation of the saved tasks.
+     *
+     * @return Unmodifiable list of the datafile representation of the saved tasks
+     */
+    public List<String> getRecords() {
+        return List.copyOf(this.records);
+    }
+}
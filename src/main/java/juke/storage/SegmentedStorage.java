@@ -0,0 +1,646 @@
+package juke.storage;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import juke.commons.exceptions.JukeInitialisationException;
+import juke.commons.exceptions.storage.JukeStorageException;
+import juke.commons.exceptions.storage.JukeStorageReadException;
+import juke.commons.exceptions.storage.JukeStorageWriteException;
+import juke.parsers.FileParser;
+import juke.statistics.events.StorageReadEvent;
+import juke.statistics.events.StorageWriteEvent;
+import juke.statistics.events.TaskParseBatch;
+import juke.tasks.JukeTask;
+
+/**
+ * Manages the tasks as a sequence of segment files, each holding up to a fixed number of consecutive tasks,
+ * and a manifest which lists the segments in order. A change only rewrites the segments holding the tasks
+ * it affects, and so the cost of saving a change is bounded by the size of a segment rather than by the
+ * number of tasks. Appending a task only rewrites the last segment, or starts a new one.
+ * <p>
+ * Segments are never changed in place. Every rewritten segment is saved to a new file, and the change only
+ * takes effect once the manifest listing the new files atomically replaces the old manifest, after which
+ * the replaced files are deleted. A failure part way through a change therefore leaves the tasks as they
+ * were before the change, and any segment files left behind are deleted when the tasks are next opened.
+ * <p>
+ * The segments are kept in a directory next to the datafile, such as {@code tasks.segments} for
+ * {@code tasks.txt}. When the directory does not exist yet, it is created from the tasks in the datafile.
+ * The datafile is rewritten from the segments when the backend is closed, and is given the time of the
+ * manifest, so that the other backends read the same tasks. A datafile changed since then by another
+ * backend is newer than the manifest, and replaces the segments when they are next opened.
+ */
+public class SegmentedStorage extends Storage {
+    /** System property which sets the maximum number of tasks in each segment. */
+    public static final String SEGMENT_SIZE_PROPERTY = "juke.segment.size";
+
+    /** Default maximum number of tasks in each segment. */
+    public static final int DEFAULT_SEGMENT_SIZE = 4096;
+
+    /** Suffix of the segment directory, which replaces the extension of its datafile. */
+    private static final String SEGMENT_DIRECTORY_SUFFIX = ".segments";
+
+    /** Name of the manifest within the segment directory. */
+    private static final String MANIFEST_FILE_NAME = "manifest.txt";
+
+    /** Suffix of the file which the tasks are written to before it replaces the datafile. */
+    private static final String PENDING_FILE_SUFFIX = ".tmp";
+
+    /** Name of the manifest while it is being written, before it replaces the current manifest. */
+    private static final String PENDING_MANIFEST_FILE_NAME = "manifest.txt.tmp";
+
+    /** Prefix of the name of each segment file, which is followed by its generation. */
+    private static final String SEGMENT_FILE_PREFIX = "segment-";
+
+    /** Suffix of the name of each segment file. */
+    private static final String SEGMENT_FILE_SUFFIX = ".txt";
+
+    /** Separator between the name of a segment file and its number of tasks in the manifest. */
+    private static final String MANIFEST_SEPARATOR = " ";
+
+    /** Directory which holds the manifest and segment files. */
+    private final Path directory;
+
+    /** Maximum number of tasks in each segment. */
+    private final int segmentSize;
+
+    /** Names of the segment files, in list order. */
+    private final List<String> segmentFiles;
+
+    /** Number of tasks in each segment, in list order. */
+    private final List<Integer> segmentCounts;
+
+    /** Whether the datafile holds the same tasks as the segments. */
+    private boolean isDataFileCurrent;
+
+    /** Generation of the next segment file to be written, which keeps the name of every segment file unique. */
+    private long generation;
+
+    /**
+     * Creates an instance of {@code SegmentedStorage}. Prevents external instantiation through
+     * any methods other than {@code SegmentedStorage.of()}.
+     *
+     * @param filePath Path to the datafile, which the segment directory is kept next to
+     * @param segmentSize Maximum number of tasks in each segment
+     */
+    private SegmentedStorage(Path filePath, int segmentSize) {
+        super(filePath);
+        this.directory = SegmentedStorage.getSegmentDirectory(filePath);
+        this.segmentSize = segmentSize;
+        this.segmentFiles = new ArrayList<>();
+        this.segmentCounts = new ArrayList<>();
+        this.generation = 0;
+    }
+
+    /**
+     * Creates an instance of {@code SegmentedStorage} which keeps its segments next to the input datafile,
+     * with the segment size set through the {@code juke.segment.size} system property.
+     *
+     * @param filePath Path to the datafile
+     * @return {@code SegmentedStorage} instance that is fully instantiated
+     * @throws JukeInitialisationException if the segment directory cannot be created or initialised
+     */
+    public static SegmentedStorage of(Path filePath) throws JukeInitialisationException {
+        return SegmentedStorage.of(filePath, Integer.getInteger(SegmentedStorage.SEGMENT_SIZE_PROPERTY,
+                                                                SegmentedStorage.DEFAULT_SEGMENT_SIZE));
+    }
+
+    /**
+     * Creates an instance of {@code SegmentedStorage} which keeps its segments next to the input datafile.
+     * If the segment directory does not exist yet, or the datafile has been changed by another backend
+     * since the segments were last saved, the segments are created from the tasks in the datafile.
+     *
+     * @param filePath Path to the datafile
+     * @param segmentSize Maximum number of tasks in each segment
+     * @return {@code SegmentedStorage} instance that is fully instantiated
+     * @throws JukeInitialisationException if the segment size is not positive, or if the segment directory
+     *     cannot be created or initialised
+     */
+    public static SegmentedStorage of(Path filePath, int segmentSize) throws JukeInitialisationException {
+        if (segmentSize <= 0) {
+            throw new JukeInitialisationException("Oh no! Each segment of your tasks must hold at least one task!");
+        }
+
+        SegmentedStorage storage = new SegmentedStorage(filePath, segmentSize);
+
+        try {
+            Files.createDirectories(storage.directory);
+
+            if (storage.loadManifest()) {
+                // a datafile newer than the manifest was changed by another backend after the segments
+                if (Files.exists(filePath) && storage.getDataFileTime().compareTo(storage.getManifestTime()) > 0) {
+                    storage.write(Storage.of(filePath).read());
+                }
+
+                storage.isDataFileCurrent = Files.exists(filePath)
+                        && storage.getDataFileTime().equals(storage.getManifestTime());
+                return storage;
+            } else if (Files.exists(filePath)) {
+                storage.write(Storage.of(filePath).read());
+            } else {
+                storage.write(List.of());
+            }
+        } catch (IOException | JukeStorageException ex) {
+            throw new JukeInitialisationException("Oh no! I am unable to prepare the segments to store your "
+                                                          + "tasks! Please try again later!");
+        }
+
+        return storage;
+    }
+
+    /**
+     * Returns the path to the segment directory of the input datafile, which is kept next to the datafile.
+     *
+     * @param filePath Path to the datafile
+     * @return Path to the segment directory
+     */
+    public static Path getSegmentDirectory(Path filePath) {
+        return filePath.resolveSibling(Storage.getBaseName(filePath) + SegmentedStorage.SEGMENT_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns the number of tasks in each segment, in list order.
+     *
+     * @return Unmodifiable list of the number of tasks in each segment
+     */
+    public synchronized List<Integer> getSegmentCounts() {
+        return List.copyOf(this.segmentCounts);
+    }
+
+    /**
+     * Returns a list of saved tasks after every segment is parsed by the {@code FileParser}.
+     *
+     * @return List of {@code JukeTasks} retrieved
+     * @throws JukeStorageException If a segment could not be opened or processed for any reason
+     */
+    @Override
+    public synchronized List<JukeTask> read() throws JukeStorageReadException {
+        StorageReadEvent event = new StorageReadEvent();
+        event.begin();
+        List<JukeTask> tasks = new LinkedList<>();
+        TaskParseBatch batch = TaskParseBatch.of(Storage.PROGRESS_INTERVAL);
+
+        long bytes = this.readSegments(record -> {
+            batch.begin();
+            tasks.add(FileParser.parseTask(record));
+            batch.end();
+        });
+
+        batch.close();
+        this.commitEvent(event, bytes, tasks.size());
+        return tasks;
+    }
+
+    /**
+     * Passes every saved task to the consumer in its datafile representation, without parsing it into
+     * a {@code JukeTask}. Only the task type and number of fields of each task are checked.
+     *
+     * @param consumer Consumer of the datafile representation of each task
+     * @throws JukeStorageException If a segment could not be opened or processed for any reason
+     */
+    @Override
+    public synchronized void readRecords(Consumer<String> consumer) throws JukeStorageReadException {
+        StorageReadEvent event = new StorageReadEvent();
+        event.begin();
+        int[] taskCount = new int[1];
+
+        long bytes = this.readSegments(record -> {
+            FileParser.checkTask(record);
+            consumer.accept(record);
+            taskCount[0]++;
+        });
+
+        this.commitEvent(event, bytes, taskCount[0]);
+    }
+
+    /**
+     * Saves the list of tasks, replacing every segment with new segments which are filled in order.
+     *
+     * @param tasks List of {@code JukeTasks} to write
+     * @throws JukeStorageException If the segments could not be written for any reason
+     */
+    @Override
+    public synchronized void write(List<JukeTask> tasks) throws JukeStorageWriteException {
+        List<Integer> counts = new ArrayList<>();
+
+        for (int start = 0; start < tasks.size(); start += this.segmentSize) {
+            counts.add(Math.min(this.segmentSize, tasks.size() - start));
+        }
+
+        BitSet dirty = new BitSet();
+        dirty.set(0, counts.size());
+        this.save(tasks, counts, dirty, "write");
+    }
+
+    /**
+     * Saves only the task which was just appended to the end of the list of tasks, by rewriting the last
+     * segment, or by starting a new segment if the last segment is full.
+     *
+     * @param tasks List of {@code JukeTasks}, with the new task as its last element
+     * @throws JukeStorageException If the segments could not be written for any reason
+     */
+    @Override
+    public synchronized void append(List<JukeTask> tasks) throws JukeStorageWriteException {
+        List<Integer> counts = new ArrayList<>(this.segmentCounts);
+        int last = counts.size() - 1;
+
+        if (last < 0 || counts.get(last) >= this.segmentSize) {
+            counts.add(1);
+            last++;
+        } else {
+            counts.set(last, counts.get(last) + 1);
+        }
+
+        BitSet dirty = new BitSet();
+        dirty.set(last);
+        this.save(tasks, counts, dirty, "append");
+    }
+
+    /**
+     * Saves only the segments holding the tasks whose completion status has changed.
+     *
+     * @param tasks List of {@code JukeTasks}
+     * @param indices Indices of the tasks whose completion status has changed
+     * @throws JukeStorageException If the segments could not be written for any reason
+     */
+    @Override
+    public synchronized void updateCompletion(List<JukeTask> tasks, int... indices) throws JukeStorageWriteException {
+        BitSet dirty = new BitSet();
+
+        for (int index : indices) {
+            dirty.set(this.findSegment(index));
+        }
+
+        this.save(tasks, new ArrayList<>(this.segmentCounts), dirty, "updateCompletion");
+    }
+
+    /**
+     * Saves only the segments which held the deleted tasks. Segments left without any tasks are removed, and
+     * segments left partly empty are merged with a neighbour when the tasks of both fit in one segment.
+     *
+     * @param tasks List of {@code JukeTasks}, with the tasks already removed
+     * @param indices Indices that the deleted tasks were at, in ascending order without duplicates
+     * @throws JukeStorageException If the segments could not be written for any reason
+     */
+    @Override
+    public synchronized void delete(List<JukeTask> tasks, int... indices) throws JukeStorageWriteException {
+        List<Integer> counts = new ArrayList<>(this.segmentCounts);
+        BitSet dirty = new BitSet();
+
+        for (int index : indices) {
+            int segment = this.findSegment(index);
+            counts.set(segment, counts.get(segment) - 1);
+            dirty.set(segment);
+        }
+
+        this.save(tasks, counts, dirty, "delete");
+    }
+
+    /**
+     * Rewrites the datafile from the segments if they have changed since it was last written, so that the
+     * other backends read the same tasks. The datafile is given the time of the manifest, which marks it as
+     * holding the same tasks as the segments.
+     *
+     * @throws JukeStorageException If the datafile could not be written for any reason
+     */
+    @Override
+    public synchronized void close() throws JukeStorageWriteException {
+        if (this.isDataFileCurrent) {
+            return;
+        }
+
+        Path filePath = this.getFilePath();
+        Path pendingPath = filePath.resolveSibling(filePath.getFileName() + SegmentedStorage.PENDING_FILE_SUFFIX);
+
+        try {
+            try (BufferedWriter bw = Files.newBufferedWriter(pendingPath)) {
+                for (String fileName : this.segmentFiles) {
+                    for (String line : Files.readAllLines(this.directory.resolve(fileName))) {
+                        if (!line.isBlank()) {
+                            bw.write(line);
+                            bw.newLine();
+                        }
+                    }
+                }
+            }
+
+            Files.move(pendingPath, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            Files.setLastModifiedTime(filePath, this.getManifestTime());
+        } catch (IOException ex) {
+            throw new JukeStorageWriteException("Oh no! I cannot save your data to the datafile!");
+        }
+
+        this.isDataFileCurrent = true;
+    }
+
+    /**
+     * Returns the time the datafile was last changed.
+     *
+     * @return Time the datafile was last changed
+     * @throws IOException if the time cannot be read
+     */
+    private FileTime getDataFileTime() throws IOException {
+        return Files.getLastModifiedTime(this.getFilePath());
+    }
+
+    /**
+     * Returns the time the manifest was last replaced.
+     *
+     * @return Time the manifest was last replaced
+     * @throws IOException if the time cannot be read
+     */
+    private FileTime getManifestTime() throws IOException {
+        return Files.getLastModifiedTime(this.directory.resolve(SegmentedStorage.MANIFEST_FILE_NAME));
+    }
+
+    /**
+     * Returns the segment which holds the task at the input index.
+     *
+     * @param index Index of the task, counted over the segments as they are saved
+     * @return Index of the segment
+     * @throws JukeStorageException If no segment holds the task
+     */
+    private int findSegment(int index) throws JukeStorageWriteException {
+        int end = 0;
+
+        for (int segment = 0; segment < this.segmentCounts.size(); segment++) {
+            end += this.segmentCounts.get(segment);
+
+            if (index < end) {
+                return segment;
+            }
+        }
+
+        throw new JukeStorageWriteException("Oh no! I cannot find where your task is saved!");
+    }
+
+    /**
+     * Saves the tasks of the dirty segments to new segment files, then replaces the manifest with one which
+     * lists the segments with their new number of tasks, dropping empty segments. A dirty segment is merged
+     * with its neighbour when the tasks of both fit in a single segment, so that deletions do not leave many
+     * small segments behind. Segments which are neither dirty nor merged keep their files.
+     *
+     * @param tasks List of {@code JukeTasks} after the change
+     * @param counts Number of tasks in each segment after the change, which may include new segments after
+     *     the existing ones
+     * @param dirty Segments whose tasks have changed, which must include every new segment
+     * @param operation Operation which saved the changes
+     * @throws JukeStorageException If the segments could not be written for any reason
+     */
+    private void save(List<JukeTask> tasks, List<Integer> counts, BitSet dirty,
+                      String operation) throws JukeStorageWriteException {
+        StorageWriteEvent event = new StorageWriteEvent();
+        event.begin();
+        List<String> files = new ArrayList<>();
+        List<Integer> keptCounts = new ArrayList<>();
+        BitSet rewritten = new BitSet();
+        List<String> replacedFiles = new ArrayList<>();
+
+        for (int segment = 0; segment < counts.size(); segment++) {
+            int count = counts.get(segment);
+            String oldFile = segment < this.segmentFiles.size() ? this.segmentFiles.get(segment) : null;
+            boolean isDirty = dirty.get(segment) || count == 0;
+            int last = keptCounts.size() - 1;
+
+            if (isDirty && oldFile != null) {
+                replacedFiles.add(oldFile);
+            }
+
+            if (count == 0) {
+                continue;
+            }
+
+            // a segment is only merged if it or its neighbour is rewritten anyway, to bound the cost of a change
+            if (last >= 0 && (isDirty || rewritten.get(last)) && keptCounts.get(last) + count <= this.segmentSize) {
+                if (!rewritten.get(last)) {
+                    replacedFiles.add(files.get(last));
+                    rewritten.set(last);
+                }
+
+                if (!isDirty) {
+                    replacedFiles.add(oldFile);
+                }
+
+                keptCounts.set(last, keptCounts.get(last) + count);
+            } else {
+                files.add(isDirty ? null : oldFile);
+                keptCounts.add(count);
+                rewritten.set(last + 1, isDirty);
+            }
+        }
+
+        // segments past the new last segment no longer hold any tasks
+        replacedFiles.addAll(this.segmentFiles.subList(Math.min(counts.size(), this.segmentFiles.size()),
+                                                       this.segmentFiles.size()));
+        long bytes = 0;
+        int start = 0;
+
+        try {
+            for (int segment = 0; segment < files.size(); segment++) {
+                int count = keptCounts.get(segment);
+
+                if (rewritten.get(segment)) {
+                    String newFile = this.nextSegmentFile();
+                    bytes += this.writeSegment(newFile, tasks.subList(start, start + count));
+                    files.set(segment, newFile);
+                }
+
+                start += count;
+            }
+
+            assert start == tasks.size();
+            this.writeManifest(files, keptCounts);
+        } catch (IOException ex) {
+            throw new JukeStorageWriteException("Oh no! I cannot save your data to the datafile!");
+        }
+
+        this.segmentFiles.clear();
+        this.segmentFiles.addAll(files);
+        this.segmentCounts.clear();
+        this.segmentCounts.addAll(keptCounts);
+        this.isDataFileCurrent = false;
+        this.deleteFiles(replacedFiles);
+        this.commitEvent(event, operation, bytes, tasks.size());
+    }
+
+    /**
+     * Returns the name of a new segment file, which is not used by any other segment file.
+     *
+     * @return Name of the new segment file
+     */
+    private String nextSegmentFile() {
+        return SegmentedStorage.SEGMENT_FILE_PREFIX + this.generation++ + SegmentedStorage.SEGMENT_FILE_SUFFIX;
+    }
+
+    /**
+     * Writes the tasks to a new segment file, ensuring that they have reached the device before returning.
+     *
+     * @param fileName Name of the new segment file
+     * @param tasks Tasks of the segment, in list order
+     * @return Number of bytes written
+     * @throws IOException if the segment file cannot be written
+     */
+    private long writeSegment(String fileName, List<JukeTask> tasks) throws IOException {
+        StringBuilder records = new StringBuilder();
+
+        for (JukeTask task : tasks) {
+            records.append(task.save()).append(System.lineSeparator());
+        }
+
+        ByteBuffer buffer = StandardCharsets.UTF_8.encode(records.toString());
+        long bytes = buffer.remaining();
+
+        try (FileChannel channel = FileChannel.open(this.directory.resolve(fileName), StandardOpenOption.CREATE_NEW,
+                                                    StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+
+            channel.force(true);
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Replaces the manifest with one listing the input segments. The new manifest is written in full before
+     * it atomically replaces the old manifest, and so the manifest is never seen partially written.
+     *
+     * @param files Names of the segment files, in list order
+     * @param counts Number of tasks in each segment, in list order
+     * @throws IOException if the manifest cannot be written or replaced
+     */
+    private void writeManifest(List<String> files, List<Integer> counts) throws IOException {
+        List<String> lines = new ArrayList<>(files.size());
+
+        for (int segment = 0; segment < files.size(); segment++) {
+            lines.add(files.get(segment) + SegmentedStorage.MANIFEST_SEPARATOR + counts.get(segment));
+        }
+
+        Path pendingManifest = this.directory.resolve(SegmentedStorage.PENDING_MANIFEST_FILE_NAME);
+        Files.write(pendingManifest, lines, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+        Files.move(pendingManifest, this.directory.resolve(SegmentedStorage.MANIFEST_FILE_NAME),
+                   StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Reads the manifest if there is one, then deletes any segment files which it does not list, as they were
+     * left behind by a change which did not complete. Files whose names do not end in a generation number
+     * are not segment files written by Juke, and are neither used to pick the next generation nor deleted.
+     *
+     * @return true if there is a manifest, else false
+     * @throws IOException if the manifest or segment directory cannot be read
+     */
+    private boolean loadManifest() throws IOException {
+        Path manifest = this.directory.resolve(SegmentedStorage.MANIFEST_FILE_NAME);
+        boolean hasManifest = Files.exists(manifest);
+        Set<String> listedFiles = new HashSet<>();
+
+        for (String line : hasManifest ? Files.readAllLines(manifest) : List.<String>of()) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            String[] entry = line.strip().split(SegmentedStorage.MANIFEST_SEPARATOR);
+
+            if (entry.length != 2 || !entry[1].matches("\\d+")) {
+                throw new IOException("Malformed manifest entry: " + line);
+            }
+
+            this.segmentFiles.add(entry[0]);
+            this.segmentCounts.add(Integer.parseInt(entry[1]));
+            listedFiles.add(entry[0]);
+        }
+
+        List<String> unlistedFiles = new ArrayList<>();
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.directory,
+                SegmentedStorage.SEGMENT_FILE_PREFIX + "*" + SegmentedStorage.SEGMENT_FILE_SUFFIX)) {
+            for (Path path : stream) {
+                String fileName = path.getFileName().toString();
+                String generationString = fileName.substring(SegmentedStorage.SEGMENT_FILE_PREFIX.length(),
+                        fileName.length() - SegmentedStorage.SEGMENT_FILE_SUFFIX.length());
+
+                // files not named by a generation were not written by Juke, and so are left alone
+                if (!generationString.matches("\\d{1,18}")) {
+                    continue;
+                }
+
+                this.generation = Math.max(this.generation, Long.parseLong(generationString) + 1);
+
+                if (!listedFiles.contains(fileName)) {
+                    unlistedFiles.add(fileName);
+                }
+            }
+        }
+
+        this.deleteFiles(unlistedFiles);
+        return hasManifest;
+    }
+
+    /**
+     * Passes every record of every segment, in list order, to the consumer, notifying the progress listener
+     * after each segment.
+     *
+     * @param consumer Consumer of the datafile representation of each task
+     * @return Number of bytes read
+     * @throws JukeStorageException If a segment could not be read
+     */
+    private long readSegments(Consumer<String> consumer) throws JukeStorageReadException {
+        long bytes = 0;
+
+        try {
+            for (int segment = 0; segment < this.segmentFiles.size(); segment++) {
+                Path path = this.directory.resolve(this.segmentFiles.get(segment));
+                bytes += Files.size(path);
+
+                for (String line : Files.readAllLines(path)) {
+                    if (!line.isBlank()) {
+                        consumer.accept(line);
+                    }
+                }
+
+                this.reportProgress(segment + 1, this.segmentFiles.size());
+            }
+        } catch (IOException ex) {
+            throw new JukeStorageReadException("Oh no! I am unable to understand the data stored "
+                                                       + "in the datafile!");
+        }
+
+        this.reportProgress(1, 1);
+        return bytes;
+    }
+
+    /**
+     * Deletes segment files which are no longer listed in the manifest. Files which cannot be deleted are
+     * left behind, to be deleted when the tasks are next opened.
+     *
+     * @param fileNames Names of the segment files to delete
+     */
+    private void deleteFiles(List<String> fileNames) {
+        for (String fileName : fileNames) {
+            try {
+                Files.deleteIfExists(this.directory.resolve(fileName));
+            } catch (IOException ex) {
+                // the file is no longer listed, and so leaving it behind does not affect the tasks
+            }
+        }
+    }
+}
@@ -8,33 +8,67 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
 
 import juke.commons.classes.JukeObject;
+import juke.commons.enums.StorageTypeEnum;
 import juke.commons.exceptions.JukeInitialisationException;
 import juke.commons.exceptions.storage.JukeStorageException;
 import juke.commons.exceptions.storage.JukeStorageReadException;
 import juke.commons.exceptions.storage.JukeStorageWriteException;
+import juke.commons.interfaces.StorageBackend;
 import juke.parsers.FileParser;
+import juke.statistics.events.StorageReadEvent;
+import juke.statistics.events.StorageWriteEvent;
+import juke.statistics.events.TaskParseBatch;
 import juke.tasks.JukeTask;
 
 /**
  * Manages the storage and retrieval of data from the data file. Internal runtime data is
  * handled by the TaskList object, and any read/writes to the device's memory is routed through
  * this class.
+ * <p>
+ * This is the text-file {@code StorageBackend}, which rewrites the whole datafile for every change. The
+ * other backends are created through {@code Storage.ofType} as well.
  */
-public class Storage extends JukeObject {
-    /** Path to the data directory. */
-    private static final Path DIRECTORY_PATH = Paths.get("./data");
+public class Storage extends JukeObject implements StorageBackend {
+    /** Path to the data file used when no other path is given. */
+    public static final Path DEFAULT_FILE_PATH = Paths.get("./data/tasks.txt");
+
+    /** System property which holds the backend to store the tasks in, such as "memory". */
+    public static final String STORAGE_PROPERTY = "juke.storage";
+
+    /** System property which holds the path to the datafile. */
+    public static final String DATA_PROPERTY = "juke.data";
+
+    /** Number of tasks read between each report of the progress of reading the datafile. */
+    protected static final int PROGRESS_INTERVAL = 1024;
 
     /** Path to the data file. */
-    private static final Path FILE_PATH = Paths.get("./data/tasks.txt");
+    private final Path filePath;
+
+    /** Listener notified of the fraction of the datafile that has been read. */
+    private DoubleConsumer progressListener;
+
+    /**
+     * Creates an instance of {@code Storage} which uses the default datafile. Prevents external
+     * instantiation through any methods other than {@code Storage.of()}.
+     */
+    protected Storage() {
+        this(Storage.DEFAULT_FILE_PATH);
+    }
 
     /**
-     * Creates an instance of {@code Storage}. Prevents external instantiation through
-     * any methods other than {@code Storage.of()}.
+     * Creates an instance of {@code Storage} which uses the input datafile. Prevents external
+     * instantiation through any methods other than {@code Storage.of()}.
+     *
+     * @param filePath Path to the datafile
      */
-    private Storage() {
+    protected Storage(Path filePath) {
         super();
+        this.filePath = filePath;
+        this.progressListener = progress -> {};
     }
 
     /**
@@ -46,10 +80,119 @@ public class Storage extends JukeObject {
      *     created or initialised
      */
     public static Storage of() throws JukeInitialisationException {
+        return Storage.of(Storage.DEFAULT_FILE_PATH);
+    }
+
+    /**
+     * Creates an instance of {@code Storage} which uses the input datafile, and the file
+     * and directories required if necessary.
+     *
+     * @param filePath Path to the datafile
+     * @return {@code Storage} instance that is fully instantiated
+     * @throws JukeInitialisationException if the directories or files cannot be
+     *     created or initialised
+     */
+    public static Storage of(Path filePath) throws JukeInitialisationException {
+        Storage.createDataFile(filePath);
+        return new Storage(filePath);
+    }
+
+    /**
+     * Creates the {@code StorageBackend} selected through the {@code juke.storage} system property, which
+     * uses the datafile at the {@code juke.data} system property, and the files and directories required
+     * if necessary.
+     *
+     * @return {@code StorageBackend} instance that is fully instantiated
+     * @throws JukeInitialisationException if the backend is not understood, or if the directories or
+     *     files cannot be created or initialised
+     */
+    public static StorageBackend ofConfigured() throws JukeInitialisationException {
+        return Storage.ofType(Storage.getConfiguredType(), Storage.getConfiguredFilePath());
+    }
+
+    /**
+     * Creates the {@code StorageBackend} of the input type, and the files and directories required if
+     * necessary.
+     *
+     * @param type Type of the backend
+     * @param filePath Path to the datafile, which is not used by backends that keep the tasks in memory
+     * @return {@code StorageBackend} instance that is fully instantiated
+     * @throws JukeInitialisationException if the directories or files cannot be
+     *     created or initialised
+     */
+    public static StorageBackend ofType(StorageTypeEnum type, Path filePath) throws JukeInitialisationException {
+        switch (type) {
+        case MAPPED:
+            return MappedStorage.of(filePath);
+        case SEGMENTED:
+            return SegmentedStorage.of(filePath);
+        case MEMORY:
+            return MemoryStorage.of();
+        default:
+            return Storage.of(filePath);
+        }
+    }
+
+    /**
+     * Returns the type of backend selected through the {@code juke.storage} system property. If it is not
+     * set, the memory-mapped backend is selected if the {@code juke.mapped} system property is set to true,
+     * and the text-file backend otherwise.
+     *
+     * @return Type of the backend
+     * @throws JukeInitialisationException if the backend is not understood
+     */
+    public static StorageTypeEnum getConfiguredType() throws JukeInitialisationException {
+        String type = System.getProperty(Storage.STORAGE_PROPERTY);
+
+        if (type == null) {
+            return Boolean.getBoolean(MappedStorage.MAPPED_PROPERTY) ? StorageTypeEnum.MAPPED : StorageTypeEnum.TEXT;
+        }
+
+        try {
+            return StorageTypeEnum.ofType(type);
+        } catch (IllegalArgumentException ex) {
+            throw new JukeInitialisationException("Oh no! I do not know how to store your tasks in " + type + "!");
+        }
+    }
+
+    /**
+     * Returns the path to the datafile held by the {@code juke.data} system property, or the default path
+     * if it is not set.
+     *
+     * @return Path to the datafile
+     */
+    public static Path getConfiguredFilePath() {
+        String filePath = System.getProperty(Storage.DATA_PROPERTY);
+        return filePath == null ? Storage.DEFAULT_FILE_PATH : Paths.get(filePath);
+    }
+
+    /**
+     * Returns the name of the input file without its extension, which names the other files kept next to
+     * a datafile.
+     *
+     * @param filePath Path to the file
+     * @return Name of the file without its extension
+     */
+    public static String getBaseName(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        return extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+    }
+
+    /**
+     * Creates the datafile and the directories containing it if necessary.
+     *
+     * @param filePath Path to the datafile
+     * @throws JukeInitialisationException if the directories or files cannot be
+     *     created or initialised
+     */
+    protected static void createDataFile(Path filePath) throws JukeInitialisationException {
+        Path directoryPath = filePath.toAbsolutePath().getParent();
+
         // if the directory does not exist, create the directory
-        if (!Files.exists(Storage.DIRECTORY_PATH)) {
+        if (!Files.exists(directoryPath)) {
             try {
-                Files.createDirectory(Storage.DIRECTORY_PATH);
+                Files.createDirectories(directoryPath);
             } catch (IOException ex) {
                 throw new JukeInitialisationException("Oh no! I am unable to create a directory to store your "
                                                               + "tasks! Please try again later!");
@@ -57,9 +200,9 @@ public class Storage extends JukeObject {
         }
 
         // if the dir exist but file doesn't, then just create the file
-        if (!Files.exists(Storage.FILE_PATH)) {
+        if (!Files.exists(filePath)) {
             try {
-                Files.createFile(Storage.FILE_PATH);
+                Files.createFile(filePath);
             } catch (IOException ex) {
                 throw new JukeInitialisationException("Oh no! I am unable to create a datafile to store your "
                                                               + "tasks! Please try again later!");
@@ -67,30 +210,168 @@ public class Storage extends JukeObject {
         }
 
         // the file and directory should exist if execution reaches here
-        assert Files.exists(Storage.FILE_PATH);
-        assert Files.exists(Storage.DIRECTORY_PATH);
+        assert Files.exists(filePath);
+        assert Files.exists(directoryPath);
+    }
 
-        return new Storage();
+    /**
+     * Writes the list of tasks into the input file, replacing its contents.
+     *
+     * @param filePath Path to the file to write
+     * @param tasks List of {@code JukeTasks} to write
+     * @throws IOException if the file could not be opened or written to
+     */
+    protected static void writeTasks(Path filePath, List<JukeTask> tasks) throws IOException {
+        try (BufferedWriter bw = Files.newBufferedWriter(filePath)) {
+            for (JukeTask t : tasks) {
+                bw.write(t.save());
+                bw.newLine();
+            }
+        }
+    }
+
+    /**
+     * Returns the path to the datafile.
+     *
+     * @return Path to the datafile
+     */
+    public Path getFilePath() {
+        return this.filePath;
     }
 
     /**
      * Returns a list of saved task after the datafile is parsed by the {@code FileParser}.
-     * Code is adapted from https://jsparrow.github.io/rules/use-files-buffered-reader.html#code-changes
-     * and https://www.baeldung.com/java-buffered-reader.
      *
      * @return List of {@code JukeTasks} retrieved
      * @throws JukeStorageException If the file could not be opened or processed for any reason
      */
+    @Override
     public List<JukeTask> read() throws JukeStorageReadException {
-        try (BufferedReader br = Files.newBufferedReader(Storage.FILE_PATH)) {
+        StorageReadEvent event = new StorageReadEvent();
+        event.begin();
+        List<JukeTask> tasks = new LinkedList<>();
+        TaskParseBatch batch = TaskParseBatch.of(Storage.PROGRESS_INTERVAL);
+
+        this.readLines(curr -> {
+            batch.begin();
+            tasks.add(FileParser.parseTask(curr));
+            batch.end();
+        });
+
+        batch.close();
+        this.commitEvent(event, this.filePath.toFile().length(), tasks.size());
+        return tasks;
+    }
+
+    /**
+     * Passes every saved task to the consumer in its datafile representation, without parsing it into
+     * a {@code JukeTask}. Only the task type and number of fields of each task are checked.
+     *
+     * @param consumer Consumer of the datafile representation of each task
+     * @throws JukeStorageException If the file could not be opened or processed for any reason
+     */
+    @Override
+    public void readRecords(Consumer<String> consumer) throws JukeStorageReadException {
+        StorageReadEvent event = new StorageReadEvent();
+        event.begin();
+
+        int taskCount = this.readLines(curr -> {
+            FileParser.checkTask(curr);
+            consumer.accept(curr);
+        });
+
+        this.commitEvent(event, this.filePath.toFile().length(), taskCount);
+    }
+
+    /**
+     * Sets the listener which is notified of the fraction of the datafile that has been read, from 0 to 1,
+     * while the datafile is being read.
+     *
+     * @param progressListener Listener of the progress of reading the datafile
+     */
+    @Override
+    public void setProgressListener(DoubleConsumer progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Notifies the progress listener of the progress of reading the datafile.
+     *
+     * @param done Amount of the datafile that has been read
+     * @param total Total amount of the datafile to read
+     */
+    protected void reportProgress(long done, long total) {
+        this.progressListener.accept(total == 0 ? 1.0d : (double) done / total);
+    }
+
+    /**
+     * Commits a {@code StorageReadEvent}, if it is enabled.
+     *
+     * @param event Event which began when the datafile started to be read
+     * @param bytes Size of the datafile
+     * @param taskCount Number of tasks read
+     */
+    protected void commitEvent(StorageReadEvent event, long bytes, int taskCount) {
+        if (event.shouldCommit()) {
+            event.setStorage(this.getClass().getSimpleName());
+            event.setBytes(bytes);
+            event.setTaskCount(taskCount);
+            event.commit();
+        }
+    }
+
+    /**
+     * Commits a {@code StorageWriteEvent}, if it is enabled.
+     *
+     * @param event Event which began when the changes started to be saved
+     * @param operation Operation which saved the changes
+     * @param bytes Number of bytes written to the datafile
+     * @param taskCount Number of tasks in the task list after the changes
+     */
+    protected void commitEvent(StorageWriteEvent event, String operation, long bytes, int taskCount) {
+        if (event.shouldCommit()) {
+            event.setStorage(this.getClass().getSimpleName());
+            event.setOperation(operation);
+            event.setBytes(bytes);
+            event.setTaskCount(taskCount);
+            event.commit();
+        }
+    }
+
+    /**
+     * Passes every line of the datafile which is not a deleted task to the consumer.
+     * Code is adapted from https://jsparrow.github.io/rules/use-files-buffered-reader.html#code-changes
+     * and https://www.baeldung.com/java-buffered-reader.
+     *
+     * @param consumer Consumer of each line of the datafile
+     * @return Number of lines passed to the consumer
+     * @throws JukeStorageException If the file could not be opened or processed for any reason
+     */
+    private int readLines(Consumer<String> consumer) throws JukeStorageReadException {
+        try (BufferedReader br = Files.newBufferedReader(this.filePath)) {
             String curr;
-            List<JukeTask> tasks = new LinkedList<>();
+            long size = Files.size(this.filePath);
+            long read = 0;
+            int lines = 0;
+            int consumed = 0;
 
             while ((curr = br.readLine()) != null) {
-                tasks.add(FileParser.parseTask(curr));
+                // deleted records may be left behind by MappedStorage until it is compacted
+                if (!FileParser.isTombstone(curr)) {
+                    consumer.accept(curr);
+                    consumed++;
+                }
+
+                // the length of the line only approximates the number of bytes read
+                read += curr.length() + 1;
+
+                if (++lines % Storage.PROGRESS_INTERVAL == 0) {
+                    this.reportProgress(Math.min(read, size), size);
+                }
             }
 
-            return tasks;
+            this.reportProgress(size, size);
+            return consumed;
         } catch (IOException ex) {
             throw new JukeStorageReadException("Oh no! I am unable to understand the data stored "
                                                        + "in the datafile!");
@@ -104,14 +385,17 @@ public class Storage extends JukeObject {
      * @param tasks List of {@code JukeTasks} to write
      * @throws JukeStorageException If the file could not be opened or written to for any reason
      */
+    @Override
     public void write(List<JukeTask> tasks) throws JukeStorageWriteException {
-        try (BufferedWriter bw = Files.newBufferedWriter(Storage.FILE_PATH)) {
-            for (JukeTask t : tasks) {
-                bw.write(t.save());
-                bw.newLine();
-            }
+        StorageWriteEvent event = new StorageWriteEvent();
+        event.begin();
+
+        try {
+            Storage.writeTasks(this.filePath, tasks);
         } catch (IOException ex) {
             throw new JukeStorageWriteException("Oh no! I cannot save your data to the datafile!");
         }
+
+        this.commitEvent(event, "write", this.filePath.toFile().length(), tasks.size());
     }
 }
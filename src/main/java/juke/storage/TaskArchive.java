@@ -0,0 +1,210 @@
+package juke.storage;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import juke.commons.TextUtils;
+import juke.commons.classes.JukeObject;
+import juke.commons.exceptions.storage.JukeStorageException;
+import juke.commons.exceptions.storage.JukeStorageReadException;
+import juke.commons.exceptions.storage.JukeStorageWriteException;
+import juke.parsers.FileParser;
+import juke.tasks.JukeDeadline;
+import juke.tasks.JukeEvent;
+import juke.tasks.JukeTask;
+
+/**
+ * Keeps completed tasks which have been moved out of the task list, so that they no longer need to be
+ * rewritten with the rest of the tasks. Archived tasks are only ever appended to the archive file, in the
+ * same representation as the datafile, and the archive file is only read when the archived tasks are
+ * first searched.
+ */
+public class TaskArchive extends JukeObject {
+    /**
+     * System property which sets how many days a completed task with a date is kept in the task list after
+     * its date, before it is archived. Archiving is off if the property is not set.
+     */
+    public static final String DAYS_PROPERTY = "juke.archive.days";
+
+    /** Value of the archive days which turns archiving off. */
+    public static final int ARCHIVING_OFF = -1;
+
+    /** Suffix of the archive file, which replaces the extension of its datafile. */
+    private static final String ARCHIVE_FILE_SUFFIX = ".archive.txt";
+
+    /** Path to the archive file, which is null if the archived tasks are only kept in memory. */
+    private final Path filePath;
+
+    /** Archived tasks, which is null until the archive file is first read. */
+    private List<JukeTask> archivedTasks;
+
+    /**
+     * Creates an instance of {@code TaskArchive}.
+     *
+     * @param filePath Path to the archive file, or null to keep the archived tasks in memory
+     * @param archivedTasks Archived tasks, or null if they are yet to be read from the archive file
+     */
+    private TaskArchive(Path filePath, List<JukeTask> archivedTasks) {
+        this.filePath = filePath;
+        this.archivedTasks = archivedTasks;
+    }
+
+    /**
+     * Creates an instance of {@code TaskArchive} which keeps the archived tasks in the input archive file.
+     * The archive file is created when the first task is archived.
+     *
+     * @param filePath Path to the archive file
+     * @return {@code TaskArchive} object
+     */
+    public static TaskArchive of(Path filePath) {
+        return new TaskArchive(filePath, null);
+    }
+
+    /**
+     * Creates an instance of {@code TaskArchive} which keeps the archived tasks in memory, and so loses them
+     * when Juke exits.
+     *
+     * @return {@code TaskArchive} object
+     */
+    public static TaskArchive ofMemory() {
+        return new TaskArchive(null, new ArrayList<>());
+    }
+
+    /**
+     * Returns the path to the archive file of the input datafile, which is kept next to the datafile.
+     *
+     * @param dataPath Path to the datafile
+     * @return Path to the archive file
+     */
+    public static Path getArchivePath(Path dataPath) {
+        return dataPath.resolveSibling(Storage.getBaseName(dataPath) + TaskArchive.ARCHIVE_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the archive days set through the {@code juke.archive.days} system property.
+     *
+     * @return Days a completed task is kept after its date, or {@code ARCHIVING_OFF} if it is not set
+     */
+    public static int getConfiguredDays() {
+        return Integer.getInteger(TaskArchive.DAYS_PROPERTY, TaskArchive.ARCHIVING_OFF);
+    }
+
+    /**
+     * Checks if a task may be archived. Only completed tasks are archived, and completed deadlines and
+     * events are only archived once their deadline or end date is before the cutoff. Todos have no date,
+     * and so are archived once completed.
+     *
+     * @param task Task to check
+     * @param cutoff Date and time before which the date of a task must be for it to be archived
+     * @return true if the task may be archived, else false
+     */
+    public static boolean isArchivable(JukeTask task, LocalDateTime cutoff) {
+        if (!task.isCompleted()) {
+            return false;
+        } else if (task instanceof JukeDeadline) {
+            return ((JukeDeadline) task).getDeadline().isBefore(cutoff);
+        } else if (task instanceof JukeEvent) {
+            return ((JukeEvent) task).getEndDate().isBefore(cutoff);
+        } else {
+            return true;
+        }
+    }
+
+    /**
+     * Appends tasks to the archive. The tasks have reached the archive file once this method returns.
+     *
+     * @param tasks Tasks to archive
+     * @throws JukeStorageException if the tasks cannot be written to the archive file
+     */
+    public synchronized void append(List<JukeTask> tasks) throws JukeStorageWriteException {
+        if (this.filePath != null) {
+            try (BufferedWriter bw = Files.newBufferedWriter(this.filePath, StandardOpenOption.CREATE,
+                                                             StandardOpenOption.APPEND, StandardOpenOption.SYNC)) {
+                for (JukeTask t : tasks) {
+                    bw.write(t.save());
+                    bw.newLine();
+                }
+            } catch (IOException ex) {
+                throw new JukeStorageWriteException("Oh no! I cannot save your completed tasks to the archive!");
+            }
+        }
+
+        if (this.archivedTasks != null) {
+            this.archivedTasks.addAll(tasks);
+        }
+    }
+
+    /**
+     * Finds all archived tasks that match the specified word, reading the archive file if it has not
+     * been read yet.
+     *
+     * @param word Word of interest
+     * @param isExact Whether the word must match the task description exactly, rather than ignoring case
+     *     and accents
+     * @return Archived tasks whose description matches the word, in the order they were archived
+     * @throws JukeStorageException if the archive file cannot be read
+     */
+    public synchronized List<JukeTask> findTask(String word, boolean isExact) throws JukeStorageReadException {
+        String foldedWord = TextUtils.fold(word);
+        return this.load()
+                   .stream()
+                   .filter(task -> isExact ? task.stringMatches(word) : task.keyMatches(foldedWord))
+                   .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of archived tasks, reading the archive file if it has not been read yet.
+     *
+     * @return Number of archived tasks
+     * @throws JukeStorageException if the archive file cannot be read
+     */
+    public synchronized int size() throws JukeStorageReadException {
+        return this.load().size();
+    }
+
+    /**
+     * Drops the archived tasks read from the archive file, which are read again when the archive is next
+     * searched. Archived tasks which are only kept in memory are kept.
+     */
+    public synchronized void close() {
+        if (this.filePath != null) {
+            this.archivedTasks = null;
+        }
+    }
+
+    /**
+     * Returns the archived tasks, reading them from the archive file if they have not been read yet.
+     *
+     * @return Archived tasks
+     * @throws JukeStorageException if the archive file cannot be read
+     */
+    private List<JukeTask> load() throws JukeStorageReadException {
+        if (this.archivedTasks != null) {
+            return this.archivedTasks;
+        }
+
+        List<JukeTask> tasks = new ArrayList<>();
+
+        if (Files.exists(this.filePath)) {
+            try {
+                for (String line : Files.readAllLines(this.filePath)) {
+                    if (!line.isBlank()) {
+                        tasks.add(FileParser.parseTask(line));
+                    }
+                }
+            } catch (IOException ex) {
+                throw new JukeStorageReadException("Oh no! I am unable to read the tasks in your archive!");
+            }
+        }
+
+        this.archivedTasks = tasks;
+        return tasks;
+    }
+}
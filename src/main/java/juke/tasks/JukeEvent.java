@@ -139,6 +139,15 @@ public class JukeEvent extends JukeTask implements TaskSortable<JukeTask> {
         }
     }
 
+    /**
+     * Returns the start date of this {@code JukeEvent} object.
+     *
+     * @return Start date of this {@code JukeEvent} object.
+     */
+    public LocalDateTime getStartDate() {
+        return this.startTime;
+    }
+
     /**
      * Returns the end date of this {@code JukeEvent} object.
      *
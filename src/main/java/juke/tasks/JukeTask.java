@@ -1,5 +1,6 @@
 package juke.tasks;
 
+import juke.commons.TextUtils;
 import juke.commons.classes.JukeObject;
 import juke.commons.enums.SortTypeEnum;
 import juke.commons.exceptions.JukeStateException;
@@ -20,6 +21,12 @@ public abstract class JukeTask extends JukeObject implements TaskSortable<JukeTa
     /** Task description. */
     private final String taskName;
 
+    /**
+     * Task description folded by {@code TextUtils.fold}, which searches that ignore case and accents compare
+     * against. It is the description itself if folding does not change it.
+     */
+    private final String searchKey;
+
     /** Boolean to check if the task is completed */
     private boolean isCompleted;
 
@@ -32,6 +39,7 @@ public abstract class JukeTask extends JukeObject implements TaskSortable<JukeTa
      */
     public JukeTask(String taskName) {
         this.taskName = taskName;
+        this.searchKey = TextUtils.fold(taskName);
         this.isCompleted = false;
     }
 
@@ -61,6 +69,34 @@ public abstract class JukeTask extends JukeObject implements TaskSortable<JukeTa
         }
     }
 
+    /**
+     * Returns the completion status of the task.
+     *
+     * @return true if the task is completed, else false
+     */
+    public boolean isCompleted() {
+        return this.isCompleted;
+    }
+
+    /**
+     * Returns the description of the task.
+     *
+     * @return Task description
+     */
+    public String getDescription() {
+        return this.taskName;
+    }
+
+    /**
+     * Returns the description of the task folded by {@code TextUtils.fold}, which is computed once when the
+     * task is created.
+     *
+     * @return Folded task description
+     */
+    public String getSearchKey() {
+        return this.searchKey;
+    }
+
     /**
      * Returns the String which represents this object when it is saved into the datafile.
      *
@@ -81,6 +117,17 @@ public abstract class JukeTask extends JukeObject implements TaskSortable<JukeTa
         return this.taskName.contains(word);
     }
 
+    /**
+     * Checks if the folded task description contains the folded word being queried, which ignores case and
+     * accents at the cost of an exact match, as the task description is folded in advance.
+     *
+     * @param foldedWord Keyword to check, already folded by {@code TextUtils.fold}
+     * @return true if the folded task description contains the keyword, false otherwise
+     */
+    public boolean keyMatches(String foldedWord) {
+        return this.searchKey.contains(foldedWord);
+    }
+
     /**
      * Converts the task object to its corresponding String representation.
      *
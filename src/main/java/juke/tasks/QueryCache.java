@@ -0,0 +1,172 @@
+package juke.tasks;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import juke.commons.classes.JukeObject;
+
+/**
+ * Least recently used cache of the results of read-only queries on a {@code TaskList}, keyed by the
+ * normalised query. Each result is tagged with the version of the task list it was computed against, which
+ * changes whenever tasks are added, removed or reordered, so such changes invalidate every result without
+ * touching the cache. Each result also keeps the positions of the tasks it depends on, so that a change to
+ * the completion status of some tasks only invalidates the results which depend on them.
+ *
+ * <p>Every invalidation advances the epoch of the cache, and a result is only cached if no invalidation
+ * happened since its query began, so a query which read the tasks before they changed cannot cache its
+ * result after the change has invalidated the results.</p>
+ */
+public class QueryCache extends JukeObject {
+    /** Number of results kept by default. */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    /** Cached results, keyed by the normalised query, in least recently used order. */
+    private final Map<String, CachedResult> entries;
+
+    /** Number of invalidations so far. */
+    private long epoch;
+
+    /** Number of queries answered from the cache. */
+    private long hits;
+
+    /** Number of queries which had to be run. */
+    private long misses;
+
+    /**
+     * Creates an instance of {@code QueryCache}.
+     *
+     * @param capacity Number of results kept
+     */
+    private QueryCache(int capacity) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+                return this.size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Creates an empty {@code QueryCache}.
+     *
+     * @param capacity Number of results kept
+     * @return {@code QueryCache} object
+     */
+    public static QueryCache of(int capacity) {
+        return new QueryCache(capacity);
+    }
+
+    /**
+     * Returns the cached result of a query, if it was computed against the current version of the task list.
+     *
+     * @param key Normalised query
+     * @param version Current version of the task list
+     * @param <T> Type of the result
+     * @return Cached result, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T> T get(String key, long version) {
+        CachedResult entry = this.entries.get(key);
+
+        if (entry != null && entry.version == version) {
+            this.hits++;
+            return (T) entry.result;
+        } else if (entry != null) {
+            this.entries.remove(key);
+        }
+
+        this.misses++;
+        return null;
+    }
+
+    /**
+     * Caches the result of a query, unless the results have been invalidated since the query began.
+     *
+     * @param key Normalised query
+     * @param version Version of the task list the result was computed against
+     * @param epoch Epoch of the cache when the query began
+     * @param result Result of the query, which must not be changed once cached
+     * @param positions Positions of the tasks the result depends on
+     */
+    public synchronized void put(String key, long version, long epoch, Object result, TaskBitmap positions) {
+        if (epoch == this.epoch) {
+            this.entries.put(key, new CachedResult(result, positions, version));
+        }
+    }
+
+    /**
+     * Invalidates the results which depend on any of the tasks at the input positions.
+     *
+     * @param positions Positions of the changed tasks
+     */
+    public synchronized void invalidate(int... positions) {
+        this.epoch++;
+        Iterator<CachedResult> iterator = this.entries.values().iterator();
+
+        while (iterator.hasNext()) {
+            CachedResult entry = iterator.next();
+
+            for (int position : positions) {
+                if (entry.positions.contains(position)) {
+                    iterator.remove();
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the epoch of the cache, which a query reads before it begins.
+     *
+     * @return Number of invalidations so far
+     */
+    public synchronized long getEpoch() {
+        return this.epoch;
+    }
+
+    /**
+     * Returns the number of queries answered from the cache.
+     *
+     * @return Number of hits
+     */
+    public synchronized long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Returns the number of queries which had to be run.
+     *
+     * @return Number of misses
+     */
+    public synchronized long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * Result of a query with the positions of the tasks it depends on.
+     */
+    private static final class CachedResult {
+        /** Result of the query. */
+        private final Object result;
+
+        /** Positions of the tasks the result depends on. */
+        private final TaskBitmap positions;
+
+        /** Version of the task list the result was computed against. */
+        private final long version;
+
+        /**
+         * Creates an instance of {@code CachedResult}.
+         *
+         * @param result Result of the query
+         * @param positions Positions of the tasks the result depends on
+         * @param version Version of the task list the result was computed against
+         */
+        private CachedResult(Object result, TaskBitmap positions, long version) {
+            this.result = result;
+            this.positions = positions;
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package juke.tasks;
+
+import juke.commons.classes.JukeObject;
+
+/**
+ * Task found by a ranked search, together with how well it matches the words searched for.
+ */
+public class ScoredTask extends JukeObject {
+    /** Task found. */
+    private final JukeTask task;
+
+    /** BM25 score of the task, after any boost. */
+    private final double score;
+
+    /**
+     * Creates an instance of {@code ScoredTask}.
+     *
+     * @param task Task found
+     * @param score Score of the task
+     */
+    private ScoredTask(JukeTask task, double score) {
+        this.task = task;
+        this.score = score;
+    }
+
+    /**
+     * Creates an instance of {@code ScoredTask}.
+     *
+     * @param task Task found
+     * @param score Score of the task
+     * @return {@code ScoredTask} object
+     */
+    public static ScoredTask of(JukeTask task, double score) {
+        return new ScoredTask(task, score);
+    }
+
+    /**
+     * Returns the task found.
+     *
+     * @return {@code JukeTask} found
+     */
+    public JukeTask getTask() {
+        return this.task;
+    }
+
+    /**
+     * Returns the score of the task, which is higher the better the task matches the words searched for.
+     *
+     * @return Score of the task
+     */
+    public double getScore() {
+        return this.score;
+    }
+}
@@ -0,0 +1,534 @@
+package juke.tasks;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import juke.commons.TextUtils;
+import juke.parsers.FileParser;
+
+/**
+ * Off-heap backing store for {@code JukeTask}s. Tasks are kept in a direct {@code ByteBuffer} in their
+ * datafile representation, and are only decoded back into {@code JukeTask} objects when accessed, so that
+ * the size of the heap does not grow with the number of tasks stored. A bounded number of recently
+ * decoded tasks are cached on the heap.
+ * <p>
+ * Each record is laid out as a 1-byte flag, followed by a 4-byte length and the UTF-8 bytes of the
+ * datafile line of the task. A separate off-heap slot table maps the position of a task in the list to the
+ * offset of its record. Deleted records are tombstoned and their space is reclaimed when the arena is
+ * compacted.
+ */
+public class TaskArena extends AbstractList<JukeTask> implements RandomAccess {
+    /** Initial number of bytes reserved for records. */
+    private static final int INITIAL_RECORD_CAPACITY = 4096;
+
+    /** Initial number of slots reserved in the slot table. */
+    private static final int INITIAL_SLOT_CAPACITY = 64;
+
+    /** Size of the header of each record, which contains the flag and the length of the record. */
+    private static final int RECORD_HEADER_SIZE = Byte.BYTES + Integer.BYTES;
+
+    /** Flag of a record which is still present in the list. */
+    private static final byte LIVE_RECORD = 0;
+
+    /** Flag of a record which has been deleted and is waiting to be compacted. */
+    private static final byte TOMBSTONE_RECORD = 1;
+
+    /** Maximum number of decoded tasks kept on the heap. */
+    private static final int DECODED_CACHE_CAPACITY = 256;
+
+    /** Recently decoded tasks, keyed by the offset of their record, in least recently used order. */
+    private final Map<Integer, JukeTask> decodedTasks;
+
+    /** Buffer containing all records, live or tombstoned. */
+    private ByteBuffer records;
+
+    /** Buffer containing the offsets of the live records, in list order. */
+    private ByteBuffer slots;
+
+    /** Number of live records in the arena. */
+    private int size;
+
+    /** Offset at which the next record will be written. */
+    private int writeOffset;
+
+    /** Number of bytes occupied by tombstoned records. */
+    private int deadBytes;
+
+    /**
+     * Creates an empty instance of {@code TaskArena}.
+     */
+    public TaskArena() {
+        this.records = ByteBuffer.allocateDirect(TaskArena.INITIAL_RECORD_CAPACITY);
+        this.slots = ByteBuffer.allocateDirect(TaskArena.INITIAL_SLOT_CAPACITY * Integer.BYTES);
+        this.size = 0;
+        this.writeOffset = 0;
+        this.deadBytes = 0;
+        // reading a task updates the cache, and so it is synchronised for concurrent readers
+        this.decodedTasks = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, JukeTask> eldest) {
+                return this.size() > TaskArena.DECODED_CACHE_CAPACITY;
+            }
+        });
+    }
+
+    /**
+     * Returns the task at the input index. The task is decoded from its record unless it was
+     * recently decoded, and changes made to the returned task are only guaranteed to be reflected in
+     * the arena after it is passed back through {@code set}.
+     *
+     * @param index Index of the task
+     * @return {@code JukeTask} at the index
+     */
+    @Override
+    public JukeTask get(int index) {
+        Objects.checkIndex(index, this.size);
+        return this.decode(this.getSlot(index));
+    }
+
+    /**
+     * Returns the number of tasks in the arena.
+     *
+     * @return Number of tasks
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Inserts a task at the input index. The task is appended to the end of the record buffer, and only
+     * the slot table is shifted to make space for it.
+     *
+     * @param index Index to insert the task at
+     * @param task {@code JukeTask} to insert
+     */
+    @Override
+    public void add(int index, JukeTask task) {
+        Objects.checkIndex(index, this.size + 1);
+        int offset = this.append(TaskArena.encode(task));
+        this.ensureSlotCapacity(this.size + 1);
+
+        for (int i = this.size; i > index; i--) {
+            this.setSlot(i, this.getSlot(i - 1));
+        }
+
+        this.setSlot(index, offset);
+        this.size++;
+        this.modCount++;
+    }
+
+    /**
+     * Replaces the task at the input index. If the new task takes up as many bytes as the task it replaces,
+     * as is the case when a task is marked or unmarked, the record is overwritten in place. Otherwise,
+     * the old record is tombstoned and the new record is appended.
+     *
+     * @param index Index of the task to replace
+     * @param task {@code JukeTask} to replace with
+     * @return {@code JukeTask} that was previously at the index
+     */
+    @Override
+    public JukeTask set(int index, JukeTask task) {
+        Objects.checkIndex(index, this.size);
+        int offset = this.getSlot(index);
+        JukeTask previous = this.decode(offset);
+        byte[] bytes = TaskArena.encode(task);
+
+        if (this.records.getInt(offset + Byte.BYTES) == bytes.length) {
+            this.write(offset + TaskArena.RECORD_HEADER_SIZE, bytes);
+            this.decodedTasks.put(offset, task);
+        } else {
+            // appending may compact the arena, which moves the old record, so it is tombstoned afterwards
+            int newOffset = this.append(bytes);
+            int oldOffset = this.getSlot(index);
+            this.setSlot(index, newOffset);
+            this.tombstone(oldOffset);
+            this.compactIfSparse();
+        }
+
+        return previous;
+    }
+
+    /**
+     * Removes the task at the input index. The record of the task is tombstoned rather than erased.
+     *
+     * @param index Index of the task to remove
+     * @return {@code JukeTask} that was removed
+     */
+    @Override
+    public JukeTask remove(int index) {
+        Objects.checkIndex(index, this.size);
+        int offset = this.getSlot(index);
+        JukeTask removed = this.decode(offset);
+        this.tombstone(offset);
+
+        for (int i = index; i < this.size - 1; i++) {
+            this.setSlot(i, this.getSlot(i + 1));
+        }
+
+        this.size--;
+        this.modCount++;
+        this.compactIfSparse();
+        return removed;
+    }
+
+    /**
+     * Removes the tasks at the input indices in a single sweep over the slot table. The records of the
+     * tasks are tombstoned rather than erased.
+     *
+     * @param indices Indices of the tasks to remove, in ascending order without duplicates
+     */
+    public void removeAll(int[] indices) {
+        int kept = 0;
+        int next = 0;
+
+        for (int i = 0; i < this.size; i++) {
+            if (next < indices.length && indices[next] == i) {
+                this.tombstone(this.getSlot(i));
+                next++;
+            } else {
+                this.setSlot(kept++, this.getSlot(i));
+            }
+        }
+
+        this.size = kept;
+        this.modCount++;
+        this.compactIfSparse();
+    }
+
+    /**
+     * Removes all tasks from the arena. Off-heap memory already reserved is kept for reuse.
+     */
+    @Override
+    public void clear() {
+        this.decodedTasks.clear();
+        this.size = 0;
+        this.writeOffset = 0;
+        this.deadBytes = 0;
+        this.modCount++;
+    }
+
+    /**
+     * Sorts the tasks in the arena. Only the slot table is reordered; records are not moved.
+     *
+     * @param comparator Comparator used to order the tasks
+     */
+    @Override
+    public void sort(Comparator<? super JukeTask> comparator) {
+        JukeTask[] decoded = new JukeTask[this.size];
+
+        for (int i = 0; i < this.size; i++) {
+            decoded[i] = this.decode(this.getSlot(i));
+        }
+
+        this.reorder((first, second) -> comparator.compare(decoded[first], decoded[second]));
+    }
+
+    /**
+     * Sorts the tasks in the arena by their task descriptions, which are read directly from the records
+     * without decoding the tasks.
+     *
+     * @param comparator Comparator used to order the task descriptions
+     */
+    public void sortByDescription(Comparator<String> comparator) {
+        String[] descriptions = new String[this.size];
+
+        for (int i = 0; i < this.size; i++) {
+            descriptions[i] = FileParser.parseDescription(this.readRecord(this.getSlot(i)));
+        }
+
+        this.reorder((first, second) -> comparator.compare(descriptions[first], descriptions[second]));
+    }
+
+    /**
+     * Reverses the order of the tasks in the arena. Only the slot table is reordered.
+     */
+    public void reverse() {
+        for (int i = 0, j = this.size - 1; i < j; i++, j--) {
+            int offset = this.getSlot(i);
+            this.setSlot(i, this.getSlot(j));
+            this.setSlot(j, offset);
+        }
+
+        this.modCount++;
+    }
+
+    /**
+     * Finds all tasks whose task description contains the input word exactly.
+     *
+     * @param word Word of interest
+     * @return {@code List} of {@code JukeTask} objects whose description contains the word
+     */
+    public List<JukeTask> findByDescription(String word) {
+        return this.findByDescription(word, true);
+    }
+
+    /**
+     * Finds all tasks whose task description contains the input word. Task descriptions are read directly
+     * from the records, and only the matching tasks are decoded. Unless an exact match is requested, each
+     * description is folded as it is read, as the records only hold the datafile representation of the
+     * tasks, which costs no more than reading it for descriptions in lower case ASCII.
+     *
+     * @param word Word of interest
+     * @param isExact Whether the word must match the task description exactly, rather than ignoring case
+     *     and accents
+     * @return {@code List} of {@code JukeTask} objects whose description contains the word
+     */
+    public List<JukeTask> findByDescription(String word, boolean isExact) {
+        List<JukeTask> matches = new LinkedList<>();
+        this.findPositions(word, isExact).forEach(position -> matches.add(this.decode(this.getSlot(position))));
+        return matches;
+    }
+
+    /**
+     * Finds the positions of all tasks whose task description contains the input word, reading the
+     * descriptions directly from the records without decoding any task.
+     *
+     * @param word Word of interest
+     * @param isExact Whether the word must match the task description exactly, rather than ignoring case
+     *     and accents
+     * @return {@code TaskBitmap} of the positions of the tasks whose description contains the word
+     */
+    public TaskBitmap findPositions(String word, boolean isExact) {
+        TaskBitmap positions = TaskBitmap.of();
+        String foldedWord = isExact ? word : TextUtils.fold(word);
+
+        for (int i = 0; i < this.size; i++) {
+            String description = FileParser.parseDescription(this.readRecord(this.getSlot(i)));
+
+            if ((isExact ? description : TextUtils.fold(description)).contains(foldedWord)) {
+                positions.add(i);
+            }
+        }
+
+        return positions;
+    }
+
+    /**
+     * Adds a task to the end of the arena from its datafile representation, without decoding it. The
+     * datafile representation is expected to have passed {@code FileParser.checkTask}.
+     *
+     * @param record Datafile representation of the task
+     */
+    public void addRecord(String record) {
+        int offset = this.append(record.getBytes(StandardCharsets.UTF_8));
+        this.ensureSlotCapacity(this.size + 1);
+        this.setSlot(this.size, offset);
+        this.size++;
+        this.modCount++;
+    }
+
+    /**
+     * Reclaims the space held by tombstoned records by copying the live records, in list order,
+     * into a fresh buffer.
+     */
+    public void compact() {
+        ByteBuffer compacted = ByteBuffer.allocateDirect(this.records.capacity());
+        int offset = 0;
+
+        for (int i = 0; i < this.size; i++) {
+            int recordOffset = this.getSlot(i);
+            int recordSize = TaskArena.RECORD_HEADER_SIZE + this.records.getInt(recordOffset + Byte.BYTES);
+            ByteBuffer record = this.records.duplicate();
+            record.position(recordOffset).limit(recordOffset + recordSize);
+            compacted.position(offset);
+            compacted.put(record);
+            this.setSlot(i, offset);
+            offset += recordSize;
+        }
+
+        this.records = compacted;
+        this.writeOffset = offset;
+        this.deadBytes = 0;
+        this.decodedTasks.clear();
+    }
+
+    /**
+     * Encodes a task into the bytes that are stored in its record.
+     *
+     * @param task {@code JukeTask} to encode
+     * @return UTF-8 bytes of the datafile representation of the task
+     */
+    private static byte[] encode(JukeTask task) {
+        return task.save().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decodes the record at the input offset back into a {@code JukeTask}, reusing the recently
+     * decoded task if there is one.
+     *
+     * @param offset Offset of the record
+     * @return Decoded {@code JukeTask}
+     */
+    private JukeTask decode(int offset) {
+        JukeTask task = this.decodedTasks.get(offset);
+
+        if (task == null) {
+            task = FileParser.parseTask(this.readRecord(offset));
+            this.decodedTasks.put(offset, task);
+        }
+
+        return task;
+    }
+
+    /**
+     * Returns the datafile representation stored in the record at the input offset.
+     *
+     * @param offset Offset of the record
+     * @return Datafile representation of the task
+     */
+    private String readRecord(int offset) {
+        byte[] bytes = new byte[this.records.getInt(offset + Byte.BYTES)];
+        ByteBuffer view = this.records.duplicate();
+        view.position(offset + TaskArena.RECORD_HEADER_SIZE);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reorders the slot table with a stable sort on the current positions of the tasks.
+     *
+     * @param comparator Comparator used to order the current positions of the tasks
+     */
+    private void reorder(Comparator<Integer> comparator) {
+        Integer[] order = new Integer[this.size];
+        int[] offsets = new int[this.size];
+
+        for (int i = 0; i < this.size; i++) {
+            offsets[i] = this.getSlot(i);
+            order[i] = i;
+        }
+
+        // sorting the boxed positions keeps the sort stable, like List.sort
+        Arrays.sort(order, comparator);
+
+        for (int i = 0; i < this.size; i++) {
+            this.setSlot(i, offsets[order[i]]);
+        }
+
+        this.modCount++;
+    }
+
+    /**
+     * Appends a new live record to the end of the record buffer.
+     *
+     * @param bytes Contents of the record
+     * @return Offset of the new record
+     */
+    private int append(byte[] bytes) {
+        this.ensureRecordCapacity(TaskArena.RECORD_HEADER_SIZE + bytes.length);
+        int offset = this.writeOffset;
+        this.records.put(offset, TaskArena.LIVE_RECORD);
+        this.records.putInt(offset + Byte.BYTES, bytes.length);
+        this.write(offset + TaskArena.RECORD_HEADER_SIZE, bytes);
+        this.writeOffset += TaskArena.RECORD_HEADER_SIZE + bytes.length;
+        return offset;
+    }
+
+    /**
+     * Writes the input bytes into the record buffer at the input offset.
+     *
+     * @param offset Offset to write at
+     * @param bytes Bytes to write
+     */
+    private void write(int offset, byte[] bytes) {
+        ByteBuffer view = this.records.duplicate();
+        view.position(offset);
+        view.put(bytes);
+    }
+
+    /**
+     * Marks the record at the input offset as deleted.
+     *
+     * @param offset Offset of the record
+     */
+    private void tombstone(int offset) {
+        this.decodedTasks.remove(offset);
+        this.records.put(offset, TaskArena.TOMBSTONE_RECORD);
+        this.deadBytes += TaskArena.RECORD_HEADER_SIZE + this.records.getInt(offset + Byte.BYTES);
+    }
+
+    /**
+     * Compacts the arena if more than half of the bytes written belong to tombstoned records.
+     */
+    private void compactIfSparse() {
+        if (this.deadBytes > this.writeOffset / 2) {
+            this.compact();
+        }
+    }
+
+    /**
+     * Ensures that the record buffer can fit the input number of additional bytes, compacting or
+     * growing the buffer if necessary.
+     *
+     * @param required Number of additional bytes required
+     */
+    private void ensureRecordCapacity(int required) {
+        if (this.writeOffset + required <= this.records.capacity()) {
+            return;
+        }
+
+        if (this.deadBytes > 0) {
+            this.compact();
+
+            if (this.writeOffset + required <= this.records.capacity()) {
+                return;
+            }
+        }
+
+        int capacity = Math.max(this.records.capacity() * 2, this.writeOffset + required);
+        ByteBuffer grown = ByteBuffer.allocateDirect(capacity);
+        ByteBuffer used = this.records.duplicate();
+        used.position(0).limit(this.writeOffset);
+        grown.put(used);
+        this.records = grown;
+    }
+
+    /**
+     * Ensures that the slot table can fit the input number of slots, growing it if necessary.
+     *
+     * @param required Number of slots required
+     */
+    private void ensureSlotCapacity(int required) {
+        if (required * Integer.BYTES <= this.slots.capacity()) {
+            return;
+        }
+
+        int capacity = Math.max(this.slots.capacity() * 2, required * Integer.BYTES);
+        ByteBuffer grown = ByteBuffer.allocateDirect(capacity);
+        ByteBuffer used = this.slots.duplicate();
+        used.position(0).limit(this.size * Integer.BYTES);
+        grown.put(used);
+        this.slots = grown;
+    }
+
+    /**
+     * Returns the offset of the record stored in the input slot.
+     *
+     * @param index Index of the slot
+     * @return Offset of the record
+     */
+    private int getSlot(int index) {
+        return this.slots.getInt(index * Integer.BYTES);
+    }
+
+    /**
+     * Stores the offset of a record in the input slot.
+     *
+     * @param index Index of the slot
+     * @param offset Offset of the record
+     */
+    private void setSlot(int index, int offset) {
+        this.slots.putInt(index * Integer.BYTES, offset);
+    }
+}
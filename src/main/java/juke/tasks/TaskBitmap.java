@@ -0,0 +1,692 @@
+package juke.tasks;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Compressed set of task positions, laid out in the style of a roaring bitmap. Positions are split into
+ * blocks of 65536 by their upper 16 bits, and each block is kept in a container of its own: a sorted array
+ * of the lower 16 bits while the block holds at most 4096 positions, and a 65536-bit bitset once it holds
+ * more. A sparse set of positions so takes 2 bytes a position, a dense set takes 1 bit a position, and the
+ * bitwise operations work one block at a time, skipping blocks which cannot contribute to the result.
+ *
+ * <p>The positions in a {@code TaskBitmap} are only changed by the {@code TaskIndex} which owns it. The
+ * bitmaps returned by the bitwise operations are new bitmaps which share nothing with their inputs.</p>
+ */
+public final class TaskBitmap {
+    /** Number of bits of a position kept within a container. */
+    private static final int BLOCK_BITS = 16;
+
+    /** Number of positions covered by each container. */
+    private static final int BLOCK_SIZE = 1 << TaskBitmap.BLOCK_BITS;
+
+    /** Largest number of positions kept in an array container, above which a bitset container is used. */
+    private static final int ARRAY_LIMIT = 4096;
+
+    /** Number of 64-bit words in a bitset container. */
+    private static final int BITSET_WORDS = TaskBitmap.BLOCK_SIZE / Long.SIZE;
+
+    /** Upper 16 bits of the positions in each container, in ascending order. */
+    private char[] keys;
+
+    /** Containers of the positions, in the same order as their keys. None of them are empty. */
+    private Container[] containers;
+
+    /** Number of containers in use. */
+    private int size;
+
+    /**
+     * Bitwise operations on two bitmaps.
+     */
+    private enum Operation {
+        /** Positions in both bitmaps. */
+        AND,
+
+        /** Positions in either bitmap. */
+        OR,
+
+        /** Positions in the first bitmap but not the second. */
+        AND_NOT
+    }
+
+    /**
+     * Creates an instance of {@code TaskBitmap} without any positions.
+     *
+     * @param capacity Number of containers to make room for
+     */
+    private TaskBitmap(int capacity) {
+        this.keys = new char[Math.max(1, capacity)];
+        this.containers = new Container[this.keys.length];
+    }
+
+    /**
+     * Creates an empty {@code TaskBitmap}.
+     *
+     * @return {@code TaskBitmap} object
+     */
+    public static TaskBitmap of() {
+        return new TaskBitmap(1);
+    }
+
+    /**
+     * Creates a {@code TaskBitmap} of every position from 0 up to, but not including, the input position.
+     *
+     * @param end Position after the last position in the bitmap
+     * @return {@code TaskBitmap} object
+     */
+    public static TaskBitmap ofRange(int end) {
+        TaskBitmap bitmap = new TaskBitmap(end / TaskBitmap.BLOCK_SIZE + 1);
+
+        for (int start = 0; start < end; start += TaskBitmap.BLOCK_SIZE) {
+            int count = Math.min(TaskBitmap.BLOCK_SIZE, end - start);
+            bitmap.append((char) (start >>> TaskBitmap.BLOCK_BITS), Container.ofRange(count));
+        }
+
+        return bitmap;
+    }
+
+    /**
+     * Adds a position to the bitmap. Adding positions in ascending order is the cheapest, as only the last
+     * container is ever searched.
+     *
+     * @param position Position to add, which is not negative
+     */
+    void add(int position) {
+        char key = (char) (position >>> TaskBitmap.BLOCK_BITS);
+        int index = this.find(key);
+
+        if (index < 0) {
+            index = -index - 1;
+            this.insert(index, key, Container.of());
+        }
+
+        this.containers[index].add((char) position);
+    }
+
+    /**
+     * Removes a position from the bitmap, without shifting the positions after it.
+     *
+     * @param position Position to remove
+     */
+    void remove(int position) {
+        int index = this.find((char) (position >>> TaskBitmap.BLOCK_BITS));
+
+        if (index < 0) {
+            return;
+        }
+
+        Container container = this.containers[index];
+        container.remove((char) position);
+
+        if (container.cardinality == 0) {
+            System.arraycopy(this.keys, index + 1, this.keys, index, this.size - index - 1);
+            System.arraycopy(this.containers, index + 1, this.containers, index, this.size - index - 1);
+            this.containers[--this.size] = null;
+        }
+    }
+
+    /**
+     * Returns a new bitmap without the input positions, where every position after a removed position is
+     * shifted down by one for each removed position before it. This follows the positions of the tasks
+     * when tasks are deleted from the task list.
+     *
+     * @param positions Positions to remove, in ascending order without duplicates
+     * @return {@code TaskBitmap} with the positions removed
+     */
+    TaskBitmap withRemoved(int[] positions) {
+        TaskBitmap bitmap = new TaskBitmap(this.size);
+        int[] next = new int[1];
+
+        this.forEach(position -> {
+            while (next[0] < positions.length && positions[next[0]] < position) {
+                next[0]++;
+            }
+
+            if (next[0] == positions.length || positions[next[0]] != position) {
+                bitmap.add(position - next[0]);
+            }
+        });
+
+        return bitmap;
+    }
+
+    /**
+     * Checks if the bitmap contains a position.
+     *
+     * @param position Position to check
+     * @return true if the position is in the bitmap, else false
+     */
+    public boolean contains(int position) {
+        int index = this.find((char) (position >>> TaskBitmap.BLOCK_BITS));
+        return position >= 0 && index >= 0 && this.containers[index].contains((char) position);
+    }
+
+    /**
+     * Returns the number of positions in the bitmap.
+     *
+     * @return Number of positions
+     */
+    public int cardinality() {
+        int cardinality = 0;
+
+        for (int i = 0; i < this.size; i++) {
+            cardinality += this.containers[i].cardinality;
+        }
+
+        return cardinality;
+    }
+
+    /**
+     * Checks if the bitmap has no positions.
+     *
+     * @return true if the bitmap is empty, else false
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Returns the positions in both this bitmap and the input bitmap.
+     *
+     * @param other Bitmap to intersect with
+     * @return New {@code TaskBitmap} of the intersection
+     */
+    public TaskBitmap and(TaskBitmap other) {
+        return this.combine(other, Operation.AND);
+    }
+
+    /**
+     * Returns the positions in either this bitmap or the input bitmap.
+     *
+     * @param other Bitmap to unite with
+     * @return New {@code TaskBitmap} of the union
+     */
+    public TaskBitmap or(TaskBitmap other) {
+        return this.combine(other, Operation.OR);
+    }
+
+    /**
+     * Returns the positions in this bitmap which are not in the input bitmap.
+     *
+     * @param other Bitmap of the positions to leave out
+     * @return New {@code TaskBitmap} of the difference
+     */
+    public TaskBitmap andNot(TaskBitmap other) {
+        return this.combine(other, Operation.AND_NOT);
+    }
+
+    /**
+     * Passes every position in the bitmap to the input consumer, in ascending order.
+     *
+     * @param consumer Consumer of the positions
+     */
+    public void forEach(IntConsumer consumer) {
+        for (int i = 0; i < this.size; i++) {
+            this.containers[i].forEach(this.keys[i] << TaskBitmap.BLOCK_BITS, consumer);
+        }
+    }
+
+    /**
+     * Returns the positions in the bitmap in ascending order.
+     *
+     * @return Array of positions
+     */
+    public int[] toArray() {
+        int[] positions = new int[this.cardinality()];
+        int offset = 0;
+
+        for (int i = 0; i < this.size; i++) {
+            offset = this.containers[i].copyTo(positions, offset, this.keys[i] << TaskBitmap.BLOCK_BITS);
+        }
+
+        return positions;
+    }
+
+    /**
+     * Combines this bitmap with another one container by container. Containers whose key is only in one
+     * of the bitmaps are copied or skipped without looking at their positions.
+     *
+     * @param other Bitmap to combine with
+     * @param operation Bitwise operation to combine the bitmaps with
+     * @return New {@code TaskBitmap} of the result
+     */
+    private TaskBitmap combine(TaskBitmap other, Operation operation) {
+        TaskBitmap result = new TaskBitmap(operation == Operation.OR ? this.size + other.size : this.size);
+        int i = 0;
+        int j = 0;
+
+        while (i < this.size || j < other.size) {
+            int thisKey = i < this.size ? this.keys[i] : Integer.MAX_VALUE;
+            int otherKey = j < other.size ? other.keys[j] : Integer.MAX_VALUE;
+
+            if (thisKey == otherKey) {
+                result.append((char) thisKey, Container.combine(this.containers[i], other.containers[j], operation));
+                i++;
+                j++;
+            } else if (thisKey < otherKey) {
+                if (operation != Operation.AND) {
+                    result.append((char) thisKey, this.containers[i].copy());
+                }
+
+                i++;
+            } else {
+                if (operation == Operation.OR) {
+                    result.append((char) otherKey, other.containers[j].copy());
+                }
+
+                j++;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Finds the container with the input key, looking at the last container first.
+     *
+     * @param key Upper 16 bits of a position
+     * @return Index of the container, or {@code -(insertion point) - 1} if there is no such container
+     */
+    private int find(char key) {
+        if (this.size > 0 && this.keys[this.size - 1] == key) {
+            return this.size - 1;
+        }
+
+        return Arrays.binarySearch(this.keys, 0, this.size, key);
+    }
+
+    /**
+     * Appends a container after every other container, unless it is empty.
+     *
+     * @param key Upper 16 bits of the positions in the container, which is above every other key
+     * @param container Container to append
+     */
+    private void append(char key, Container container) {
+        if (container.cardinality > 0) {
+            this.insert(this.size, key, container);
+        }
+    }
+
+    /**
+     * Inserts a container at the input index, growing the containers if needed.
+     *
+     * @param index Index to insert the container at
+     * @param key Upper 16 bits of the positions in the container
+     * @param container Container to insert
+     */
+    private void insert(int index, char key, Container container) {
+        if (this.size == this.keys.length) {
+            this.keys = Arrays.copyOf(this.keys, this.size * 2);
+            this.containers = Arrays.copyOf(this.containers, this.size * 2);
+        }
+
+        System.arraycopy(this.keys, index, this.keys, index + 1, this.size - index);
+        System.arraycopy(this.containers, index, this.containers, index + 1, this.size - index);
+        this.keys[index] = key;
+        this.containers[index] = container;
+        this.size++;
+    }
+
+    /**
+     * Positions of a single block of 65536 positions, kept either as a sorted array of their lower 16 bits,
+     * or as a bitset once there are too many of them for the array to be smaller.
+     */
+    private static final class Container {
+        /** Lower 16 bits of the positions in ascending order, or null if the positions are kept as a bitset. */
+        private char[] values;
+
+        /** Bitset of the positions, or null if the positions are kept as an array. */
+        private long[] words;
+
+        /** Number of positions in the container. */
+        private int cardinality;
+
+        /**
+         * Creates an instance of {@code Container}.
+         *
+         * @param values Sorted array of positions, or null for a bitset container
+         * @param words Bitset of positions, or null for an array container
+         * @param cardinality Number of positions in the container
+         */
+        private Container(char[] values, long[] words, int cardinality) {
+            this.values = values;
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        /**
+         * Creates an empty array container.
+         *
+         * @return {@code Container} object
+         */
+        private static Container of() {
+            return new Container(new char[4], null, 0);
+        }
+
+        /**
+         * Creates a container of the first positions of the block.
+         *
+         * @param count Number of positions, from the start of the block
+         * @return {@code Container} object
+         */
+        private static Container ofRange(int count) {
+            if (count <= TaskBitmap.ARRAY_LIMIT) {
+                char[] values = new char[count];
+
+                for (int i = 0; i < count; i++) {
+                    values[i] = (char) i;
+                }
+
+                return new Container(values, null, count);
+            }
+
+            long[] words = new long[TaskBitmap.BITSET_WORDS];
+            Arrays.fill(words, 0, count / Long.SIZE, -1L);
+
+            if (count % Long.SIZE != 0) {
+                words[count / Long.SIZE] = (1L << count) - 1;
+            }
+
+            return new Container(null, words, count);
+        }
+
+        /**
+         * Creates a container from a bitset, which is kept as an array if it has few enough positions.
+         *
+         * @param words Bitset of positions, which is owned by the container from then on
+         * @return {@code Container} object
+         */
+        private static Container ofWords(long[] words) {
+            int cardinality = 0;
+
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+
+            if (cardinality > TaskBitmap.ARRAY_LIMIT) {
+                return new Container(null, words, cardinality);
+            }
+
+            return new Container(Container.toValues(words, cardinality), null, cardinality);
+        }
+
+        /**
+         * Combines two containers with the same key. Array containers are filtered or merged directly, as
+         * that is cheaper than expanding them into bitsets.
+         *
+         * @param first First container
+         * @param second Second container
+         * @param operation Bitwise operation to combine the containers with
+         * @return New {@code Container} of the result, which may be empty
+         */
+        private static Container combine(Container first, Container second, Operation operation) {
+            if (operation == Operation.AND && first.values != null) {
+                return first.filter(second, true);
+            } else if (operation == Operation.AND && second.values != null) {
+                return second.filter(first, true);
+            } else if (operation == Operation.AND_NOT && first.values != null) {
+                return first.filter(second, false);
+            } else if (operation == Operation.OR && first.values != null && second.values != null
+                    && first.cardinality + second.cardinality <= TaskBitmap.ARRAY_LIMIT) {
+                return Container.merge(first, second);
+            }
+
+            long[] firstWords = first.toWords();
+            long[] secondWords = second.toWords();
+            long[] words = new long[TaskBitmap.BITSET_WORDS];
+
+            switch (operation) {
+            case AND:
+                for (int i = 0; i < words.length; i++) {
+                    words[i] = firstWords[i] & secondWords[i];
+                }
+                break;
+            case OR:
+                for (int i = 0; i < words.length; i++) {
+                    words[i] = firstWords[i] | secondWords[i];
+                }
+                break;
+            default:
+                for (int i = 0; i < words.length; i++) {
+                    words[i] = firstWords[i] & ~secondWords[i];
+                }
+                break;
+            }
+
+            return Container.ofWords(words);
+        }
+
+        /**
+         * Merges two array containers whose positions fit in a single array container.
+         *
+         * @param first First array container
+         * @param second Second array container
+         * @return New array {@code Container} of the positions in either container
+         */
+        private static Container merge(Container first, Container second) {
+            char[] values = new char[first.cardinality + second.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+
+            while (i < first.cardinality && j < second.cardinality) {
+                char firstValue = first.values[i];
+                char secondValue = second.values[j];
+
+                if (firstValue == secondValue) {
+                    values[count++] = firstValue;
+                    i++;
+                    j++;
+                } else if (firstValue < secondValue) {
+                    values[count++] = firstValue;
+                    i++;
+                } else {
+                    values[count++] = secondValue;
+                    j++;
+                }
+            }
+
+            while (i < first.cardinality) {
+                values[count++] = first.values[i++];
+            }
+
+            while (j < second.cardinality) {
+                values[count++] = second.values[j++];
+            }
+
+            return new Container(values, null, count);
+        }
+
+        /**
+         * Returns the positions of this array container which are, or are not, in another container.
+         *
+         * @param other Container to check the positions against
+         * @param isKept Whether positions in the other container are kept, rather than those not in it
+         * @return New array {@code Container} of the kept positions
+         */
+        private Container filter(Container other, boolean isKept) {
+            char[] kept = new char[this.cardinality];
+            int count = 0;
+
+            for (int i = 0; i < this.cardinality; i++) {
+                if (other.contains(this.values[i]) == isKept) {
+                    kept[count++] = this.values[i];
+                }
+            }
+
+            return new Container(kept, null, count);
+        }
+
+        /**
+         * Checks if the container contains a position.
+         *
+         * @param value Lower 16 bits of the position
+         * @return true if the position is in the container, else false
+         */
+        private boolean contains(char value) {
+            if (this.words != null) {
+                return (this.words[value >>> 6] & (1L << value)) != 0;
+            }
+
+            return Arrays.binarySearch(this.values, 0, this.cardinality, value) >= 0;
+        }
+
+        /**
+         * Adds a position to the container, turning it into a bitset container once the array is full.
+         *
+         * @param value Lower 16 bits of the position
+         */
+        private void add(char value) {
+            if (this.words != null) {
+                long bit = 1L << value;
+
+                if ((this.words[value >>> 6] & bit) == 0) {
+                    this.words[value >>> 6] |= bit;
+                    this.cardinality++;
+                }
+
+                return;
+            }
+
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, value);
+
+            if (index >= 0) {
+                return;
+            } else if (this.cardinality == TaskBitmap.ARRAY_LIMIT) {
+                this.words = this.toWords();
+                this.values = null;
+                this.add(value);
+                return;
+            }
+
+            index = -index - 1;
+
+            if (this.cardinality == this.values.length) {
+                this.values = Arrays.copyOf(this.values, Math.min(TaskBitmap.ARRAY_LIMIT, this.cardinality * 2));
+            }
+
+            System.arraycopy(this.values, index, this.values, index + 1, this.cardinality - index);
+            this.values[index] = value;
+            this.cardinality++;
+        }
+
+        /**
+         * Removes a position from the container, turning it back into an array container once it fits.
+         *
+         * @param value Lower 16 bits of the position
+         */
+        private void remove(char value) {
+            if (this.words != null) {
+                long bit = 1L << value;
+
+                if ((this.words[value >>> 6] & bit) != 0) {
+                    this.words[value >>> 6] &= ~bit;
+                    this.cardinality--;
+                }
+
+                if (this.cardinality <= TaskBitmap.ARRAY_LIMIT) {
+                    this.values = Container.toValues(this.words, this.cardinality);
+                    this.words = null;
+                }
+
+                return;
+            }
+
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, value);
+
+            if (index >= 0) {
+                System.arraycopy(this.values, index + 1, this.values, index, this.cardinality - index - 1);
+                this.cardinality--;
+            }
+        }
+
+        /**
+         * Returns a copy of the container, which shares nothing with it.
+         *
+         * @return Copy of the container
+         */
+        private Container copy() {
+            if (this.words != null) {
+                return new Container(null, this.words.clone(), this.cardinality);
+            }
+
+            return new Container(Arrays.copyOf(this.values, this.cardinality), null, this.cardinality);
+        }
+
+        /**
+         * Returns the positions of the container as a bitset. The bitset of a bitset container is returned
+         * as it is, and so must not be changed.
+         *
+         * @return Bitset of the positions
+         */
+        private long[] toWords() {
+            if (this.words != null) {
+                return this.words;
+            }
+
+            long[] bitset = new long[TaskBitmap.BITSET_WORDS];
+
+            for (int i = 0; i < this.cardinality; i++) {
+                bitset[this.values[i] >>> 6] |= 1L << this.values[i];
+            }
+
+            return bitset;
+        }
+
+        /**
+         * Returns the positions in a bitset as a sorted array.
+         *
+         * @param words Bitset of positions
+         * @param cardinality Number of positions in the bitset
+         * @return Sorted array of the positions
+         */
+        private static char[] toValues(long[] words, int cardinality) {
+            char[] values = new char[Math.max(4, cardinality)];
+            int count = 0;
+
+            for (int i = 0; i < words.length; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    values[count++] = (char) (i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                }
+            }
+
+            return values;
+        }
+
+        /**
+         * Passes every position in the container to the input consumer, in ascending order.
+         *
+         * @param base Upper bits of the positions in the container
+         * @param consumer Consumer of the positions
+         */
+        private void forEach(int base, IntConsumer consumer) {
+            if (this.words == null) {
+                for (int i = 0; i < this.cardinality; i++) {
+                    consumer.accept(base | this.values[i]);
+                }
+
+                return;
+            }
+
+            for (int i = 0; i < this.words.length; i++) {
+                for (long word = this.words[i]; word != 0; word &= word - 1) {
+                    consumer.accept(base | (i * Long.SIZE + Long.numberOfTrailingZeros(word)));
+                }
+            }
+        }
+
+        /**
+         * Copies the positions in the container into an array, in ascending order.
+         *
+         * @param positions Array to copy the positions into
+         * @param offset Index of the array to copy the first position to
+         * @param base Upper bits of the positions in the container
+         * @return Index of the array after the last position copied
+         */
+        private int copyTo(int[] positions, int offset, int base) {
+            int[] next = {offset};
+            this.forEach(base, position -> positions[next[0]++] = position);
+            return next[0];
+        }
+    }
+}
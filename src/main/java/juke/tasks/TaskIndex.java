@@ -0,0 +1,208 @@
+package juke.tasks;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import juke.commons.classes.JukeObject;
+import juke.commons.enums.TaskTypeEnum;
+
+/**
+ * Bitmap indexes over the positions of the tasks in a {@code TaskList}, one for the completed tasks and one
+ * for each type of task. Queries on completion status and task type are answered by combining the bitmaps
+ * with bitwise operations, without looking at the tasks themselves. The words of the task descriptions are
+ * indexed in a {@code TaskVocabulary}, for searches which tolerate typos.
+ *
+ * <p>The index is changed by its {@code TaskList} under the write lock, alongside the change to the tasks,
+ * and is only read under the lock of the {@code TaskList}. The bitmaps it returns must not be kept once
+ * the lock is released.</p>
+ */
+public class TaskIndex extends JukeObject {
+    /** Factor which the score of an incomplete task is multiplied by in a boosted ranked search. */
+    public static final double INCOMPLETE_BOOST = 1.5;
+
+    /** Factor which the score of a deadline due soon is multiplied by in a boosted ranked search. */
+    public static final double DUE_SOON_BOOST = 1.5;
+
+    /** Largest factor which the score of a task is multiplied by in a boosted ranked search. */
+    public static final double MAX_BOOST = TaskIndex.INCOMPLETE_BOOST * TaskIndex.DUE_SOON_BOOST;
+
+    /** Number of days before its deadline, or any time after it, in which an incomplete deadline is due soon. */
+    private static final long DUE_SOON_DAYS = 7;
+
+    /** Positions of the completed tasks. */
+    private TaskBitmap completed;
+
+    /** Positions of the tasks of each type. */
+    private final Map<TaskTypeEnum, TaskBitmap> types;
+
+    /** Words of the task descriptions. */
+    private final TaskVocabulary vocabulary;
+
+    /** Number of tasks indexed. */
+    private int size;
+
+    /**
+     * Creates an instance of {@code TaskIndex} without any tasks.
+     */
+    private TaskIndex() {
+        this.completed = TaskBitmap.of();
+        this.types = new EnumMap<>(TaskTypeEnum.class);
+        this.vocabulary = TaskVocabulary.of();
+
+        for (TaskTypeEnum type : TaskTypeEnum.values()) {
+            this.types.put(type, TaskBitmap.of());
+        }
+    }
+
+    /**
+     * Creates an instance of {@code TaskIndex} over the input tasks.
+     *
+     * @param tasks Tasks to index, in the order of the task list
+     * @return {@code TaskIndex} object
+     */
+    public static TaskIndex of(List<JukeTask> tasks) {
+        TaskIndex index = new TaskIndex();
+        tasks.forEach(index::add);
+        return index;
+    }
+
+    /**
+     * Returns the type of a task.
+     *
+     * @param task Task to check
+     * @return {@code TaskTypeEnum} of the task
+     */
+    public static TaskTypeEnum typeOf(JukeTask task) {
+        if (task instanceof JukeDeadline) {
+            return TaskTypeEnum.DEADLINE;
+        } else if (task instanceof JukeEvent) {
+            return TaskTypeEnum.EVENT;
+        } else {
+            return TaskTypeEnum.TODO;
+        }
+    }
+
+    /**
+     * Indexes a task added after every other task.
+     *
+     * @param task Task added
+     */
+    void add(JukeTask task) {
+        if (task.isCompleted()) {
+            this.completed.add(this.size);
+        }
+
+        this.types.get(TaskIndex.typeOf(task)).add(this.size);
+        this.vocabulary.add(this.size, task);
+        this.size++;
+    }
+
+    /**
+     * Changes the completion status of an indexed task.
+     *
+     * @param position Position of the task
+     * @param isCompleted Completion status of the task
+     */
+    void setCompleted(int position, boolean isCompleted) {
+        if (isCompleted) {
+            this.completed.add(position);
+        } else {
+            this.completed.remove(position);
+        }
+    }
+
+    /**
+     * Removes deleted tasks from the index, shifting the positions of the tasks after them.
+     *
+     * @param positions Positions of the deleted tasks, in ascending order without duplicates
+     */
+    void removeAll(int[] positions) {
+        this.completed = this.completed.withRemoved(positions);
+        this.types.replaceAll((type, bitmap) -> bitmap.withRemoved(positions));
+        this.vocabulary.removeAll(positions);
+        this.size -= positions.length;
+    }
+
+    /**
+     * Returns the positions of every task.
+     *
+     * @return New {@code TaskBitmap} of every position
+     */
+    public TaskBitmap getAll() {
+        return TaskBitmap.ofRange(this.size);
+    }
+
+    /**
+     * Returns the positions of the completed tasks.
+     *
+     * @return {@code TaskBitmap} of the completed tasks, which must not be kept
+     */
+    public TaskBitmap getCompleted() {
+        return this.completed;
+    }
+
+    /**
+     * Returns the positions of the tasks which are not completed.
+     *
+     * @return New {@code TaskBitmap} of the incomplete tasks
+     */
+    public TaskBitmap getIncomplete() {
+        return this.getAll().andNot(this.completed);
+    }
+
+    /**
+     * Returns the positions of the tasks of a type.
+     *
+     * @param type Type of task
+     * @return {@code TaskBitmap} of the tasks of the type, which must not be kept
+     */
+    public TaskBitmap getType(TaskTypeEnum type) {
+        return this.types.get(type);
+    }
+
+    /**
+     * Returns the words of the task descriptions.
+     *
+     * @return {@code TaskVocabulary} of the tasks, which must not be kept
+     */
+    public TaskVocabulary getVocabulary() {
+        return this.vocabulary;
+    }
+
+    /**
+     * Returns the factor which the score of a task is multiplied by in a boosted ranked search. Incomplete
+     * tasks are boosted, and incomplete deadlines which are overdue or due within a week are boosted again.
+     * Only deadlines are read, as the rest is answered by the bitmaps.
+     *
+     * @param position Position of the task
+     * @param tasks Tasks of the task list
+     * @param now Current date and time
+     * @return Factor from 1 to {@code MAX_BOOST}
+     */
+    public double getBoost(int position, List<JukeTask> tasks, LocalDateTime now) {
+        if (this.completed.contains(position)) {
+            return 1;
+        }
+
+        if (this.getType(TaskTypeEnum.DEADLINE).contains(position)) {
+            LocalDateTime deadline = ((JukeDeadline) tasks.get(position)).getDeadline();
+
+            if (deadline.isBefore(now.plusDays(TaskIndex.DUE_SOON_DAYS))) {
+                return TaskIndex.MAX_BOOST;
+            }
+        }
+
+        return TaskIndex.INCOMPLETE_BOOST;
+    }
+
+    /**
+     * Returns the number of tasks indexed.
+     *
+     * @return Number of tasks
+     */
+    public int size() {
+        return this.size;
+    }
+}
@@ -1,22 +1,56 @@
 package juke.tasks;
 
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
-import java.util.LinkedList;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import juke.commons.TextUtils;
 import juke.commons.classes.JukeObject;
 import juke.commons.enums.SortOrderEnum;
 import juke.commons.enums.SortTypeEnum;
 import juke.commons.exceptions.JukeStateException;
 import juke.commons.exceptions.arguments.JukeIllegalArgumentException;
 import juke.commons.exceptions.storage.JukeStorageException;
-import juke.storage.Storage;
+import juke.commons.interfaces.StorageBackend;
+import juke.parsers.FileParser;
+import juke.statistics.CommandStatistics;
+import juke.statistics.events.TaskFindEvent;
+import juke.statistics.events.TaskSortEvent;
+import juke.storage.TaskArchive;
 
 /**
  * Manages all {@code JukeTask}s. This class handles the addition/deletion/manipulation of
  * any {@code JukeTask}s that are created by the user.
+ *
+ * <p>A {@code TaskList} may be read from several threads while another thread changes it. Changes
+ * are made one at a time under a write lock. Tasks kept on-heap are published as an immutable version
+ * after every change, which readers read without locking, while tasks kept off-heap are read under a
+ * read lock.</p>
  */
 public class TaskList extends JukeObject {
+    /** System property which, when set to true, keeps the tasks in an off-heap {@code TaskArena}. */
+    public static final String OFF_HEAP_PROPERTY = "juke.offheap";
+
+    /**
+     * System property which, when set to true, keeps the tasks in an off-heap {@code TaskArena}
+     * and only parses each task when it is first accessed.
+     */
+    public static final String LAZY_PROPERTY = "juke.lazy";
+
     /** Header for {@code TaskList} String representation. */
     private static final String TASK_LIST_HEADER = "Here's your list of tasks:\n\n";
 
@@ -24,32 +58,129 @@ public class TaskList extends JukeObject {
     private static final String NO_TASKS_PRESENT_STRING = "No Tasks Present!";
 
     /** List of JukeTasks under this {@code TaskList}'s control. */
-    private final LinkedList<JukeTask> tasks;
+    private final List<JukeTask> tasks;
 
     /**
-     * {@code Storage} instance in charge of storing, retrieving and modifying data.
+     * {@code StorageBackend} instance in charge of storing, retrieving and modifying data.
      */
-    private final Storage storage;
+    private final StorageBackend storage;
 
     /**
-     * Creates an instance of {@code TaskList} with all tasks loaded from the datafile.
+     * Actions which undo the changes made since the current batch began, with the most recent change first.
+     * This is null when no batch is in progress.
+     */
+    private Deque<Runnable> undoLog;
+
+    /** Version of the tasks when the current batch began, if the tasks are kept as versions. */
+    private TaskVector batchVersion;
+
+    /** Indices of the tasks whose completion status has changed during the current batch. */
+    private BitSet batchCompletions;
+
+    /** Whether tasks have been added, deleted or reordered during the current batch. */
+    private boolean isBatchRestructured;
+
+    /** Time spent saving changes to the datafile since it was last taken, in nanoseconds. */
+    private long persistTime;
+
+    /** Lock which serialises changes to the tasks, and which guards reads of tasks kept off-heap. */
+    private final StampedLock lock = new StampedLock();
+
+    /** Lock which guards the number of threads waiting to change the tasks. */
+    private final ReentrantLock writerGate = new ReentrantLock();
+
+    /** Condition which readers wait on until no thread is waiting to change the tasks. */
+    private final Condition noPendingWriters = this.writerGate.newCondition();
+
+    /** Number of threads waiting to change the tasks, which readers give way to. */
+    private int pendingWriters;
+
+    /** Archive which old completed tasks are moved to, which is null if the tasks are not archived. */
+    private volatile TaskArchive archive;
+
+    /**
+     * Bitmap index of the tasks, which is null until the tasks are first queried, and again once the tasks
+     * are changed in a way the index does not follow.
+     */
+    private TaskIndex index;
+
+    /** Statistics which the lookups in the query cache are recorded in, which is null if they are not recorded. */
+    private volatile CommandStatistics statistics;
+
+    /** Cache of the results of read-only queries, and of the last sort of the tasks. */
+    private final QueryCache cache = QueryCache.of(QueryCache.DEFAULT_CAPACITY);
+
+    /**
+     * Version of the tasks, which changes once tasks have been added, removed or reordered, and which tags
+     * the cached results with the tasks they were computed against.
+     */
+    private volatile long version;
+
+    /**
+     * Creates an instance of {@code TaskList} with the tasks already loaded from the datafile.
      *
      * @param storage The storage object that manages any I/O operations on the datafile
-     * @throws JukeStorageException if there is are any issues with retrieving data from the datafile
+     * @param tasks List of tasks loaded from the datafile, which is used as the backing store of the tasks
      */
-    private TaskList(Storage storage) {
+    private TaskList(StorageBackend storage, List<JukeTask> tasks) {
         this.storage = storage;
-        this.tasks = new LinkedList<>(storage.read());
+        this.tasks = tasks;
     }
 
     /**
-     * Creates an instance of {@code TaskList} from existing tasks.
+     * Creates an instance of {@code TaskList} from existing tasks, where the tasks are kept as immutable
+     * versions which can be read without locking.
      *
      * @return {@code TaskList} object
      * @throws JukeStorageException if there is are any issues with retrieving data from the datafile
      */
-    public static TaskList of(Storage storageManager) {
-        return new TaskList(storageManager);
+    public static TaskList of(StorageBackend storageManager) {
+        return new TaskList(storageManager, TaskVersions.of(storageManager.read()));
+    }
+
+    /**
+     * Creates an instance of {@code TaskList} from existing tasks, where the tasks are kept off-heap
+     * in a {@code TaskArena} instead of as {@code JukeTask} objects.
+     *
+     * @return {@code TaskList} object
+     * @throws JukeStorageException if there is are any issues with retrieving data from the datafile
+     */
+    public static TaskList ofArena(StorageBackend storageManager) {
+        TaskArena arena = new TaskArena();
+        arena.addAll(storageManager.read());
+        return new TaskList(storageManager, arena);
+    }
+
+    /**
+     * Creates an instance of {@code TaskList} from existing tasks, where the tasks are kept off-heap
+     * in a {@code TaskArena} and are only parsed when they are first accessed. Only the task type and
+     * number of fields of each task are checked when loading, and so errors in the rest of the
+     * datafile are only reported when the affected task is accessed.
+     *
+     * @return {@code TaskList} object
+     * @throws JukeStorageException if there is are any issues with retrieving data from the datafile
+     */
+    public static TaskList ofLazy(StorageBackend storageManager) {
+        TaskArena arena = new TaskArena();
+        storageManager.readRecords(arena::addRecord);
+        return new TaskList(storageManager, arena);
+    }
+
+    /**
+     * Creates an instance of {@code TaskList} from existing tasks, with the backing store selected through
+     * the {@code juke.lazy} and {@code juke.offheap} system properties.
+     *
+     * @return {@code TaskList} object
+     * @throws JukeStorageException if there is are any issues with retrieving data from the datafile
+     */
+    public static TaskList ofConfigured(StorageBackend storageManager) {
+        if (Boolean.getBoolean(TaskList.LAZY_PROPERTY)) {
+            return TaskList.ofLazy(storageManager);
+        } else if (Boolean.getBoolean(TaskList.OFF_HEAP_PROPERTY)) {
+            return TaskList.ofArena(storageManager);
+        } else {
+            return TaskList.of(storageManager);
+        }
     }
 
     /**
@@ -59,67 +190,739 @@ public class TaskList extends JukeObject {
      * @throws JukeStorageException if there is are any issues with retrieving data from the datafile
      */
     public void addTask(JukeTask task) {
-        int lengthOfTasks = this.tasks.size();
+        long stamp = this.writeLock();
+
+        try {
+            int lengthOfTasks = this.tasks.size();
 
-        if (this.tasks.add(task)) {
-            assert this.tasks.size() == lengthOfTasks + 1;
-            this.storage.write(this.tasks);
+            if (this.tasks.add(task)) {
+                assert this.tasks.size() == lengthOfTasks + 1;
+
+                if (this.index != null) {
+                    this.index.add(task);
+                }
+
+                this.version++;
+
+                if (this.isBatching()) {
+                    this.recordUndo(() -> this.tasks.remove(lengthOfTasks));
+                    this.isBatchRestructured = true;
+                } else {
+                    this.persist(() -> this.storage.append(this.tasks));
+                }
+            }
+        } finally {
+            this.lock.unlockWrite(stamp);
         }
     }
 
     /**
-     * Deletes a task by index from the task list.
+     * Deletes tasks by index from the task list. All tasks are removed in a single pass over the
+     * task list, and the changes are saved once.
      *
-     * @param task Index of {@code JukeTask} object
+     * @param tasks Indices of {@code JukeTask} objects, in ascending order without duplicates
      * @throws JukeIllegalArgumentException if the input argument is invalid
      * @throws JukeStorageException if there is are any issues with retrieving data from the datafile
      */
-    public void deleteTask(int task) {
+    public void deleteTask(int... tasks) {
+        long stamp = this.writeLock();
+
         try {
-            JukeTask taskToDelete = this.tasks.get(task);
+            for (int task : tasks) {
+                if (task < 0 || task >= this.tasks.size()) {
+                    throw new JukeIllegalArgumentException("Oh no! The task index you have provided is not valid!");
+                }
+            }
+
+            if (tasks.length == 0) {
+                return;
+            }
+
             int lengthOfTasks = this.tasks.size();
 
-            if (this.tasks.remove(taskToDelete)) {
-                assert this.tasks.size() == lengthOfTasks - 1;
-                this.storage.write(this.tasks);
+            if (this.isBatching()) {
+                List<JukeTask> removedTasks = new ArrayList<>(tasks.length);
+
+                for (int task : tasks) {
+                    removedTasks.add(this.tasks.get(task));
+                }
+
+                this.recordUndo(() -> {
+                    // reinserting in ascending order places every task back at its original index
+                    for (int i = 0; i < tasks.length; i++) {
+                        this.tasks.add(tasks[i], removedTasks.get(i));
+                    }
+                });
+                this.isBatchRestructured = true;
+            }
+
+            this.removeAll(tasks);
+            assert this.tasks.size() == lengthOfTasks - tasks.length;
+            this.indexRemoval(tasks);
+            this.version++;
+
+            if (!this.isBatching()) {
+                this.persist(() -> this.storage.delete(this.tasks, tasks));
             }
-        } catch (IndexOutOfBoundsException ex) {
-            throw new JukeIllegalArgumentException("Oh no! The task index you have provided is not valid!");
+        } finally {
+            this.lock.unlockWrite(stamp);
         }
     }
 
     /**
-     * Marks a task in the task list as complete.
+     * Sets the archive which old completed tasks are moved to, and which {@code findArchivedTask} searches.
      *
-     * @param index Index of task to act on.
+     * @param archive {@code TaskArchive} of this task list
+     */
+    public void attachArchive(TaskArchive archive) {
+        this.archive = archive;
+    }
+
+    /**
+     * Sets the statistics which every lookup in the query cache is recorded in, as a hit or a miss.
+     *
+     * @param statistics {@code CommandStatistics} to record the lookups in
+     */
+    public void attachStatistics(CommandStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * Moves the completed tasks whose date is before the cutoff out of the task list and into its archive,
+     * so that they are no longer saved with the rest of the tasks. The tasks reach the archive before they
+     * are deleted from the datafile, and so a failure in between leaves them in both rather than neither.
+     *
+     * @param cutoff Date and time before which the date of a completed task must be for it to be archived
+     * @return Number of tasks archived
+     * @throws JukeStateException if no archive is attached, or if a batch is in progress
+     * @throws JukeStorageException if the tasks cannot be archived or deleted from the datafile
+     */
+    public int archiveCompleted(LocalDateTime cutoff) {
+        long stamp = this.writeLock();
+
+        try {
+            if (this.archive == null) {
+                throw new JukeStateException("Oh no! I do not have an archive to move your tasks to!");
+            } else if (this.isBatching()) {
+                throw new JukeStateException("Oh no! Tasks cannot be archived while a batch is in progress!");
+            }
+
+            List<JukeTask> archivedTasks = new ArrayList<>();
+            int[] indices = IntStream.range(0, this.tasks.size())
+                                     .filter(index -> TaskArchive.isArchivable(this.tasks.get(index), cutoff))
+                                     .toArray();
+
+            if (indices.length == 0) {
+                return 0;
+            }
+
+            for (int index : indices) {
+                archivedTasks.add(this.tasks.get(index));
+            }
+
+            this.persist(() -> this.archive.append(archivedTasks));
+            this.removeAll(indices);
+            this.indexRemoval(indices);
+            this.version++;
+            this.persist(() -> this.storage.delete(this.tasks, indices));
+            return indices.length;
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Marks tasks in the task list as complete. Either all tasks are marked, or none are, and the changes
+     * are saved once.
+     *
+     * @param indices Indices of tasks to act on.
      * @throws JukeIllegalArgumentException if the input argument is invalid
      * @throws JukeStateException if the user tries to mark a completed task as completed again
      * @throws JukeStorageException if there is an issue with storing the changes
      */
-    public void setAsComplete(int index) {
-        if (index < 0 || index >= this.tasks.size()) {
-            throw new JukeIllegalArgumentException("Oh no! I do not have such task recorded!");
-        }
+    public void setAsComplete(int... indices) {
+        long stamp = this.writeLock();
+
+        try {
+            this.checkIndices(indices);
+
+            for (int index : indices) {
+                if (this.tasks.get(index).isCompleted()) {
+                    throw new JukeStateException("Oh no! The task selected is already completed!");
+                }
+            }
+
+            for (int index : indices) {
+                // the task is written back as the backing store may hold a copy of it
+                JukeTask task = this.getForUpdate(index);
+                task.setAsComplete();
+                this.tasks.set(index, task);
+            }
 
-        this.tasks.get(index).setAsComplete();
-        this.storage.write(this.tasks);
+            this.indexCompletion(indices, true);
+            this.cache.invalidate(indices);
+
+            if (this.isBatching()) {
+                this.recordUndo(() -> this.setCompletion(indices, false));
+                IntStream.of(indices).forEach(this.batchCompletions::set);
+            } else {
+                this.persist(() -> this.storage.updateCompletion(this.tasks, indices));
+            }
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
     }
 
     /**
-     * Marks a task as incomplete.
+     * Marks tasks as incomplete. Either all tasks are unmarked, or none are, and the changes are
+     * saved once.
      *
-     * @param index Index of task to act on.
+     * @param indices Indices of tasks to act on.
      * @throws JukeIllegalArgumentException if the input argument is invalid
      * @throws JukeStateException if the user tries to mark an incomplete task as incompleted again
      * @throws JukeStorageException if there is an issue with storing the changes
      */
-    public void setAsIncomplete(int index) throws JukeStorageException {
-        if (index < 0 || index >= this.tasks.size()) {
-            throw new JukeIllegalArgumentException("Oh no! I do not have such task recorded!");
+    public void setAsIncomplete(int... indices) throws JukeStorageException {
+        long stamp = this.writeLock();
+
+        try {
+            this.checkIndices(indices);
+
+            for (int index : indices) {
+                if (!this.tasks.get(index).isCompleted()) {
+                    throw new JukeStateException("The task selected is already not completed!");
+                }
+            }
+
+            for (int index : indices) {
+                // the task is written back as the backing store may hold a copy of it
+                JukeTask task = this.getForUpdate(index);
+                task.setAsIncomplete();
+                this.tasks.set(index, task);
+            }
+
+            this.indexCompletion(indices, false);
+            this.cache.invalidate(indices);
+
+            if (this.isBatching()) {
+                this.recordUndo(() -> this.setCompletion(indices, true));
+                IntStream.of(indices).forEach(this.batchCompletions::set);
+            } else {
+                this.persist(() -> this.storage.updateCompletion(this.tasks, indices));
+            }
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Sets the completion status of tasks without checking their current completion status or saving the
+     * changes. This is used to undo changes to the completion status of tasks.
+     *
+     * @param indices Indices of tasks to act on
+     * @param isCompleted Completion status to set
+     */
+    private void setCompletion(int[] indices, boolean isCompleted) {
+        for (int index : indices) {
+            JukeTask task = this.getForUpdate(index);
+
+            if (isCompleted) {
+                task.setAsComplete();
+            } else {
+                task.setAsIncomplete();
+            }
+
+            this.tasks.set(index, task);
+        }
+    }
+
+    /**
+     * Updates the bitmap index after the completion status of tasks has changed, if the index is built.
+     *
+     * @param indices Indices of the changed tasks
+     * @param isCompleted Completion status of the tasks
+     */
+    private void indexCompletion(int[] indices, boolean isCompleted) {
+        if (this.index != null) {
+            for (int position : indices) {
+                this.index.setCompleted(position, isCompleted);
+            }
+        }
+    }
+
+    /**
+     * Updates the bitmap index after tasks have been deleted, if the index is built.
+     *
+     * @param indices Indices of the deleted tasks, in ascending order without duplicates
+     */
+    private void indexRemoval(int[] indices) {
+        if (this.index != null) {
+            this.index.removeAll(indices);
+        }
+    }
+
+    /**
+     * Returns the task at the input index so that it can be changed and written back through {@code set}.
+     * Tasks kept as versions are copied, as the task itself is shared with the versions already published.
+     *
+     * @param index Index of the task
+     * @return {@code JukeTask} at the index, which may be changed
+     */
+    private JukeTask getForUpdate(int index) {
+        JukeTask task = this.tasks.get(index);
+        return this.tasks instanceof TaskVersions ? TaskList.copy(task) : task;
+    }
+
+    /**
+     * Returns a copy of the input task, made through its datafile representation.
+     *
+     * @param task Task to copy
+     * @return Copy of the task
+     */
+    private static JukeTask copy(JukeTask task) {
+        return FileParser.parseTask(task.save());
+    }
+
+    /**
+     * Begins a batch of changes to the task list. Changes made during the batch are not saved until
+     * {@code commitBatch} is called, and can all be undone by calling {@code rollbackBatch}.
+     *
+     * @throws JukeStateException if a batch is already in progress
+     */
+    public void beginBatch() {
+        long stamp = this.writeLock();
+
+        try {
+            if (this.isBatching()) {
+                throw new JukeStateException("Oh no! I am already running a batch of commands!");
+            }
+
+            this.undoLog = new ArrayDeque<>();
+            this.batchCompletions = new BitSet();
+            this.isBatchRestructured = false;
+
+            if (this.tasks instanceof TaskVersions) {
+                TaskVersions versions = (TaskVersions) this.tasks;
+                this.batchVersion = versions.snapshot();
+            }
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Ends the current batch of changes, saving all changes made during the batch with a single write.
+     * If the batch only changed the completion status of tasks, only those tasks are saved, as the
+     * backing store may save them without rewriting every task.
+     *
+     * @throws JukeStateException if no batch is in progress
+     * @throws JukeStorageException if there is an issue with storing the changes
+     */
+    public void commitBatch() {
+        long stamp = this.writeLock();
+
+        try {
+            if (!this.isBatching()) {
+                throw new JukeStateException("Oh no! I am not running a batch of commands!");
+            }
+
+            boolean hasChanges = this.hasBatchChanges();
+            boolean isRestructured = this.isBatchRestructured;
+            int[] completions = this.batchCompletions.stream().toArray();
+            this.undoLog = null;
+            this.batchVersion = null;
+            this.batchCompletions = null;
+
+            if (!hasChanges) {
+                return;
+            } else if (isRestructured) {
+                this.persist(() -> this.storage.write(this.tasks));
+            } else {
+                this.persist(() -> this.storage.updateCompletion(this.tasks, completions));
+            }
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Ends the current batch of changes, undoing all changes made during the batch in reverse order.
+     * Nothing is written to the datafile, as changes made during the batch are never saved.
+     *
+     * @throws JukeStateException if no batch is in progress
+     */
+    public void rollbackBatch() {
+        long stamp = this.writeLock();
+
+        try {
+            if (!this.isBatching()) {
+                throw new JukeStateException("Oh no! I am not running a batch of commands!");
+            }
+
+            Deque<Runnable> changes = this.undoLog;
+            TaskVector version = this.batchVersion;
+            this.undoLog = null;
+            this.batchVersion = null;
+            this.batchCompletions = null;
+            this.index = null;
+
+            if (this.tasks instanceof TaskVersions) {
+                // the version the batch began with is restored in one step, whatever changes were made
+                TaskVersions versions = (TaskVersions) this.tasks;
+                versions.restore(version);
+                this.version++;
+                return;
+            }
+
+            while (!changes.isEmpty()) {
+                changes.pop().run();
+            }
+
+            this.version++;
+        } finally {
+            this.lock.unlockWrite(stamp);
         }
+    }
+
+    /**
+     * Checks if a batch of changes is in progress.
+     *
+     * @return true if a batch is in progress, else false
+     */
+    private boolean isBatching() {
+        return this.undoLog != null;
+    }
 
-        this.tasks.get(index).setAsIncomplete();
-        this.storage.write(this.tasks);
+    /**
+     * Records how to undo a change made during the current batch. Changes to tasks kept as versions are
+     * not recorded, as they are undone by restoring the version of the tasks the batch began with.
+     *
+     * @param undo Action which undoes the change
+     */
+    private void recordUndo(Runnable undo) {
+        if (!(this.tasks instanceof TaskVersions)) {
+            this.undoLog.push(undo);
+        }
+    }
+
+    /**
+     * Checks if any changes were made during the current batch.
+     *
+     * @return true if the tasks were changed since the batch began, else false
+     */
+    private boolean hasBatchChanges() {
+        if (this.tasks instanceof TaskVersions) {
+            TaskVersions versions = (TaskVersions) this.tasks;
+            return versions.snapshot() != this.batchVersion;
+        }
+
+        return !this.undoLog.isEmpty();
+    }
+
+    /**
+     * Saves changes to the datafile, adding the time taken to the time spent saving changes.
+     *
+     * @param change Action which saves the changes
+     */
+    private void persist(Runnable change) {
+        long start = System.nanoTime();
+
+        try {
+            change.run();
+        } finally {
+            this.persistTime += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Returns the time spent saving changes to the datafile since this method was last called.
+     *
+     * @return Time spent saving changes, in nanoseconds
+     */
+    public long takePersistTime() {
+        long stamp = this.writeLock();
+
+        try {
+            long time = this.persistTime;
+            this.persistTime = 0;
+            return time;
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Waits for any change in progress to complete, then ensures that every change saved so far has reached
+     * the backing store.
+     *
+     * @throws JukeStorageException if the changes could not be written for any reason
+     */
+    public void flush() {
+        long stamp = this.writeLock();
+
+        try {
+            this.storage.flush();
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Waits for any change in progress to complete, then ensures that every change saved so far has reached
+     * the backing store, and releases the resources held by the backing store and the archive. The task list
+     * may still be used afterwards, and the resources are acquired again when they are next needed.
+     *
+     * @throws JukeStorageException if the changes could not be written for any reason
+     */
+    public void close() {
+        long stamp = this.writeLock();
+
+        try {
+            this.storage.flush();
+            this.storage.close();
+            TaskArchive currentArchive = this.archive;
+
+            if (currentArchive != null) {
+                currentArchive.close();
+            }
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Acquires the lock for changing the tasks, which readers will not acquire while this thread waits for it.
+     *
+     * @return Stamp to release the lock with
+     */
+    private long writeLock() {
+        this.writerGate.lock();
+
+        try {
+            this.pendingWriters++;
+        } finally {
+            this.writerGate.unlock();
+        }
+
+        try {
+            return this.lock.writeLock();
+        } finally {
+            this.writerGate.lock();
+
+            try {
+                if (--this.pendingWriters == 0) {
+                    this.noPendingWriters.signalAll();
+                }
+            } finally {
+                this.writerGate.unlock();
+            }
+        }
+    }
+
+    /**
+     * Reads the tasks without blocking changes to them. Tasks kept as versions are read from the current
+     * version without locking, while tasks kept off-heap are read under the read lock, as decoding them
+     * updates the decoded task cache of the {@code TaskArena}.
+     *
+     * @param reader Function which reads the tasks
+     * @param <T> Type of the result of the read
+     * @return Result of the read
+     */
+    private <T> T read(Function<List<JukeTask>, T> reader) {
+        if (this.tasks instanceof TaskVersions) {
+            TaskVersions versions = (TaskVersions) this.tasks;
+            return reader.apply(versions.snapshot());
+        }
+
+        long stamp = this.readLock();
+
+        try {
+            return reader.apply(this.tasks);
+        } finally {
+            this.lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Acquires the read lock once no thread is waiting to change the tasks, blocking until then.
+     *
+     * @return Stamp to release the lock with
+     */
+    private long readLock() {
+        this.writerGate.lock();
+
+        try {
+            // readers may otherwise keep the read lock held between them and starve the writer
+            while (this.pendingWriters > 0) {
+                this.noPendingWriters.awaitUninterruptibly();
+            }
+        } finally {
+            this.writerGate.unlock();
+        }
+
+        return this.lock.readLock();
+    }
+
+    /**
+     * Runs a query against the bitmap index of the tasks and the tasks themselves, under the read lock so
+     * that neither changes during the query. The index is built on the first query, and again on the first
+     * query after the tasks are reordered, and is otherwise kept up to date as the tasks change.
+     *
+     * @param query Function which reads the index and the tasks, and which must not keep the bitmaps of
+     *     the index once it returns
+     * @param <T> Type of the result of the query
+     * @return Result of the query
+     */
+    public <T> T query(BiFunction<TaskIndex, List<JukeTask>, T> query) {
+        long stamp = this.readLock();
+
+        try {
+            if (this.index == null) {
+                long writeStamp = this.lock.tryConvertToWriteLock(stamp);
+
+                if (writeStamp == 0L) {
+                    this.lock.unlockRead(stamp);
+                    stamp = this.writeLock();
+                } else {
+                    stamp = writeStamp;
+                }
+
+                if (this.index == null) {
+                    this.index = TaskIndex.of(this.tasks);
+                }
+
+                stamp = this.lock.tryConvertToReadLock(stamp);
+            }
+
+            List<JukeTask> currentTasks = this.tasks;
+
+            if (currentTasks instanceof TaskVersions) {
+                TaskVersions versions = (TaskVersions) currentTasks;
+                currentTasks = versions.snapshot();
+            }
+
+            return query.apply(this.index, currentTasks);
+        } finally {
+            this.lock.unlock(stamp);
+        }
+    }
+
+    /**
+     * Returns the cached result of a read-only query, or runs the query and caches its result. The version
+     * of the tasks and the epoch of the cache are read before the query reads the tasks, so a result read
+     * before a change is never cached as the result after it.
+     *
+     * @param key Normalised query
+     * @param query Function which runs the query, and which returns its result with the positions of the
+     *     tasks the result depends on
+     * @param <T> Type of the result, which must not be changed once returned
+     * @return Result of the query
+     */
+    private <T> T cached(String key, Supplier<Map.Entry<T, TaskBitmap>> query) {
+        long currentVersion = this.version;
+        long epoch = this.cache.getEpoch();
+        T result = this.cache.get(key, currentVersion);
+        CommandStatistics currentStatistics = this.statistics;
+
+        if (currentStatistics != null) {
+            currentStatistics.recordCacheLookup(result != null);
+        }
+
+        if (result != null) {
+            return result;
+        }
+
+        Map.Entry<T, TaskBitmap> computed = query.get();
+        this.cache.put(key, currentVersion, epoch, computed.getKey(), computed.getValue());
+        return computed.getKey();
+    }
+
+    /**
+     * Returns the number of queries answered from the cache of query results.
+     *
+     * @return Number of cache hits
+     */
+    public long getCacheHits() {
+        return this.cache.getHits();
+    }
+
+    /**
+     * Returns the number of queries which could not be answered from the cache of query results.
+     *
+     * @return Number of cache misses
+     */
+    public long getCacheMisses() {
+        return this.cache.getMisses();
+    }
+
+    /**
+     * Returns an immutable version of the tasks, which is not affected by later changes to the task list
+     * and so can be read, or saved, from any thread. Tasks kept off-heap are copied into the version.
+     *
+     * @return Immutable list of the tasks
+     */
+    public List<JukeTask> snapshot() {
+        return this.read(tasks -> {
+            if (tasks instanceof TaskVector) {
+                return tasks;
+            }
+
+            return TaskVector.of(tasks.stream().map(TaskList::copy).collect(Collectors.toList()));
+        });
+    }
+
+    /**
+     * Returns the number of tasks in the task list.
+     *
+     * @return Number of tasks
+     */
+    public int size() {
+        return this.read(List::size);
+    }
+
+    /**
+     * Checks that all input indices refer to tasks in the task list.
+     *
+     * @param indices Indices of tasks
+     * @throws JukeIllegalArgumentException if any index does not refer to a task
+     */
+    private void checkIndices(int... indices) {
+        for (int index : indices) {
+            if (index < 0 || index >= this.tasks.size()) {
+                throw new JukeIllegalArgumentException("Oh no! I do not have such task recorded!");
+            }
+        }
+    }
+
+    /**
+     * Removes the tasks at the input indices in a single pass, shifting each remaining task at most once.
+     *
+     * @param indices Indices of tasks to remove, in ascending order without duplicates
+     */
+    private void removeAll(int[] indices) {
+        if (this.tasks instanceof TaskArena) {
+            TaskArena arena = (TaskArena) this.tasks;
+            arena.removeAll(indices);
+            return;
+        } else if (this.tasks instanceof TaskVersions) {
+            TaskVersions versions = (TaskVersions) this.tasks;
+            versions.removeAll(indices);
+            return;
+        }
+
+        int size = this.tasks.size();
+        int kept = indices[0];
+        int next = 0;
+
+        for (int i = indices[0]; i < size; i++) {
+            if (next < indices.length && indices[next] == i) {
+                next++;
+            } else {
+                this.tasks.set(kept++, this.tasks.get(i));
+            }
+        }
+
+        this.tasks.subList(kept, size).clear();
     }
 
     /**
@@ -130,55 +933,319 @@ public class TaskList extends JukeObject {
      * @throws JukeIllegalArgumentException if the input argument is invalid
      */
     public String getTaskInformation(int index) {
-        if (index < 0 || index >= this.tasks.size()) {
-            throw new JukeIllegalArgumentException("Oh no! I do not have such task recorded!");
+        return this.read(tasks -> {
+            if (index < 0 || index >= tasks.size()) {
+                throw new JukeIllegalArgumentException("Oh no! I do not have such task recorded!");
+            }
+
+            return tasks.get(index).toString();
+        });
+    }
+
+    /**
+     * Returns the String representations of one page of tasks, where the first page is page 0.
+     *
+     * @param page Index of the page
+     * @param pageSize Number of tasks in each page
+     * @return Immutable list of the String representations of the tasks on the page, which is empty if
+     *     the page is past the last task
+     * @throws JukeIllegalArgumentException if the page index or page size is invalid
+     */
+    public List<String> getPage(int page, int pageSize) {
+        if (page < 0 || pageSize <= 0) {
+            throw new JukeIllegalArgumentException("Oh no! The page you have requested is not valid!");
         }
 
-        return this.tasks.get(index).toString();
+        return this.cached("page " + page + " " + pageSize, () -> this.read(tasks -> {
+            int start = (int) Math.min((long) page * pageSize, tasks.size());
+            int end = (int) Math.min((long) start + pageSize, tasks.size());
+            List<String> lines = new ArrayList<>(end - start);
+
+            for (int i = start; i < end; i++) {
+                lines.add(tasks.get(i).toString());
+            }
+
+            return Map.entry(List.copyOf(lines), TaskBitmap.ofRange(end).andNot(TaskBitmap.ofRange(start)));
+        }));
     }
 
     /**
-     * Finds all tasks that match the specified word.
+     * Finds all tasks that match the specified word, ignoring case and accents.
      *
      * @param word Word of interest
      * @return {@code List} of {@code JukeTask} objects whose subject matches the word
      */
     public List<JukeTask> findTask(String word) {
-        List<JukeTask> wordMatches = new LinkedList<>();
+        return this.findTask(word, false);
+    }
+
+    /**
+     * Finds all tasks that match the specified word. The word is folded once, and compared against the
+     * search keys the tasks were created with, unless an exact match is requested. The tasks found are
+     * cached under the folded word, until tasks are added, removed or reordered, or one of them is marked.
+     *
+     * @param word Word of interest
+     * @param isExact Whether the word must match the task description exactly, including its case
+     * @return Immutable {@code List} of {@code JukeTask} objects whose subject matches the word
+     */
+    public List<JukeTask> findTask(String word, boolean isExact) {
+        TaskFindEvent event = new TaskFindEvent();
+        event.begin();
+
+        String foldedWord = TextUtils.fold(word);
+        String key = isExact ? "find --exact " + word : "find " + foldedWord;
+        List<JukeTask> wordMatches = this.cached(key, () -> this.read(tasks -> {
+            List<JukeTask> matches = new ArrayList<>();
 
-        for (JukeTask t : this.tasks) {
-            if (t.stringMatches(word)) {
-                wordMatches.add(t);
+            if (tasks instanceof TaskArena) {
+                // only the tasks found are decoded
+                TaskArena arena = (TaskArena) tasks;
+                TaskBitmap positions = arena.findPositions(word, isExact);
+                positions.forEach(position -> matches.add(tasks.get(position)));
+                return Map.entry(List.copyOf(matches), positions);
             }
+
+            TaskBitmap positions = TaskBitmap.of();
+            int position = 0;
+
+            for (JukeTask t : tasks) {
+                if (isExact ? t.stringMatches(word) : t.keyMatches(foldedWord)) {
+                    positions.add(position);
+                    matches.add(t);
+                }
+
+                position++;
+            }
+
+            return Map.entry(List.copyOf(matches), positions);
+        }));
+
+        if (event.shouldCommit()) {
+            event.setQuery(word);
+            event.setHits(wordMatches.size());
+            event.setTaskCount(this.size());
+            event.commit();
         }
 
         return wordMatches;
     }
 
+    /**
+     * Finds the tasks whose descriptions contain words close to every word of the query, tolerating a typo
+     * or two in each word. The words are looked up in the vocabulary of the bitmap index, without comparing
+     * the query against every task.
+     *
+     * @param query Words of interest
+     * @return {@code TaskMatch} objects of the tasks found, closest first
+     */
+    public List<TaskMatch> findTaskFuzzy(String query) {
+        return this.query((index, tasks) -> index.getVocabulary().findTasks(query, tasks));
+    }
+
+    /**
+     * Finds the tasks whose descriptions best match the words of the query, ranked by their BM25 score over
+     * the vocabulary of the bitmap index. Only the best tasks are kept as they are scored, so the tasks are
+     * never sorted as a whole, and only the tasks returned are read. Rankings which are not boosted are
+     * cached, as boosted rankings change with the time of the query.
+     *
+     * @param query Words of interest
+     * @param limit Largest number of tasks to return
+     * @param isBoosted Whether incomplete tasks, and deadlines due soon, are ranked higher
+     * @return {@code ScoredTask} objects of the tasks found, best first
+     */
+    public List<ScoredTask> findTaskRanked(String query, int limit, boolean isBoosted) {
+        if (!isBoosted) {
+            // the ranking does not depend on the completion status, but every task may be shown with it
+            String key = "find --top " + limit + " " + String.join(" ", TaskVocabulary.tokenize(query));
+            return this.cached(key, () -> this.query((index, tasks) -> {
+                List<ScoredTask> ranked = index.getVocabulary().rankTasks(query, limit, position -> 1, 1, tasks);
+                return Map.entry(List.copyOf(ranked), index.getAll());
+            }));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+
+        return this.query((index, tasks) -> {
+            IntToDoubleFunction boost = position -> index.getBoost(position, tasks, now);
+            return index.getVocabulary().rankTasks(query, limit, boost, TaskIndex.MAX_BOOST, tasks);
+        });
+    }
+
+    /**
+     * Suggests the tasks for words which are still being typed, treating the last word as the start of a
+     * word unless it is followed by a space. The words are looked up in the vocabulary of the bitmap index,
+     * and the tasks containing them are ranked by their BM25 score.
+     *
+     * @param text Words typed so far
+     * @param limit Largest number of tasks to return
+     * @return {@code ScoredTask} objects of the tasks suggested, best first
+     */
+    public List<ScoredTask> suggestTasks(String text, int limit) {
+        return this.query((index, tasks) -> index.getVocabulary().suggestTasks(text, limit, tasks));
+    }
+
+    /**
+     * Completes the start of a word to the word of the task descriptions with that start which the most
+     * tasks contain, looked up in the vocabulary of the bitmap index.
+     *
+     * @param prefix Start of a word
+     * @return Start of the word followed by the rest of the completed word, or null if there is none
+     */
+    public String completeWord(String prefix) {
+        return this.query((index, tasks) -> index.getVocabulary().completeWord(prefix));
+    }
+
+    /**
+     * Finds all tasks selected by a query, which is planned against the bitmap index of the tasks so that
+     * the tasks are passed over at most once.
+     *
+     * @param query {@code TaskQuery} which selects the tasks
+     * @return {@code List} of selected {@code JukeTask} objects
+     * @throws JukeIllegalArgumentException if the selected tasks cannot be sorted
+     */
+    public List<JukeTask> filter(TaskQuery query) {
+        return this.query(query::run);
+    }
+
+    /**
+     * Finds all archived tasks that match the specified word, ignoring case and accents. The archive is read
+     * when it is first searched.
+     *
+     * @param word Word of interest
+     * @return {@code List} of archived {@code JukeTask} objects whose subject matches the word, which is empty
+     *     if no archive is attached
+     * @throws JukeStorageException if the archive cannot be read
+     */
+    public List<JukeTask> findArchivedTask(String word) {
+        return this.findArchivedTask(word, false);
+    }
+
+    /**
+     * Finds all archived tasks that match the specified word. The archive is read when it is first searched.
+     *
+     * @param word Word of interest
+     * @param isExact Whether the word must match the task description exactly, including its case
+     * @return {@code List} of archived {@code JukeTask} objects whose subject matches the word, which is empty
+     *     if no archive is attached
+     * @throws JukeStorageException if the archive cannot be read
+     */
+    public List<JukeTask> findArchivedTask(String word, boolean isExact) {
+        TaskArchive currentArchive = this.archive;
+        return currentArchive == null ? List.of() : currentArchive.findTask(word, isExact);
+    }
+
     /**
      * Sorts the tasks in the {@code TaskList} by the input {@code SortOrderEnum} and {@code SortTypeEnum}.
+     * The tasks are left as they are if they were last sorted the same way, and no task has been added,
+     * removed or reordered since.
      *
      * @param sortOrder the order to sort the tasks by
      * @param sortType the type of sort to perform on the tasks
      */
     public final void sort(SortOrderEnum sortOrder, SortTypeEnum sortType) {
-        // stores the original copy of the tasks for error recovery
-        List<JukeTask> originalTasks = new LinkedList<>(this.tasks);
+        long stamp = this.writeLock();
+
+        try {
+            String key = "sort " + sortOrder + " " + sortType;
+
+            if (this.cache.get(key, this.version) != null) {
+                // nothing has been added, removed or reordered since the tasks were last sorted this way
+                return;
+            }
+
+            TaskSortEvent event = new TaskSortEvent();
+            event.begin();
+            this.index = null;
+
+            if (this.isBatching() && this.tasks instanceof TaskArena) {
+                // the order of the tasks is kept by their datafile representation, as the arena does not
+                // hand out the same JukeTask objects every time
+                List<String> records = this.tasks.stream().map(JukeTask::save).collect(Collectors.toList());
+                this.recordUndo(() -> this.restore(records));
+            }
+
+            try {
+                if (this.tasks instanceof TaskArena) {
+                    this.sortArena((TaskArena) this.tasks, sortType);
+                } else {
+                    this.sortList(sortType);
+                }
+
+                if (sortOrder.equals(SortOrderEnum.ASCENDING)) {
+                    this.reverse();
+                }
+            } finally {
+                this.version++;
+
+                // save any changes made to the task list, unless they are saved at the end of a batch
+                if (this.isBatching()) {
+                    this.isBatchRestructured = true;
+                } else {
+                    this.persist(() -> this.storage.write(this.tasks));
+                }
+
+                if (event.shouldCommit()) {
+                    event.setSortType(sortType.name());
+                    event.setSortOrder(sortOrder.name());
+                    event.setTaskCount(this.tasks.size());
+                    event.commit();
+                }
+            }
+
+            // the order does not depend on the completion status of the tasks, so marking them keeps it
+            this.cache.put(key, this.version, this.cache.getEpoch(), Boolean.TRUE, TaskBitmap.of());
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Replaces the tasks in the task list with the tasks in their datafile representation.
+     *
+     * @param records Datafile representation of the tasks
+     */
+    private void restore(List<String> records) {
+        this.tasks.clear();
+
+        if (this.tasks instanceof TaskArena) {
+            TaskArena arena = (TaskArena) this.tasks;
+            records.forEach(arena::addRecord);
+        } else {
+            records.forEach(record -> this.tasks.add(FileParser.parseTask(record)));
+        }
+    }
 
+    /**
+     * Sorts the tasks in descending order when they are kept as versions. The sorted version is only
+     * published once the sort succeeds, and so no copy of the tasks is needed for error recovery.
+     *
+     * @param sortType the type of sort to perform on the tasks
+     */
+    private void sortList(SortTypeEnum sortType) {
         try {
             this.tasks.sort((t1, t2) -> t2.sortBy(t1, sortType));
+        } catch (IllegalArgumentException | UnsupportedOperationException | ClassCastException ex) {
+            throw new JukeIllegalArgumentException("Oh no! I cannot sort the list!");
+        }
+    }
 
-            if (sortOrder.equals(SortOrderEnum.ASCENDING)) {
-                this.reverse();
+    /**
+     * Sorts the tasks in descending order when they are kept in a {@code TaskArena}. The arena only
+     * reorders its tasks once the sort succeeds, and so no copy of the tasks is needed for error recovery.
+     *
+     * @param arena {@code TaskArena} containing the tasks
+     * @param sortType the type of sort to perform on the tasks
+     */
+    private void sortArena(TaskArena arena, SortTypeEnum sortType) {
+        try {
+            if (sortType == SortTypeEnum.DESCRIPTION) {
+                // descriptions can be compared without decoding the tasks
+                arena.sortByDescription((d1, d2) -> d2.compareTo(d1));
+            } else {
+                arena.sort((t1, t2) -> t2.sortBy(t1, sortType));
             }
         } catch (IllegalArgumentException | UnsupportedOperationException | ClassCastException ex) {
-            // if there is an error, revert the changes
-            this.tasks.clear();
-            this.tasks.addAll(originalTasks);
             throw new JukeIllegalArgumentException("Oh no! I cannot sort the list!");
-        } finally {
-            // save any changes made to the task list
-            this.storage.write(this.tasks);
         }
     }
 
@@ -186,7 +1253,15 @@ public class TaskList extends JukeObject {
      * Reverses the order of the task list.
      */
     private void reverse() {
-        Collections.reverse(this.tasks);
+        if (this.tasks instanceof TaskArena) {
+            TaskArena arena = (TaskArena) this.tasks;
+            arena.reverse();
+        } else if (this.tasks instanceof TaskVersions) {
+            TaskVersions versions = (TaskVersions) this.tasks;
+            versions.reverse();
+        } else {
+            Collections.reverse(this.tasks);
+        }
     }
 
     /**
@@ -197,20 +1272,24 @@ public class TaskList extends JukeObject {
      */
     @Override
     public String toString() {
-        if (this.tasks.isEmpty()) {
-            return TaskList.NO_TASKS_PRESENT_STRING;
-        }
+        return this.cached("list", () -> this.read(tasks -> {
+            if (tasks.isEmpty()) {
+                return Map.entry(TaskList.NO_TASKS_PRESENT_STRING, TaskBitmap.of());
+            }
 
-        StringBuilder builder = new StringBuilder();
-        builder.append(TaskList.TASK_LIST_HEADER);
+            StringBuilder builder = new StringBuilder();
+            builder.append(TaskList.TASK_LIST_HEADER);
 
-        for (int i = 0; i < this.tasks.size(); i++) {
-            builder.append(i + 1)
-                   .append(". ")
-                   .append(this.tasks.get(i))
-                   .append("\n");
-        }
+            int number = 1;
+
+            for (JukeTask task : tasks) {
+                builder.append(number++)
+                       .append(". ")
+                       .append(task)
+                       .append("\n");
+            }
 
-        return builder.toString().strip();
+            return Map.entry(builder.toString().strip(), TaskBitmap.ofRange(tasks.size()));
+        }));
     }
 }
@@ -0,0 +1,213 @@
+package juke.tasks;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import juke.commons.classes.JukeObject;
+import juke.commons.exceptions.arguments.JukeIllegalArgumentException;
+import juke.commons.exceptions.storage.JukeStorageException;
+
+/**
+ * Keeps the named task lists which are open, one of which is the active list that commands run against.
+ * Each list is opened on first use, and open lists are kept in least recently used order. Once the estimated
+ * memory held by the open lists exceeds the budget, the least recently used lists are flushed and closed,
+ * to be opened again from their backing store when they are next used. The active list is never closed.
+ * <p>
+ * The memory held by a list is estimated from its number of tasks, and is only checked when a list is
+ * used, and so the active list may grow past the budget until another list is used.
+ */
+public class TaskListCache extends JukeObject {
+    /** System property which sets the memory budget of the open task lists, in megabytes. */
+    public static final String BUDGET_PROPERTY = "juke.lists.budget";
+
+    /** Default memory budget of the open task lists, in megabytes. */
+    public static final long DEFAULT_BUDGET_MEGABYTES = 64;
+
+    /** Estimated memory held by each task in an open list, in bytes. */
+    public static final long ESTIMATED_TASK_BYTES = 256;
+
+    /** Regex for the names of task lists, which are also used to name their datafiles. */
+    private static final String LIST_NAME_REGEX = "[A-Za-z0-9_-]+";
+
+    /** Open task lists by name, from the least to the most recently used. */
+    private final LinkedHashMap<String, TaskList> taskLists;
+
+    /** Function which opens the task list of the given name from its backing store. */
+    private final Function<String, TaskList> opener;
+
+    /** Memory budget of the open task lists, in bytes. */
+    private final long budget;
+
+    /** Name of the active task list. */
+    private volatile String activeName;
+
+    /** Active task list. */
+    private volatile TaskList activeList;
+
+    /** Number of task lists closed to keep within the budget. */
+    private int evictions;
+
+    /**
+     * Creates an instance of {@code TaskListCache}.
+     *
+     * @param name Name of the initially active task list
+     * @param taskList Initially active task list
+     * @param opener Function which opens the task list of the given name
+     * @param budget Memory budget of the open task lists, in bytes
+     */
+    private TaskListCache(String name, TaskList taskList, Function<String, TaskList> opener, long budget) {
+        this.taskLists = new LinkedHashMap<>(16, 0.75f, true);
+        this.opener = opener;
+        this.budget = budget;
+        this.activeName = name;
+        this.activeList = taskList;
+        this.taskLists.put(name, taskList);
+    }
+
+    /**
+     * Creates an instance of {@code TaskListCache} with an already open task list as the active list.
+     *
+     * @param name Name of the initially active task list
+     * @param taskList Initially active task list
+     * @param opener Function which opens the task list of the given name from its backing store
+     * @param budget Memory budget of the open task lists, in bytes
+     * @return {@code TaskListCache} object
+     */
+    public static TaskListCache of(String name, TaskList taskList, Function<String, TaskList> opener,
+                                   long budget) {
+        return new TaskListCache(name, taskList, opener, budget);
+    }
+
+    /**
+     * Returns the memory budget set through the {@code juke.lists.budget} system property, or the default
+     * budget if it is not set.
+     *
+     * @return Memory budget of the open task lists, in bytes
+     */
+    public static long getConfiguredBudget() {
+        return Long.getLong(TaskListCache.BUDGET_PROPERTY, TaskListCache.DEFAULT_BUDGET_MEGABYTES) << 20;
+    }
+
+    /**
+     * Returns the estimated memory held by an open task list.
+     *
+     * @param taskList Open task list
+     * @return Estimated memory held by the task list, in bytes
+     */
+    public static long estimateBytes(TaskList taskList) {
+        return taskList.size() * TaskListCache.ESTIMATED_TASK_BYTES;
+    }
+
+    /**
+     * Makes the task list of the input name the active list, opening it if it is not already open, then
+     * closes the least recently used lists until the open lists are within the budget.
+     *
+     * @param name Name of the task list
+     * @return Active task list
+     * @throws JukeIllegalArgumentException if the name contains characters other than letters, digits,
+     *     "-" and "_"
+     * @throws JukeStorageException if the task list cannot be opened, or a closed list cannot be flushed
+     */
+    public synchronized TaskList use(String name) {
+        if (!name.matches(TaskListCache.LIST_NAME_REGEX)) {
+            throw new JukeIllegalArgumentException("Oh no! The name of a task list can only contain letters, "
+                                                           + "digits, \"-\" and \"_\"!");
+        }
+
+        TaskList taskList = this.taskLists.get(name);
+
+        if (taskList == null) {
+            taskList = this.opener.apply(name);
+            this.taskLists.put(name, taskList);
+        }
+
+        this.activeList = taskList;
+        this.activeName = name;
+        this.evict();
+        return taskList;
+    }
+
+    /**
+     * Returns the active task list.
+     *
+     * @return Active task list
+     */
+    public TaskList getActive() {
+        return this.activeList;
+    }
+
+    /**
+     * Returns the name of the active task list.
+     *
+     * @return Name of the active task list
+     */
+    public String getActiveName() {
+        return this.activeName;
+    }
+
+    /**
+     * Returns the names of the open task lists.
+     *
+     * @return Names of the open task lists, from the least to the most recently used
+     */
+    public synchronized List<String> getOpenNames() {
+        return new ArrayList<>(this.taskLists.keySet());
+    }
+
+    /**
+     * Returns the number of task lists closed to keep within the budget.
+     *
+     * @return Number of task lists closed
+     */
+    public synchronized int getEvictions() {
+        return this.evictions;
+    }
+
+    /**
+     * Ensures that every change to the open task lists has reached their backing stores.
+     *
+     * @throws JukeStorageException if the changes could not be written for any reason
+     */
+    public synchronized void flush() {
+        for (TaskList taskList : this.taskLists.values()) {
+            taskList.flush();
+        }
+    }
+
+    /**
+     * Flushes and closes every open task list, releasing the resources held by their backing stores.
+     *
+     * @throws JukeStorageException if the changes could not be written for any reason
+     */
+    public synchronized void close() {
+        for (TaskList taskList : this.taskLists.values()) {
+            taskList.close();
+        }
+    }
+
+    /**
+     * Flushes and closes the least recently used task lists, other than the active list, until the open
+     * lists are within the budget.
+     */
+    private void evict() {
+        long usage = this.taskLists.values().stream().mapToLong(TaskListCache::estimateBytes).sum();
+        Iterator<Map.Entry<String, TaskList>> iterator = this.taskLists.entrySet().iterator();
+
+        while (usage > this.budget && iterator.hasNext()) {
+            TaskList taskList = iterator.next().getValue();
+
+            if (taskList == this.activeList) {
+                continue;
+            }
+
+            taskList.close();
+            usage -= TaskListCache.estimateBytes(taskList);
+            iterator.remove();
+            this.evictions++;
+        }
+    }
+}
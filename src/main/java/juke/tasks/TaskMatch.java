@@ -0,0 +1,55 @@
+package juke.tasks;
+
+import juke.commons.classes.JukeObject;
+
+/**
+ * Task found by a fuzzy search, together with how far its description is from the words searched for.
+ */
+public class TaskMatch extends JukeObject {
+    /** Task found. */
+    private final JukeTask task;
+
+    /** Number of edits between the words searched for and the closest words of the task. */
+    private final int distance;
+
+    /**
+     * Creates an instance of {@code TaskMatch}.
+     *
+     * @param task Task found
+     * @param distance Number of edits between the words searched for and the words of the task
+     */
+    private TaskMatch(JukeTask task, int distance) {
+        this.task = task;
+        this.distance = distance;
+    }
+
+    /**
+     * Creates an instance of {@code TaskMatch}.
+     *
+     * @param task Task found
+     * @param distance Number of edits between the words searched for and the words of the task
+     * @return {@code TaskMatch} object
+     */
+    public static TaskMatch of(JukeTask task, int distance) {
+        return new TaskMatch(task, distance);
+    }
+
+    /**
+     * Returns the task found.
+     *
+     * @return {@code JukeTask} found
+     */
+    public JukeTask getTask() {
+        return this.task;
+    }
+
+    /**
+     * Returns the number of edits between the words searched for and the closest words of the task, which
+     * is 0 if the task contains every word exactly.
+     *
+     * @return Number of edits
+     */
+    public int getDistance() {
+        return this.distance;
+    }
+}
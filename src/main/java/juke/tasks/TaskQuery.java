@@ -0,0 +1,281 @@
+package juke.tasks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import juke.commons.TextUtils;
+import juke.commons.classes.JukeObject;
+import juke.commons.enums.SortOrderEnum;
+import juke.commons.enums.SortTypeEnum;
+import juke.commons.enums.TaskTypeEnum;
+import juke.commons.exceptions.arguments.JukeIllegalArgumentException;
+
+/**
+ * Query which filters the tasks in a {@code TaskList} on their type, completion status, description and
+ * dates, and which may sort the tasks it selects.
+ *
+ * <p>Each criterion is planned as either a selection, which is answered by the bitmap index of the task
+ * list, or a condition, which is checked against the tasks themselves. The selections are intersected
+ * from the smallest to the largest, and the conditions are fused into a single predicate which is checked
+ * in one pass over the tasks left, or over every task if there are no selections. A date criterion is
+ * planned as both, as only tasks of some types have the date being filtered on.</p>
+ */
+public final class TaskQuery extends JukeObject {
+    /** Criteria answered by the bitmap index, as the positions of the tasks they select. */
+    private final List<Function<TaskIndex, TaskBitmap>> selections;
+
+    /** Criteria checked against the tasks themselves. */
+    private final List<Predicate<JukeTask>> conditions;
+
+    /** Order to sort the selected tasks by, or null to keep the order of the task list. */
+    private final SortOrderEnum sortOrder;
+
+    /** Field to sort the selected tasks on, or null to keep the order of the task list. */
+    private final SortTypeEnum sortType;
+
+    /**
+     * Creates an instance of {@code TaskQuery}.
+     *
+     * @param selections Criteria answered by the bitmap index
+     * @param conditions Criteria checked against the tasks
+     * @param sortOrder Order to sort the selected tasks by, or null
+     * @param sortType Field to sort the selected tasks on, or null
+     */
+    private TaskQuery(List<Function<TaskIndex, TaskBitmap>> selections, List<Predicate<JukeTask>> conditions,
+                      SortOrderEnum sortOrder, SortTypeEnum sortType) {
+        this.selections = selections;
+        this.conditions = conditions;
+        this.sortOrder = sortOrder;
+        this.sortType = sortType;
+    }
+
+    /**
+     * Creates a {@code TaskQuery} which selects every task in the order of the task list.
+     *
+     * @return {@code TaskQuery} object
+     */
+    public static TaskQuery of() {
+        return new TaskQuery(List.of(), List.of(), null, null);
+    }
+
+    /**
+     * Returns a copy of this query which only selects tasks of the input type.
+     *
+     * @param type Type of task to select
+     * @return New {@code TaskQuery} object
+     */
+    public TaskQuery withType(TaskTypeEnum type) {
+        return this.withSelection(index -> index.getType(type));
+    }
+
+    /**
+     * Returns a copy of this query which only selects tasks with the input completion status.
+     *
+     * @param isCompleted Completion status of the tasks to select
+     * @return New {@code TaskQuery} object
+     */
+    public TaskQuery withCompletion(boolean isCompleted) {
+        return this.withSelection(isCompleted ? TaskIndex::getCompleted : TaskIndex::getIncomplete);
+    }
+
+    /**
+     * Returns a copy of this query which only selects tasks whose description contains the input word,
+     * ignoring case and accents.
+     *
+     * @param word Word of interest
+     * @return New {@code TaskQuery} object
+     */
+    public TaskQuery withText(String word) {
+        String foldedWord = TextUtils.fold(word);
+        return this.withCondition(task -> task.keyMatches(foldedWord));
+    }
+
+    /**
+     * Returns a copy of this query which only selects tasks whose date is on or after the input date.
+     *
+     * @param field Date to filter on, which is the start date, end date or deadline
+     * @param from Earliest date of the tasks to select
+     * @return New {@code TaskQuery} object
+     * @throws JukeIllegalArgumentException if the field is not a date
+     */
+    public TaskQuery withFrom(SortTypeEnum field, LocalDateTime from) {
+        TaskQuery.checkDateField(field);
+        return this.withSelection(index -> TaskQuery.selectDated(index, field))
+                   .withCondition(task -> !TaskQuery.getDate(task, field).isBefore(from));
+    }
+
+    /**
+     * Returns a copy of this query which only selects tasks whose date is on or before the input date.
+     *
+     * @param field Date to filter on, which is the start date, end date or deadline
+     * @param until Latest date of the tasks to select
+     * @return New {@code TaskQuery} object
+     * @throws JukeIllegalArgumentException if the field is not a date
+     */
+    public TaskQuery withUntil(SortTypeEnum field, LocalDateTime until) {
+        TaskQuery.checkDateField(field);
+        return this.withSelection(index -> TaskQuery.selectDated(index, field))
+                   .withCondition(task -> !TaskQuery.getDate(task, field).isAfter(until));
+    }
+
+    /**
+     * Returns a copy of this query which sorts the tasks it selects, in the same way the task list is
+     * sorted by the sort command. The task list itself is left in its order.
+     *
+     * @param sortOrder Order to sort the selected tasks by
+     * @param sortType Field to sort the selected tasks on
+     * @return New {@code TaskQuery} object
+     */
+    public TaskQuery withSort(SortOrderEnum sortOrder, SortTypeEnum sortType) {
+        return new TaskQuery(this.selections, this.conditions, sortOrder, sortType);
+    }
+
+    /**
+     * Returns a copy of this query with another criterion answered by the bitmap index.
+     *
+     * @param selection Function which returns the positions of the tasks selected
+     * @return New {@code TaskQuery} object
+     */
+    private TaskQuery withSelection(Function<TaskIndex, TaskBitmap> selection) {
+        List<Function<TaskIndex, TaskBitmap>> newSelections = new ArrayList<>(this.selections);
+        newSelections.add(selection);
+        return new TaskQuery(List.copyOf(newSelections), this.conditions, this.sortOrder, this.sortType);
+    }
+
+    /**
+     * Returns a copy of this query with another criterion checked against the tasks.
+     *
+     * @param condition Predicate which the selected tasks satisfy
+     * @return New {@code TaskQuery} object
+     */
+    private TaskQuery withCondition(Predicate<JukeTask> condition) {
+        List<Predicate<JukeTask>> newConditions = new ArrayList<>(this.conditions);
+        newConditions.add(condition);
+        return new TaskQuery(this.selections, List.copyOf(newConditions), this.sortOrder, this.sortType);
+    }
+
+    /**
+     * Runs the query against the bitmap index and the tasks it indexes.
+     *
+     * @param index Bitmap index of the tasks
+     * @param tasks Tasks of the task list
+     * @return Tasks selected, in the order of the task list unless a sort was requested
+     * @throws JukeIllegalArgumentException if the selected tasks cannot be sorted
+     */
+    List<JukeTask> run(TaskIndex index, List<JukeTask> tasks) {
+        List<TaskBitmap> bitmaps = new ArrayList<>(this.selections.size());
+
+        for (Function<TaskIndex, TaskBitmap> selection : this.selections) {
+            bitmaps.add(selection.apply(index));
+        }
+
+        // the smallest bitmap goes first, as every intersection is at most as large as it
+        bitmaps.sort(Comparator.comparingInt(TaskBitmap::cardinality));
+        TaskBitmap candidates = null;
+
+        for (TaskBitmap bitmap : bitmaps) {
+            candidates = candidates == null ? bitmap : candidates.and(bitmap);
+
+            if (candidates.isEmpty()) {
+                return new ArrayList<>();
+            }
+        }
+
+        Predicate<JukeTask> condition = this.conditions.stream().reduce(Predicate::and).orElse(task -> true);
+        List<JukeTask> matches = new ArrayList<>();
+
+        if (candidates == null) {
+            for (JukeTask task : tasks) {
+                if (condition.test(task)) {
+                    matches.add(task);
+                }
+            }
+        } else {
+            candidates.forEach(position -> {
+                JukeTask task = tasks.get(position);
+
+                if (condition.test(task)) {
+                    matches.add(task);
+                }
+            });
+        }
+
+        if (this.sortType != null) {
+            this.sort(matches);
+        }
+
+        return matches;
+    }
+
+    /**
+     * Sorts the selected tasks, in the same way {@code TaskList} sorts its tasks.
+     *
+     * @param matches Selected tasks
+     * @throws JukeIllegalArgumentException if the tasks cannot be sorted
+     */
+    private void sort(List<JukeTask> matches) {
+        try {
+            matches.sort((t1, t2) -> t2.sortBy(t1, this.sortType));
+        } catch (IllegalArgumentException | UnsupportedOperationException | ClassCastException ex) {
+            throw new JukeIllegalArgumentException("Oh no! I cannot sort the tasks!");
+        }
+
+        if (this.sortOrder.equals(SortOrderEnum.ASCENDING)) {
+            Collections.reverse(matches);
+        }
+    }
+
+    /**
+     * Checks that a field is a date which tasks may be filtered on.
+     *
+     * @param field Field to check
+     * @throws JukeIllegalArgumentException if the field is not a date
+     */
+    private static void checkDateField(SortTypeEnum field) {
+        if (field == SortTypeEnum.DESCRIPTION) {
+            throw new JukeIllegalArgumentException("Oh no! I can only filter your tasks by their start date, "
+                                                           + "end date or deadline!");
+        }
+    }
+
+    /**
+     * Returns the positions of the tasks which have the input date. Only events have a start date, only
+     * deadlines have a deadline, and both deadlines and events have an end date, which is the deadline of
+     * a deadline.
+     *
+     * @param index Bitmap index of the tasks
+     * @param field Date to filter on
+     * @return {@code TaskBitmap} of the tasks with the date
+     */
+    private static TaskBitmap selectDated(TaskIndex index, SortTypeEnum field) {
+        switch (field) {
+        case START_DATE:
+            return index.getType(TaskTypeEnum.EVENT);
+        case DEADLINE:
+            return index.getType(TaskTypeEnum.DEADLINE);
+        default:
+            return index.getType(TaskTypeEnum.DEADLINE).or(index.getType(TaskTypeEnum.EVENT));
+        }
+    }
+
+    /**
+     * Returns the input date of a task which has it.
+     *
+     * @param task Task selected by {@code selectDated} for the same field
+     * @param field Date to return
+     * @return Date of the task
+     */
+    private static LocalDateTime getDate(JukeTask task, SortTypeEnum field) {
+        if (task instanceof JukeDeadline) {
+            return ((JukeDeadline) task).getDeadline();
+        }
+
+        JukeEvent event = (JukeEvent) task;
+        return field == SortTypeEnum.START_DATE ? event.getStartDate() : event.getEndDate();
+    }
+}
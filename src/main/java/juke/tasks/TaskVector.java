@@ -0,0 +1,344 @@
+package juke.tasks;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list of {@code JukeTask}s which shares its structure with the lists it was derived from.
+ * The tasks are kept in a tree of nodes with up to 32 children each, with the last tasks in a separate
+ * tail node. Changing a task copies only the nodes on the path to it, and so a changed list can be
+ * derived in time logarithmic to the number of tasks, while the original list remains unchanged.
+ *
+ * <p>The tasks within a {@code TaskVector} must not be changed, as they may be shared with other lists.</p>
+ */
+public final class TaskVector extends AbstractList<JukeTask> implements RandomAccess {
+    /** Number of bits of an index consumed by each level of the tree. */
+    private static final int BITS = 5;
+
+    /** Maximum number of children of each node. */
+    private static final int WIDTH = 1 << TaskVector.BITS;
+
+    /** Mask for the bits of an index within a single node. */
+    private static final int MASK = TaskVector.WIDTH - 1;
+
+    /** Empty node, which is shared by all empty lists. */
+    private static final Object[] EMPTY_NODE = new Object[0];
+
+    /** Empty list. */
+    private static final TaskVector EMPTY = new TaskVector(0, TaskVector.BITS, TaskVector.EMPTY_NODE,
+                                                           TaskVector.EMPTY_NODE);
+
+    /** Number of tasks in the list. */
+    private final int size;
+
+    /** Number of bits of an index consumed below the root of the tree. */
+    private final int shift;
+
+    /** Root node of the tree, which contains every task before the tail. */
+    private final Object[] root;
+
+    /** Last tasks in the list, which are not yet part of the tree. */
+    private final Object[] tail;
+
+    /**
+     * Creates an instance of {@code TaskVector}.
+     *
+     * @param size Number of tasks in the list
+     * @param shift Number of bits of an index consumed below the root of the tree
+     * @param root Root node of the tree
+     * @param tail Last tasks in the list
+     */
+    private TaskVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns an empty {@code TaskVector}.
+     *
+     * @return Empty {@code TaskVector} object
+     */
+    public static TaskVector of() {
+        return TaskVector.EMPTY;
+    }
+
+    /**
+     * Creates an instance of {@code TaskVector} containing the input tasks. The tree is built one full node
+     * at a time, without creating the intermediate lists.
+     *
+     * @param tasks Tasks to include, in order
+     * @return {@code TaskVector} object
+     */
+    public static TaskVector of(List<? extends JukeTask> tasks) {
+        Object[] elements = tasks.toArray();
+        int size = elements.length;
+        int tailOffset = TaskVector.tailOffset(size);
+        Object[] root = TaskVector.EMPTY_NODE;
+        int shift = TaskVector.BITS;
+
+        for (int start = 0; start < tailOffset; start += TaskVector.WIDTH) {
+            Object[] leaf = Arrays.copyOfRange(elements, start, start + TaskVector.WIDTH);
+            int count = start + TaskVector.WIDTH;
+
+            if ((count >>> TaskVector.BITS) > (1 << shift)) {
+                root = new Object[] {root, TaskVector.newPath(shift, leaf)};
+                shift += TaskVector.BITS;
+            } else {
+                root = TaskVector.pushTail(count, shift, root, leaf);
+            }
+        }
+
+        Object[] tail = Arrays.copyOfRange(elements, tailOffset, size);
+        return new TaskVector(size, shift, root, tail);
+    }
+
+    /**
+     * Returns the task at the input index.
+     *
+     * @param index Index of the task
+     * @return {@code JukeTask} at the index
+     */
+    @Override
+    public JukeTask get(int index) {
+        Objects.checkIndex(index, this.size);
+        return (JukeTask) this.leafFor(index)[index & TaskVector.MASK];
+    }
+
+    /**
+     * Returns the number of tasks in the list.
+     *
+     * @return Number of tasks
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns an iterator over the tasks in order, which looks up each node of the tree only once.
+     *
+     * @return Iterator over the tasks
+     */
+    @Override
+    public Iterator<JukeTask> iterator() {
+        return new Iterator<>() {
+            /** Index of the next task. */
+            private int index = 0;
+
+            /** Node containing the next task. */
+            private Object[] leaf = TaskVector.EMPTY_NODE;
+
+            @Override
+            public boolean hasNext() {
+                return this.index < TaskVector.this.size;
+            }
+
+            @Override
+            public JukeTask next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                if ((this.index & TaskVector.MASK) == 0) {
+                    this.leaf = TaskVector.this.leafFor(this.index);
+                }
+
+                return (JukeTask) this.leaf[this.index++ & TaskVector.MASK];
+            }
+        };
+    }
+
+    /**
+     * Returns a list with the input task added to the end of this list.
+     *
+     * @param task Task to add
+     * @return {@code TaskVector} containing the tasks in this list followed by the input task
+     */
+    public TaskVector append(JukeTask task) {
+        if (this.size - TaskVector.tailOffset(this.size) < TaskVector.WIDTH) {
+            Object[] newTail = Arrays.copyOf(this.tail, this.tail.length + 1);
+            newTail[this.tail.length] = task;
+            return new TaskVector(this.size + 1, this.shift, this.root, newTail);
+        }
+
+        // the tail is full, and so it is moved into the tree, adding a level to the tree if the tree is full
+        Object[] newRoot;
+        int newShift = this.shift;
+
+        if ((this.size >>> TaskVector.BITS) > (1 << this.shift)) {
+            newRoot = new Object[] {this.root, TaskVector.newPath(this.shift, this.tail)};
+            newShift += TaskVector.BITS;
+        } else {
+            newRoot = TaskVector.pushTail(this.size, this.shift, this.root, this.tail);
+        }
+
+        return new TaskVector(this.size + 1, newShift, newRoot, new Object[] {task});
+    }
+
+    /**
+     * Returns a list with the task at the input index replaced by the input task.
+     *
+     * @param index Index of the task to replace
+     * @param task Task to replace it with
+     * @return {@code TaskVector} containing the tasks in this list, with the task at the index replaced
+     */
+    public TaskVector replace(int index, JukeTask task) {
+        Objects.checkIndex(index, this.size);
+
+        if (index >= TaskVector.tailOffset(this.size)) {
+            Object[] newTail = this.tail.clone();
+            newTail[index & TaskVector.MASK] = task;
+            return new TaskVector(this.size, this.shift, this.root, newTail);
+        }
+
+        Object[] newRoot = TaskVector.replaceInNode(this.shift, this.root, index, task);
+        return new TaskVector(this.size, this.shift, newRoot, this.tail);
+    }
+
+    /**
+     * Returns a list without the tasks at the input indices.
+     *
+     * @param indices Indices of tasks to remove, in ascending order without duplicates
+     * @return {@code TaskVector} containing the remaining tasks in this list
+     */
+    public TaskVector without(int... indices) {
+        JukeTask[] remaining = new JukeTask[this.size - indices.length];
+        int kept = 0;
+        int next = 0;
+
+        for (int i = 0; i < this.size; i++) {
+            if (next < indices.length && indices[next] == i) {
+                next++;
+            } else {
+                remaining[kept++] = this.get(i);
+            }
+        }
+
+        return TaskVector.of(Arrays.asList(remaining));
+    }
+
+    /**
+     * Returns a list with the tasks in this list ordered by the input comparator.
+     *
+     * @param comparator Comparator to order the tasks by
+     * @return Sorted {@code TaskVector}
+     */
+    public TaskVector sorted(Comparator<? super JukeTask> comparator) {
+        JukeTask[] tasks = this.toArray(new JukeTask[0]);
+        Arrays.sort(tasks, comparator);
+        return TaskVector.of(Arrays.asList(tasks));
+    }
+
+    /**
+     * Returns a list with the tasks in this list in reverse order.
+     *
+     * @return Reversed {@code TaskVector}
+     */
+    public TaskVector reversed() {
+        JukeTask[] tasks = new JukeTask[this.size];
+
+        for (int i = 0; i < this.size; i++) {
+            tasks[this.size - 1 - i] = this.get(i);
+        }
+
+        return TaskVector.of(Arrays.asList(tasks));
+    }
+
+    /**
+     * Returns the node containing the task at the input index.
+     *
+     * @param index Index of the task
+     * @return Leaf node or tail containing the task
+     */
+    private Object[] leafFor(int index) {
+        if (index >= TaskVector.tailOffset(this.size)) {
+            return this.tail;
+        }
+
+        Object[] node = this.root;
+
+        for (int level = this.shift; level > 0; level -= TaskVector.BITS) {
+            node = (Object[]) node[(index >>> level) & TaskVector.MASK];
+        }
+
+        return node;
+    }
+
+    /**
+     * Returns the index of the first task in the tail of a list of the input size.
+     *
+     * @param size Number of tasks in the list
+     * @return Index of the first task in the tail
+     */
+    private static int tailOffset(int size) {
+        return size < TaskVector.WIDTH ? 0 : ((size - 1) >>> TaskVector.BITS) << TaskVector.BITS;
+    }
+
+    /**
+     * Returns a copy of the input node with a full tail added as its last leaf.
+     *
+     * @param size Number of tasks in the list, including those in the tail
+     * @param level Number of bits of an index consumed below the node
+     * @param parent Node to add the tail under
+     * @param tailNode Tail to add
+     * @return Copy of the node containing the tail
+     */
+    private static Object[] pushTail(int size, int level, Object[] parent, Object[] tailNode) {
+        int childIndex = ((size - 1) >>> level) & TaskVector.MASK;
+        Object[] node = Arrays.copyOf(parent, Math.max(parent.length, childIndex + 1));
+
+        if (level == TaskVector.BITS) {
+            node[childIndex] = tailNode;
+        } else if (childIndex < parent.length) {
+            Object[] child = (Object[]) parent[childIndex];
+            node[childIndex] = TaskVector.pushTail(size, level - TaskVector.BITS, child, tailNode);
+        } else {
+            node[childIndex] = TaskVector.newPath(level - TaskVector.BITS, tailNode);
+        }
+
+        return node;
+    }
+
+    /**
+     * Returns a path of single child nodes down to the input leaf.
+     *
+     * @param level Number of bits of an index consumed below the top of the path
+     * @param leaf Leaf at the bottom of the path
+     * @return Top of the path
+     */
+    private static Object[] newPath(int level, Object[] leaf) {
+        return level == 0 ? leaf : new Object[] {TaskVector.newPath(level - TaskVector.BITS, leaf)};
+    }
+
+    /**
+     * Returns a copy of the input node with the task at the input index replaced, copying only the nodes on
+     * the path to the task.
+     *
+     * @param level Number of bits of an index consumed below the node
+     * @param node Node containing the task
+     * @param index Index of the task
+     * @param task Task to replace it with
+     * @return Copy of the node containing the replaced task
+     */
+    private static Object[] replaceInNode(int level, Object[] node, int index, JukeTask task) {
+        Object[] copy = node.clone();
+
+        if (level == 0) {
+            copy[index & TaskVector.MASK] = task;
+        } else {
+            int childIndex = (index >>> level) & TaskVector.MASK;
+            Object[] child = (Object[]) node[childIndex];
+            copy[childIndex] = TaskVector.replaceInNode(level - TaskVector.BITS, child, index, task);
+        }
+
+        return copy;
+    }
+}
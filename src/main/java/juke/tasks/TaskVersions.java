@@ -0,0 +1,172 @@
+package juke.tasks;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * List of {@code JukeTask}s which publishes an immutable {@code TaskVector} after every change. Each
+ * change derives a new version of the tasks from the current version, sharing most of its structure,
+ * and so versions handed out through {@code snapshot} remain unchanged and can be read without locking
+ * while the tasks continue to be changed.
+ *
+ * <p>Only a single thread may change a {@code TaskVersions} at a time. The tasks handed out by
+ * {@code get} are shared with the published versions, and so must not be changed; a changed copy of a
+ * task should be passed to {@code set} instead.</p>
+ */
+public final class TaskVersions extends AbstractList<JukeTask> implements RandomAccess {
+    /** Current version of the tasks. */
+    private volatile TaskVector current;
+
+    /**
+     * Creates an instance of {@code TaskVersions}.
+     *
+     * @param current Initial version of the tasks
+     */
+    private TaskVersions(TaskVector current) {
+        this.current = current;
+    }
+
+    /**
+     * Creates an instance of {@code TaskVersions} containing the input tasks.
+     *
+     * @param tasks Tasks to include, in order
+     * @return {@code TaskVersions} object
+     */
+    public static TaskVersions of(List<? extends JukeTask> tasks) {
+        return new TaskVersions(TaskVector.of(tasks));
+    }
+
+    /**
+     * Returns the current version of the tasks, which is never changed by later changes to the tasks.
+     *
+     * @return Current version of the tasks
+     */
+    public TaskVector snapshot() {
+        return this.current;
+    }
+
+    /**
+     * Makes the input version the current version of the tasks. This is used to undo changes made since
+     * the version was taken.
+     *
+     * @param version Version of the tasks to restore
+     */
+    public void restore(TaskVector version) {
+        this.current = version;
+        this.modCount++;
+    }
+
+    /**
+     * Returns the task at the input index, which must not be changed.
+     *
+     * @param index Index of the task
+     * @return {@code JukeTask} at the index
+     */
+    @Override
+    public JukeTask get(int index) {
+        return this.current.get(index);
+    }
+
+    /**
+     * Returns the number of tasks.
+     *
+     * @return Number of tasks
+     */
+    @Override
+    public int size() {
+        return this.current.size();
+    }
+
+    /**
+     * Replaces the task at the input index, publishing a new version of the tasks.
+     *
+     * @param index Index of the task
+     * @param task Task to replace it with
+     * @return Task previously at the index
+     */
+    @Override
+    public JukeTask set(int index, JukeTask task) {
+        TaskVector version = this.current;
+        JukeTask previous = version.get(index);
+        this.current = version.replace(index, task);
+        return previous;
+    }
+
+    /**
+     * Inserts a task at the input index, publishing a new version of the tasks. Tasks added to the end are
+     * appended to the current version, while tasks inserted elsewhere rebuild it.
+     *
+     * @param index Index to insert the task at
+     * @param task Task to insert
+     */
+    @Override
+    public void add(int index, JukeTask task) {
+        TaskVector version = this.current;
+
+        if (index == version.size()) {
+            this.current = version.append(task);
+        } else {
+            List<JukeTask> tasks = new ArrayList<>(version);
+            tasks.add(index, task);
+            this.current = TaskVector.of(tasks);
+        }
+
+        this.modCount++;
+    }
+
+    /**
+     * Removes the task at the input index, publishing a new version of the tasks.
+     *
+     * @param index Index of the task
+     * @return Removed task
+     */
+    @Override
+    public JukeTask remove(int index) {
+        TaskVector version = this.current;
+        JukeTask removed = version.get(index);
+        this.current = version.without(index);
+        this.modCount++;
+        return removed;
+    }
+
+    /**
+     * Removes the tasks at the input indices, publishing a single new version of the tasks.
+     *
+     * @param indices Indices of tasks to remove, in ascending order without duplicates
+     */
+    public void removeAll(int[] indices) {
+        this.current = this.current.without(indices);
+        this.modCount++;
+    }
+
+    /**
+     * Removes all tasks, publishing an empty version of the tasks.
+     */
+    @Override
+    public void clear() {
+        this.current = TaskVector.of();
+        this.modCount++;
+    }
+
+    /**
+     * Sorts the tasks by the input comparator. The sorted version is only published once the sort succeeds.
+     *
+     * @param comparator Comparator to order the tasks by
+     */
+    @Override
+    public void sort(Comparator<? super JukeTask> comparator) {
+        this.current = this.current.sorted(comparator);
+        this.modCount++;
+    }
+
+    /**
+     * Reverses the order of the tasks, publishing a new version of the tasks.
+     */
+    public void reverse() {
+        this.current = this.current.reversed();
+        this.modCount++;
+    }
+}
@@ -0,0 +1,586 @@
+package juke.tasks;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.Collectors;
+
+import juke.commons.PrefixTrie;
+import juke.commons.TextUtils;
+import juke.commons.classes.JukeObject;
+
+/**
+ * Vocabulary of the words in the task descriptions, kept in a BK-tree so that the words within a few edits
+ * of a query word are found without comparing the query word against every word. Each word keeps a bitmap
+ * of the positions of the tasks whose description contains it.
+ *
+ * <p>Words which no task contains any more are left in the tree and skipped by searches, until they
+ * outnumber the words still in use, at which point the tree is rebuilt.</p>
+ *
+ * <p>The vocabulary also keeps the number of words of each task, and how often each word repeats within a
+ * task, so that the tasks containing the words of a query can be ranked with BM25.</p>
+ */
+public class TaskVocabulary extends JukeObject {
+    /** Regex which splits a description into its words. */
+    private static final String WORD_SEPARATOR_REGEX = "[^\\p{L}\\p{N}]+";
+
+    /** BM25 parameter which limits how much a word repeated within a task adds to its score. */
+    private static final double K1 = 1.2;
+
+    /** BM25 parameter which sets how much the scores of longer tasks are lowered. */
+    private static final double B = 0.75;
+
+    /** Largest number of words starting with the last word of a suggestion which are searched for. */
+    private static final int MAX_PREFIX_WORDS = 64;
+
+    /** Positions of the tasks containing each word in use, sorted by word so that prefixes can be looked up. */
+    private final NavigableMap<String, TaskBitmap> postings = new TreeMap<>();
+
+    /** Root of the BK-tree of words, which is null if no word has been added. */
+    private Node root;
+
+    /** Number of words in the tree which no task contains any more. */
+    private int unusedWords;
+
+    /**
+     * Trie of the words, weighted by the most tasks which have contained each of them since the tree was
+     * last built, which completes the start of a word to its most frequent word.
+     */
+    private PrefixTrie<String> completions = PrefixTrie.of();
+
+    /** Number of words of the task at each position. */
+    private int[] lengths = new int[16];
+
+    /**
+     * Number of times each word repeats in the task at each position, for words which appear more than once,
+     * or null if no word of the task repeats.
+     */
+    private final List<Map<String, Integer>> repeats = new ArrayList<>();
+
+    /** Number of tasks in the vocabulary. */
+    private int count;
+
+    /** Total number of words of every task. */
+    private long totalLength;
+
+    /**
+     * Creates an instance of {@code TaskVocabulary} without any words.
+     */
+    private TaskVocabulary() {
+    }
+
+    /**
+     * Creates an empty {@code TaskVocabulary}.
+     *
+     * @return {@code TaskVocabulary} object
+     */
+    public static TaskVocabulary of() {
+        return new TaskVocabulary();
+    }
+
+    /**
+     * Returns the distinct words of a description, folded by {@code TextUtils.fold}.
+     *
+     * @param description Description to split
+     * @return Words of the description
+     */
+    public static String[] tokenize(String description) {
+        return TaskVocabulary.split(TextUtils.fold(description));
+    }
+
+    /**
+     * Returns the distinct words of text which is already folded.
+     *
+     * @param foldedText Folded text to split
+     * @return Words of the text
+     */
+    private static String[] split(String foldedText) {
+        return TaskVocabulary.countWords(foldedText).keySet().toArray(String[]::new);
+    }
+
+    /**
+     * Counts the words of text which is already folded.
+     *
+     * @param foldedText Folded text to split
+     * @return Number of times each word appears, in the order the words first appear
+     */
+    private static Map<String, Integer> countWords(String foldedText) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+
+        for (String word : foldedText.split(TaskVocabulary.WORD_SEPARATOR_REGEX)) {
+            if (!word.isEmpty()) {
+                counts.merge(word, 1, Integer::sum);
+            }
+        }
+
+        return counts;
+    }
+
+    /**
+     * Returns the Levenshtein distance between two words, which is the fewest single character insertions,
+     * deletions and substitutions that turn one word into the other.
+     *
+     * @param first First word
+     * @param second Second word
+     * @return Edit distance between the words
+     */
+    public static int distance(String first, String second) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        return previous[second.length()];
+    }
+
+    /**
+     * Returns the most edits a word may be away from a query word for it to match, which grows with the
+     * length of the query word so that short words do not match most of the vocabulary.
+     *
+     * @param word Query word
+     * @return Largest edit distance of a match
+     */
+    public static int getMaxDistance(String word) {
+        if (word.length() <= 2) {
+            return 0;
+        } else if (word.length() <= 5) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    /**
+     * Adds the words of a task added after every other task.
+     *
+     * @param position Position of the task
+     * @param task Task added
+     */
+    void add(int position, JukeTask task) {
+        Map<String, Integer> counts = TaskVocabulary.countWords(task.getSearchKey());
+        Map<String, Integer> repeatedWords = null;
+        int length = 0;
+
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            String word = entry.getKey();
+            TaskBitmap bitmap = this.postings.get(word);
+            length += entry.getValue();
+
+            if (entry.getValue() > 1) {
+                repeatedWords = repeatedWords == null ? new HashMap<>() : repeatedWords;
+                repeatedWords.put(word, entry.getValue());
+            }
+
+            if (bitmap == null) {
+                bitmap = TaskBitmap.of();
+                this.postings.put(word, bitmap);
+
+                if (!this.insert(word)) {
+                    // the word was left in the tree when it was last unused
+                    this.unusedWords--;
+                }
+            }
+
+            bitmap.add(position);
+            this.completions.put(word, word, bitmap.cardinality());
+        }
+
+        if (this.count == this.lengths.length) {
+            this.lengths = Arrays.copyOf(this.lengths, this.count * 2);
+        }
+
+        this.lengths[this.count] = length;
+        this.repeats.add(repeatedWords);
+        this.count++;
+        this.totalLength += length;
+    }
+
+    /**
+     * Removes deleted tasks from the vocabulary, shifting the positions of the tasks after them.
+     *
+     * @param positions Positions of the deleted tasks, in ascending order without duplicates
+     */
+    void removeAll(int[] positions) {
+        Iterator<Map.Entry<String, TaskBitmap>> entries = this.postings.entrySet().iterator();
+
+        while (entries.hasNext()) {
+            Map.Entry<String, TaskBitmap> entry = entries.next();
+            TaskBitmap bitmap = entry.getValue().withRemoved(positions);
+
+            if (bitmap.isEmpty()) {
+                entries.remove();
+                this.unusedWords++;
+            } else {
+                entry.setValue(bitmap);
+            }
+        }
+
+        if (this.unusedWords > this.postings.size()) {
+            this.root = null;
+            this.unusedWords = 0;
+            this.completions = PrefixTrie.of();
+            this.postings.forEach((word, bitmap) -> {
+                this.insert(word);
+                this.completions.put(word, word, bitmap.cardinality());
+            });
+        }
+
+        int kept = positions[0];
+        int next = 0;
+
+        for (int i = positions[0]; i < this.count; i++) {
+            if (next < positions.length && positions[next] == i) {
+                this.totalLength -= this.lengths[i];
+                next++;
+            } else {
+                this.lengths[kept] = this.lengths[i];
+                this.repeats.set(kept++, this.repeats.get(i));
+            }
+        }
+
+        this.repeats.subList(kept, this.count).clear();
+        this.count = kept;
+    }
+
+    /**
+     * Finds the words in use which are within some edits of a query word. Only the subtrees whose distance
+     * from their parent is within the edits of the distance between the query word and their parent are
+     * searched, as the words in any other subtree are too far from the query word.
+     *
+     * @param word Query word, folded by {@code TextUtils.fold}
+     * @param maxDistance Largest edit distance of a match
+     * @return Words found, with their distance from the query word
+     */
+    public Map<String, Integer> search(String word, int maxDistance) {
+        Map<String, Integer> matches = new HashMap<>();
+        Deque<Node> pending = new ArrayDeque<>();
+
+        if (this.root != null) {
+            pending.push(this.root);
+        }
+
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = TaskVocabulary.distance(word, node.word);
+
+            if (distance <= maxDistance && this.postings.containsKey(node.word)) {
+                matches.put(node.word, distance);
+            }
+
+            int last = Math.min(distance + maxDistance, node.children.length - 1);
+
+            for (int i = Math.max(1, distance - maxDistance); i <= last; i++) {
+                if (node.children[i] != null) {
+                    pending.push(node.children[i]);
+                }
+            }
+        }
+
+        return matches;
+    }
+
+    /**
+     * Finds the tasks which contain a word close to every word of the query. Each task is ranked by the
+     * total edits between the query words and its closest words, and tasks of the same rank are kept in
+     * the order of the task list.
+     *
+     * @param query Words searched for
+     * @param tasks Tasks of the task list, in the positions the vocabulary holds
+     * @return Tasks found, closest first
+     */
+    public List<TaskMatch> findTasks(String query, List<JukeTask> tasks) {
+        Map<Integer, Integer> distances = null;
+
+        for (String word : TaskVocabulary.tokenize(query)) {
+            Map<Integer, Integer> wordDistances = new HashMap<>();
+            this.search(word, TaskVocabulary.getMaxDistance(word)).forEach((match, distance) -> {
+                this.postings.get(match).forEach(position -> wordDistances.merge(position, distance, Math::min));
+            });
+
+            if (distances == null) {
+                distances = wordDistances;
+            } else {
+                distances.keySet().retainAll(wordDistances.keySet());
+                distances.replaceAll((position, distance) -> distance + wordDistances.get(position));
+            }
+        }
+
+        if (distances == null) {
+            return List.of();
+        }
+
+        Comparator<Map.Entry<Integer, Integer>> byRank = Map.Entry.comparingByValue();
+        return distances.entrySet()
+                        .stream()
+                        .sorted(byRank.thenComparing(Map.Entry.comparingByKey()))
+                        .map(entry -> TaskMatch.of(tasks.get(entry.getKey()), entry.getValue()))
+                        .collect(Collectors.toList());
+    }
+
+    /**
+     * Ranks the tasks containing any word of the query with BM25, and returns the best of them. The score of
+     * each task is gathered a word of the query at a time from the positions of the word, and the best
+     * tasks are kept in a heap bounded by the limit, so the tasks found are never sorted as a whole, and
+     * only the tasks returned are read.
+     *
+     * @param query Words searched for
+     * @param limit Largest number of tasks to return
+     * @param boost Factor which the score of the task at a position is multiplied by
+     * @param maxBoost Largest factor the boost gives, which lets tasks that cannot make the limit be skipped
+     *     without boosting them
+     * @param tasks Tasks of the task list, in the positions the vocabulary holds
+     * @return Tasks found with their scores, best first
+     */
+    public List<ScoredTask> rankTasks(String query, int limit, IntToDoubleFunction boost, double maxBoost,
+                                      List<JukeTask> tasks) {
+        Map<Integer, Double> scores = new HashMap<>();
+
+        for (String word : TaskVocabulary.tokenize(query)) {
+            TaskBitmap bitmap = this.postings.get(word);
+
+            if (bitmap != null) {
+                this.addScores(word, bitmap, scores);
+            }
+        }
+
+        return TaskVocabulary.selectBest(scores, limit, boost, maxBoost, tasks);
+    }
+
+    /**
+     * Suggests the tasks for text which is still being typed. The tasks contain every complete word of the
+     * text, and a word starting with its last word unless the text ends with a separator, and are ranked
+     * with BM25 over the words they contain. The words starting with the last word are looked up in the
+     * sorted postings, and at most {@code MAX_PREFIX_WORDS} of them are used.
+     *
+     * @param text Words typed so far
+     * @param limit Largest number of tasks to return
+     * @param tasks Tasks of the task list, in the positions the vocabulary holds
+     * @return Tasks suggested with their scores, best first
+     */
+    public List<ScoredTask> suggestTasks(String text, int limit, List<JukeTask> tasks) {
+        String foldedText = TextUtils.fold(text);
+        String[] words = TaskVocabulary.split(foldedText);
+
+        if (words.length == 0) {
+            return List.of();
+        }
+
+        boolean isLastWordComplete = !Character.isLetterOrDigit(foldedText.charAt(foldedText.length() - 1));
+        int completeWords = isLastWordComplete ? words.length : words.length - 1;
+        Map<String, TaskBitmap> terms = new HashMap<>();
+        TaskBitmap candidates = null;
+
+        for (int i = 0; i < completeWords; i++) {
+            TaskBitmap bitmap = this.postings.getOrDefault(words[i], TaskBitmap.of());
+            terms.put(words[i], bitmap);
+            candidates = candidates == null ? bitmap : candidates.and(bitmap);
+        }
+
+        if (!isLastWordComplete) {
+            String prefix = words[words.length - 1];
+            Map<String, TaskBitmap> prefixedWords = this.postings.subMap(prefix, prefix + Character.MAX_VALUE);
+            TaskBitmap prefixed = TaskBitmap.of();
+
+            for (Map.Entry<String, TaskBitmap> entry : prefixedWords.entrySet()) {
+                if (terms.size() == completeWords + TaskVocabulary.MAX_PREFIX_WORDS) {
+                    break;
+                }
+
+                terms.putIfAbsent(entry.getKey(), entry.getValue());
+                prefixed = prefixed.or(entry.getValue());
+            }
+
+            candidates = candidates == null ? prefixed : candidates.and(prefixed);
+        }
+
+        Map<Integer, Double> scores = new HashMap<>();
+
+        for (Map.Entry<String, TaskBitmap> term : terms.entrySet()) {
+            this.addScores(term.getKey(), term.getValue().and(candidates), scores);
+        }
+
+        return TaskVocabulary.selectBest(scores, limit, position -> 1, 1, tasks);
+    }
+
+    /**
+     * Adds the BM25 score of a word to the score of each task at the input positions.
+     *
+     * @param word Word in use
+     * @param positions Positions of the tasks to score, which all contain the word
+     * @param scores Scores of the tasks so far, by position
+     */
+    private void addScores(String word, TaskBitmap positions, Map<Integer, Double> scores) {
+        if (positions.isEmpty()) {
+            return;
+        }
+
+        int frequency = this.postings.get(word).cardinality();
+        double idf = Math.log(1 + (this.count - frequency + 0.5) / (frequency + 0.5));
+        double averageLength = (double) this.totalLength / this.count;
+
+        positions.forEach(position -> {
+            int termFrequency = this.getTermFrequency(position, word);
+            double norm = TaskVocabulary.K1
+                    * (1 - TaskVocabulary.B + TaskVocabulary.B * this.lengths[position] / averageLength);
+            double score = idf * termFrequency * (TaskVocabulary.K1 + 1) / (termFrequency + norm);
+            scores.merge(position, score, Double::sum);
+        });
+    }
+
+    /**
+     * Selects the best scored tasks with a heap bounded by the limit, without sorting every task scored.
+     *
+     * @param scores Scores of the tasks, by position
+     * @param limit Largest number of tasks to return
+     * @param boost Factor which the score of the task at a position is multiplied by
+     * @param maxBoost Largest factor the boost gives
+     * @param tasks Tasks of the task list, in the positions the vocabulary holds
+     * @return Best tasks with their boosted scores, best first
+     */
+    private static List<ScoredTask> selectBest(Map<Integer, Double> scores, int limit, IntToDoubleFunction boost,
+                                               double maxBoost, List<JukeTask> tasks) {
+        // the worst of the best tasks is kept at the head, with later tasks losing ties
+        PriorityQueue<Map.Entry<Integer, Double>> best = new PriorityQueue<>(
+                Map.Entry.<Integer, Double>comparingByValue()
+                        .thenComparing(Map.Entry.<Integer, Double>comparingByKey().reversed()));
+
+        for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+            if (limit <= 0 || best.size() == limit && entry.getValue() * maxBoost < best.peek().getValue()) {
+                continue;
+            }
+
+            best.offer(Map.entry(entry.getKey(), entry.getValue() * boost.applyAsDouble(entry.getKey())));
+
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        LinkedList<ScoredTask> ranked = new LinkedList<>();
+
+        while (!best.isEmpty()) {
+            Map.Entry<Integer, Double> entry = best.poll();
+            ranked.addFirst(ScoredTask.of(tasks.get(entry.getKey()), entry.getValue()));
+        }
+
+        return ranked;
+    }
+
+    /**
+     * Returns the number of times a word appears in the task at a position.
+     *
+     * @param position Position of the task, which contains the word
+     * @param word Word of the task
+     * @return Number of times the word appears in the task
+     */
+    private int getTermFrequency(int position, String word) {
+        Map<String, Integer> repeatedWords = this.repeats.get(position);
+        return repeatedWords == null ? 1 : repeatedWords.getOrDefault(word, 1);
+    }
+
+    /**
+     * Completes the start of a word to the word in use with that start which the most tasks contain. The
+     * start is folded before it is looked up, and the rest of the word is appended to the start as typed.
+     *
+     * @param prefix Start of a word
+     * @return Start of the word followed by the rest of the completed word, or null if there is none
+     */
+    public String completeWord(String prefix) {
+        String foldedPrefix = TextUtils.fold(prefix);
+        String word = this.completions.complete(foldedPrefix);
+
+        if (word == null || !this.postings.containsKey(word)) {
+            return null;
+        }
+
+        return prefix + word.substring(foldedPrefix.length());
+    }
+
+    /**
+     * Returns the number of words in use.
+     *
+     * @return Number of words
+     */
+    public int size() {
+        return this.postings.size();
+    }
+
+    /**
+     * Inserts a word into the BK-tree, under the child of each node at its distance from that node.
+     *
+     * @param word Word to insert
+     * @return true if the word was inserted, or false if it is already in the tree
+     */
+    private boolean insert(String word) {
+        if (this.root == null) {
+            this.root = new Node(word);
+            return true;
+        }
+
+        Node node = this.root;
+
+        while (true) {
+            int distance = TaskVocabulary.distance(word, node.word);
+
+            if (distance == 0) {
+                return false;
+            } else if (distance >= node.children.length) {
+                node.children = Arrays.copyOf(node.children, distance + 1);
+            }
+
+            if (node.children[distance] == null) {
+                node.children[distance] = new Node(word);
+                return true;
+            }
+
+            node = node.children[distance];
+        }
+    }
+
+    /**
+     * Node of the BK-tree, which holds a word and its children indexed by their distance from the word.
+     */
+    private static final class Node {
+        /** Word of the node. */
+        private final String word;
+
+        /** Children of the node, indexed by their distance from the word of the node. */
+        private Node[] children = new Node[0];
+
+        /**
+         * Creates an instance of {@code Node}.
+         *
+         * @param word Word of the node
+         */
+        private Node(String word) {
+            this.word = word;
+        }
+    }
+}
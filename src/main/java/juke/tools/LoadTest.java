@@ -0,0 +1,224 @@
+package juke.tools;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import juke.commons.classes.JukeObject;
+import juke.commons.exceptions.JukeException;
+import juke.commons.exceptions.storage.JukeStorageReadException;
+import juke.commons.exceptions.storage.JukeStorageWriteException;
+import juke.commons.interfaces.StorageBackend;
+import juke.engine.CommandResult;
+import juke.engine.JukeEngine;
+import juke.engine.JukeEngineOptions;
+import juke.statistics.LatencyHistogram;
+import juke.storage.Storage;
+
+/**
+ * Load test harness which generates a synthetic workload and replays it against Juke without the GUI,
+ * reporting the throughput and latency of the commands. The datafile is generated at the path given with
+ * {@code --data=FILE}, or in the {@code data} directory of the working directory by default, replacing any
+ * datafile already there, and so this should only be run from a scratch directory, as the {@code loadTest}
+ * Gradle task does. The {@code juke.data} system property is ignored, so that the datafile of Juke itself
+ * is never replaced. The in-memory backend does not touch the datafile at all.
+ * <p>
+ * Besides the options of {@code WorkloadProfile}, {@code --replay=FILE} replays the commands in the
+ * file instead of generated ones, and {@code --save=FILE} saves the commands that were replayed.
+ * The backing store is otherwise selected through the same system properties as Juke itself.
+ */
+public class LoadTest extends JukeObject {
+    /** Number of nanoseconds in a millisecond. */
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    /** Number of nanoseconds in a second. */
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    /** Profile of the workload. */
+    private final WorkloadProfile profile;
+
+    /** File of commands to replay, or null to replay generated commands. */
+    private final Path replayPath;
+
+    /** File to save the replayed commands to, or null to not save them. */
+    private final Path savePath;
+
+    /** Datafile to generate the tasks in. */
+    private final Path dataPath;
+
+    /** End-to-end latencies of all commands replayed. */
+    private final LatencyHistogram latencies;
+
+    /** Number of commands of each type which failed. */
+    private final Map<String, Integer> failures;
+
+    /**
+     * Creates an instance of {@code LoadTest}.
+     *
+     * @param profile Profile of the workload
+     * @param replayPath File of commands to replay, or null to replay generated commands
+     * @param savePath File to save the replayed commands to, or null to not save them
+     * @param dataPath Datafile to generate the tasks in
+     */
+    private LoadTest(WorkloadProfile profile, Path replayPath, Path savePath, Path dataPath) {
+        this.profile = profile;
+        this.replayPath = replayPath;
+        this.savePath = savePath;
+        this.dataPath = dataPath;
+        this.latencies = LatencyHistogram.of();
+        this.failures = new TreeMap<>();
+    }
+
+    /**
+     * Creates an instance of {@code LoadTest} from command line options.
+     *
+     * @param args Command line options
+     * @return {@code LoadTest} object
+     */
+    public static LoadTest of(String... args) {
+        List<String> profileArgs = new ArrayList<>();
+        Path replayPath = null;
+        Path savePath = null;
+        Path dataPath = Storage.DEFAULT_FILE_PATH;
+
+        for (String arg : args) {
+            if (arg.startsWith("--replay=")) {
+                replayPath = Paths.get(arg.substring("--replay=".length()));
+            } else if (arg.startsWith("--save=")) {
+                savePath = Paths.get(arg.substring("--save=".length()));
+            } else if (arg.startsWith("--data=")) {
+                dataPath = Paths.get(arg.substring("--data=".length()));
+            } else {
+                profileArgs.add(arg);
+            }
+        }
+
+        return new LoadTest(WorkloadProfile.of(profileArgs.toArray(String[]::new)), replayPath, savePath,
+                            dataPath);
+    }
+
+    /**
+     * Runs the load test and prints the report to standard output.
+     *
+     * @param args Command line options
+     */
+    public static void main(String[] args) {
+        try {
+            LoadTest.of(args).run(System.out);
+        } catch (JukeException ex) {
+            System.err.println(ex);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Generates the workload, replays it and prints the report.
+     *
+     * @param out Stream to print the report to
+     * @throws JukeException if the workload cannot be generated, loaded or saved
+     */
+    public void run(PrintStream out) {
+        WorkloadGenerator generator = WorkloadGenerator.of(this.profile);
+        JukeEngineOptions options = JukeEngineOptions.ofConfigured();
+        StorageBackend storage = Storage.ofType(options.getStorageType(), this.dataPath);
+        storage.write(generator.generateTasks());
+        List<String> commands = this.replayPath == null ? generator.generateCommands() : this.readCommands();
+
+        if (this.savePath != null) {
+            this.saveCommands(commands);
+        }
+
+        long loadStart = System.nanoTime();
+
+        try (JukeEngine engine = JukeEngine.of(storage, options)) {
+            long loadTime = System.nanoTime() - loadStart;
+            long replayStart = System.nanoTime();
+
+            for (String command : commands) {
+                this.replay(command, engine);
+            }
+
+            long replayTime = System.nanoTime() - replayStart;
+            this.report(out, engine, commands.size(), loadTime, replayTime);
+        }
+    }
+
+    /**
+     * Replays a command, recording its end-to-end latency. The engine records the latency of each of
+     * its phases.
+     *
+     * @param command Raw command
+     * @param engine {@code JukeEngine} to run the command with
+     */
+    private void replay(String command, JukeEngine engine) {
+        long start = System.nanoTime();
+        CommandResult result = engine.execute(command);
+        this.latencies.record(System.nanoTime() - start);
+
+        // the bye command only asks for Juke to exit, and so the load test runs to the end of the commands
+        if (!result.isSuccess()) {
+            this.failures.merge(result.getCommandType(), 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Prints the report of the load test.
+     *
+     * @param out Stream to print the report to
+     * @param engine {@code JukeEngine} the commands were replayed with
+     * @param commandCount Number of commands replayed
+     * @param loadTime Time taken to load the tasks, in nanoseconds
+     * @param replayTime Time taken to replay the commands, in nanoseconds
+     */
+    private void report(PrintStream out, JukeEngine engine, int commandCount, long loadTime, long replayTime) {
+        out.printf("Tasks: %d generated, %d after replay%n", this.profile.getTaskCount(),
+                   engine.getTasks().size());
+        out.printf("Load: %.3f ms%n", loadTime / LoadTest.NANOS_PER_MILLI);
+        out.printf("Replay: %d commands in %.3f ms (%.1f commands/s)%n", commandCount,
+                   replayTime / LoadTest.NANOS_PER_MILLI,
+                   commandCount / Math.max(replayTime / LoadTest.NANOS_PER_SECOND, Double.MIN_VALUE));
+        out.printf("Latency: p50 %.3f ms, p99 %.3f ms, max %.3f ms%n",
+                   this.latencies.getPercentile(0.5) / LoadTest.NANOS_PER_MILLI,
+                   this.latencies.getPercentile(0.99) / LoadTest.NANOS_PER_MILLI,
+                   this.latencies.getMax() / LoadTest.NANOS_PER_MILLI);
+        out.printf("Query cache: %d hits, %d misses%n", engine.getCacheHits(), engine.getCacheMisses());
+        out.println("Failures: " + (this.failures.isEmpty() ? "none" : this.failures));
+        out.println();
+        out.println(engine.getStatistics());
+    }
+
+    /**
+     * Reads the commands to replay, one per line.
+     *
+     * @return Commands to replay
+     * @throws JukeStorageReadException if the file cannot be read
+     */
+    private List<String> readCommands() {
+        try {
+            return Files.readAllLines(this.replayPath);
+        } catch (IOException ex) {
+            throw new JukeStorageReadException("Oh no! I cannot read the commands to replay from "
+                                                       + this.replayPath + "!");
+        }
+    }
+
+    /**
+     * Saves the commands to replay, one per line.
+     *
+     * @param commands Commands to save
+     * @throws JukeStorageWriteException if the file cannot be written to
+     */
+    private void saveCommands(List<String> commands) {
+        try {
+            Files.write(this.savePath, commands);
+        } catch (IOException ex) {
+            throw new JukeStorageWriteException("Oh no! I cannot save the commands to " + this.savePath + "!");
+        }
+    }
+}
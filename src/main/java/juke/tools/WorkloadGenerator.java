@@ -0,0 +1,255 @@
+package juke.tools;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import juke.commons.classes.JukeObject;
+import juke.commons.exceptions.arguments.JukeIllegalArgumentException;
+import juke.tasks.JukeDeadline;
+import juke.tasks.JukeEvent;
+import juke.tasks.JukeTask;
+import juke.tasks.JukeTodo;
+
+/**
+ * Generates synthetic datafiles and streams of commands from a {@code WorkloadProfile}. The same profile
+ * always generates the same workload, so that results can be compared between runs.
+ */
+public class WorkloadGenerator extends JukeObject {
+    /** Words which the descriptions of the tasks are made of, with the most frequent words first. */
+    private static final String[] VOCABULARY = {
+        "read", "book", "write", "essay", "submit", "report", "meeting", "project", "review", "lecture",
+        "tutorial", "assignment", "email", "call", "buy", "groceries", "clean", "room", "gym", "run",
+        "lab", "quiz", "exam", "revise", "notes", "draft", "slides", "present", "team", "client",
+        "invoice", "pay", "rent", "bills", "plan", "trip", "tickets", "flight", "hotel", "visit",
+        "dentist", "doctor", "renew", "passport", "fix", "bug", "deploy", "release", "backup", "laptop"
+    };
+
+    /** Fraction of the tasks in the generated datafile which are completed. */
+    private static final double COMPLETED_FRACTION = 0.3d;
+
+    /** Earliest date of the tasks. */
+    private static final LocalDateTime START_DATE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    /** Format of the dates in the generated commands. */
+    private static final DateTimeFormatter COMMAND_DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm");
+
+    /** Longest duration of an event, in minutes. */
+    private static final int MAX_EVENT_MINUTES = 3 * 24 * 60;
+
+    /** Profile of the workload to generate. */
+    private final WorkloadProfile profile;
+
+    /** Random number generator seeded by the profile. */
+    private final Random random;
+
+    /**
+     * Creates an instance of {@code WorkloadGenerator}.
+     *
+     * @param profile Profile of the workload to generate
+     */
+    private WorkloadGenerator(WorkloadProfile profile) {
+        this.profile = profile;
+        this.random = new Random(profile.getSeed());
+    }
+
+    /**
+     * Creates an instance of {@code WorkloadGenerator}.
+     *
+     * @param profile Profile of the workload to generate
+     * @return {@code WorkloadGenerator} object
+     */
+    public static WorkloadGenerator of(WorkloadProfile profile) {
+        return new WorkloadGenerator(profile);
+    }
+
+    /**
+     * Generates the tasks of a datafile.
+     *
+     * @return Generated tasks
+     * @throws JukeIllegalArgumentException if the task mix contains an unknown type of task
+     */
+    public List<JukeTask> generateTasks() {
+        List<JukeTask> tasks = new ArrayList<>(this.profile.getTaskCount());
+
+        for (int i = 0; i < this.profile.getTaskCount(); i++) {
+            tasks.add(this.generateTask(this.pick(this.profile.getTaskMix())));
+        }
+
+        return tasks;
+    }
+
+    /**
+     * Generates a stream of commands to replay against the tasks generated by {@code generateTasks}.
+     * The number of tasks is tracked as the commands are generated, so that task numbers mostly refer to
+     * existing tasks.
+     *
+     * @return Generated commands, in the order that they are to be run
+     * @throws JukeIllegalArgumentException if the command mix contains an unknown command
+     */
+    public List<String> generateCommands() {
+        List<String> commands = new ArrayList<>(this.profile.getCommandCount());
+        int taskCount = this.profile.getTaskCount();
+
+        for (int i = 0; i < this.profile.getCommandCount(); i++) {
+            String command = this.pick(this.profile.getCommandMix());
+
+            // commands which need a task fall back to adding one when there are none left
+            if (taskCount == 0 && (command.equals("mark") || command.equals("unmark")
+                    || command.equals("delete"))) {
+                command = "todo";
+            }
+
+            switch (command) {
+            case "todo":
+            case "deadline":
+            case "event":
+                commands.add(this.generateAddCommand(command));
+                taskCount++;
+                break;
+            case "mark":
+            case "unmark":
+                commands.add(command + " " + (this.random.nextInt(taskCount) + 1));
+                break;
+            case "delete":
+                commands.add(command + " " + (this.random.nextInt(taskCount) + 1));
+                taskCount--;
+                break;
+            case "find":
+                commands.add("find " + this.generateWord());
+                break;
+            case "sort":
+                commands.add("sort " + (this.random.nextBoolean() ? "a" : "d") + " description");
+                break;
+            case "list":
+                commands.add("list");
+                break;
+            default:
+                throw new JukeIllegalArgumentException("Oh no! I cannot generate the command \"" + command + "\"!");
+            }
+        }
+
+        return commands;
+    }
+
+    /**
+     * Generates a task of the input type.
+     *
+     * @param type Command which creates the type of task
+     * @return Generated task
+     */
+    private JukeTask generateTask(String type) {
+        String description = this.generateDescription();
+        boolean isCompleted = this.random.nextDouble() < WorkloadGenerator.COMPLETED_FRACTION;
+        LocalDateTime date = this.generateDate();
+
+        switch (type) {
+        case "todo":
+            return new JukeTodo(description, isCompleted);
+        case "deadline":
+            return new JukeDeadline(description, date, isCompleted);
+        case "event":
+            return new JukeEvent(description, date, this.generateEndDate(date), isCompleted);
+        default:
+            throw new JukeIllegalArgumentException("Oh no! I cannot generate the task \"" + type + "\"!");
+        }
+    }
+
+    /**
+     * Generates a command which adds a task of the input type.
+     *
+     * @param type Command which creates the type of task
+     * @return Generated command
+     */
+    private String generateAddCommand(String type) {
+        String description = this.generateDescription();
+        LocalDateTime date = this.generateDate();
+
+        switch (type) {
+        case "deadline":
+            return "deadline " + description + " /by " + date.format(WorkloadGenerator.COMMAND_DATE_FORMAT);
+        case "event":
+            return "event " + description + " /from " + date.format(WorkloadGenerator.COMMAND_DATE_FORMAT)
+                    + " /to " + this.generateEndDate(date).format(WorkloadGenerator.COMMAND_DATE_FORMAT);
+        default:
+            return "todo " + description;
+        }
+    }
+
+    /**
+     * Generates a description whose number of words is exponentially distributed around the mean number
+     * of words of the profile.
+     *
+     * @return Generated description
+     */
+    private String generateDescription() {
+        int words = 1 + (int) (-(this.profile.getMeanWords() - 1) * Math.log(1 - this.random.nextDouble()));
+        StringBuilder builder = new StringBuilder(this.generateWord());
+
+        for (int i = 1; i < words; i++) {
+            builder.append(" ").append(this.generateWord());
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Generates a word, favouring the words at the start of the vocabulary.
+     *
+     * @return Generated word
+     */
+    private String generateWord() {
+        double skewed = Math.pow(this.random.nextDouble(), 2);
+        return WorkloadGenerator.VOCABULARY[(int) (skewed * WorkloadGenerator.VOCABULARY.length)];
+    }
+
+    /**
+     * Generates a date spread uniformly over the days of the profile, to the minute.
+     *
+     * @return Generated date
+     */
+    private LocalDateTime generateDate() {
+        return WorkloadGenerator.START_DATE
+                .plusDays(this.random.nextInt(this.profile.getDaySpread()))
+                .plusMinutes(this.random.nextInt(24 * 60));
+    }
+
+    /**
+     * Generates the end date of an event which starts at the input date.
+     *
+     * @param start Start date of the event
+     * @return Generated end date
+     */
+    private LocalDateTime generateEndDate(LocalDateTime start) {
+        return start.plusMinutes(1 + this.random.nextInt(WorkloadGenerator.MAX_EVENT_MINUTES));
+    }
+
+    /**
+     * Picks a name at random, with probability proportional to its weight.
+     *
+     * @param weights Weight of each name
+     * @return Picked name
+     */
+    private String pick(Map<String, Integer> weights) {
+        int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+
+        if (total == 0) {
+            throw new JukeIllegalArgumentException("Oh no! At least one weight of the mix must be positive!");
+        }
+
+        int target = this.random.nextInt(total);
+
+        for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+            target -= entry.getValue();
+
+            if (target < 0) {
+                return entry.getKey();
+            }
+        }
+
+        throw new AssertionError("weights are exhausted before the target is reached");
+    }
+}
@@ -0,0 +1,207 @@
+package juke.tools;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import juke.commons.classes.JukeObject;
+import juke.commons.exceptions.arguments.JukeIllegalArgumentException;
+
+/**
+ * Describes the shape of a synthetic workload: the size and mix of the tasks in the datafile, and the size
+ * and mix of the stream of commands replayed against them.
+ */
+public class WorkloadProfile extends JukeObject {
+    /** Default number of tasks in the generated datafile. */
+    private static final int DEFAULT_TASK_COUNT = 10_000;
+
+    /** Default number of commands in the generated stream of commands. */
+    private static final int DEFAULT_COMMAND_COUNT = 5_000;
+
+    /** Default seed of the random number generator. */
+    private static final long DEFAULT_SEED = 42L;
+
+    /** Default mean number of words in the description of a task. */
+    private static final double DEFAULT_MEAN_WORDS = 4.0d;
+
+    /** Default number of days over which the dates of the tasks are spread. */
+    private static final int DEFAULT_DAY_SPREAD = 365;
+
+    /** Default relative frequency of each type of task in the generated datafile. */
+    private static final String DEFAULT_TASK_MIX = "todo:6,deadline:3,event:1";
+
+    /** Default relative frequency of each command in the generated stream of commands. */
+    private static final String DEFAULT_COMMAND_MIX =
+            "todo:12,deadline:10,event:5,mark:15,unmark:5,delete:8,find:30,sort:2,list:13";
+
+    /** Number of tasks in the generated datafile. */
+    private final int taskCount;
+
+    /** Number of commands in the generated stream of commands. */
+    private final int commandCount;
+
+    /** Seed of the random number generator. */
+    private final long seed;
+
+    /** Mean number of words in the description of a task. */
+    private final double meanWords;
+
+    /** Number of days over which the dates of the tasks are spread. */
+    private final int daySpread;
+
+    /** Relative frequency of each type of task, by the command which creates it. */
+    private final Map<String, Integer> taskMix;
+
+    /** Relative frequency of each command, by the name of the command. */
+    private final Map<String, Integer> commandMix;
+
+    /**
+     * Creates an instance of {@code WorkloadProfile}.
+     *
+     * @param options Options of the profile, by their name
+     */
+    private WorkloadProfile(Map<String, String> options) {
+        this.taskCount = WorkloadProfile.parseInt(options, "tasks", WorkloadProfile.DEFAULT_TASK_COUNT);
+        this.commandCount = WorkloadProfile.parseInt(options, "commands", WorkloadProfile.DEFAULT_COMMAND_COUNT);
+        this.seed = Long.parseLong(options.getOrDefault("seed", String.valueOf(WorkloadProfile.DEFAULT_SEED)));
+        this.meanWords = Double.parseDouble(options.getOrDefault("words",
+                                                                 String.valueOf(WorkloadProfile.DEFAULT_MEAN_WORDS)));
+        this.daySpread = WorkloadProfile.parseInt(options, "days", WorkloadProfile.DEFAULT_DAY_SPREAD);
+        this.taskMix = WorkloadProfile.parseMix(options.getOrDefault("task-mix", WorkloadProfile.DEFAULT_TASK_MIX));
+        this.commandMix = WorkloadProfile.parseMix(options.getOrDefault("command-mix",
+                                                                        WorkloadProfile.DEFAULT_COMMAND_MIX));
+
+        if (this.taskCount < 0 || this.commandCount < 0 || this.meanWords < 1 || this.daySpread < 1) {
+            throw new JukeIllegalArgumentException("Oh no! The size of the workload must not be negative, and "
+                                                           + "there must be at least one word and one day!");
+        }
+    }
+
+    /**
+     * Creates an instance of {@code WorkloadProfile} from command line options of the form
+     * {@code --name=value}. Options which are not given take their default values.
+     *
+     * @param args Command line options
+     * @return {@code WorkloadProfile} object
+     * @throws JukeIllegalArgumentException if any option is malformed
+     */
+    public static WorkloadProfile of(String... args) {
+        Map<String, String> options = new LinkedHashMap<>();
+
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new JukeIllegalArgumentException("Oh no! I cannot understand the option \"" + arg
+                                                               + "\"! Options are of the form --name=value.");
+            }
+
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        try {
+            return new WorkloadProfile(options);
+        } catch (NumberFormatException ex) {
+            throw new JukeIllegalArgumentException("Oh no! The options must be numbers where numbers are "
+                                                           + "expected!");
+        }
+    }
+
+    /**
+     * Returns the value of an integer option.
+     *
+     * @param options Options, by their name
+     * @param name Name of the option
+     * @param defaultValue Value of the option if it is not given
+     * @return Value of the option
+     */
+    private static int parseInt(Map<String, String> options, String name, int defaultValue) {
+        return Integer.parseInt(options.getOrDefault(name, String.valueOf(defaultValue)));
+    }
+
+    /**
+     * Parses a mix of the form {@code name:weight,name:weight}.
+     *
+     * @param mix Mix to parse
+     * @return Weight of each name, in the order given
+     * @throws JukeIllegalArgumentException if the mix is malformed
+     */
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split(":");
+
+            if (parts.length != 2 || Integer.parseInt(parts[1]) < 0) {
+                throw new JukeIllegalArgumentException("Oh no! I cannot understand the mix \"" + mix
+                                                               + "\"! Mixes are of the form name:weight,...");
+            }
+
+            weights.put(parts[0].strip(), Integer.parseInt(parts[1]));
+        }
+
+        return weights;
+    }
+
+    /**
+     * Returns the number of tasks in the generated datafile.
+     *
+     * @return Number of tasks
+     */
+    public int getTaskCount() {
+        return this.taskCount;
+    }
+
+    /**
+     * Returns the number of commands in the generated stream of commands.
+     *
+     * @return Number of commands
+     */
+    public int getCommandCount() {
+        return this.commandCount;
+    }
+
+    /**
+     * Returns the seed of the random number generator.
+     *
+     * @return Seed
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Returns the mean number of words in the description of a task.
+     *
+     * @return Mean number of words
+     */
+    public double getMeanWords() {
+        return this.meanWords;
+    }
+
+    /**
+     * Returns the number of days over which the dates of the tasks are spread.
+     *
+     * @return Number of days
+     */
+    public int getDaySpread() {
+        return this.daySpread;
+    }
+
+    /**
+     * Returns the relative frequency of each type of task, by the command which creates it.
+     *
+     * @return Weight of each type of task
+     */
+    public Map<String, Integer> getTaskMix() {
+        return this.taskMix;
+    }
+
+    /**
+     * Returns the relative frequency of each command, by the name of the command.
+     *
+     * @return Weight of each command
+     */
+    public Map<String, Integer> getCommandMix() {
+        return this.commandMix;
+    }
+}
@@ -5,6 +5,8 @@ import javafx.collections.ObservableList;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.layout.HBox;
+import juke.responses.Dialog;
+import juke.statistics.events.DialogRenderEvent;
 
 //@@author asdfghjkxd-reused
 // Class reused from https://se-education.org/guides/tutorials/javaFxPart3.html.
@@ -13,6 +15,27 @@ import javafx.scene.layout.HBox;
  * displayed to the user through the GUI.
  */
 public abstract class DialogBox extends HBox {
+    /**
+     * Creates the {@code DialogBox} representation of the input {@code Dialog} object, which is a
+     * {@code UserDialogBox} for the user's dialogs and a {@code JukeDialogBox} for Juke's.
+     *
+     * @param dialog Dialog to display
+     * @return {@code DialogBox} representing the dialog
+     */
+    public static DialogBox of(Dialog dialog) {
+        DialogRenderEvent event = new DialogRenderEvent();
+        event.begin();
+        DialogBox dialogBox = dialog.isFromUser() ? new UserDialogBox(dialog) : new JukeDialogBox(dialog);
+
+        if (event.shouldCommit()) {
+            event.setSpeaker(dialog.getClass().getSimpleName());
+            event.setLength(dialog.getDialogText().length());
+            event.commit();
+        }
+
+        return dialogBox;
+    }
+
     /**
      * Inverts the order of the widgets within this dialog box. This method is left here as a quick way
      * to reverse the order of the child widgets. This method will be deprecated in the future.
@@ -1,22 +1,36 @@
 package juke.ui.windows;
 
+import java.nio.file.Paths;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.stream.Collectors;
+
+import javafx.application.Platform;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
 import javafx.scene.control.Button;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.VBox;
-import juke.commands.JukeCommand;
-import juke.commands.JukeExceptionCommand;
-import juke.commands.JukeExitCommand;
+import juke.commons.enums.CommandPhaseEnum;
 import juke.commons.exceptions.JukeException;
-import juke.commons.exceptions.JukeInitialisationException;
-import juke.commons.exceptions.parsers.JukeParseException;
-import juke.commons.exceptions.storage.JukeStorageException;
+import juke.engine.CommandResult;
+import juke.engine.JukeEngine;
+import juke.engine.JukeEngineOptions;
+import juke.engine.JukeSuggester;
 import juke.responses.Dialog;
 import juke.responses.Response;
+import juke.statistics.CommandStatistics;
 import juke.storage.Storage;
-import juke.tasks.TaskList;
+import juke.tasks.JukeTask;
+import juke.tasks.ScoredTask;
+import juke.ui.components.DialogBox;
 
 //@@author asdfghjkxd-reused
 // Code is largely reused with some major modifications from
@@ -28,12 +42,11 @@ public class MainWindow extends AnchorPane {
     /** Offset for the widgets. */
     public static final double OFFSETS = 1.5d;
 
-    /** Storage object that handles the loading and saving of tasks. */
-    @FXML
-    private Storage storage;
+    /** Prompt shown in the input field while the tasks are loading. */
+    private static final String LOADING_PROMPT = "Loading your tasks... %.0f%%";
 
-    /** TaskList object that handles the manipulation of tasks. */
-    private TaskList taskList;
+    /** JukeEngine object that runs the commands against the tasks. */
+    private JukeEngine engine;
 
     /** ScrollPane container that contains a scrollable object. */
     @FXML
@@ -51,20 +64,84 @@ public class MainWindow extends AnchorPane {
     @FXML
     private Button submitButton;
 
+    /** Commands entered by the user before the tasks have finished loading. */
+    private final Queue<String> pendingCommands = new LinkedList<>();
+
+    /** Popup which shows the tasks suggested while a find command is being typed. */
+    private final ContextMenu suggestionPopup = new ContextMenu();
+
+    /** JukeSuggester object that searches the tasks while the user types, or null while the tasks load. */
+    private JukeSuggester suggester;
+
     /**
-     * Initialises the core services of Juke, such as the
-     * Storage and TaskList services.
+     * Initialises the core services of Juke, which are held by the JukeEngine, on a background
+     * thread. The progress of loading the tasks is shown in the input field, and the engine is only
+     * handed over to the JavaFX application thread once it is fully loaded.
      */
     private void initialiseCoreServices() {
-        try {
-            // init services
-            this.storage = Storage.of();
-            this.taskList = TaskList.of(this.storage);
-        } catch (JukeInitialisationException | JukeStorageException
-                 | JukeParseException ex) {
-            this.dialogContainer.getChildren().add(
-                    Dialog.ofJuke(ex.getMessage()).getDialogBoxRepresentation());
+        Thread loader = new Thread(() -> {
+            try {
+                // init services
+                JukeEngineOptions options = JukeEngineOptions.ofConfigured()
+                        .withProgressListener(this::showLoadingProgress);
+                JukeEngine loadedEngine = JukeEngine.of(Storage.getConfiguredFilePath(), options);
+                Platform.runLater(() -> this.onCoreServicesLoaded(loadedEngine));
+            } catch (JukeException ex) {
+                this.onCoreServicesFailed(ex.toString());
+            } catch (RuntimeException ex) {
+                // the loader thread would otherwise die silently, leaving the tasks loading forever
+                this.onCoreServicesFailed("Oh no! I am unable to load your tasks! " + ex);
+            }
+        }, "juke-loader");
+
+        // the loader should not keep Juke alive if the window is closed while loading
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Shows why the core services could not be loaded, then exits. This method may be called from any thread.
+     *
+     * @param message Message describing the failure
+     */
+    private void onCoreServicesFailed(String message) {
+        Platform.runLater(() -> {
+            this.showDialogs(Response.of(Dialog.ofJuke(message)));
             this.exit();
+        });
+    }
+
+    /**
+     * Shows the progress of loading the tasks in the input field. This method may be called from any thread.
+     *
+     * @param progress Fraction of the tasks loaded, from 0 to 1
+     */
+    private void showLoadingProgress(double progress) {
+        String prompt = String.format(MainWindow.LOADING_PROMPT, progress * 100);
+        Platform.runLater(() -> this.inputField.setPromptText(prompt));
+    }
+
+    /**
+     * Hands over the loaded core services to the main window, and runs the commands that the user
+     * entered while the tasks were loading. The command statistics are dumped when Juke exits, if
+     * requested.
+     *
+     * @param loadedEngine Loaded {@code JukeEngine} object
+     */
+    private void onCoreServicesLoaded(JukeEngine loadedEngine) {
+        this.engine = loadedEngine;
+        this.suggester = JukeSuggester.of(loadedEngine);
+        this.inputField.setPromptText("");
+        String statisticsPath = System.getProperty(CommandStatistics.DUMP_PROPERTY);
+
+        if (statisticsPath != null) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                loadedEngine.getStatistics().dump(Paths.get(statisticsPath));
+            }, "juke-stats"));
+        }
+
+        while (!this.pendingCommands.isEmpty()) {
+            this.executeCommand(this.pendingCommands.poll(), Response.of());
         }
     }
 
@@ -88,56 +165,175 @@ public class MainWindow extends AnchorPane {
         // handle user inputs
         this.submitButton.setOnMouseClicked((event) -> this.handleInput());
         this.inputField.setOnAction((event) -> this.handleInput());
+        this.inputField.textProperty().addListener((observable, oldText, newText) -> this.suggest(newText));
+        this.inputField.addEventFilter(KeyEvent.KEY_PRESSED, (event) -> {
+            // Tab completes the input instead of moving the focus away from the input field
+            if (event.getCode() == KeyCode.TAB) {
+                this.complete();
+                event.consume();
+            }
+        });
 
         // initialise core services after setting the handlers
         this.initialiseCoreServices();
     }
 
     /**
-     * Dispatches the command and acts on it.
+     * Dispatches the command and acts on it. Commands entered while the tasks are still loading are
+     * queued and run once loading completes.
      */
     @FXML
     private void handleInput() {
+        this.suggestionPopup.hide();
         String inputCommand = this.inputField.getText();
         Response response = Response.of(Dialog.ofUser(inputCommand.strip()));
 
-        try {
-            JukeCommand action = JukeCommand.of(inputCommand, this.taskList);
+        if (this.engine == null) {
+            this.pendingCommands.add(inputCommand);
+            this.showDialogs(response);
+            this.inputField.clear();
+            return;
+        }
 
-            // invokes the exit action should the user key in "bye" as the command
-            if (action instanceof JukeExitCommand) {
-                exit();
-            }
+        this.executeCommand(inputCommand, response);
+    }
 
-            // otherwise, execute the command and get the responses from the user and Juke
-            response = action.execute(response);
-        } catch (JukeException ex) {
-            // execute an exception command and add the response to the user
-            response = new JukeExceptionCommand(ex).execute(response);
-        } finally {
-            // finalise the dialog boxes to add
-            this.dialogContainer
-                    .getChildren()
-                    .addAll(response.getDialogBoxes());
-            this.inputField.clear();
+    /**
+     * Executes the command and adds the responses from the user and Juke to the dialog container. The time
+     * taken to render the responses is recorded alongside the phases recorded by the engine.
+     *
+     * @param inputCommand Raw command from the user input
+     * @param response {@code Response} object to compose the responses with
+     */
+    private void executeCommand(String inputCommand, Response response) {
+        CommandResult result = this.engine.execute(inputCommand);
+        long renderStart = System.nanoTime();
+
+        for (String message : result.getMessages()) {
+            response = response.with(Dialog.ofJuke(message));
+        }
+
+        this.showDialogs(response);
+        this.inputField.clear();
+        this.engine.getStatistics().record(result.getCommandType(), CommandPhaseEnum.RENDER,
+                                           System.nanoTime() - renderStart);
+
+        // invokes the exit action should the user key in "bye" as the command
+        if (result.isExit()) {
+            this.exit();
+        }
+    }
+
+    /**
+     * Schedules the last word of the input field to be completed by the suggester, as completing it may
+     * have to wait for the tasks to be indexed. The input field is left as it is while the tasks are loading.
+     */
+    private void complete() {
+        if (this.suggester == null) {
+            return;
+        }
+
+        this.suggester.complete(this.inputField.getText(), (input, completed) -> {
+            Platform.runLater(() -> this.showCompletion(input, completed));
+        });
+    }
+
+    /**
+     * Replaces the input field with its completion, unless the input has changed since it was completed.
+     *
+     * @param input Text of the input field which was completed
+     * @param completed Completed text
+     */
+    private void showCompletion(String input, String completed) {
+        if (input.equals(this.inputField.getText()) && !completed.equals(input)) {
+            this.inputField.setText(completed);
+            this.inputField.end();
+        }
+    }
+
+    /**
+     * Schedules the tasks to be suggested for the text of the input field, which only takes as long as
+     * handing the text over to the suggester. The suggestions are shown once they are found, on the JavaFX
+     * application thread.
+     *
+     * @param text Text of the input field
+     */
+    private void suggest(String text) {
+        if (this.suggester == null) {
+            return;
+        }
+
+        this.suggester.suggest(text, (input, suggestions) -> {
+            Platform.runLater(() -> this.showSuggestions(input, suggestions));
+        });
+    }
+
+    /**
+     * Shows the suggested tasks in the popup above the input field, unless the input has changed since they
+     * were searched for. Choosing a task fills the input field with a find command for its description.
+     *
+     * @param input Text of the input field which the tasks were suggested for
+     * @param suggestions Tasks suggested, best first
+     */
+    private void showSuggestions(String input, List<ScoredTask> suggestions) {
+        if (!input.equals(this.inputField.getText())) {
+            return;
+        }
+
+        if (suggestions.isEmpty()) {
+            this.suggestionPopup.hide();
+            return;
+        }
+
+        this.suggestionPopup.getItems().clear();
+
+        for (ScoredTask suggestion : suggestions) {
+            JukeTask task = suggestion.getTask();
+            MenuItem item = new MenuItem(task.toString());
+            item.setOnAction((event) -> {
+                this.inputField.setText("find " + task.getDescription());
+                this.inputField.end();
+            });
+            this.suggestionPopup.getItems().add(item);
+        }
+
+        if (!this.suggestionPopup.isShowing()) {
+            this.suggestionPopup.show(this.inputField, Side.TOP, 0, 0);
         }
     }
 
+    /**
+     * Adds the dialogs of the response to the dialog container.
+     *
+     * @param response {@code Response} object containing the dialogs to show
+     */
+    private void showDialogs(Response response) {
+        this.dialogContainer
+                .getChildren()
+                .addAll(response.getDialogs().stream().map(DialogBox::of).collect(Collectors.toList()));
+    }
+
     /**
      * Adds the introduction dialog to the user's screen on initialisation.
      */
     private void addIntroductoryDialog() {
         String introductoryMessage = "Hello! I'm Juke (J|ava D|uke)!\nWhat can I do for you today?";
-        this.dialogContainer
-                .getChildren()
-                .add(Dialog.ofJuke(introductoryMessage).getDialogBoxRepresentation());
+        this.showDialogs(Response.of(Dialog.ofJuke(introductoryMessage)));
     }
 
     /**
-     * Forces the application to exit. This may be deprecated in the future
-     * if the "bye" command is deprecated.
+     * Forces the application to exit, once every change has reached the datafile. This may be
+     * deprecated in the future if the "bye" command is deprecated.
      */
     private void exit() {
+        if (this.suggester != null) {
+            this.suggester.close();
+        }
+
+        if (this.engine != null) {
+            this.engine.close();
+        }
+
         System.exit(0);
     }
 }
@@ -0,0 +1,270 @@
+package juke.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import juke.commons.enums.SortOrderEnum;
+import juke.commons.enums.SortTypeEnum;
+import juke.commons.enums.StorageTypeEnum;
+import juke.commons.exceptions.JukeStateException;
+import juke.commons.exceptions.arguments.JukeIllegalArgumentException;
+import juke.tasks.JukeTask;
+
+/**
+ * Tests the {@code JukeEngine} class against a datafile in a temporary directory.
+ */
+public class JukeEngineTest {
+    /**
+     * Tests if raw commands are run and give Juke's replies as the result.
+     */
+    @Test
+    public void execute_addThenList_success(@TempDir Path directory) {
+        try (JukeEngine engine = JukeEngine.of(directory.resolve("tasks.txt"))) {
+            CommandResult added = engine.execute("todo read book; todo return book");
+            CommandResult listed = engine.execute(" list ");
+
+            assertTrue(added.isSuccess());
+            assertEquals(JukeEngine.PIPELINE_COMMAND_TYPE, added.getCommandType());
+            assertTrue(listed.isSuccess());
+            assertEquals("list", listed.getCommandType());
+            assertTrue(listed.getText().contains("1. [T] [ ] read book"));
+            assertTrue(listed.getText().contains("2. [T] [ ] return book"));
+            assertEquals(2, engine.getTasks().size());
+        }
+    }
+
+    /**
+     * Tests if commands which cannot be parsed or run give a failed result with the error.
+     */
+    @Test
+    public void execute_invalid_failure(@TempDir Path directory) {
+        try (JukeEngine engine = JukeEngine.of(directory.resolve("tasks.txt"))) {
+            CommandResult unknown = engine.execute("fly");
+            CommandResult missing = engine.execute("mark 1");
+            CommandResult exit = engine.execute("bye");
+
+            assertFalse(unknown.isSuccess());
+            assertEquals(JukeEngine.INVALID_COMMAND_TYPE, unknown.getCommandType());
+            assertEquals(List.of("Oh no! I do not understand that command!"), unknown.getMessages());
+            assertFalse(missing.isSuccess());
+            assertEquals("mark", missing.getCommandType());
+            assertTrue(exit.isSuccess());
+            assertTrue(exit.isExit());
+        }
+    }
+
+    /**
+     * Tests if the typed methods change the tasks, taking indices counted from 0.
+     */
+    @Test
+    public void typedMethods_addMarkFindSort_success(@TempDir Path directory) {
+        LocalDateTime start = LocalDateTime.of(2023, 9, 1, 10, 0);
+
+        try (JukeEngine engine = JukeEngine.of(directory.resolve("tasks.txt"))) {
+            engine.addTodo("read book");
+            engine.addDeadline("return book", start);
+            engine.addEvent("book fair", start, start.plusHours(2));
+            engine.mark(2, 0, 2);
+            engine.sort(SortOrderEnum.ASCENDING, SortTypeEnum.DESCRIPTION);
+
+            List<JukeTask> tasks = engine.getTasks();
+            assertTrue(tasks.get(0).toString().contains("book fair"));
+            assertTrue(tasks.get(0).isCompleted());
+            assertFalse(tasks.get(2).isCompleted());
+            assertEquals(3, engine.find("book").size());
+
+            engine.delete(1);
+            assertEquals(2, engine.getTasks().size());
+        }
+    }
+
+    /**
+     * Tests if the typed methods reject tasks which cannot be saved, leaving the tasks unchanged.
+     */
+    @Test
+    public void typedMethods_invalidTask_failure(@TempDir Path directory) {
+        LocalDateTime start = LocalDateTime.of(2023, 9, 1, 10, 0);
+        LocalDateTime end = start.minusHours(1);
+
+        try (JukeEngine engine = JukeEngine.of(directory.resolve("tasks.txt"))) {
+            assertThrows(JukeIllegalArgumentException.class, () -> engine.addTodo("read | write"));
+            assertThrows(JukeIllegalArgumentException.class, () -> engine.addTodo(" "));
+            assertThrows(JukeIllegalArgumentException.class, () -> engine.addEvent("book fair", start, end));
+            assertThrows(JukeIllegalArgumentException.class, () -> engine.mark(0));
+            assertEquals(0, engine.getTasks().size());
+        }
+    }
+
+    /**
+     * Tests if the filter command parses each of its criteria, and rejects criteria it does not understand.
+     */
+    @Test
+    public void execute_filter_success(@TempDir Path directory) {
+        try (JukeEngine engine = JukeEngine.of(directory.resolve("tasks.txt"))) {
+            engine.execute("todo read book; deadline return book /by 05/09/2023; deadline essay /by 01-09-2023 1200");
+            engine.mark(1);
+
+            CommandResult filtered = engine.execute("filter /type deadline /from deadline 01/09/2023 "
+                                                            + "/done no /sort a deadline");
+            assertTrue(filtered.isSuccess());
+            assertTrue(filtered.getText().contains("[D] [ ] essay"));
+            assertFalse(filtered.getText().contains("return book"));
+            assertTrue(engine.execute("filter /text fly").getText().startsWith("Sorry!"));
+            assertTrue(engine.execute("filter /type DeadLine").getText().contains("[D] [ ] essay"));
+            assertFalse(engine.execute("filter /type book").isSuccess());
+            assertFalse(engine.execute("filter /text").isSuccess());
+            assertFalse(engine.execute("filter book").isSuccess());
+        }
+    }
+
+    /**
+     * Tests if named task lists are kept in their own datafiles next to the initial datafile, and if the
+     * use command must be run on its own.
+     */
+    @Test
+    public void use_namedLists_success(@TempDir Path directory) throws IOException {
+        JukeEngineOptions options = JukeEngineOptions.of().withListBudget(0);
+
+        try (JukeEngine engine = JukeEngine.of(directory.resolve("tasks.txt"), options)) {
+            engine.addTodo("read book");
+            CommandResult used = engine.execute("use work");
+            engine.addTodo("write report");
+            CommandResult pipelined = engine.execute("use tasks; list");
+
+            assertTrue(used.isSuccess());
+            assertEquals("work", engine.getListName());
+            assertFalse(pipelined.isSuccess());
+            assertTrue(engine.execute("use tasks").getText().contains("has 1 task(s)"));
+            assertTrue(engine.getTasks().get(0).toString().contains("read book"));
+        }
+
+        assertEquals(List.of("T|F|write report"), Files.readAllLines(directory.resolve("work.txt")));
+    }
+
+    /**
+     * Tests if repeated queries are answered from the query cache, and if the lookups are shown by the stats
+     * command.
+     */
+    @Test
+    public void execute_repeatedFind_success(@TempDir Path directory) {
+        try (JukeEngine engine = JukeEngine.of(directory.resolve("tasks.txt"))) {
+            engine.addTodo("read book");
+            engine.execute("find book");
+            long hits = engine.getCacheHits();
+            long misses = engine.getCacheMisses();
+            engine.execute("find book");
+
+            assertEquals(hits + 1, engine.getCacheHits());
+            assertEquals(misses, engine.getCacheMisses());
+            assertTrue(engine.execute("stats").getText().contains("Query cache: " + (hits + 1) + " hits"));
+        }
+    }
+
+    /**
+     * Tests if a change parsed before its task list is closed by another use command, and opened again by a
+     * third, is saved to the list opened again rather than to the closed list, where it would be lost.
+     */
+    @Test
+    public void execute_listReopenedAfterParse_success(@TempDir Path directory) throws IOException {
+        Path dataPath = directory.resolve("tasks.txt");
+        JukeEngineOptions options = JukeEngineOptions.of().withListBudget(0);
+
+        try (JukeEngine engine = JukeEngine.of(dataPath, options)) {
+            engine.addTodo("first");
+            CommandResult added = engine.execute("todo second", () -> {
+                assertTrue(engine.execute("use work").isSuccess());
+                assertTrue(engine.execute("use tasks").isSuccess());
+            });
+            engine.addTodo("third");
+
+            assertTrue(added.isSuccess());
+            assertEquals(3, engine.getTasks().size());
+        }
+
+        assertEquals(List.of("T|F|first", "T|F|second", "T|F|third"), Files.readAllLines(dataPath));
+    }
+
+    /**
+     * Tests if completed tasks are moved to the archive file when the task list is opened, and if they are
+     * only found when the archive is searched too.
+     */
+    @Test
+    public void archive_completedTasks_success(@TempDir Path directory) throws IOException {
+        Path dataPath = directory.resolve("tasks.txt");
+
+        try (JukeEngine engine = JukeEngine.of(dataPath)) {
+            engine.addTodo("read book");
+            engine.addTodo("return book");
+            engine.mark(0);
+        }
+
+        try (JukeEngine engine = JukeEngine.of(dataPath, JukeEngineOptions.of().withArchiveDays(0))) {
+            assertEquals(1, engine.getTasks().size());
+            assertEquals(1, engine.find("book").size());
+            assertEquals(1, engine.findArchived("book").size());
+            assertTrue(engine.execute("find --all read").getText().contains("[✓] read book"));
+            assertTrue(engine.execute("find read").getText().startsWith("Sorry!"));
+        }
+
+        assertEquals(List.of("T|F|return book"), Files.readAllLines(dataPath));
+        assertEquals(List.of("T|T|read book"), Files.readAllLines(directory.resolve("tasks.archive.txt")));
+    }
+
+    /**
+     * Tests if the tasks are saved to the datafile once the engine is closed, and if a closed engine
+     * refuses to run further commands.
+     */
+    @Test
+    public void close_reopen_success(@TempDir Path directory) {
+        Path dataPath = directory.resolve("nested").resolve("tasks.txt");
+        JukeEngine engine = JukeEngine.of(dataPath, JukeEngineOptions.of().withStorageType(StorageTypeEnum.MAPPED));
+        engine.addTodo("read book");
+        engine.mark(0);
+        engine.close();
+        engine.close();
+
+        assertThrows(JukeStateException.class, () -> engine.execute("list"));
+        assertThrows(JukeStateException.class, () -> engine.addTodo("return book"));
+
+        try (JukeEngine reopened = JukeEngine.of(dataPath, JukeEngineOptions.of().withLazy(true))) {
+            assertEquals(1, reopened.getTasks().size());
+            assertTrue(reopened.getTasks().get(0).isCompleted());
+        }
+    }
+
+    /**
+     * Tests if the last word of a command is completed to a command name, a sort order or type, or the most
+     * frequent word of the task descriptions with that start.
+     */
+    @Test
+    public void complete_commandsAliasesAndWords_success(@TempDir Path directory) {
+        try (JukeEngine engine = JukeEngine.of(directory.resolve("tasks.txt"))) {
+            engine.execute("todo read book; todo read notes; todo return notebook");
+
+            assertEquals("unmark", engine.complete("un"));
+            assertEquals("find~", engine.complete("find~"));
+            assertEquals("sort ascending", engine.complete("sort asc"));
+            assertEquals("sort d deadline", engine.complete("sort d d"));
+            assertEquals("sort a STart", engine.complete("sort a ST"));
+            assertEquals("find Notes", engine.complete("find No"));
+            assertEquals("list; find read", engine.complete("list; find re"));
+            assertEquals("find --all", engine.complete("find --all"));
+            assertEquals("find book ", engine.complete("find book "));
+            assertEquals("fly", engine.complete("fly"));
+            assertTrue(engine.execute("sort DESC d").isSuccess());
+            assertTrue(engine.execute("sort A DeadLn").isSuccess());
+            assertFalse(engine.execute("sort descx d").isSuccess());
+        }
+    }
+}
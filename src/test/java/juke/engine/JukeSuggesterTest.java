@@ -0,0 +1,84 @@
+package juke.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests the {@code JukeSuggester} class against a datafile in a temporary directory.
+ */
+public class JukeSuggesterTest {
+    /**
+     * Tests if keystrokes in quick succession only deliver the suggestions of the last input, which treats
+     * its last word as the start of a word, and if other commands get no suggestions.
+     */
+    @Test
+    public void suggest_debouncedPrefix_success(@TempDir Path directory) throws InterruptedException {
+        try (JukeEngine engine = JukeEngine.of(directory.resolve("tasks.txt"));
+             JukeSuggester suggester = JukeSuggester.of(engine, 50, 5)) {
+            engine.addTodo("team meeting");
+            engine.addTodo("Meeting notes for the team");
+            engine.addTodo("read book");
+            Map<String, List<String>> delivered = new ConcurrentHashMap<>();
+            CountDownLatch latch = new CountDownLatch(1);
+
+            for (String input : List.of("f", "find", "find m", "find te", "find --top 3 team me")) {
+                suggester.suggest(input, (typed, suggestions) -> {
+                    delivered.put(typed, suggestions.stream()
+                            .map(suggestion -> suggestion.getTask().getDescription())
+                            .collect(Collectors.toList()));
+
+                    if (typed.startsWith("find ")) {
+                        latch.countDown();
+                    }
+                });
+            }
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            Thread.sleep(100);
+            assertEquals(List.of(), delivered.get("f"));
+            assertEquals(List.of(), delivered.get("find"));
+            assertEquals(List.of("team meeting", "Meeting notes for the team"),
+                         delivered.get("find --top 3 team me"));
+            assertEquals(3, delivered.size());
+        }
+    }
+
+    /**
+     * Tests if the input is completed on the searching thread rather than the thread asking for it, and if
+     * input which cannot be completed is delivered as it is.
+     */
+    @Test
+    public void complete_offCallingThread_success(@TempDir Path directory) throws InterruptedException {
+        try (JukeEngine engine = JukeEngine.of(directory.resolve("tasks.txt"));
+             JukeSuggester suggester = JukeSuggester.of(engine)) {
+            engine.addTodo("team meeting");
+            Map<String, String> delivered = new ConcurrentHashMap<>();
+            Map<String, Thread> threads = new ConcurrentHashMap<>();
+            CountDownLatch latch = new CountDownLatch(2);
+
+            for (String input : List.of("find mee", "fly")) {
+                suggester.complete(input, (typed, completed) -> {
+                    delivered.put(typed, completed);
+                    threads.put(typed, Thread.currentThread());
+                    latch.countDown();
+                });
+            }
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals("find meeting", delivered.get("find mee"));
+            assertEquals("fly", delivered.get("fly"));
+            assertEquals("juke-suggest", threads.get("find mee").getName());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package juke.parsers;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -194,5 +195,44 @@ public class FileParserTest {
         assertThrows(JukeDataFileParseException.class, () -> FileParser.parseTask(
                 "E|F|testing|2020-08-15T15:34|2020-07-15T15:34"));
     }
+    //@@author
+
+    /**
+     * Tests for the {@code checkTask} method with valid inputs.
+     */
+    @Test
+    public void checkTask_valid_success() {
+        assertDoesNotThrow(() -> FileParser.checkTask("T|F|testing"));
+        assertDoesNotThrow(() -> FileParser.checkTask("D|T|testing|2027-07-15T15:34"));
+        assertDoesNotThrow(() -> FileParser.checkTask("E|F|testing|2027-07-15T15:34|2027-08-15T15:34"));
+    }
+
+    /**
+     * Tests for the {@code checkTask} method with an unknown task type.
+     */
+    @Test
+    public void checkTask_unknownType_failure() {
+        assertThrows(JukeDataFileParseException.class, () -> FileParser.checkTask("X|F|testing"));
+        assertThrows(JukeDataFileParseException.class, () -> FileParser.checkTask(""));
+    }
+
+    /**
+     * Tests for the {@code checkTask} method with the wrong number of fields for the task type.
+     */
+    @Test
+    public void checkTask_wrongFieldCount_failure() {
+        assertThrows(JukeDataFileParseException.class, () -> FileParser.checkTask("T|F|testing|2027-07-15T15:34"));
+        assertThrows(JukeDataFileParseException.class, () -> FileParser.checkTask("D|F|testing"));
+        assertThrows(JukeDataFileParseException.class, () -> FileParser.checkTask("Etesting"));
+    }
+
+    /**
+     * Tests for the {@code parseDescription} method with each task type.
+     */
+    @Test
+    public void parseDescription_valid_success() {
+        assertEquals("testing", FileParser.parseDescription("T|F|testing"));
+        assertEquals("testing", FileParser.parseDescription("D|T|testing|2027-07-15T15:34"));
+        assertEquals("testing", FileParser.parseDescription("E|F|testing|2027-07-15T15:34|2027-08-15T15:34"));
+    }
 }
-//@@author
@@ -1,11 +1,15 @@
 package juke.parsers;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
+import juke.commons.exceptions.arguments.JukeIllegalArgumentException;
+
 //@@author asdfghjkxd-reused
 // Code is reused from GitHub Copilot autocompletion. Some test cases, as well as the data, may have been
 // inevitably reused during the autocompletion process.
@@ -275,5 +279,71 @@ public class ParserTest {
     public void isMatchFromToString_malformedCombinationFive_failure() {
         assertFalse(Parser.isMatchFromToString("testing /from testdate/toenddate"));
     }
+    //@@author
+
+    /**
+     * Tests for the {@code isMatchTaskNumbers} method with lists and ranges of task numbers.
+     */
+    @Test
+    public void isMatchTaskNumbers_valid_success() {
+        assertTrue(Parser.isMatchTaskNumbers("1"));
+        assertTrue(Parser.isMatchTaskNumbers("1-5"));
+        assertTrue(Parser.isMatchTaskNumbers("1,3,5-7"));
+    }
+
+    /**
+     * Tests for the {@code isMatchTaskNumbers} method with malformed lists of task numbers.
+     */
+    @Test
+    public void isMatchTaskNumbers_malformed_failure() {
+        assertFalse(Parser.isMatchTaskNumbers("-1"));
+        assertFalse(Parser.isMatchTaskNumbers("1,"));
+        assertFalse(Parser.isMatchTaskNumbers("1--3"));
+        assertFalse(Parser.isMatchTaskNumbers("one"));
+    }
+
+    /**
+     * Tests for the {@code parseTaskNumbers} method, which should return sorted indices without duplicates.
+     */
+    @Test
+    public void parseTaskNumbers_overlapping_success() {
+        assertArrayEquals(new int[] {0, 2, 3, 4, 6}, Parser.parseTaskNumbers("7,3-5,1,4", 10));
+    }
+
+    /**
+     * Tests for the {@code parseTaskNumbers} method with task numbers that do not refer to a task.
+     */
+    @Test
+    public void parseTaskNumbers_outOfRange_failure() {
+        assertThrows(JukeIllegalArgumentException.class, () -> Parser.parseTaskNumbers("0", 10));
+        assertThrows(JukeIllegalArgumentException.class, () -> Parser.parseTaskNumbers("1-11", 10));
+        assertThrows(JukeIllegalArgumentException.class, () -> Parser.parseTaskNumbers("99999999999", 10));
+    }
+
+    /**
+     * Tests for the {@code parseTaskNumbers} method with a range that ends before it starts.
+     */
+    @Test
+    public void parseTaskNumbers_reversedRange_failure() {
+        assertThrows(JukeIllegalArgumentException.class, () -> Parser.parseTaskNumbers("5-3", 10));
+    }
+
+    /**
+     * Tests for the {@code parseByCommandSeparator} method, which should discard blank commands.
+     */
+    @Test
+    public void parseByCommandSeparator_valid_success() {
+        assertArrayEquals(new String[] {"todo read", "mark 1", "list"},
+                          Parser.parseByCommandSeparator("todo read ;mark 1;; \nlist;"));
+    }
+
+    /**
+     * Tests for the {@code isMatchCommandSeparator} method with single and multiple commands.
+     */
+    @Test
+    public void isMatchCommandSeparator_valid_success() {
+        assertTrue(Parser.isMatchCommandSeparator("todo read; list"));
+        assertTrue(Parser.isMatchCommandSeparator("todo read\nlist"));
+        assertFalse(Parser.isMatchCommandSeparator("todo read"));
+    }
 }
-//@@author
@@ -0,0 +1,138 @@
+package juke.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import juke.engine.JukeEngine;
+
+/**
+ * Tests the {@code JukeServer} class over the loopback address.
+ */
+public class JukeServerTest {
+    /** Client sending the requests. */
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    /** Engine shared through the server. */
+    private JukeEngine engine;
+
+    /** Server under test. */
+    private JukeServer server;
+
+    /**
+     * Starts a server on a free port, keeping its datafile in a temporary directory.
+     *
+     * @param directory Temporary directory for the datafile
+     */
+    @BeforeEach
+    public void startServer(@TempDir Path directory) {
+        this.engine = JukeEngine.of(directory.resolve("tasks.txt"));
+        this.server = JukeServer.of(this.engine, 0, 8);
+        this.server.start();
+    }
+
+    /**
+     * Stops the server.
+     */
+    @AfterEach
+    public void stopServer() {
+        this.server.stop();
+        this.engine.close();
+    }
+
+    /**
+     * Creates a request which sends a command to the server.
+     *
+     * @param command Command to send
+     * @return Request
+     */
+    private HttpRequest commandRequest(String command) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + this.server.getPort()
+                                                         + JukeServer.COMMAND_PATH))
+                .POST(HttpRequest.BodyPublishers.ofString(command))
+                .build();
+    }
+
+    /**
+     * Sends a command to the server and waits for its reply.
+     *
+     * @param command Command to send
+     * @return Reply from the server
+     */
+    private HttpResponse<String> send(String command) throws IOException, InterruptedException {
+        return this.client.send(this.commandRequest(command), HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Tests if commands sent to the server change the shared task list and are replied to.
+     */
+    @Test
+    public void command_addThenList_success() throws IOException, InterruptedException {
+        HttpResponse<String> added = this.send("todo read book; todo return book");
+        HttpResponse<String> listed = this.send("list");
+
+        assertEquals(200, added.statusCode());
+        assertEquals(200, listed.statusCode());
+        assertTrue(listed.body().contains("1. [T] [ ] read book"));
+        assertTrue(listed.body().contains("2. [T] [ ] return book"));
+        assertEquals(2, this.engine.getTasks().size());
+    }
+
+    /**
+     * Tests if commands which cannot be parsed or run are replied to with the error.
+     */
+    @Test
+    public void command_invalid_failure() throws IOException, InterruptedException {
+        HttpResponse<String> unknown = this.send("fly");
+        HttpResponse<String> missing = this.send("mark 1");
+        HttpResponse<String> exit = this.send("bye");
+
+        assertEquals(400, unknown.statusCode());
+        assertEquals("Oh no! I do not understand that command!", unknown.body());
+        assertEquals(400, missing.statusCode());
+        assertEquals(400, exit.statusCode());
+    }
+
+    /**
+     * Tests if requests not sent with POST are rejected.
+     */
+    @Test
+    public void command_get_failure() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + this.server.getPort()
+                                                                        + JukeServer.COMMAND_PATH)).build();
+        assertEquals(405, this.client.send(request, HttpResponse.BodyHandlers.ofString()).statusCode());
+    }
+
+    /**
+     * Tests if many concurrent reads are all answered while the task list is being changed.
+     */
+    @Test
+    public void command_concurrentReadsAndWrites_success() {
+        List<CompletableFuture<HttpResponse<String>>> replies = new ArrayList<>();
+
+        for (int i = 0; i < 500; i++) {
+            String command = i % 10 == 0 ? "todo task " + i : (i % 2 == 0 ? "list" : "find task");
+            replies.add(this.client.sendAsync(this.commandRequest(command), HttpResponse.BodyHandlers.ofString()));
+        }
+
+        for (CompletableFuture<HttpResponse<String>> reply : replies) {
+            assertEquals(200, reply.join().statusCode());
+        }
+
+        assertEquals(50, this.engine.getTasks().size());
+    }
+}
@@ -0,0 +1,70 @@
+package juke.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@code LatencyHistogram} class.
+ */
+public class LatencyHistogramTest {
+    /**
+     * Tests if small latencies are recorded exactly.
+     */
+    @Test
+    public void getPercentile_smallLatencies_success() {
+        LatencyHistogram histogram = LatencyHistogram.of();
+
+        for (int i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+
+        assertEquals(10, histogram.getCount());
+        assertEquals(5, histogram.getPercentile(0.5));
+        assertEquals(10, histogram.getPercentile(0.99));
+        assertEquals(10, histogram.getMax());
+    }
+
+    /**
+     * Tests if percentiles of large latencies are accurate to within 1/16 of the true value.
+     */
+    @Test
+    public void getPercentile_largeLatencies_success() {
+        LatencyHistogram histogram = LatencyHistogram.of();
+
+        for (long i = 1; i <= 100_000; i++) {
+            histogram.record(i * 1_000);
+        }
+
+        long median = histogram.getPercentile(0.5);
+        long tail = histogram.getPercentile(0.99);
+        assertTrue(median >= 50_000_000L && median <= 50_000_000L * 17 / 16);
+        assertTrue(tail >= 99_000_000L && tail <= 99_000_000L * 17 / 16);
+        assertEquals(100_000_000L, histogram.getMax());
+    }
+
+    /**
+     * Tests if an empty histogram reports latencies of 0.
+     */
+    @Test
+    public void getPercentile_empty_success() {
+        LatencyHistogram histogram = LatencyHistogram.of();
+
+        assertEquals(0, histogram.getPercentile(0.5));
+        assertEquals(0, histogram.getMax());
+    }
+
+    /**
+     * Tests if the largest possible latency can be recorded.
+     */
+    @Test
+    public void record_maxLatency_success() {
+        LatencyHistogram histogram = LatencyHistogram.of();
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(-1);
+
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(1));
+        assertEquals(0, histogram.getPercentile(0.5));
+    }
+}
@@ -0,0 +1,207 @@
+package juke.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import juke.commons.enums.StorageTypeEnum;
+import juke.commons.exceptions.JukeInitialisationException;
+import juke.commons.interfaces.StorageBackend;
+import juke.tasks.JukeTask;
+import juke.tasks.JukeTodo;
+
+/**
+ * Tests the {@code StorageBackend} implementations created through {@code Storage}.
+ */
+public class StorageTest {
+    /**
+     * Saves a sequence of changes to the backend, and returns the tasks after the changes.
+     *
+     * @param storage Backend to save the changes to
+     * @return Tasks after the changes
+     */
+    private static List<JukeTask> saveChanges(StorageBackend storage) {
+        List<JukeTask> tasks = new ArrayList<>(List.of(new JukeTodo("alpha"), new JukeTodo("bravo")));
+        storage.write(tasks);
+        tasks.add(new JukeTodo("charlie"));
+        storage.append(tasks);
+        tasks.get(1).setAsComplete();
+        storage.updateCompletion(tasks, 1);
+        tasks.remove(0);
+        storage.delete(tasks, 0);
+        return tasks;
+    }
+
+    /**
+     * Returns the datafile representation of the tasks read from the backend.
+     *
+     * @param storage Backend to read from
+     * @return Datafile representation of the tasks
+     */
+    private static List<String> readSaved(StorageBackend storage) {
+        return storage.read().stream().map(JukeTask::save).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the segment files of the storage, in the order of their names.
+     *
+     * @param storage Storage to list the segment files of
+     * @return Paths of the segment files
+     * @throws IOException if the segment directory cannot be listed
+     */
+    private static List<Path> listSegmentFiles(SegmentedStorage storage) throws IOException {
+        try (Stream<Path> files = Files.list(SegmentedStorage.getSegmentDirectory(storage.getFilePath()))) {
+            return files.filter(path -> path.getFileName().toString().startsWith("segment-"))
+                        .sorted()
+                        .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Tests if every backend saves each kind of change, and if the file backends keep their files at the
+     * given path, creating its directories.
+     */
+    @Test
+    public void ofType_eachBackend_success(@TempDir Path directory) {
+        for (StorageTypeEnum type : StorageTypeEnum.values()) {
+            Path dataPath = directory.resolve(type.name()).resolve("tasks.txt");
+            StorageBackend storage = Storage.ofType(type, dataPath);
+            List<String> expected = StorageTest.saveChanges(storage)
+                    .stream()
+                    .map(JukeTask::save)
+                    .collect(Collectors.toList());
+            storage.flush();
+
+            assertEquals(List.of("T|T|bravo", "T|F|charlie"), expected);
+            assertEquals(expected, StorageTest.readSaved(storage));
+
+            if (type == StorageTypeEnum.MEMORY) {
+                assertEquals(expected, ((MemoryStorage) storage).getRecords());
+                assertTrue(Files.notExists(dataPath));
+            } else if (type == StorageTypeEnum.SEGMENTED) {
+                assertEquals(expected, StorageTest.readSaved(Storage.ofType(StorageTypeEnum.SEGMENTED, dataPath)));
+            } else {
+                assertEquals(expected, StorageTest.readSaved(Storage.ofType(StorageTypeEnum.TEXT, dataPath)));
+            }
+
+            storage.close();
+        }
+    }
+
+    /**
+     * Tests if each change only rewrites the segments holding the tasks it affects, if empty segments are
+     * removed, and if the segments replace the datafile they were created from.
+     */
+    @Test
+    public void segmentedStorage_changes_success(@TempDir Path directory) throws IOException {
+        Path dataPath = directory.resolve("tasks.txt");
+        Files.write(dataPath, List.of("T|F|alpha", "T|F|bravo", "T|F|charlie"));
+        SegmentedStorage storage = SegmentedStorage.of(dataPath, 2);
+        List<JukeTask> tasks = storage.read();
+        assertEquals(List.of(2, 1), storage.getSegmentCounts());
+
+        tasks.add(new JukeTodo("delta"));
+        storage.append(tasks);
+        assertEquals(List.of(2, 2), storage.getSegmentCounts());
+        List<Path> segmentFiles = StorageTest.listSegmentFiles(storage);
+
+        tasks.get(3).setAsComplete();
+        storage.updateCompletion(tasks, 3);
+        assertEquals(segmentFiles.get(0), StorageTest.listSegmentFiles(storage).get(0));
+
+        tasks.remove(1);
+        tasks.remove(0);
+        storage.delete(tasks, 0, 1);
+        assertEquals(List.of(2), storage.getSegmentCounts());
+        assertEquals(1, StorageTest.listSegmentFiles(storage).size());
+
+        assertEquals(List.of("T|F|charlie", "T|T|delta"),
+                     StorageTest.readSaved(SegmentedStorage.of(dataPath, 2)));
+        assertEquals(3, Files.readAllLines(dataPath).size());
+    }
+
+    /**
+     * Tests if segments left partly empty by deletions are merged, and if files in the segment directory which
+     * are not named by a generation are left alone.
+     */
+    @Test
+    public void segmentedStorage_partEmptySegments_success(@TempDir Path directory) throws IOException {
+        Path dataPath = directory.resolve("tasks.txt");
+        Files.write(dataPath, List.of("T|F|alpha", "T|F|bravo", "T|F|charlie", "T|F|delta", "T|F|echo", "T|F|foxtrot"));
+        Path otherFile = Files.createDirectories(SegmentedStorage.getSegmentDirectory(dataPath))
+                              .resolve("segment-copy.txt");
+        Files.write(otherFile, List.of("T|F|golf"));
+        SegmentedStorage storage = SegmentedStorage.of(dataPath, 3);
+        List<JukeTask> tasks = storage.read();
+        assertEquals(List.of(3, 3), storage.getSegmentCounts());
+
+        tasks.remove(4);
+        tasks.remove(3);
+        tasks.remove(1);
+        tasks.remove(0);
+        storage.delete(tasks, 0, 1, 3, 4);
+        assertEquals(List.of(2), storage.getSegmentCounts());
+        assertEquals(List.of("T|F|charlie", "T|F|foxtrot"),
+                     StorageTest.readSaved(SegmentedStorage.of(dataPath, 3)));
+        assertTrue(Files.exists(otherFile));
+    }
+
+    /**
+     * Tests if the datafile is rewritten from the segments when they are closed, so that the text backend
+     * reads their changes, and if the segments are created again from a datafile changed since.
+     */
+    @Test
+    public void segmentedStorage_switchBackends_success(@TempDir Path directory) throws IOException {
+        Path dataPath = directory.resolve("tasks.txt");
+        Files.write(dataPath, List.of("T|F|alpha"));
+        SegmentedStorage storage = SegmentedStorage.of(dataPath, 2);
+        List<JukeTask> tasks = storage.read();
+        tasks.add(new JukeTodo("bravo"));
+        storage.append(tasks);
+        storage.close();
+        assertEquals(List.of("T|F|alpha", "T|F|bravo"), StorageTest.readSaved(Storage.of(dataPath)));
+        assertEquals(List.of("T|F|alpha", "T|F|bravo"), StorageTest.readSaved(SegmentedStorage.of(dataPath, 2)));
+
+        tasks.add(new JukeTodo("charlie"));
+        Storage.of(dataPath).write(tasks);
+        // the datafile is made clearly newer, as some file systems only keep the time to the second
+        Files.setLastModifiedTime(dataPath, FileTime.fromMillis(System.currentTimeMillis() + 2000));
+        assertEquals(List.of("T|F|alpha", "T|F|bravo", "T|F|charlie"),
+                     StorageTest.readSaved(SegmentedStorage.of(dataPath, 2)));
+    }
+
+    /**
+     * Tests if the backend and datafile are selected through the system properties.
+     */
+    @Test
+    public void ofConfigured_systemProperties_success() {
+        try {
+            System.setProperty(Storage.STORAGE_PROPERTY, " Memory ");
+            System.setProperty(Storage.DATA_PROPERTY, "elsewhere/tasks.txt");
+
+            assertTrue(Storage.ofConfigured() instanceof MemoryStorage);
+            assertEquals(Path.of("elsewhere/tasks.txt"), Storage.getConfiguredFilePath());
+
+            System.setProperty(Storage.STORAGE_PROPERTY, "floppy");
+            assertThrows(JukeInitialisationException.class, Storage::getConfiguredType);
+        } finally {
+            System.clearProperty(Storage.STORAGE_PROPERTY);
+            System.clearProperty(Storage.DATA_PROPERTY);
+        }
+
+        assertEquals(StorageTypeEnum.TEXT, Storage.getConfiguredType());
+        assertEquals(Storage.DEFAULT_FILE_PATH, Storage.getConfiguredFilePath());
+    }
+}
@@ -0,0 +1,64 @@
+package juke.tasks;
+
+import java.util.List;
+
+import juke.storage.MemoryStorage;
+
+/**
+ * {@code MemoryStorage} which counts the number of times changes are saved to it, and it is closed.
+ */
+class CountingStorage extends MemoryStorage {
+    /** Number of times changes were saved. */
+    private int writes = 0;
+
+    /** Number of times the storage was closed. */
+    private int closes = 0;
+
+    @Override
+    public void write(List<JukeTask> tasks) {
+        super.write(tasks);
+        this.writes++;
+    }
+
+    @Override
+    public void append(List<JukeTask> tasks) {
+        super.append(tasks);
+        this.writes++;
+    }
+
+    @Override
+    public void updateCompletion(List<JukeTask> tasks, int... indices) {
+        super.updateCompletion(tasks, indices);
+        this.writes++;
+    }
+
+    @Override
+    public void delete(List<JukeTask> tasks, int... indices) {
+        super.delete(tasks, indices);
+        this.writes++;
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        this.closes++;
+    }
+
+    /**
+     * Returns the number of times changes were saved.
+     *
+     * @return Number of writes
+     */
+    public int getWrites() {
+        return this.writes;
+    }
+
+    /**
+     * Returns the number of times the storage was closed.
+     *
+     * @return Number of closes
+     */
+    public int getCloses() {
+        return this.closes;
+    }
+}
@@ -0,0 +1,214 @@
+package juke.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import juke.commons.enums.SortTypeEnum;
+import juke.parsers.DateTimeParser;
+
+/**
+ * Tests the {@code TaskArena} class.
+ */
+public class TaskArenaTest {
+    /**
+     * Tests if tasks added to the arena are decoded back into equivalent tasks.
+     */
+    @Test
+    public void add_valid_success() {
+        TaskArena arena = new TaskArena();
+        arena.add(new JukeTodo("first task"));
+        arena.add(new JukeDeadline("second task", DateTimeParser.fromDateTimeString("2027-07-15T15:34"), true));
+
+        assertEquals(2, arena.size());
+        assertEquals("[T] [ ] first task", arena.get(0).toString());
+        assertEquals("[D] [✓] second task (by 15 Jul 2027, 1534 hrs)", arena.get(1).toString());
+    }
+
+    /**
+     * Tests if a task can be inserted in the middle of the arena.
+     */
+    @Test
+    public void add_atIndex_success() {
+        TaskArena arena = new TaskArena();
+        arena.add(new JukeTodo("first"));
+        arena.add(new JukeTodo("third"));
+        arena.add(1, new JukeTodo("second"));
+
+        assertEquals("[T] [ ] second", arena.get(1).toString());
+        assertEquals("[T] [ ] third", arena.get(2).toString());
+    }
+
+    /**
+     * Tests if marking a task and writing it back is reflected in the arena.
+     */
+    @Test
+    public void set_markedTask_success() {
+        TaskArena arena = new TaskArena();
+        arena.add(new JukeTodo("task"));
+
+        JukeTask task = arena.get(0);
+        task.setAsComplete();
+        arena.set(0, task);
+
+        assertEquals("[T] [✓] task", arena.get(0).toString());
+    }
+
+    /**
+     * Tests if replacing a task with a longer task is reflected in the arena.
+     */
+    @Test
+    public void set_longerTask_success() {
+        TaskArena arena = new TaskArena();
+        arena.add(new JukeTodo("short"));
+        arena.add(new JukeTodo("next"));
+        arena.set(0, new JukeTodo("a much longer task"));
+
+        assertEquals("[T] [ ] a much longer task", arena.get(0).toString());
+        assertEquals("[T] [ ] next", arena.get(1).toString());
+    }
+
+    /**
+     * Tests if removing a task shifts the remaining tasks forward.
+     */
+    @Test
+    public void remove_valid_success() {
+        TaskArena arena = new TaskArena();
+        arena.add(new JukeTodo("first"));
+        arena.add(new JukeTodo("second"));
+        arena.add(new JukeTodo("third"));
+
+        assertEquals("[T] [ ] second", arena.remove(1).toString());
+        assertEquals(2, arena.size());
+        assertEquals("[T] [ ] third", arena.get(1).toString());
+    }
+
+    /**
+     * Tests if accessing a task outside of the arena throws an exception.
+     */
+    @Test
+    public void get_invalidIndex_failure() {
+        TaskArena arena = new TaskArena();
+        arena.add(new JukeTodo("task"));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> arena.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> arena.get(-1));
+    }
+
+    /**
+     * Tests if the arena grows and compacts correctly under many additions and removals.
+     */
+    @Test
+    public void remove_manyTasks_success() {
+        TaskArena arena = new TaskArena();
+
+        for (int i = 0; i < 2000; i++) {
+            arena.add(new JukeTodo("task " + i));
+        }
+
+        for (int i = 0; i < 1500; i++) {
+            arena.remove(0);
+        }
+
+        assertEquals(500, arena.size());
+        assertEquals("[T] [ ] task 1500", arena.get(0).toString());
+        assertEquals("[T] [ ] task 1999", arena.get(499).toString());
+    }
+
+    /**
+     * Tests if sorting the arena orders the tasks by the comparator.
+     */
+    @Test
+    public void sort_byDescription_success() {
+        TaskArena arena = new TaskArena();
+        arena.add(new JukeTodo("charlie"));
+        arena.add(new JukeTodo("alpha"));
+        arena.add(new JukeTodo("bravo"));
+        arena.sort((t1, t2) -> t1.sortBy(t2, SortTypeEnum.DESCRIPTION));
+
+        assertEquals("[T] [ ] alpha", arena.get(0).toString());
+        assertEquals("[T] [ ] bravo", arena.get(1).toString());
+        assertEquals("[T] [ ] charlie", arena.get(2).toString());
+    }
+
+    /**
+     * Tests if tasks added by their datafile representation are decoded on access.
+     */
+    @Test
+    public void addRecord_valid_success() {
+        TaskArena arena = new TaskArena();
+        arena.addRecord("T|T|first task");
+        arena.addRecord("E|F|second task|2027-07-15T15:34|2027-08-15T15:34");
+
+        assertEquals(2, arena.size());
+        assertEquals("[T] [✓] first task", arena.get(0).toString());
+        assertEquals("[E] [ ] second task (from 15 Jul 2027, 1534 hrs to 15 Aug 2027, 1534 hrs)",
+                     arena.get(1).toString());
+    }
+
+    /**
+     * Tests if tasks can be found by their description without decoding the other tasks.
+     */
+    @Test
+    public void findByDescription_valid_success() {
+        TaskArena arena = new TaskArena();
+        arena.addRecord("T|F|read book");
+        arena.addRecord("D|F|return book|not a date");
+        arena.addRecord("T|F|write essay");
+
+        // the malformed deadline is never decoded as it does not match
+        assertEquals(1, arena.findByDescription("read").size());
+        assertEquals("[T] [ ] write essay", arena.findByDescription("essay").get(0).toString());
+    }
+
+    /**
+     * Tests if sorting by description orders the tasks without decoding them.
+     */
+    @Test
+    public void sortByDescription_valid_success() {
+        TaskArena arena = new TaskArena();
+        arena.addRecord("T|F|charlie");
+        arena.addRecord("D|F|alpha|not a date");
+        arena.addRecord("T|F|bravo");
+        arena.sortByDescription(String::compareTo);
+
+        assertEquals("[T] [ ] bravo", arena.get(1).toString());
+        assertEquals("[T] [ ] charlie", arena.get(2).toString());
+    }
+
+    /**
+     * Tests if reversing the arena reverses the order of the tasks.
+     */
+    @Test
+    public void reverse_valid_success() {
+        TaskArena arena = new TaskArena();
+        arena.addRecord("T|F|first");
+        arena.addRecord("T|F|second");
+        arena.addRecord("T|F|third");
+        arena.reverse();
+
+        assertEquals("[T] [ ] third", arena.get(0).toString());
+        assertEquals("[T] [ ] second", arena.get(1).toString());
+        assertEquals("[T] [ ] first", arena.get(2).toString());
+    }
+
+    /**
+     * Tests if removing several tasks at once keeps the remaining tasks in order.
+     */
+    @Test
+    public void removeAll_valid_success() {
+        TaskArena arena = new TaskArena();
+
+        for (int i = 0; i < 6; i++) {
+            arena.addRecord("T|F|task " + i);
+        }
+
+        arena.removeAll(new int[] {0, 2, 3});
+
+        assertEquals(3, arena.size());
+        assertEquals("[T] [ ] task 1", arena.get(0).toString());
+        assertEquals("[T] [ ] task 4", arena.get(1).toString());
+        assertEquals("[T] [ ] task 5", arena.get(2).toString());
+    }
+}
@@ -0,0 +1,87 @@
+package juke.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@code TaskBitmap} class.
+ */
+public class TaskBitmapTest {
+    /**
+     * Adds the input positions to a new bitmap.
+     *
+     * @param positions Positions to add
+     * @return {@code TaskBitmap} of the positions
+     */
+    private static TaskBitmap of(BitSet positions) {
+        TaskBitmap bitmap = TaskBitmap.of();
+        positions.stream().forEach(bitmap::add);
+        return bitmap;
+    }
+
+    /**
+     * Tests if the bitwise operations agree with {@code BitSet} over sparse and dense blocks, which are kept
+     * in array and bitset containers respectively.
+     */
+    @Test
+    public void combine_sparseAndDense_success() {
+        Random random = new Random(42);
+        BitSet first = new BitSet();
+        BitSet second = new BitSet();
+
+        for (int i = 0; i < 200_000; i++) {
+            // the first block is dense in both bitmaps, and the later blocks are sparse in one of them
+            if (i < 65_536 ? random.nextInt(3) == 0 : random.nextInt(100) == 0) {
+                first.set(i);
+            }
+
+            if (i < 65_536 || i >= 131_072 ? random.nextInt(2) == 0 : random.nextInt(50) == 0) {
+                second.set(i);
+            }
+        }
+
+        TaskBitmap firstBitmap = TaskBitmapTest.of(first);
+        TaskBitmap secondBitmap = TaskBitmapTest.of(second);
+        BitSet and = (BitSet) first.clone();
+        and.and(second);
+        BitSet or = (BitSet) first.clone();
+        or.or(second);
+        BitSet andNot = (BitSet) first.clone();
+        andNot.andNot(second);
+
+        assertArrayEquals(and.stream().toArray(), firstBitmap.and(secondBitmap).toArray());
+        assertArrayEquals(or.stream().toArray(), firstBitmap.or(secondBitmap).toArray());
+        assertArrayEquals(andNot.stream().toArray(), firstBitmap.andNot(secondBitmap).toArray());
+        assertArrayEquals(first.stream().toArray(), firstBitmap.toArray());
+        assertEquals(second.cardinality(), secondBitmap.cardinality());
+        assertEquals(70_000, TaskBitmap.ofRange(70_000).andNot(TaskBitmap.of()).cardinality());
+    }
+
+    /**
+     * Tests if removing positions shifts the positions after them, and if removing every position of a
+     * container leaves the bitmap empty.
+     */
+    @Test
+    public void withRemoved_positions_success() {
+        TaskBitmap bitmap = TaskBitmap.of();
+        bitmap.add(1);
+        bitmap.add(4);
+        bitmap.add(70_000);
+
+        assertArrayEquals(new int[] {1, 69_997}, bitmap.withRemoved(new int[] {0, 1, 2}).toArray());
+        assertTrue(bitmap.contains(70_000));
+        assertFalse(bitmap.contains(2));
+
+        bitmap.remove(1);
+        bitmap.remove(4);
+        bitmap.remove(70_000);
+        assertTrue(bitmap.isEmpty());
+    }
+}
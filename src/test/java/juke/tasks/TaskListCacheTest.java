@@ -0,0 +1,66 @@
+package juke.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import juke.commons.exceptions.arguments.JukeIllegalArgumentException;
+import juke.storage.MemoryStorage;
+
+/**
+ * Tests the {@code TaskListCache} class.
+ */
+public class TaskListCacheTest {
+    /**
+     * Tests if the least recently used task lists are closed along with their backends once the open lists
+     * exceed the budget, and if a closed list is opened again with its tasks intact.
+     */
+    @Test
+    public void use_overBudget_success() {
+        Map<String, CountingStorage> storages = new HashMap<>();
+        List<String> opened = new ArrayList<>();
+        TaskList initial = TaskList.of(storages.computeIfAbsent("home", name -> new CountingStorage()));
+        TaskListCache taskLists = TaskListCache.of("home", initial, name -> {
+            opened.add(name);
+            return TaskList.of(storages.computeIfAbsent(name, key -> new CountingStorage()));
+        }, 2 * TaskListCache.ESTIMATED_TASK_BYTES);
+
+        initial.addTask(new JukeTodo("read book"));
+        taskLists.use("work").addTask(new JukeTodo("write report"));
+        assertEquals(List.of("home", "work"), taskLists.getOpenNames());
+
+        taskLists.use("home");
+        taskLists.use("archive").addTask(new JukeTodo("old task"));
+        taskLists.use("archive");
+        assertEquals(List.of("home", "archive"), taskLists.getOpenNames());
+        assertEquals(1, taskLists.getEvictions());
+        assertEquals(1, storages.get("work").getCloses());
+        assertEquals(0, storages.get("home").getCloses());
+
+        assertEquals(1, taskLists.use("work").size());
+        assertEquals(List.of("work", "archive", "work"), opened);
+        assertEquals("work", taskLists.getActiveName());
+        assertEquals(List.of("archive", "work"), taskLists.getOpenNames());
+    }
+
+    /**
+     * Tests if names which cannot name a datafile are rejected, leaving the active list unchanged.
+     */
+    @Test
+    public void use_invalidName_failure() {
+        TaskList initial = TaskList.of(MemoryStorage.of());
+        TaskListCache taskLists = TaskListCache.of("home", initial, name -> TaskList.of(MemoryStorage.of()),
+                                                   TaskListCache.getConfiguredBudget());
+
+        assertThrows(JukeIllegalArgumentException.class, () -> taskLists.use("../work"));
+        assertThrows(JukeIllegalArgumentException.class, () -> taskLists.use("my list"));
+        assertEquals("home", taskLists.getActiveName());
+        assertEquals(initial, taskLists.getActive());
+    }
+}
@@ -0,0 +1,138 @@
+package juke.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import juke.storage.MemoryStorage;
+
+/**
+ * Tests reading a {@code TaskList} from several threads while another thread changes it.
+ */
+public class TaskListConcurrencyTest {
+    /** Number of tasks added by the writer. */
+    private static final int TASKS = 2000;
+
+    /** Number of threads reading the task list. */
+    private static final int READERS = 4;
+
+    /** Pattern which every line of a task list's String representation after the header must match. */
+    private static final Pattern TASK_LINE = Pattern.compile("\\d+\\. \\[T] \\[[ ✓]] task \\d+");
+
+    /**
+     * Tests if readers of a task list kept as versions always see a consistent task list.
+     */
+    @Test
+    public void read_concurrentWriter_success() throws Exception {
+        TaskListConcurrencyTest.stress(TaskList.of(MemoryStorage.of()));
+    }
+
+    /**
+     * Tests if readers of a task list kept off-heap always see a consistent task list.
+     */
+    @Test
+    public void read_concurrentWriterArena_success() throws Exception {
+        TaskListConcurrencyTest.stress(TaskList.ofArena(MemoryStorage.of()));
+    }
+
+    /**
+     * Changes the task list from one thread while it is read from several others, and checks that every
+     * read sees the task list as it was between two changes.
+     *
+     * @param taskList Empty task list to test
+     */
+    private static void stress(TaskList taskList)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        ExecutorService executor = Executors.newFixedThreadPool(TaskListConcurrencyTest.READERS + 1);
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+
+            for (int i = 0; i < TaskListConcurrencyTest.READERS; i++) {
+                readers.add(executor.submit(() -> TaskListConcurrencyTest.read(taskList, isWriting)));
+            }
+
+            Future<?> writer = executor.submit(() -> {
+                try {
+                    TaskListConcurrencyTest.write(taskList);
+                } finally {
+                    isWriting.set(false);
+                }
+            });
+
+            // any assertion failed or exception thrown by a thread is rethrown here
+            writer.get(1, TimeUnit.MINUTES);
+
+            for (Future<?> reader : readers) {
+                reader.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // every third task added was deleted again
+        assertEquals(TaskListConcurrencyTest.TASKS - TaskListConcurrencyTest.TASKS / 3, taskList.size());
+    }
+
+    /**
+     * Adds, marks and deletes tasks in the task list.
+     *
+     * @param taskList Task list to change
+     */
+    private static void write(TaskList taskList) {
+        for (int i = 0; i < TaskListConcurrencyTest.TASKS; i++) {
+            taskList.addTask(new JukeTodo("task " + i));
+            int last = taskList.size() - 1;
+
+            if (i % 2 == 0) {
+                taskList.setAsComplete(last);
+            }
+
+            if (i % 3 == 2) {
+                taskList.deleteTask(last - 1);
+            }
+        }
+    }
+
+    /**
+     * Reads the task list until the writer is done, checking that every read is consistent.
+     *
+     * @param taskList Task list to read
+     * @param isWriting Whether the writer is still changing the task list
+     */
+    private static void read(TaskList taskList, AtomicBoolean isWriting) {
+        while (isWriting.get()) {
+            String[] lines = taskList.toString().split("\n");
+
+            // the numbering of the tasks must be unbroken, with every task fully formed
+            for (int i = 2; i < lines.length; i++) {
+                assertTrue(lines[i].startsWith((i - 1) + ". "), lines[i]);
+                assertTrue(TaskListConcurrencyTest.TASK_LINE.matcher(lines[i]).matches(), lines[i]);
+            }
+
+            List<JukeTask> matches = taskList.findTask("task");
+            assertTrue(matches.size() <= TaskListConcurrencyTest.TASKS);
+
+            List<String> page = taskList.getPage(0, 10);
+            assertTrue(page.size() <= 10);
+
+            // the first task is never deleted once it is added
+            if (taskList.size() > 0) {
+                assertTrue(taskList.getTaskInformation(0).contains("task 0"));
+            }
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package juke.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import juke.commons.enums.SortOrderEnum;
+import juke.commons.enums.SortTypeEnum;
+import juke.commons.enums.TaskTypeEnum;
+import juke.commons.exceptions.JukeStateException;
+import juke.commons.exceptions.arguments.JukeIllegalArgumentException;
+import juke.storage.MemoryStorage;
+import juke.storage.TaskArchive;
+
+/**
+ * Tests the {@code TaskList} class.
+ */
+public class TaskListTest {
+    /**
+     * Tests if changes made during a batch are saved with a single write when the batch is committed.
+     */
+    @Test
+    public void commitBatch_manyChanges_success() {
+        CountingStorage storage = new CountingStorage();
+        TaskList taskList = TaskList.of(storage);
+        taskList.beginBatch();
+        taskList.addTask(new JukeTodo("first"));
+        taskList.addTask(new JukeTodo("second"));
+        taskList.setAsComplete(0);
+        taskList.deleteTask(1);
+
+        assertEquals(0, storage.getWrites());
+        taskList.commitBatch();
+
+        assertEquals(1, storage.getWrites());
+        assertEquals(List.of("T|T|first"), storage.getRecords());
+    }
+
+    /**
+     * Tests if changes made during a batch are undone and never saved when the batch is rolled back.
+     */
+    @Test
+    public void rollbackBatch_manyChanges_success() {
+        CountingStorage storage = new CountingStorage();
+        TaskList taskList = TaskList.of(storage);
+        taskList.addTask(new JukeTodo("charlie"));
+        taskList.addTask(new JukeTodo("alpha"));
+        taskList.addTask(new JukeTodo("bravo"));
+        taskList.setAsComplete(2);
+        String original = taskList.toString();
+        int writes = storage.getWrites();
+
+        taskList.beginBatch();
+        taskList.sort(SortOrderEnum.ASCENDING, SortTypeEnum.DESCRIPTION);
+        taskList.deleteTask(0, 2);
+        taskList.setAsIncomplete(0);
+        taskList.addTask(new JukeTodo("delta"));
+        taskList.rollbackBatch();
+
+        assertEquals(original, taskList.toString());
+        assertEquals(writes, storage.getWrites());
+    }
+
+    /**
+     * Tests if a batch of tasks kept in a {@code TaskArena} is undone when the batch is rolled back.
+     */
+    @Test
+    public void rollbackBatch_arena_success() {
+        TaskList taskList = TaskList.ofArena(MemoryStorage.of());
+        taskList.addTask(new JukeTodo("first"));
+        taskList.addTask(new JukeTodo("second"));
+        String original = taskList.toString();
+
+        taskList.beginBatch();
+        taskList.setAsComplete(0, 1);
+        taskList.deleteTask(0);
+        taskList.rollbackBatch();
+
+        assertEquals(original, taskList.toString());
+    }
+
+    /**
+     * Tests if committing when no batch is in progress throws an exception.
+     */
+    @Test
+    public void commitBatch_noBatch_failure() {
+        TaskList taskList = TaskList.of(MemoryStorage.of());
+        assertThrows(JukeStateException.class, taskList::commitBatch);
+    }
+
+    /**
+     * Tests if a snapshot of the task list is unaffected by later changes to the task list.
+     */
+    @Test
+    public void snapshot_laterChanges_unchanged() {
+        TaskList taskList = TaskList.of(MemoryStorage.of());
+        taskList.addTask(new JukeTodo("first"));
+        taskList.addTask(new JukeTodo("second"));
+        List<JukeTask> snapshot = taskList.snapshot();
+
+        taskList.setAsComplete(0);
+        taskList.deleteTask(1);
+        taskList.addTask(new JukeTodo("third"));
+
+        assertEquals(2, snapshot.size());
+        assertEquals("[T] [ ] first", snapshot.get(0).toString());
+        assertEquals("[T] [ ] second", snapshot.get(1).toString());
+        assertEquals("[T] [✓] first", taskList.getTaskInformation(0));
+    }
+
+    /**
+     * Tests if a page of the task list contains the tasks on that page only.
+     */
+    @Test
+    public void getPage_valid_success() {
+        TaskList taskList = TaskList.of(MemoryStorage.of());
+
+        for (int i = 0; i < 5; i++) {
+            taskList.addTask(new JukeTodo("task " + i));
+        }
+
+        assertEquals(List.of("[T] [ ] task 2", "[T] [ ] task 3"), taskList.getPage(1, 2));
+        assertEquals(List.of("[T] [ ] task 4"), taskList.getPage(2, 2));
+        assertEquals(List.of(), taskList.getPage(3, 2));
+    }
+
+    /**
+     * Tests if requesting a page with an invalid index or size throws an exception.
+     */
+    @Test
+    public void getPage_invalidPage_failure() {
+        TaskList taskList = TaskList.of(MemoryStorage.of());
+        assertThrows(JukeIllegalArgumentException.class, () -> taskList.getPage(-1, 10));
+        assertThrows(JukeIllegalArgumentException.class, () -> taskList.getPage(0, 0));
+    }
+
+    /**
+     * Tests if only completed tasks whose date is before the cutoff are moved to the archive, and if the
+     * archived tasks can still be found.
+     */
+    @Test
+    public void archiveCompleted_oldCompletedTasks_success() {
+        LocalDateTime cutoff = LocalDateTime.of(2023, 9, 1, 0, 0);
+        MemoryStorage storage = MemoryStorage.of();
+        TaskList taskList = TaskList.of(storage);
+        taskList.addTask(new JukeTodo("read book"));
+        taskList.addTask(new JukeTodo("return book"));
+        taskList.addTask(new JukeDeadline("old essay", cutoff.minusDays(1)));
+        taskList.addTask(new JukeDeadline("new essay", cutoff.plusDays(1)));
+        taskList.setAsComplete(0, 2, 3);
+
+        assertThrows(JukeStateException.class, () -> taskList.archiveCompleted(cutoff));
+        taskList.attachArchive(TaskArchive.ofMemory());
+
+        assertEquals(2, taskList.archiveCompleted(cutoff));
+        assertEquals(List.of("T|F|return book", "D|T|new essay|2023-09-02T00:00"), storage.getRecords());
+        assertEquals(1, taskList.findArchivedTask("essay").size());
+        assertEquals(1, taskList.findArchivedTask("book").size());
+        assertEquals(0, taskList.archiveCompleted(cutoff));
+    }
+
+    /**
+     * Tests if the bitmap index follows the tasks as they are added, marked, deleted and sorted.
+     */
+    @Test
+    public void query_indexAfterChanges_success() {
+        LocalDateTime deadline = LocalDateTime.of(2023, 9, 1, 0, 0);
+        TaskList taskList = TaskList.ofArena(MemoryStorage.of());
+        taskList.addTask(new JukeTodo("read book"));
+        taskList.addTask(new JukeDeadline("essay", deadline));
+        assertEquals(1, (int) taskList.query((index, tasks) -> index.getType(TaskTypeEnum.TODO).cardinality()));
+
+        taskList.addTask(new JukeDeadline("report", deadline));
+        taskList.setAsComplete(1, 2);
+        taskList.deleteTask(0);
+        taskList.addTask(new JukeTodo("return book"));
+        assertArrayEquals(new int[] {0, 1}, taskList.query((index, tasks) -> {
+            return index.getCompleted().and(index.getType(TaskTypeEnum.DEADLINE)).toArray();
+        }));
+
+        taskList.sort(SortOrderEnum.ASCENDING, SortTypeEnum.DESCRIPTION);
+        assertEquals("return book", taskList.query((index, tasks) -> {
+            int[] positions = index.getIncomplete().toArray();
+            return tasks.get(positions[0]).save().split("\\|")[2];
+        }));
+    }
+
+    /**
+     * Tests if a query combines criteria on the type, completion status, description and dates of the tasks,
+     * and sorts the tasks it selects without reordering the task list.
+     */
+    @Test
+    public void filter_manyCriteria_success() {
+        LocalDateTime start = LocalDateTime.of(2023, 9, 1, 10, 0);
+        TaskList taskList = TaskList.of(MemoryStorage.of());
+        taskList.addTask(new JukeTodo("read book"));
+        taskList.addTask(new JukeDeadline("book report", start.plusDays(7)));
+        taskList.addTask(new JukeDeadline("essay", start.plusDays(1)));
+        taskList.addTask(new JukeEvent("book fair", start, start.plusDays(2)));
+        taskList.addTask(new JukeDeadline("book review", start.plusDays(3)));
+        taskList.setAsComplete(4);
+
+        TaskQuery dueSoon = TaskQuery.of()
+                                     .withUntil(SortTypeEnum.END_DATE, start.plusDays(3))
+                                     .withSort(SortOrderEnum.ASCENDING, SortTypeEnum.END_DATE);
+        TaskQuery books = TaskQuery.of().withText("book").withCompletion(false).withType(TaskTypeEnum.DEADLINE);
+
+        assertEquals(List.of("D|F|essay|2023-09-02T10:00", "E|F|book fair|2023-09-01T10:00|2023-09-03T10:00",
+                             "D|T|book review|2023-09-04T10:00"),
+                     taskList.filter(dueSoon).stream().map(JukeTask::save).collect(Collectors.toList()));
+        assertEquals(1, taskList.filter(books).size());
+        assertEquals(1, taskList.filter(TaskQuery.of().withFrom(SortTypeEnum.START_DATE, start)).size());
+        assertEquals(5, taskList.filter(TaskQuery.of()).size());
+        assertEquals("T|F|read book", taskList.snapshot().get(0).save());
+        assertThrows(JukeIllegalArgumentException.class, () -> {
+            TaskQuery.of().withFrom(SortTypeEnum.DESCRIPTION, start);
+        });
+    }
+
+    /**
+     * Tests if searches ignore case, accents and compatibility forms unless an exact match is requested,
+     * whether the tasks are kept as versions or off-heap.
+     */
+    @Test
+    public void findTask_foldedAndExact_success() {
+        for (TaskList taskList : List.of(TaskList.of(MemoryStorage.of()), TaskList.ofArena(MemoryStorage.of()))) {
+            taskList.addTask(new JukeTodo("Café Meeting"));
+            taskList.addTask(new JukeTodo("Ｆｕｌｌ width report"));
+            taskList.addTask(new JukeTodo("Straße cleanup"));
+
+            assertEquals(1, taskList.findTask("cafe meeting").size());
+            assertEquals(1, taskList.findTask("FULL").size());
+            assertEquals(1, taskList.findTask("strasse").size());
+            assertEquals(0, taskList.findTask("cafe", true).size());
+            assertEquals(1, taskList.findTask("Café", true).size());
+            assertEquals(1, taskList.findTaskFuzzy("cafe meting").size());
+        }
+
+        assertEquals("cafe meeting", new JukeTodo("CAFÉ meeting").getSearchKey());
+    }
+
+    /**
+     * Tests if misspelt words find the tasks with the closest words, and if the vocabulary follows the tasks
+     * as they are added and deleted.
+     */
+    @Test
+    public void findTaskFuzzy_typos_success() {
+        TaskList taskList = TaskList.ofArena(MemoryStorage.of());
+        taskList.addTask(new JukeTodo("team meeting"));
+        taskList.addTask(new JukeTodo("Meeting notes for the team"));
+        taskList.addTask(new JukeTodo("read book"));
+
+        List<TaskMatch> matches = taskList.findTaskFuzzy("metting teem");
+        assertEquals(2, matches.size());
+        assertEquals(2, matches.get(0).getDistance());
+        assertEquals("T|F|team meeting", matches.get(0).getTask().save());
+
+        taskList.deleteTask(0);
+        taskList.addTask(new JukeTodo("buy books"));
+        assertEquals(List.of("T|F|read book", "T|F|buy books"), taskList.findTaskFuzzy("bookz").stream()
+                .map(match -> match.getTask().save())
+                .collect(Collectors.toList()));
+        assertEquals(1, taskList.findTaskFuzzy("meting").size());
+        assertEquals(0, taskList.findTaskFuzzy("fly").size());
+    }
+
+    /**
+     * Tests if ranked searches prefer rare words, and repeated words in short descriptions, break ties by
+     * position, boost incomplete tasks and deadlines due soon, and keep ranking correctly after tasks are deleted.
+     */
+    @Test
+    public void findTaskRanked_termFrequencyAndBoost_success() {
+        TaskList taskList = TaskList.ofArena(MemoryStorage.of());
+        taskList.addTask(new JukeTodo("report report"));
+        taskList.addTask(new JukeTodo("final report for the quarterly review meeting"));
+        taskList.addTask(new JukeTodo("Report", true));
+        taskList.addTask(new JukeDeadline("report", LocalDateTime.now().plusDays(1)));
+        taskList.addTask(new JukeTodo("read book"));
+
+        assertEquals(List.of("report report", "Report"), taskList.findTaskRanked("REPORT", 2, false).stream()
+                .map(match -> match.getTask().getDescription())
+                .collect(Collectors.toList()));
+
+        List<ScoredTask> boosted = taskList.findTaskRanked("report", 2, true);
+        assertEquals(TaskTypeEnum.DEADLINE, TaskIndex.typeOf(boosted.get(0).getTask()));
+        assertEquals("report report", boosted.get(1).getTask().getDescription());
+
+        taskList.deleteTask(0);
+        assertEquals(List.of("read book", "Report", "report"),
+                     taskList.findTaskRanked("report book", 3, false).stream()
+                             .map(match -> match.getTask().getDescription())
+                             .collect(Collectors.toList()));
+        assertEquals(0, taskList.findTaskRanked("fly", 3, false).size());
+    }
+
+    /**
+     * Tests if query results are cached under their normalised query, if marking a task only invalidates
+     * the results showing it, and if adding a task invalidates every result, including the last sort.
+     */
+    @Test
+    public void findTask_cachedUntilChanged_success() {
+        TaskList taskList = TaskList.of(MemoryStorage.of());
+        taskList.addTask(new JukeTodo("read book"));
+        taskList.addTask(new JukeTodo("return book"));
+        taskList.addTask(new JukeTodo("buy milk"));
+
+        List<JukeTask> found = taskList.findTask("Book");
+        assertSame(found, taskList.findTask("book"));
+        taskList.toString();
+        taskList.getPage(0, 1);
+
+        taskList.setAsComplete(2);
+        assertSame(found, taskList.findTask("BOOK"));
+        taskList.getPage(0, 1);
+        assertTrue(taskList.toString().contains("[T] [✓] buy milk"));
+
+        taskList.setAsComplete(0);
+        assertEquals("[T] [✓] read book", taskList.findTask("book").get(0).toString());
+
+        taskList.sort(SortOrderEnum.DESCENDING, SortTypeEnum.DESCRIPTION);
+        taskList.sort(SortOrderEnum.DESCENDING, SortTypeEnum.DESCRIPTION);
+        taskList.addTask(new JukeTodo("book club"));
+        taskList.sort(SortOrderEnum.DESCENDING, SortTypeEnum.DESCRIPTION);
+        assertEquals(3, taskList.findTask("book").size());
+        assertEquals(4, taskList.getCacheHits());
+        assertEquals(8, taskList.getCacheMisses());
+    }
+
+    /**
+     * Tests if searching the task list emits a Flight Recorder event with the query and number of hits.
+     */
+    @Test
+    public void findTask_recording_emitsEvent(@TempDir Path directory) throws IOException {
+        TaskList taskList = TaskList.of(MemoryStorage.of());
+        taskList.addTask(new JukeTodo("read book"));
+        taskList.addTask(new JukeTodo("return book"));
+        Path recordingPath = directory.resolve("find.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("juke.TaskFind");
+            recording.start();
+            taskList.findTask("book");
+            recording.stop();
+            recording.dump(recordingPath);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingPath);
+        assertEquals(1, events.size());
+        assertEquals("book", events.get(0).getString("query"));
+        assertEquals(2, events.get(0).getInt("hits"));
+    }
+}
@@ -0,0 +1,116 @@
+package juke.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import juke.commons.enums.SortTypeEnum;
+
+/**
+ * Tests the {@code TaskVector} class.
+ */
+public class TaskVectorTest {
+    /**
+     * Creates a list of to-dos named by their index.
+     *
+     * @param count Number of to-dos
+     * @return List of to-dos
+     */
+    private static List<JukeTask> todos(int count) {
+        List<JukeTask> tasks = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            tasks.add(new JukeTodo("task " + i));
+        }
+
+        return tasks;
+    }
+
+    /**
+     * Tests if tasks appended past several levels of the tree are all kept in order.
+     */
+    @Test
+    public void append_manyTasks_success() {
+        List<JukeTask> tasks = TaskVectorTest.todos(40_000);
+        TaskVector vector = TaskVector.of();
+
+        for (JukeTask task : tasks) {
+            vector = vector.append(task);
+        }
+
+        assertEquals(tasks.size(), vector.size());
+        assertEquals(tasks, vector);
+    }
+
+    /**
+     * Tests if a vector built from a list is the same as one built by appending each task.
+     */
+    @Test
+    public void of_manyTasks_success() {
+        for (int count : new int[] {0, 1, 32, 33, 1024, 1056, 1057, 40_000}) {
+            List<JukeTask> tasks = TaskVectorTest.todos(count);
+            TaskVector vector = TaskVector.of(tasks);
+
+            assertEquals(tasks, vector);
+            assertEquals(tasks, vector.append(new JukeTodo("last")).subList(0, count));
+        }
+    }
+
+    /**
+     * Tests if replacing a task leaves the vector it was derived from unchanged.
+     */
+    @Test
+    public void replace_valid_originalUnchanged() {
+        TaskVector original = TaskVector.of(TaskVectorTest.todos(2000));
+        TaskVector changed = original.replace(5, new JukeTodo("changed")).replace(1999, new JukeTodo("last"));
+
+        assertEquals("[T] [ ] task 5", original.get(5).toString());
+        assertEquals("[T] [ ] task 1999", original.get(1999).toString());
+        assertEquals("[T] [ ] changed", changed.get(5).toString());
+        assertEquals("[T] [ ] last", changed.get(1999).toString());
+        assertEquals(original.get(6), changed.get(6));
+    }
+
+    /**
+     * Tests if removing tasks keeps the remaining tasks in order.
+     */
+    @Test
+    public void without_valid_success() {
+        TaskVector vector = TaskVector.of(TaskVectorTest.todos(100)).without(0, 50, 99);
+
+        assertEquals(97, vector.size());
+        assertEquals("[T] [ ] task 1", vector.get(0).toString());
+        assertEquals("[T] [ ] task 51", vector.get(49).toString());
+        assertEquals("[T] [ ] task 98", vector.get(96).toString());
+    }
+
+    /**
+     * Tests if sorting and reversing a vector orders its tasks without changing the original vector.
+     */
+    @Test
+    public void sorted_byDescription_success() {
+        TaskVector original = TaskVector.of(List.of(new JukeTodo("charlie"), new JukeTodo("alpha"),
+                                                    new JukeTodo("bravo")));
+        TaskVector sorted = original.sorted((t1, t2) -> t1.sortBy(t2, SortTypeEnum.DESCRIPTION));
+
+        assertEquals("[T] [ ] alpha", sorted.get(0).toString());
+        assertEquals("[T] [ ] charlie", sorted.reversed().get(0).toString());
+        assertEquals("[T] [ ] charlie", original.get(0).toString());
+    }
+
+    /**
+     * Tests if accessing or changing a task outside of the vector throws an exception.
+     */
+    @Test
+    public void get_invalidIndex_failure() {
+        TaskVector vector = TaskVector.of(TaskVectorTest.todos(3));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.replace(-1, new JukeTodo("task")));
+        assertThrows(UnsupportedOperationException.class, () -> vector.add(new JukeTodo("task")));
+    }
+}
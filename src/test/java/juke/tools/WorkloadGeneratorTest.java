@@ -0,0 +1,79 @@
+package juke.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import juke.commons.exceptions.arguments.JukeIllegalArgumentException;
+import juke.parsers.FileParser;
+import juke.tasks.JukeTask;
+
+/**
+ * Tests the {@code WorkloadGenerator} and {@code WorkloadProfile} classes.
+ */
+public class WorkloadGeneratorTest {
+    /**
+     * Tests if the same profile always generates the same workload.
+     */
+    @Test
+    public void generateCommands_sameSeed_success() {
+        WorkloadProfile profile = WorkloadProfile.of("--tasks=50", "--commands=200", "--seed=7");
+
+        assertEquals(WorkloadGenerator.of(profile).generateCommands(),
+                     WorkloadGenerator.of(profile).generateCommands());
+    }
+
+    /**
+     * Tests if the generated tasks can be read back from their datafile representation.
+     */
+    @Test
+    public void generateTasks_valid_success() {
+        WorkloadProfile profile = WorkloadProfile.of("--tasks=300", "--task-mix=todo:1,deadline:1,event:1");
+        List<JukeTask> tasks = WorkloadGenerator.of(profile).generateTasks();
+
+        assertEquals(300, tasks.size());
+
+        for (JukeTask task : tasks) {
+            assertEquals(task.toString(), FileParser.parseTask(task.save()).toString());
+        }
+    }
+
+    /**
+     * Tests if only the commands in the command mix are generated.
+     */
+    @Test
+    public void generateCommands_commandMix_success() {
+        WorkloadProfile profile = WorkloadProfile.of("--tasks=10", "--commands=100", "--command-mix=find:1,list:1");
+        List<String> commandNames = WorkloadGenerator.of(profile).generateCommands().stream()
+                .map(command -> command.split(" ")[0])
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+
+        assertEquals(List.of("find", "list"), commandNames);
+    }
+
+    /**
+     * Tests if commands that need a task add one instead when there are no tasks.
+     */
+    @Test
+    public void generateCommands_noTasks_success() {
+        WorkloadProfile profile = WorkloadProfile.of("--tasks=0", "--commands=1", "--command-mix=delete:1");
+        assertTrue(WorkloadGenerator.of(profile).generateCommands().get(0).startsWith("todo "));
+    }
+
+    /**
+     * Tests if malformed options throw an exception.
+     */
+    @Test
+    public void of_malformedOptions_failure() {
+        assertThrows(JukeIllegalArgumentException.class, () -> WorkloadProfile.of("tasks=10"));
+        assertThrows(JukeIllegalArgumentException.class, () -> WorkloadProfile.of("--tasks=many"));
+        assertThrows(JukeIllegalArgumentException.class, () -> WorkloadProfile.of("--task-mix=todo"));
+    }
+}